@@ -46,6 +46,32 @@
      */
     void updateItem(T item);
 
+	/**
+	 * Automatically called by the virtualized control instead of {@link #updateItem(Object)} when the
+	 * scroll velocity is above the control's fast scroll threshold (if enabled).
+	 * <p>
+	 * Cells with expensive content can override this to show a cheap placeholder (e.g. just a text, no graphics),
+	 * since the cell will likely be visible for a single frame. Once the scroll settles, the control
+	 * calls {@link #updateItem(Object)} on all the cells which were updated with this.
+	 * <p>
+	 * Default implementation calls {@link #updateItem(Object)}.
+	 */
+	default void updateItemFast(T item) {
+		updateItem(item);
+	}
+
+	/**
+	 * Automatically called by the virtualized control when the cell's update has been postponed to one of
+	 * the next pulses because it didn't fit in the control's update budget. In such state, the cell's index is
+	 * already valid but the item is not. Called again with {@code false} once the cell has been updated.
+	 * <p>
+	 * Cells can use this to show a placeholder or a loading state.
+	 * <p>
+	 * Default implementation is empty.
+	 */
+	default void updatePending(boolean pending) {
+	}
+
 	/**
 	 * Automatically called by the virtualized control.
 	 * <p>
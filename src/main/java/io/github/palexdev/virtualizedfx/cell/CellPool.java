@@ -0,0 +1,335 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.cell;
+
+import io.github.palexdev.virtualizedfx.flow.VirtualFlow;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A pool of cells which can be shared by multiple {@link VirtualFlow}s and {@link VirtualGrid}s, see
+ * {@link VirtualFlow#cellPoolProperty()} and {@link VirtualGrid#cellPoolProperty()}.
+ * <p></p>
+ * Without a pool, cells that are not needed anymore by a control are disposed and new ones are created
+ * with the cell factory when needed. With a pool, such cells are instead released here, and can be taken by any
+ * control which uses the same cell factory (the same instance). This is useful when there are many controls that
+ * use the same type of cells but are not shown at the same time, for example in tabs.
+ * <p>
+ * The pool groups the released cells by the factory that created them, the pool keeps track of this for every
+ * cell it hands out, see {@link #take(Object, Function)}. Cells that were not obtained from the pool cannot
+ * be released, {@link #release(Cell)} returns false.
+ * <p>
+ * The total number of pooled cells never exceeds the {@link #getCapacity()}, cells released when the pool is
+ * full are disposed with {@link Cell#dispose()}, as well as the ones removed by {@link #trim(int)} and the clear methods. Pooled cells are updated with a {@code null} item when released,
+ * so that the pool doesn't keep the controls' items in memory, which means that cells must accept {@code null} items.
+ * <p></p>
+ * The pool also collects statistics about its usage, see {@link #getStats()}.
+ * <p></p>
+ * <b>Note</b> that this is not thread-safe, as all the controls using it are expected to run on the JavaFX thread.
+ *
+ * @param <T> the type of items
+ * @param <C> the type of cells
+ */
+public class CellPool<T, C extends Cell<T>> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final int capacity;
+	private final Map<Function<T, C>, Deque<Pooled<C>>> pools = new HashMap<>();
+	private final Map<C, Function<T, C>> origins = new WeakHashMap<>();
+	private int pooled = 0;
+	private long sequence = 0;
+
+	private long hits = 0;
+	private long misses = 0;
+	private long released = 0;
+	private long evicted = 0;
+	private int peak = 0;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public CellPool(int capacity) {
+		if (capacity < 0) throw new IllegalArgumentException("Capacity cannot be negative");
+		this.capacity = capacity;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Takes a cell for the given item. If there's a pooled cell created by the given factory, it is removed from the
+	 * pool and updated with {@link Cell#updateItem(Object)} (hit), otherwise a new cell is created with the factory (miss).
+	 * <p>
+	 * Factories are compared by identity: cells are only shared between controls that use the same factory instance,
+	 * two equivalent lambdas or method references are different factories.
+	 */
+	public C take(T item, Function<T, C> factory) {
+		Deque<Pooled<C>> pool = pools.get(factory);
+		Pooled<C> pooledCell = (pool != null) ? pool.pollLast() : null;
+		if (pooledCell != null) {
+			pooled--;
+			hits++;
+			pooledCell.cell.updateItem(item);
+			return pooledCell.cell;
+		}
+
+		misses++;
+		C cell = factory.apply(item);
+		origins.put(cell, factory);
+		return cell;
+	}
+
+	/**
+	 * Releases the given cell to the pool, so that it can be reused later by any control that uses the same factory
+	 * instance that created it. The cell is updated with a {@code null} item.
+	 * <p>
+	 * If the pool is full, the cell is disposed instead.
+	 *
+	 * @return false if the cell was not created by the pool and thus has not been released nor disposed
+	 */
+	public boolean release(C cell) {
+		Function<T, C> factory = origins.get(cell);
+		if (factory == null) return false;
+		if (pooled >= capacity) {
+			dispose(cell);
+			return true;
+		}
+
+		cell.updateItem(null);
+		pools.computeIfAbsent(factory, f -> new ArrayDeque<>()).addLast(new Pooled<>(cell, sequence++));
+		pooled++;
+		released++;
+		peak = Math.max(peak, pooled);
+		return true;
+	}
+
+	/**
+	 * Disposes pooled cells until their number is lesser or equal to the given amount.
+	 * The oldest released cells are disposed first, no matter which factory created them.
+	 * <p>
+	 * Each factory's cells are kept in release order, so the oldest cell in the pool is the first of one of them,
+	 * the one with the lowest release sequence number. The cost of each disposal is linear in the number of factories,
+	 * which is expected to be small.
+	 *
+	 * @return the number of disposed cells
+	 */
+	public int trim(int max) {
+		int target = Math.max(max, 0);
+		int disposed = 0;
+		while (pooled > target) {
+			Deque<Pooled<C>> oldest = null;
+			for (Deque<Pooled<C>> pool : pools.values()) {
+				if (oldest == null || pool.peekFirst().sequence < oldest.peekFirst().sequence) oldest = pool;
+			}
+			if (oldest == null) break;
+
+			dispose(oldest.pollFirst().cell);
+			pooled--;
+			disposed++;
+			if (oldest.isEmpty()) pools.values().remove(oldest);
+		}
+		return disposed;
+	}
+
+	/**
+	 * Disposes all the pooled cells created by the given factory. Useful if the factory is not used anymore.
+	 */
+	public void clear(Function<T, C> factory) {
+		Deque<Pooled<C>> pool = pools.remove(factory);
+		if (pool == null) return;
+		pooled -= pool.size();
+		pool.forEach(p -> dispose(p.cell));
+	}
+
+	/**
+	 * Disposes all the pooled cells.
+	 */
+	public void clear() {
+		trim(0);
+	}
+
+	/**
+	 * Disposes the given pooled cell and counts it as evicted.
+	 */
+	private void dispose(C cell) {
+		origins.remove(cell);
+		cell.dispose();
+		evicted++;
+	}
+
+	/**
+	 * Resets the statistics, except for the number of pooled cells.
+	 */
+	public void resetStats() {
+		hits = 0;
+		misses = 0;
+		released = 0;
+		evicted = 0;
+		peak = pooled;
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the maximum number of cells this pool can hold
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * @return the number of cells currently in the pool
+	 */
+	public int size() {
+		return pooled;
+	}
+
+	/**
+	 * @return the number of pooled cells that were created by the given factory
+	 */
+	public int size(Function<T, C> factory) {
+		Deque<Pooled<C>> pool = pools.get(factory);
+		return (pool != null) ? pool.size() : 0;
+	}
+
+	/**
+	 * @return a snapshot of the pool's statistics
+	 */
+	public Stats getStats() {
+		return new Stats(hits, misses, released, evicted, pooled, peak, capacity);
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * A pooled cell with its release sequence number, used by {@link #trim(int)} to dispose the oldest cells first.
+	 */
+	private static class Pooled<C> {
+		private final C cell;
+		private final long sequence;
+
+		private Pooled(C cell, long sequence) {
+			this.cell = cell;
+			this.sequence = sequence;
+		}
+	}
+
+	/**
+	 * Immutable snapshot of a {@link CellPool}'s statistics.
+	 * <p>
+	 * The memory used by the pool is expressed as number of cells ({@link #getPooled()}, {@link #getPeak()}),
+	 * since the size of a cell in bytes depends on its implementation and cannot be measured cheaply.
+	 */
+	public static class Stats {
+		private final long hits;
+		private final long misses;
+		private final long released;
+		private final long evicted;
+		private final int pooled;
+		private final int peak;
+		private final int capacity;
+
+		public Stats(long hits, long misses, long released, long evicted, int pooled, int peak, int capacity) {
+			this.hits = hits;
+			this.misses = misses;
+			this.released = released;
+			this.evicted = evicted;
+			this.pooled = pooled;
+			this.peak = peak;
+			this.capacity = capacity;
+		}
+
+		/**
+		 * @return the number of cells taken from the pool
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * @return the number of cells that had to be created because none was available in the pool
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * @return the ratio between hits and requests, 0.0 if there were no requests
+		 */
+		public double getHitRate() {
+			long requests = hits + misses;
+			return (requests == 0) ? 0.0 : (double) hits / requests;
+		}
+
+		/**
+		 * @return the number of cells released to the pool
+		 */
+		public long getReleased() {
+			return released;
+		}
+
+		/**
+		 * @return the number of cells disposed by the pool, either released when the pool was full or pooled and then
+		 * removed by {@link CellPool#trim(int)} and the clear methods
+		 */
+		public long getEvicted() {
+			return evicted;
+		}
+
+		/**
+		 * @return the number of cells in the pool at the time of the snapshot
+		 */
+		public int getPooled() {
+			return pooled;
+		}
+
+		/**
+		 * @return the maximum number of cells held by the pool at the same time
+		 */
+		public int getPeak() {
+			return peak;
+		}
+
+		public int getCapacity() {
+			return capacity;
+		}
+
+		@Override
+		public String toString() {
+			return "CellPool.Stats{" +
+					"hits=" + hits +
+					", misses=" + misses +
+					", hitRate=" + String.format("%.2f", getHitRate()) +
+					", released=" + released +
+					", evicted=" + evicted +
+					", pooled=" + pooled + "/" + capacity +
+					", peak=" + peak +
+					'}';
+		}
+	}
+}
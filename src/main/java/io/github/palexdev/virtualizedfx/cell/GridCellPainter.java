@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.cell;
+
+import io.github.palexdev.virtualizedfx.grid.GridCanvas;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Functional interface used by {@link VirtualGrid} when rendering on a canvas rather than with cells,
+ * see {@link VirtualGrid#cellPainterProperty()} and {@link GridCanvas}.
+ * <p>
+ * The painter is responsible for drawing the given item in the given bounds. The bounds are already cleared when this
+ * is called. For performance reasons the {@link GraphicsContext} is not clipped, so painters should not draw outside
+ * the given bounds.
+ */
+@FunctionalInterface
+public interface GridCellPainter<T> {
+
+	/**
+	 * Draws the item at the given coordinates.
+	 *
+	 * @param gc     the canvas' graphics context
+	 * @param item   the item to draw
+	 * @param row    the item's row index
+	 * @param column the item's column index
+	 * @param x      the x position of the cell on the canvas
+	 * @param y      the y position of the cell on the canvas
+	 * @param width  the cell's width
+	 * @param height the cell's height
+	 */
+	void paint(GraphicsContext gc, T item, int row, int column, double x, double y, double width, double height);
+}
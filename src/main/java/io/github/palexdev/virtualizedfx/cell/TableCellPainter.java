@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.cell;
+
+import io.github.palexdev.virtualizedfx.table.defaults.CanvasTableCell;
+import io.github.palexdev.virtualizedfx.table.defaults.CanvasTableColumn;
+import javafx.geometry.HPos;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Functional interface used by {@link CanvasTableCell}s to draw their content, see {@link CanvasTableColumn#painterProperty()}.
+ * <p>
+ * The cells are drawn on the canvas of their row. When this is called, the cell's area is already cleared and the
+ * graphics context is translated and clipped to it, so coordinates are relative to the cell.
+ * For the most common case, plain text, use {@link #text()} or
+ * {@link #text(Font, Paint, HPos, double)}.
+ *
+ * @param <T> the type of items in the table
+ */
+@FunctionalInterface
+public interface TableCellPainter<T> {
+
+	/**
+	 * Draws the cell's content.
+	 *
+	 * @param gc     the graphics context of the row's canvas
+	 * @param item   the item of the row
+	 * @param text   the text to display, produced by the cell's extractor and converter, see {@link MappingTableCell}
+	 * @param width  the cell's width
+	 * @param height the cell's height
+	 */
+	void paint(GraphicsContext gc, T item, String text, double width, double height);
+
+	/**
+	 * Calls {@link #text(Font, Paint, HPos, double)} with the default font, black fill, left alignment and no padding.
+	 */
+	static <T> TableCellPainter<T> text() {
+		return text(Font.getDefault(), Color.BLACK, HPos.LEFT, 0.0);
+	}
+
+	/**
+	 * @return a painter which draws the text vertically centered, with the given font, fill, horizontal alignment and
+	 * horizontal padding. Text that doesn't fit is cut by the canvas' bounds
+	 */
+	static <T> TableCellPainter<T> text(Font font, Paint fill, HPos alignment, double padding) {
+		return (gc, item, text, width, height) -> {
+			if (text == null || text.isEmpty()) return;
+			gc.setFont(font);
+			gc.setFill(fill);
+			gc.setTextBaseline(VPos.CENTER);
+			double x;
+			switch (alignment) {
+				case CENTER: {
+					gc.setTextAlign(TextAlignment.CENTER);
+					x = width / 2.0;
+					break;
+				}
+				case RIGHT: {
+					gc.setTextAlign(TextAlignment.RIGHT);
+					x = width - padding;
+					break;
+				}
+				default: {
+					gc.setTextAlign(TextAlignment.LEFT);
+					x = padding;
+				}
+			}
+			gc.fillText(text, x, height / 2.0);
+		};
+	}
+}
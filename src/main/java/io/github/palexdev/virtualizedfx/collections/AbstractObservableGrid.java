@@ -0,0 +1,409 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.collections;
+
+import io.github.palexdev.mfxcore.collections.Grid;
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
+import io.github.palexdev.mfxcore.enums.GridChangeType;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * Base class for {@link ObservableGrid}s which do not use the backing list of {@link Grid} but their own storage,
+ * see {@link ChunkedGrid} and {@link SparseGrid}.
+ * <p></p>
+ * This implements all the operations of {@link ObservableGrid}, and notifies the changes with {@link GridChange}s of the
+ * same types and with the same conventions, so that implementations can be used as the items data structure of a
+ * {@code VirtualGrid} without any other change. Implementations only have to define how elements are stored by
+ * implementing a few primitives: {@link #read(int, int)}, {@link #replace(int, int, Object)}, {@link #reset(int, int)},
+ * {@link #insertRow(int, List)}, {@link #insertColumn(int, List)}, {@link #deleteRow(int)}, {@link #deleteColumn(int)}
+ * and {@link #transposeData()}. None of them must notify changes, and they are always invoked before the grid's size
+ * is updated.
+ * <p>
+ * {@link #getData()} returns a read-only row-major view of the elements.
+ *
+ * @param <T> the type of elements
+ */
+public abstract class AbstractObservableGrid<T> extends RegionGrid<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final List<T> view = new AbstractList<>() {
+		@Override
+		public T get(int index) {
+			return getElement(index);
+		}
+
+		@Override
+		public int size() {
+			return totalSize();
+		}
+	};
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	protected AbstractObservableGrid() {
+	}
+
+	//================================================================================
+	// Abstract Methods
+	//================================================================================
+
+	/**
+	 * @return the element at the given coordinates
+	 */
+	protected abstract T read(int row, int column);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected abstract T replace(int row, int column, T value);
+
+	/**
+	 * Resets the storage to hold the given number of rows and columns, all elements are null.
+	 */
+	protected abstract void reset(int rows, int columns);
+
+	/**
+	 * Inserts the given row at the given index.
+	 */
+	protected abstract void insertRow(int index, List<T> row);
+
+	/**
+	 * Inserts the given column at the given index.
+	 */
+	protected abstract void insertColumn(int index, List<T> column);
+
+	/**
+	 * Deletes the row at the given index.
+	 */
+	protected abstract void deleteRow(int index);
+
+	/**
+	 * Deletes the column at the given index.
+	 */
+	protected abstract void deleteColumn(int index);
+
+	/**
+	 * Transposes the storage, the element at [row, column] must be moved at [column, row].
+	 */
+	protected abstract void transposeData();
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Resets the grid to the given size, then fills it with the elements given by the given function, null
+	 * elements are skipped. If the function is null the grid is just reset. No change is notified.
+	 */
+	protected void rebuild(int rows, int columns, BiFunction<Integer, Integer, T> valFunction) {
+		reset(rows, columns);
+		rowsNum = rows;
+		columnsNum = columns;
+		if (valFunction == null) return;
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				T val = valFunction.apply(r, c);
+				if (val != null) replace(r, c, val);
+			}
+		}
+	}
+
+	/**
+	 * @return a copy of all the elements, used for the removed elements of {@link GridChangeType#INIT} and
+	 * {@link GridChangeType#CLEAR} changes
+	 */
+	protected List<T> copyData() {
+		return new ArrayList<>(view);
+	}
+
+	protected GridChange<T> change(GridChangeType type, Coordinates coordinates, int start, int end, int step) {
+		return new GridChange<>(this, type, coordinates, start, end, step);
+	}
+
+	private void checkInit(int rows, int columns) {
+		if (rows == 0 || columns == 0)
+			throw new IllegalStateException("Both rows num and columns num must be greater than 0 but they are " + rows + ", " + columns);
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public ObservableGrid<T> init() {
+		return init(rowsNum, columnsNum);
+	}
+
+	@Override
+	public ObservableGrid<T> init(int rows, int columns) {
+		return init(rows, columns, (BiFunction<Integer, Integer, T>) null);
+	}
+
+	@Override
+	public ObservableGrid<T> init(int rows, int columns, T val) {
+		return init(rows, columns, (val != null) ? (r, c) -> val : null);
+	}
+
+	@Override
+	public ObservableGrid<T> init(int rows, int columns, BiFunction<Integer, Integer, T> valFunction) {
+		checkInit(rows, columns);
+		List<T> removed = copyData();
+		rebuild(rows, columns, valFunction);
+		registerChange(change(GridChangeType.INIT, null, 0, totalSize(), 1).removed(removed));
+		return this;
+	}
+
+	@Override
+	public T getElement(int index) {
+		return getElement(index / columnsNum, index % columnsNum);
+	}
+
+	@Override
+	public T getElement(int row, int column) {
+		Objects.checkIndex(row, rowsNum);
+		Objects.checkIndex(column, columnsNum);
+		return read(row, column);
+	}
+
+	@Override
+	public void setElement(int index, T val) {
+		setElement(index / columnsNum, index % columnsNum, val);
+	}
+
+	@Override
+	public void setElement(int row, int column, T val) {
+		Objects.checkIndex(row, rowsNum);
+		Objects.checkIndex(column, columnsNum);
+		int index = row * columnsNum + column;
+		T old = replace(row, column, val);
+		registerChange(change(GridChangeType.REPLACE_ELEMENT, Coordinates.of(row, column), index, index, 1)
+				.removed(Collections.singletonList(old))
+				.added(Collections.singletonList(val))
+		);
+	}
+
+	@Override
+	public List<T> getDiagonal() {
+		if (isEmpty()) return List.of();
+		int n = Math.min(rowsNum, columnsNum);
+		List<T> diag = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			diag.add(read(i, i));
+		}
+		return diag;
+	}
+
+	@Override
+	public void setDiagonal(List<T> diag) {
+		if (rowsNum != columnsNum)
+			throw new IllegalStateException("Rows num and columns num are not the same, expecting square matrix");
+		if (diag.isEmpty())
+			throw new IllegalArgumentException("Diagonal cannot be empty");
+		if (diag.size() != rowsNum)
+			throw new IllegalArgumentException("Diagonal size does not math, expecting " + rowsNum + ", but was " + diag.size());
+
+		List<T> removed = getDiagonal();
+		for (int i = 0; i < rowsNum; i++) {
+			replace(i, i, diag.get(i));
+		}
+		registerChange(change(GridChangeType.REPLACE_DIAGONAL, null, 0, totalSize(), columnsNum + 1).removed(removed).added(diag));
+	}
+
+	@Override
+	public List<T> getRow(int index) {
+		Objects.checkIndex(index, rowsNum);
+		List<T> row = new ArrayList<>(columnsNum);
+		for (int c = 0; c < columnsNum; c++) {
+			row.add(read(index, c));
+		}
+		return row;
+	}
+
+	@Override
+	public List<T> getRow(int index, Integer... skippingColumns) {
+		Objects.checkIndex(index, rowsNum);
+		Set<Integer> skip = Set.of(skippingColumns);
+		List<T> row = new ArrayList<>();
+		for (int c = 0; c < columnsNum; c++) {
+			if (!skip.contains(c)) row.add(read(index, c));
+		}
+		return row;
+	}
+
+	@Override
+	public List<T> getColumn(int index) {
+		Objects.checkIndex(index, columnsNum);
+		List<T> column = new ArrayList<>(rowsNum);
+		for (int r = 0; r < rowsNum; r++) {
+			column.add(read(r, index));
+		}
+		return column;
+	}
+
+	@Override
+	public List<T> getColumn(int index, Integer... skippingRows) {
+		Objects.checkIndex(index, columnsNum);
+		Set<Integer> skip = Set.of(skippingRows);
+		List<T> column = new ArrayList<>();
+		for (int r = 0; r < rowsNum; r++) {
+			if (!skip.contains(r)) column.add(read(r, index));
+		}
+		return column;
+	}
+
+	@Override
+	public void addRow(int index, List<T> row) {
+		if (row.isEmpty())
+			throw new IllegalArgumentException("Row to add cannot be empty");
+		if (isEmpty()) {
+			rebuild(1, row.size(), (r, c) -> row.get(c));
+		} else {
+			if (index < 0 || index > rowsNum)
+				throw new IndexOutOfBoundsException(index);
+			if (row.size() != columnsNum)
+				throw new IllegalArgumentException("Row to add does not match. Length must be " + columnsNum + ", but was " + row.size());
+			insertRow(index, row);
+			rowsNum++;
+		}
+		registerChange(change(GridChangeType.ADD_ROW, Coordinates.of(index, -1), index * columnsNum, index * columnsNum + row.size(), 1).added(row));
+	}
+
+	@Override
+	public void addColumn(int index, List<T> column) {
+		if (column.isEmpty())
+			throw new IllegalArgumentException("Column to add cannot be empty");
+		if (isEmpty()) {
+			rebuild(column.size(), 1, (r, c) -> column.get(r));
+		} else {
+			if (index < 0 || index > columnsNum)
+				throw new IndexOutOfBoundsException(index);
+			if (column.size() != rowsNum)
+				throw new IllegalArgumentException("Column to add does not match. Length must be " + rowsNum + ", but was " + column.size());
+			insertColumn(index, column);
+			columnsNum++;
+		}
+		registerChange(change(GridChangeType.ADD_COLUMN, Coordinates.of(-1, index), index, (rowsNum - 1) * columnsNum + index + 1, columnsNum).added(column));
+	}
+
+	@Override
+	public void setRow(int index, List<T> row) {
+		if (row.isEmpty())
+			throw new IllegalArgumentException("Row to set cannot be empty");
+		if (isEmpty() && index == 0) {
+			addRow(row);
+			return;
+		}
+		if (row.size() != columnsNum)
+			throw new IllegalArgumentException("Row size does not match, expecting " + columnsNum + ", but was " + row.size());
+		Objects.checkIndex(index, rowsNum);
+
+		List<T> removed = new ArrayList<>(columnsNum);
+		for (int c = 0; c < columnsNum; c++) {
+			removed.add(replace(index, c, row.get(c)));
+		}
+		int start = index * columnsNum;
+		registerChange(change(GridChangeType.REPLACE_ROW, Coordinates.of(index, -1), start, start + columnsNum, 1).removed(removed).added(row));
+	}
+
+	@Override
+	public void setColumn(int index, List<T> column) {
+		if (column.isEmpty())
+			throw new IllegalArgumentException("Column to set cannot be empty");
+		if (isEmpty() && index == 0) {
+			addColumn(column);
+			return;
+		}
+		if (column.size() != rowsNum)
+			throw new IllegalArgumentException("Column size does not match, expecting " + rowsNum + ", but was " + column.size());
+		Objects.checkIndex(index, columnsNum);
+
+		List<T> removed = new ArrayList<>(rowsNum);
+		for (int r = 0; r < rowsNum; r++) {
+			removed.add(replace(r, index, column.get(r)));
+		}
+		int end = (rowsNum - 1) * columnsNum + index;
+		registerChange(change(GridChangeType.REPLACE_COLUMN, Coordinates.of(-1, index), index, end + 1, columnsNum).removed(removed).added(column));
+	}
+
+	@Override
+	public List<T> removeRow(int index) {
+		List<T> removed = getRow(index);
+		deleteRow(index);
+		rowsNum--;
+		int start = index * columnsNum;
+		registerChange(change(GridChangeType.REMOVE_ROW, Coordinates.of(index, -1), start, start + columnsNum, 1).removed(removed));
+		return removed;
+	}
+
+	@Override
+	public List<T> removeColumn(int index) {
+		List<T> removed = getColumn(index);
+		deleteColumn(index);
+		int oldColumns = columnsNum--;
+		registerChange(change(GridChangeType.REMOVE_COLUMN, Coordinates.of(-1, index), index, (rowsNum - 1) * oldColumns + index + 1, oldColumns).removed(removed));
+		return removed;
+	}
+
+	@Override
+	public Grid<T> transpose() {
+		transposeData();
+		int rows = rowsNum;
+		rowsNum = columnsNum;
+		columnsNum = rows;
+		registerChange(change(GridChangeType.TRANSPOSE, null, 0, totalSize(), 1));
+		return this;
+	}
+
+	@Override
+	public void clear() {
+		List<T> removed = copyData();
+		reset(0, 0);
+		rowsNum = 0;
+		columnsNum = 0;
+		registerChange(change(GridChangeType.CLEAR, null, 0, totalSize(), 1).removed(removed));
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return rowsNum == 0 || columnsNum == 0;
+	}
+
+	@Override
+	public Iterator<T> iterator() {
+		return view.iterator();
+	}
+
+	@Override
+	public Iterator<T> iterator(int start) {
+		return view.listIterator(start);
+	}
+
+	/**
+	 * @return a read-only row-major view of the elements
+	 */
+	@Override
+	public List<T> getData() {
+		return Collections.unmodifiableList(view);
+	}
+}
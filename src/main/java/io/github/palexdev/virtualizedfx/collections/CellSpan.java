@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.collections;
+
+import io.github.palexdev.mfxcore.collections.Grid;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+
+import java.util.Objects;
+
+/**
+ * Immutable rectangular region of a {@link Grid}, used to merge cells in a {@link VirtualGrid}, see {@link SpanIndex}.
+ * <p>
+ * The span is identified by its top-left coordinates, also called the anchor, and by the number of rows and columns it
+ * covers. The item displayed by the span is the one at the anchor.
+ */
+public class CellSpan {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final int row;
+	private final int column;
+	private final int rowSpan;
+	private final int columnSpan;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public CellSpan(int row, int column, int rowSpan, int columnSpan) {
+		if (row < 0 || column < 0) throw new IllegalArgumentException("Coordinates cannot be negative");
+		if (rowSpan < 1 || columnSpan < 1) throw new IllegalArgumentException("A span must cover at least one row and one column");
+		this.row = row;
+		this.column = column;
+		this.rowSpan = rowSpan;
+		this.columnSpan = columnSpan;
+	}
+
+	public static CellSpan of(int row, int column, int rowSpan, int columnSpan) {
+		return new CellSpan(row, column, rowSpan, columnSpan);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return whether this span covers the given coordinates
+	 */
+	public boolean contains(int row, int column) {
+		return row >= this.row && row <= getLastRow() && column >= this.column && column <= getLastColumn();
+	}
+
+	/**
+	 * @return whether this span covers any of the coordinates in the given region (all indexes inclusive)
+	 */
+	public boolean intersects(int rowFrom, int columnFrom, int rowTo, int columnTo) {
+		return row <= rowTo && getLastRow() >= rowFrom && column <= columnTo && getLastColumn() >= columnFrom;
+	}
+
+	/**
+	 * @return whether this span and the given one cover any common coordinates
+	 */
+	public boolean intersects(CellSpan other) {
+		return intersects(other.row, other.column, other.getLastRow(), other.getLastColumn());
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CellSpan span = (CellSpan) o;
+		return row == span.row && column == span.column && rowSpan == span.rowSpan && columnSpan == span.columnSpan;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(row, column, rowSpan, columnSpan);
+	}
+
+	@Override
+	public String toString() {
+		return "CellSpan{" +
+				"row=" + row +
+				", column=" + column +
+				", rowSpan=" + rowSpan +
+				", columnSpan=" + columnSpan +
+				'}';
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the row of the anchor
+	 */
+	public int getRow() {
+		return row;
+	}
+
+	/**
+	 * @return the column of the anchor
+	 */
+	public int getColumn() {
+		return column;
+	}
+
+	/**
+	 * @return the number of rows covered by the span
+	 */
+	public int getRowSpan() {
+		return rowSpan;
+	}
+
+	/**
+	 * @return the number of columns covered by the span
+	 */
+	public int getColumnSpan() {
+		return columnSpan;
+	}
+
+	/**
+	 * @return the index of the last row covered by the span
+	 */
+	public int getLastRow() {
+		return row + rowSpan - 1;
+	}
+
+	/**
+	 * @return the index of the last column covered by the span
+	 */
+	public int getLastColumn() {
+		return column + columnSpan - 1;
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.collections;
+
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of {@link ObservableGrid} which, rather than a single 1D list, stores each row in its own array,
+ * a chunk, so that rows and columns can be added and removed without shifting the whole backing structure.
+ * <p></p>
+ * About the performance:
+ * <p> - access by coordinates or linear index is constant time, elements of the same row are contiguous in memory
+ * <p> - adding or removing a row costs O(columns + rows): the row's chunk is built in O(columns), then it is inserted in
+ * (or removed from) the list of chunks, which shifts the references to the following chunks. That's one reference
+ * per row rather than one per element, as it would be with a single 1D list
+ * <p> - adding or removing a column costs O(rows) array copies, each chunk shifts its own elements after the given index.
+ * Chunks have extra capacity, so that adding columns does not always require to re-allocate them
+ * <p></p>
+ * Changes are notified with the same types and conventions used by {@link ObservableGrid}, see {@link AbstractObservableGrid},
+ * so this can be used as the items data structure of a {@link VirtualGrid} without any other change.
+ * Regions can be replaced with a single change too, see {@link RegionGrid}.
+ *
+ * @param <T> the type of elements
+ */
+@SuppressWarnings("unchecked")
+public class ChunkedGrid<T> extends AbstractObservableGrid<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final List<Object[]> chunks = new ArrayList<>();
+	private int capacity = 0;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public ChunkedGrid() {
+	}
+
+	/**
+	 * Creates a new grid of the given size, all elements are null.
+	 */
+	public ChunkedGrid(int nRows, int nColumns) {
+		rebuild(nRows, nColumns, null);
+	}
+
+	public ChunkedGrid(List<T> data, int nRows, int nColumns) {
+		if (data.size() != nRows * nColumns)
+			throw new IllegalArgumentException("Data size does not match, expecting " + (nRows * nColumns) + ", but was " + data.size());
+		rebuild(nRows, nColumns, (r, c) -> data.get(r * nColumns + c));
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+	public static <T> ChunkedGrid<T> fromMatrix(T[][] matrix) {
+		ChunkedGrid<T> grid = new ChunkedGrid<>();
+		grid.rebuild(matrix.length, matrix[0].length, (r, c) -> matrix[r][c]);
+		return grid;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Makes sure that all chunks can hold at least the given number of columns.
+	 */
+	private void ensureCapacity(int columns) {
+		if (columns <= capacity) return;
+		capacity = Math.max(columns, capacity + (capacity >> 1));
+		chunks.replaceAll(chunk -> Arrays.copyOf(chunk, capacity));
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	protected T read(int row, int column) {
+		return (T) chunks.get(row)[column];
+	}
+
+	@Override
+	protected T replace(int row, int column, T value) {
+		Object[] chunk = chunks.get(row);
+		T old = (T) chunk[column];
+		chunk[column] = value;
+		return old;
+	}
+
+	@Override
+	protected void reset(int rows, int columns) {
+		chunks.clear();
+		capacity = columns;
+		for (int r = 0; r < rows; r++) {
+			chunks.add(new Object[capacity]);
+		}
+	}
+
+	@Override
+	protected void insertRow(int index, List<T> row) {
+		chunks.add(index, Arrays.copyOf(row.toArray(), capacity));
+	}
+
+	@Override
+	protected void insertColumn(int index, List<T> column) {
+		int columns = getColumnsNum();
+		ensureCapacity(columns + 1);
+		for (int r = 0; r < chunks.size(); r++) {
+			Object[] chunk = chunks.get(r);
+			System.arraycopy(chunk, index, chunk, index + 1, columns - index);
+			chunk[index] = column.get(r);
+		}
+	}
+
+	@Override
+	protected void deleteRow(int index) {
+		chunks.remove(index);
+	}
+
+	@Override
+	protected void deleteColumn(int index) {
+		int columns = getColumnsNum();
+		for (Object[] chunk : chunks) {
+			System.arraycopy(chunk, index + 1, chunk, index, columns - index - 1);
+			chunk[columns - 1] = null;
+		}
+	}
+
+	@Override
+	protected void transposeData() {
+		int rows = getRowsNum();
+		int columns = getColumnsNum();
+		List<Object[]> transposed = new ArrayList<>(columns);
+		for (int c = 0; c < columns; c++) {
+			Object[] chunk = new Object[rows];
+			for (int r = 0; r < rows; r++) {
+				chunk[r] = chunks.get(r)[c];
+			}
+			transposed.add(chunk);
+		}
+		chunks.clear();
+		chunks.addAll(transposed);
+		capacity = rows;
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.collections;
+
+import io.github.palexdev.mfxcore.collections.Grid;
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
+import io.github.palexdev.mfxcore.enums.GridChangeType;
+
+import java.util.Collection;
+
+/**
+ * Implementation of {@link ObservableGrid.Change} which can be built outside {@link ObservableGrid}.
+ * <p>
+ * The setters of {@link ObservableGrid.Change} are private, so the data structures that extend {@link ObservableGrid}
+ * and do not rely on its backing list (see {@link ChunkedGrid}), need this to notify their changes.
+ * The coordinates, start, end and step are given at construction, and follow the same conventions
+ * used by {@link ObservableGrid}, so that changes can be processed by the same algorithms.
+ *
+ * @param <T> the type of elements
+ */
+public class GridChange<T> extends ObservableGrid.Change<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Grid.Coordinates coordinates;
+	private final int start;
+	private final int end;
+	private final int step;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public GridChange(ObservableGrid<T> grid, GridChangeType type, Grid.Coordinates coordinates, int start, int end, int step) {
+		super(grid, type);
+		this.coordinates = coordinates;
+		this.start = start;
+		this.end = end;
+		this.step = step;
+	}
+
+	public GridChange(ObservableGrid<T> grid, GridChangeType type, int start, int end, int step) {
+		this(grid, type, null, start, end, step);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Adds the given elements to the change's added list.
+	 */
+	public GridChange<T> added(Collection<? extends T> added) {
+		getAdded().addAll(added);
+		return this;
+	}
+
+	/**
+	 * Adds the given elements to the change's removed list.
+	 */
+	public GridChange<T> removed(Collection<? extends T> removed) {
+		getRemoved().addAll(removed);
+		return this;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public Grid.Coordinates getCoordinates() {
+		return coordinates;
+	}
+
+	@Override
+	public int getStart() {
+		return start;
+	}
+
+	@Override
+	public int getEnd() {
+		return end;
+	}
+
+	@Override
+	public int step() {
+		return step;
+	}
+}
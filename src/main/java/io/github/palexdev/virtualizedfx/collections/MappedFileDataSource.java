@@ -0,0 +1,372 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.collections;
+
+import io.github.palexdev.virtualizedfx.flow.VirtualFlow;
+import io.github.palexdev.virtualizedfx.table.VirtualTable;
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.ObservableListBase;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A read-only {@link javafx.collections.ObservableList} which serves items on demand from a file,
+ * meant to be used as items source for {@link VirtualFlow} and {@link VirtualTable} when browsing
+ * huge files (multi-GB CSVs, logs, binary dumps...).
+ * <p></p>
+ * The file is never loaded in memory. It is memory-mapped with {@link FileChannel#map(FileChannel.MapMode, long, long)}
+ * in segments of at most {@link #SEGMENT_SIZE} bytes, and a background thread scans it to build an index of the
+ * records' offsets. Records are separated by a delimiter byte, by default the line feed.
+ * <p>
+ * Indexing proceeds in batches, each batch is published on the JavaFX thread (see {@link #publish(Runnable)}) and
+ * fires a single add change. This way the size of the list grows while indexing proceeds, and the user can start
+ * scrolling immediately. The progress can be tracked with {@link #progressProperty()} and {@link #indexingProperty()}.
+ * If the file can't be read, the indexing stops and the cause is reported by {@link #errorProperty()}.
+ * <p>
+ * Items are decoded every time they are requested with {@link #get(int)}, the decoder function receives a read-only
+ * {@link ByteBuffer} view of the record (without the delimiter). For text files use {@link #lines(Path, Charset, Function)}.
+ * <p></p>
+ * The index costs 8 bytes per record and is the only thing kept in memory.
+ * Don't forget to {@link #close()} the data source when not needed anymore.
+ *
+ * @param <T> the type of items
+ */
+public class MappedFileDataSource<T> extends ObservableListBase<T> implements AutoCloseable {
+	//================================================================================
+	// Static Properties
+	//================================================================================
+	public static final long SEGMENT_SIZE = 1L << 30;
+	protected static final int PUBLISH_BATCH = 1 << 16;
+
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Path path;
+	private final FileChannel channel;
+	private final long fileSize;
+	private final byte delimiter;
+	private final Function<ByteBuffer, T> decoder;
+	private final MappedByteBuffer[] segments;
+
+	private long[] ends = new long[1024];
+	private int size = 0;
+
+	private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(0.0);
+	private final ReadOnlyBooleanWrapper indexing = new ReadOnlyBooleanWrapper(false);
+	private final ReadOnlyObjectWrapper<IOException> error = new ReadOnlyObjectWrapper<>();
+	private Thread indexer;
+	private volatile boolean closed = false;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public MappedFileDataSource(Path path, Function<ByteBuffer, T> decoder) throws IOException {
+		this(path, (byte) '\n', decoder);
+	}
+
+	public MappedFileDataSource(Path path, byte delimiter, Function<ByteBuffer, T> decoder) throws IOException {
+		this.path = path;
+		this.delimiter = delimiter;
+		this.decoder = Objects.requireNonNull(decoder, "Decoder cannot be null");
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		this.fileSize = channel.size();
+		this.segments = new MappedByteBuffer[(int) ((fileSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Creates a new data source that splits the given file in lines, each line is decoded
+	 * with the given charset and then converted to an item by the given mapper.
+	 * <p>
+	 * Windows line endings are supported, the trailing carriage return is stripped.
+	 * <p></p>
+	 * <b>Note</b> that the indexing must be started with {@link #startIndexing()}.
+	 */
+	public static <T> MappedFileDataSource<T> lines(Path path, Charset charset, Function<String, T> mapper) throws IOException {
+		return new MappedFileDataSource<>(path, buffer -> {
+			int len = buffer.remaining();
+			if (len > 0 && buffer.get(buffer.limit() - 1) == '\r') buffer.limit(buffer.limit() - 1);
+			return mapper.apply(charset.decode(buffer).toString());
+		});
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Starts the indexing pass on a daemon background thread.
+	 *
+	 * @throws IllegalStateException if the indexing was already started or the data source has been closed
+	 */
+	public void startIndexing() {
+		if (closed) throw new IllegalStateException("Data source has been closed");
+		if (indexer != null) throw new IllegalStateException("Indexing already started");
+		indexing.set(true);
+		indexer = new Thread(this::index, "MappedFileDataSource-Indexer[" + path.getFileName() + "]");
+		indexer.setDaemon(true);
+		indexer.start();
+	}
+
+	/**
+	 * Waits for the background indexing to finish.
+	 * <p>
+	 * <b>Note</b> that the last batch may not be published yet when this returns, since
+	 * publishing happens on the JavaFX thread.
+	 */
+	public void awaitIndexing() throws InterruptedException {
+		if (indexer != null) indexer.join();
+	}
+
+	/**
+	 * Stops the indexing (if still running) and closes the underlying {@link FileChannel}.
+	 * Items can't be retrieved anymore after this.
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		if (indexer != null) indexer.interrupt();
+		Arrays.fill(segments, null);
+		channel.close();
+	}
+
+	/**
+	 * Executed on the indexer thread. Scans every segment for the delimiter byte, the found offsets
+	 * are accumulated in batches of {@link #PUBLISH_BATCH} and then published.
+	 */
+	protected void index() {
+		long[] batch = new long[PUBLISH_BATCH];
+		int count = 0;
+		long last = -1;
+		try {
+			for (long start = 0; start < fileSize && !closed; start += SEGMENT_SIZE) {
+				long len = Math.min(SEGMENT_SIZE, fileSize - start);
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, len);
+				for (int i = 0; i < len; i++) {
+					if (buffer.get(i) != delimiter) continue;
+					last = start + i;
+					batch[count++] = last;
+					if (count == PUBLISH_BATCH) {
+						if (closed || Thread.currentThread().isInterrupted()) return;
+						publishBatch(batch, count, (double) last / fileSize);
+						batch = new long[PUBLISH_BATCH];
+						count = 0;
+					}
+				}
+			}
+			// Last record without trailing delimiter
+			if (fileSize > 0 && last != fileSize - 1) {
+				batch[count++] = fileSize;
+			}
+			publishBatch(batch, count, 1.0);
+		} catch (IOException ex) {
+			if (!closed) publish(() -> error.set(ex));
+		} finally {
+			publish(() -> indexing.set(false));
+		}
+	}
+
+	private void publishBatch(long[] batch, int count, double progress) {
+		publish(() -> {
+			if (closed) return;
+			appendEnds(batch, count);
+			this.progress.set(progress);
+		});
+	}
+
+	/**
+	 * Executed on the JavaFX thread, adds the given batch of offsets to the index and fires
+	 * a single add change.
+	 */
+	private void appendEnds(long[] batch, int count) {
+		if (count == 0) return;
+		if (size + count > ends.length) {
+			ends = Arrays.copyOf(ends, Math.max(size + count, ends.length + (ends.length >> 1)));
+		}
+		System.arraycopy(batch, 0, ends, size, count);
+		int from = size;
+		size += count;
+		beginChange();
+		nextAdd(from, size);
+		endChange();
+	}
+
+	/**
+	 * This is responsible for handing indexed batches to the thread which owns the list.
+	 * By default, uses {@link Platform#runLater(Runnable)}.
+	 */
+	protected void publish(Runnable action) {
+		Platform.runLater(action);
+	}
+
+	/**
+	 * @return the start offset (inclusive) of the record at the given index
+	 */
+	public long startOf(int index) {
+		Objects.checkIndex(index, size);
+		return index == 0 ? 0 : ends[index - 1] + 1;
+	}
+
+	/**
+	 * @return the end offset (exclusive, the delimiter's position) of the record at the given index
+	 */
+	public long endOf(int index) {
+		Objects.checkIndex(index, size);
+		return ends[index];
+	}
+
+	/**
+	 * @return a read-only {@link ByteBuffer} containing the bytes of the record at the given index.
+	 * If the record is entirely contained in a single segment the buffer is a view of the mapped memory,
+	 * otherwise bytes are copied
+	 * @throws IllegalStateException if the data source has been closed, or if the record is bigger than
+	 *                               {@link Integer#MAX_VALUE} bytes, since it can't fit in a {@link ByteBuffer}
+	 */
+	public ByteBuffer readRecord(int index) {
+		if (closed) throw new IllegalStateException("Data source has been closed");
+		long start = startOf(index);
+		long end = endOf(index);
+		long length = end - start;
+		if (length > Integer.MAX_VALUE)
+			throw new IllegalStateException("Record " + index + " is too big to be read, " + length + " bytes");
+		int len = (int) length;
+		int sIndex = (int) (start / SEGMENT_SIZE);
+		int eIndex = (int) (Math.max(start, end - 1) / SEGMENT_SIZE);
+		if (sIndex == eIndex) {
+			ByteBuffer segment = segment(sIndex).duplicate();
+			int offset = (int) (start - sIndex * SEGMENT_SIZE);
+			segment.position(offset).limit(offset + len);
+			return segment.slice().asReadOnlyBuffer();
+		}
+
+		// Record spans across two segments
+		byte[] bytes = new byte[len];
+		int read = 0;
+		for (int s = sIndex; s <= eIndex; s++) {
+			ByteBuffer segment = segment(s).duplicate();
+			int offset = (int) (Math.max(start, s * SEGMENT_SIZE) - s * SEGMENT_SIZE);
+			int toRead = Math.min(len - read, segment.capacity() - offset);
+			segment.position(offset);
+			segment.get(bytes, read, toRead);
+			read += toRead;
+		}
+		return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Lazily maps the segment at the given index.
+	 */
+	private MappedByteBuffer segment(int index) {
+		MappedByteBuffer segment = segments[index];
+		if (segment == null) {
+			long start = index * SEGMENT_SIZE;
+			try {
+				segment = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(SEGMENT_SIZE, fileSize - start));
+			} catch (IOException ex) {
+				throw new IllegalStateException("Could not map segment " + index + " of file " + path, ex);
+			}
+			segments[index] = segment;
+		}
+		return segment;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * Decodes the record at the given index with the decoder function.
+	 * Items are not cached, each call decodes the record again.
+	 */
+	@Override
+	public T get(int index) {
+		return decoder.apply(readRecord(index));
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public Path getPath() {
+		return path;
+	}
+
+	/**
+	 * @return the size of the file in bytes
+	 */
+	public long getFileSize() {
+		return fileSize;
+	}
+
+	public double getProgress() {
+		return progress.get();
+	}
+
+	/**
+	 * Specifies the indexing progress, from 0.0 to 1.0.
+	 */
+	public ReadOnlyDoubleProperty progressProperty() {
+		return progress.getReadOnlyProperty();
+	}
+
+	public boolean isIndexing() {
+		return indexing.get();
+	}
+
+	/**
+	 * Specifies whether the background indexing is in progress.
+	 */
+	public ReadOnlyBooleanProperty indexingProperty() {
+		return indexing.getReadOnlyProperty();
+	}
+
+	public IOException getError() {
+		return error.get();
+	}
+
+	/**
+	 * Specifies the error which stopped the indexing, null if the indexing completed (or is still running) without errors.
+	 * Like the other properties, this is updated on the thread which owns the list, see {@link #publish(Runnable)}.
+	 */
+	public ReadOnlyObjectProperty<IOException> errorProperty() {
+		return error.getReadOnlyProperty();
+	}
+}
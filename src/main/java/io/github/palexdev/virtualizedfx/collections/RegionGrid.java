@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.collections;
+
+import io.github.palexdev.mfxcore.collections.Grid;
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
+import io.github.palexdev.mfxcore.enums.GridChangeType;
+import io.github.palexdev.virtualizedfx.grid.GridState;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Extension of {@link ObservableGrid} which allows replacing a rectangular block of elements, a region,
+ * with a single change, see {@link #setRegion(int, int, Object[][])} and {@link #fill(int, int, int, int, Object)}.
+ * <p></p>
+ * Since {@link GridChangeType} can't be extended, region replacements are notified with a {@link RegionChange},
+ * a change of type {@link GridChangeType#REPLACE_ELEMENT} whose coordinates are the top-left corner of the region,
+ * and whose added/removed lists contain the new/old elements of the region in row-major order.
+ * {@link VirtualGrid} recognizes such changes and only updates the displayed cells which intersect the region,
+ * see {@link GridState#onRegionReplace(RegionChange)}.
+ *
+ * @param <T> the type of elements
+ */
+public class RegionGrid<T> extends ObservableGrid<T> {
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public RegionGrid() {
+	}
+
+	public RegionGrid(int nRows, int nColumns) {
+		super(nRows, nColumns);
+	}
+
+	public RegionGrid(List<T> data, int nRows, int nColumns) {
+		super(data, nRows, nColumns);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Replaces the elements of the region starting at the given coordinates with the given matrix,
+	 * the size of the region is given by the matrix. The matrix must be rectangular.
+	 * <p>
+	 * The matrix and the region's bounds are validated before any element is replaced, so if this throws
+	 * the grid is left untouched.
+	 *
+	 * @throws IllegalArgumentException  if the matrix is not rectangular
+	 * @throws IndexOutOfBoundsException if the region goes beyond the grid's bounds
+	 */
+	public void setRegion(int rowFrom, int columnFrom, T[][] values) {
+		Objects.requireNonNull(values, "Values cannot be null");
+		if (values.length == 0) return;
+		int rows = values.length;
+		int columns = Objects.requireNonNull(values[0], "Values rows cannot be null").length;
+		for (T[] row : values) {
+			Objects.requireNonNull(row, "Values rows cannot be null");
+			if (row.length != columns) throw new IllegalArgumentException("Values matrix must be rectangular");
+		}
+		if (columns == 0) return;
+
+		RegionChange<T> change = checkRegion(rowFrom, columnFrom, rows, columns);
+		List<T> added = change.getAdded();
+		List<T> removed = change.getRemoved();
+		for (int r = 0; r < rows; r++) {
+			T[] row = values[r];
+			for (int c = 0; c < columns; c++) {
+				removed.add(replace(rowFrom + r, columnFrom + c, row[c]));
+				added.add(row[c]);
+			}
+		}
+		registerChange(change);
+	}
+
+	/**
+	 * Replaces all the elements of the region starting at the given coordinates and of the given size with the given value.
+	 *
+	 * @throws IndexOutOfBoundsException if the region goes beyond the grid's bounds
+	 */
+	public void fill(int rowFrom, int columnFrom, int rows, int columns, T value) {
+		if (rows <= 0 || columns <= 0) return;
+		RegionChange<T> change = checkRegion(rowFrom, columnFrom, rows, columns);
+		List<T> added = change.getAdded();
+		List<T> removed = change.getRemoved();
+		for (int r = 0; r < rows; r++) {
+			for (int c = 0; c < columns; c++) {
+				removed.add(replace(rowFrom + r, columnFrom + c, value));
+				added.add(value);
+			}
+		}
+		registerChange(change);
+	}
+
+	/**
+	 * Replaces all the elements in the grid with the given value, as a single region change.
+	 */
+	public void fill(T value) {
+		fill(0, 0, getRowsNum(), getColumnsNum(), value);
+	}
+
+	/**
+	 * Replaces the element at the given coordinates without notifying any change.
+	 * <p>
+	 * By default, writes to the backing list. Extensions with a different storage should override this.
+	 *
+	 * @return the replaced element
+	 */
+	protected T replace(int row, int column, T value) {
+		return data.set(row * getColumnsNum() + column, value);
+	}
+
+	private RegionChange<T> checkRegion(int rowFrom, int columnFrom, int rows, int columns) {
+		Objects.checkFromIndexSize(rowFrom, rows, getRowsNum());
+		Objects.checkFromIndexSize(columnFrom, columns, getColumnsNum());
+		return new RegionChange<>(this, rowFrom, columnFrom, rowFrom + rows - 1, columnFrom + columns - 1);
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * A change of type {@link GridChangeType#REPLACE_ELEMENT} which spans a rectangular region of the grid,
+	 * bounds are inclusive. {@link #getCoordinates()} returns the top-left corner of the region, while
+	 * {@link #getStart()} and {@link #getEnd()} return the linear indexes of the top-left and bottom-right corners.
+	 * <p>
+	 * The added/removed lists contain the elements of the region in row-major order, so the element
+	 * at [row, column] is at index: {@code (row - getRowFrom()) * getColumns() + (column - getColumnFrom())}.
+	 */
+	public static class RegionChange<T> extends GridChange<T> {
+		private final int rowFrom;
+		private final int columnFrom;
+		private final int rowTo;
+		private final int columnTo;
+
+		public RegionChange(ObservableGrid<T> grid, int rowFrom, int columnFrom, int rowTo, int columnTo) {
+			super(
+					grid, GridChangeType.REPLACE_ELEMENT, Grid.Coordinates.of(rowFrom, columnFrom),
+					rowFrom * grid.getColumnsNum() + columnFrom, rowTo * grid.getColumnsNum() + columnTo, 1
+			);
+			this.rowFrom = rowFrom;
+			this.columnFrom = columnFrom;
+			this.rowTo = rowTo;
+			this.columnTo = columnTo;
+		}
+
+		/**
+		 * @return the element which replaced the one at the given coordinates, which must be inside the region
+		 */
+		public T getAdded(int row, int column) {
+			return getAdded().get((row - rowFrom) * getColumns() + (column - columnFrom));
+		}
+
+		public int getRowFrom() {
+			return rowFrom;
+		}
+
+		public int getColumnFrom() {
+			return columnFrom;
+		}
+
+		public int getRowTo() {
+			return rowTo;
+		}
+
+		public int getColumnTo() {
+			return columnTo;
+		}
+
+		public int getRows() {
+			return rowTo - rowFrom + 1;
+		}
+
+		public int getColumns() {
+			return columnTo - columnFrom + 1;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.collections;
+
+import io.github.palexdev.virtualizedfx.flow.FlowManager;
+import io.github.palexdev.virtualizedfx.table.TableManager;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+
+import java.util.*;
+
+/**
+ * A bounded {@link javafx.collections.ObservableList} backed by a ring buffer, meant for high-rate feeds
+ * that only need to keep the last N items (live dashboards, logs...).
+ * <p></p>
+ * Items can only be appended with {@link #add(Object)} or {@link #addAll(Collection)}. When the list is full,
+ * the oldest items are evicted to make room for the new ones, and both the eviction and the append are notified
+ * with a single change: a removal at index 0 followed by an addition at the end, of the same size.
+ * This is what in VirtualizedFX is called a "shift", since all the items simply move towards the start
+ * of the list by the number of added items. {@link FlowManager} and {@link TableManager} recognize such
+ * changes (see {@link #shiftOf(ListChangeListener.Change)}) and handle them by only updating the index of the
+ * displayed cells/rows, which is much cheaper than processing a removal and an addition separately.
+ * <p>
+ * Replacements by index with {@link #set(int, Object)} and {@link #clear()} are also supported,
+ * any other operation that would modify the list throws an {@link UnsupportedOperationException}.
+ * <p></p>
+ * Both {@link #get(int)} and the append operations run in constant time.
+ *
+ * @param <T> the type of items
+ */
+@SuppressWarnings("unchecked")
+public class RingBufferList<T> extends ObservableListBase<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Object[] buffer;
+	private int head = 0;
+	private int size = 0;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public RingBufferList(int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("Capacity must be greater than 0");
+		this.buffer = new Object[capacity];
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Checks whether the given change represents a shift, a removal of N items at the start of the list
+	 * immediately followed by an addition of N items at the end of the list.
+	 * <p>
+	 * The change is reset before returning, so it can still be processed by others.
+	 *
+	 * @return the number of positions by which the items have been shifted, or 0 if the change is not a shift
+	 */
+	public static int shiftOf(ListChangeListener.Change<?> c) {
+		int shift = 0;
+		try {
+			if (!c.next() || c.wasPermutated() || c.wasUpdated()) return 0;
+
+			// When the whole content is replaced JavaFX merges the removal and the addition in a single
+			// replacement, this is not considered a shift since every item changed
+			int listSize = c.getList().size();
+			if (c.wasRemoved() && c.getFrom() == 0) {
+				int removed = c.getRemovedSize();
+				if (c.wasAdded()) return 0;
+				if (!c.next() || !c.wasAdded() || c.wasRemoved() || c.wasPermutated() || c.wasUpdated()) return 0;
+				if (c.getAddedSize() != removed || c.getTo() != listSize) return 0;
+				if (c.next()) return 0;
+				shift = removed;
+			}
+			return shift;
+		} finally {
+			c.reset();
+		}
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Appends the given item at the end of the list, evicting the oldest item if the list is full.
+	 *
+	 * @return always true
+	 */
+	@Override
+	public boolean add(T t) {
+		return addAll(Collections.singletonList(t));
+	}
+
+	/**
+	 * Appends all the given items at the end of the list, evicting the oldest items if needed.
+	 * <p>
+	 * If the collection is bigger than the capacity, only the last {@link #getCapacity()} items are kept.
+	 *
+	 * @return whether the list changed as a result of the call
+	 */
+	@Override
+	public boolean addAll(Collection<? extends T> c) {
+		if (c.isEmpty()) return false;
+		int capacity = buffer.length;
+		List<? extends T> toAdd = new ArrayList<>(c);
+		if (toAdd.size() > capacity) toAdd = toAdd.subList(toAdd.size() - capacity, toAdd.size());
+
+		int evict = Math.max(0, size + toAdd.size() - capacity);
+		beginChange();
+		if (evict > 0) {
+			List<T> removed = new ArrayList<>(evict);
+			for (int i = 0; i < evict; i++) {
+				removed.add(get(i));
+				buffer[head] = null;
+				head = (head + 1) % capacity;
+			}
+			size -= evict;
+			nextRemove(0, removed);
+		}
+
+		int from = size;
+		for (T t : toAdd) {
+			buffer[(head + size) % capacity] = t;
+			size++;
+		}
+		nextAdd(from, size);
+		endChange();
+		return true;
+	}
+
+	@Override
+	public T set(int index, T element) {
+		Objects.checkIndex(index, size);
+		int bIndex = (head + index) % buffer.length;
+		T old = (T) buffer[bIndex];
+		buffer[bIndex] = element;
+		beginChange();
+		nextSet(index, old);
+		endChange();
+		return old;
+	}
+
+	@Override
+	public void clear() {
+		if (size == 0) return;
+		List<T> removed = new ArrayList<>(this);
+		Arrays.fill(buffer, null);
+		head = 0;
+		size = 0;
+		beginChange();
+		nextRemove(0, removed);
+		endChange();
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public T get(int index) {
+		Objects.checkIndex(index, size);
+		return (T) buffer[(head + index) % buffer.length];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the maximum number of items this list can hold
+	 */
+	public int getCapacity() {
+		return buffer.length;
+	}
+
+	/**
+	 * @return whether the list reached its capacity, further additions will evict the oldest items
+	 */
+	public boolean isFull() {
+		return size == buffer.length;
+	}
+}
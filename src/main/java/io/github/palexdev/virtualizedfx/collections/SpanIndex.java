@@ -0,0 +1,236 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.collections;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A set of non-overlapping {@link CellSpan}s, indexed by both rows and columns to find the spans which intersect a region,
+ * used by {@link VirtualGrid} to support merged cells, see {@link VirtualGrid#addSpan(int, int, int, int)}.
+ * <p></p>
+ * Spans are kept in a list sorted by their anchor, and indexed by a packed R-tree built with the Sort-Tile-Recursive
+ * algorithm: the spans (already sorted by row) are cut in vertical slices, each slice is sorted by column, and then
+ * consecutive spans are grouped in leaves of {@link #NODE_SIZE} elements. Upper levels are built the same way by grouping
+ * the nodes below them, until there is only one node, the root. Each node stores the bounding box of its children
+ * as [minRow, minColumn, maxRow, maxColumn].
+ * <p>
+ * A query starts from the root and descends only into the nodes whose box intersects the searched region. Since spans
+ * don't overlap, each span is in one leaf, and the leaves are compact on both axes, so finding the spans in a region
+ * costs about O(log n + k), where k is the number of spans found. In particular, spans which are in the searched rows but
+ * not in the searched columns are skipped with their leaves, so horizontal scrolls don't visit every span in the visible rows.
+ * <p>
+ * Additions and removals cost O(n) since the list must be shifted, and the tree is built again, lazily,
+ * at the next query. Overlaps are checked by a linear scan while the tree is invalid, so adding many spans in a row
+ * doesn't rebuild it every time. Spans are expected to change rarely compared to how often they are queried (on every scroll).
+ */
+public class SpanIndex {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private static final Comparator<CellSpan> ORDER = Comparator.comparingInt(CellSpan::getRow)
+			.thenComparingInt(CellSpan::getColumn);
+	private static final Comparator<CellSpan> COLUMN_ORDER = Comparator.comparingInt(CellSpan::getColumn)
+			.thenComparingInt(CellSpan::getRow);
+
+	/**
+	 * The maximum number of children of each node in the tree.
+	 */
+	protected static final int NODE_SIZE = 16;
+
+	private final List<CellSpan> spans = new ArrayList<>();
+	private CellSpan[] entries = new CellSpan[0];
+	private int[][] boxes = new int[0][];
+	private boolean invalid = false;
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Adds the given span to the index.
+	 *
+	 * @throws IllegalArgumentException if the span overlaps any of the spans already in the index
+	 */
+	public void add(CellSpan span) {
+		if (overlaps(span))
+			throw new IllegalArgumentException("Span " + span + " overlaps an existing span");
+		int index = Collections.binarySearch(spans, span, ORDER);
+		spans.add(-index - 1, span);
+		invalid = true;
+	}
+
+	/**
+	 * Removes the given span from the index.
+	 *
+	 * @return whether the span was in the index
+	 */
+	public boolean remove(CellSpan span) {
+		int index = Collections.binarySearch(spans, span, ORDER);
+		if (index < 0 || !spans.get(index).equals(span)) return false;
+		spans.remove(index);
+		invalid = true;
+		return true;
+	}
+
+	/**
+	 * @return the span covering the given coordinates, or null if none does
+	 */
+	public CellSpan spanAt(int row, int column) {
+		List<CellSpan> found = query(row, column, row, column);
+		return found.isEmpty() ? null : found.get(0);
+	}
+
+	/**
+	 * Convenience method for {@link #query(int, int, int, int)} which takes the regions as ranges.
+	 */
+	public List<CellSpan> query(IntegerRange rows, IntegerRange columns) {
+		return query(rows.getMin(), columns.getMin(), rows.getMax(), columns.getMax());
+	}
+
+	/**
+	 * Only the nodes of the tree whose bounding box intersects the given region are visited.
+	 *
+	 * @return the spans which cover any of the coordinates in the given region (all indexes inclusive), sorted by
+	 * their anchor
+	 */
+	public List<CellSpan> query(int rowFrom, int columnFrom, int rowTo, int columnTo) {
+		List<CellSpan> result = new ArrayList<>();
+		if (spans.isEmpty()) return result;
+		if (invalid) build();
+		query(boxes.length - 1, 0, rowFrom, columnFrom, rowTo, columnTo, result);
+		if (result.size() > 1) result.sort(ORDER);
+		return result;
+	}
+
+	private void query(int level, int node, int rowFrom, int columnFrom, int rowTo, int columnTo, List<CellSpan> result) {
+		int[] box = boxes[level];
+		int b = node * 4;
+		if (box[b] > rowTo || box[b + 1] > columnTo || box[b + 2] < rowFrom || box[b + 3] < columnFrom) return;
+
+		int from = node * NODE_SIZE;
+		if (level == 0) {
+			int to = Math.min(from + NODE_SIZE, entries.length);
+			for (int i = from; i < to; i++) {
+				if (entries[i].intersects(rowFrom, columnFrom, rowTo, columnTo)) result.add(entries[i]);
+			}
+			return;
+		}
+		int to = Math.min(from + NODE_SIZE, boxes[level - 1].length / 4);
+		for (int i = from; i < to; i++) {
+			query(level - 1, i, rowFrom, columnFrom, rowTo, columnTo, result);
+		}
+	}
+
+	/**
+	 * @return whether the given span overlaps any of the spans in the index. While the tree is invalid,
+	 * this is a linear scan rather than a query, to avoid building the tree again on each addition
+	 */
+	private boolean overlaps(CellSpan span) {
+		if (!invalid) return !query(span.getRow(), span.getColumn(), span.getLastRow(), span.getLastColumn()).isEmpty();
+		for (CellSpan s : spans) {
+			if (s.intersects(span)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Builds the tree from the spans list with the Sort-Tile-Recursive algorithm.
+	 */
+	private void build() {
+		int n = spans.size();
+		entries = spans.toArray(new CellSpan[0]);
+
+		// The list is sorted by row, slices are sorted by column
+		int leaves = (n + NODE_SIZE - 1) / NODE_SIZE;
+		int sliceSize = (int) Math.ceil(Math.sqrt(leaves)) * NODE_SIZE;
+		for (int i = 0; i < n; i += sliceSize) {
+			Arrays.sort(entries, i, Math.min(i + sliceSize, n), COLUMN_ORDER);
+		}
+
+		List<int[]> levels = new ArrayList<>();
+		int[] level = new int[leaves * 4];
+		for (int i = 0; i < n; i++) {
+			CellSpan span = entries[i];
+			int b = (i / NODE_SIZE) * 4;
+			if (i % NODE_SIZE == 0) {
+				level[b] = span.getRow();
+				level[b + 1] = span.getColumn();
+				level[b + 2] = span.getLastRow();
+				level[b + 3] = span.getLastColumn();
+				continue;
+			}
+			level[b] = Math.min(level[b], span.getRow());
+			level[b + 1] = Math.min(level[b + 1], span.getColumn());
+			level[b + 2] = Math.max(level[b + 2], span.getLastRow());
+			level[b + 3] = Math.max(level[b + 3], span.getLastColumn());
+		}
+		levels.add(level);
+
+		while (level.length > 4) {
+			int nodes = level.length / 4;
+			int[] parent = new int[((nodes + NODE_SIZE - 1) / NODE_SIZE) * 4];
+			for (int i = 0; i < nodes; i++) {
+				int c = i * 4;
+				int b = (i / NODE_SIZE) * 4;
+				if (i % NODE_SIZE == 0) {
+					System.arraycopy(level, c, parent, b, 4);
+					continue;
+				}
+				parent[b] = Math.min(parent[b], level[c]);
+				parent[b + 1] = Math.min(parent[b + 1], level[c + 1]);
+				parent[b + 2] = Math.max(parent[b + 2], level[c + 2]);
+				parent[b + 3] = Math.max(parent[b + 3], level[c + 3]);
+			}
+			levels.add(parent);
+			level = parent;
+		}
+		boxes = levels.toArray(new int[0][]);
+		invalid = false;
+	}
+
+	public void clear() {
+		spans.clear();
+		entries = new CellSpan[0];
+		boxes = new int[0][];
+		invalid = false;
+	}
+
+	public int size() {
+		return spans.size();
+	}
+
+	public boolean isEmpty() {
+		return spans.isEmpty();
+	}
+
+	/**
+	 * @return all the spans in the index as an unmodifiable list, sorted by their anchor
+	 */
+	public List<CellSpan> getSpans() {
+		return Collections.unmodifiableList(spans);
+	}
+}
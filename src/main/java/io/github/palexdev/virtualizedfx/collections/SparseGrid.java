@@ -0,0 +1,368 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.collections;
+
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Implementation of {@link ObservableGrid} for mostly empty data structures.
+ * <p></p>
+ * Only the non-null elements are stored, in an open-addressing hash map keyed by a primitive {@code long},
+ * {@code (row << 32) | column}, so the memory used only depends on the number of stored elements, not on the grid's size.
+ * For the coordinates which are empty, the {@link DefaultProvider} is queried. By default, it's null, and so is
+ * the element. Setting a null element makes the coordinates empty again.
+ * <p>
+ * Access and replacement by coordinates run in constant time. Adding or removing rows and columns costs O(n),
+ * where n is the number of stored elements, since their keys must be updated.
+ * <p></p>
+ * Changes are notified with the same types and conventions used by {@link ObservableGrid}, see {@link AbstractObservableGrid},
+ * so this can be used as the items data structure of a {@link VirtualGrid}. {@link VirtualGrid} can also be told not
+ * to create cells for empty coordinates, see {@link VirtualGrid#skipEmptyCellsProperty()} and {@link #isPopulated(int, int)}.
+ *
+ * @param <T> the type of elements
+ */
+public class SparseGrid<T> extends AbstractObservableGrid<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private LongMap<T> elements = new LongMap<>();
+	private DefaultProvider<T> defaultProvider;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public SparseGrid() {
+	}
+
+	/**
+	 * Creates a new empty grid of the given size.
+	 */
+	public SparseGrid(int nRows, int nColumns) {
+		this(nRows, nColumns, null);
+	}
+
+	/**
+	 * Creates a new empty grid of the given size and with the given {@link DefaultProvider}.
+	 */
+	public SparseGrid(int nRows, int nColumns, DefaultProvider<T> defaultProvider) {
+		this.defaultProvider = defaultProvider;
+		rebuild(nRows, nColumns, null);
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * @return the {@code long} key for the given coordinates
+	 */
+	public static long key(int row, int column) {
+		return ((long) row << 32) | (column & 0xFFFFFFFFL);
+	}
+
+	public static int rowOf(long key) {
+		return (int) (key >>> 32);
+	}
+
+	public static int columnOf(long key) {
+		return (int) key;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return whether an element is stored at the given coordinates
+	 */
+	public boolean isPopulated(int row, int column) {
+		return elements.containsKey(key(row, column));
+	}
+
+	/**
+	 * @return the number of elements stored
+	 */
+	public int getPopulatedCount() {
+		return elements.size();
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	protected T read(int row, int column) {
+		long key = key(row, column);
+		T val = elements.get(key);
+		if (val != null || defaultProvider == null) return val;
+		return defaultProvider.get(row, column);
+	}
+
+	@Override
+	protected T replace(int row, int column, T value) {
+		T old = read(row, column);
+		long key = key(row, column);
+		if (value == null) {
+			elements.remove(key);
+		} else {
+			elements.put(key, value);
+		}
+		return old;
+	}
+
+	@Override
+	protected void reset(int rows, int columns) {
+		elements = new LongMap<>();
+	}
+
+	@Override
+	protected void insertRow(int index, List<T> row) {
+		LongMap<T> shifted = new LongMap<>(elements.size() + row.size());
+		elements.forEach((key, val) -> {
+			int r = rowOf(key);
+			shifted.put(key(r >= index ? r + 1 : r, columnOf(key)), val);
+		});
+		for (int c = 0; c < row.size(); c++) {
+			T val = row.get(c);
+			if (val != null) shifted.put(key(index, c), val);
+		}
+		elements = shifted;
+	}
+
+	@Override
+	protected void insertColumn(int index, List<T> column) {
+		LongMap<T> shifted = new LongMap<>(elements.size() + column.size());
+		elements.forEach((key, val) -> {
+			int c = columnOf(key);
+			shifted.put(key(rowOf(key), c >= index ? c + 1 : c), val);
+		});
+		for (int r = 0; r < column.size(); r++) {
+			T val = column.get(r);
+			if (val != null) shifted.put(key(r, index), val);
+		}
+		elements = shifted;
+	}
+
+	@Override
+	protected void deleteRow(int index) {
+		LongMap<T> shifted = new LongMap<>(elements.size());
+		elements.forEach((key, val) -> {
+			int r = rowOf(key);
+			if (r != index) shifted.put(key(r > index ? r - 1 : r, columnOf(key)), val);
+		});
+		elements = shifted;
+	}
+
+	@Override
+	protected void deleteColumn(int index) {
+		LongMap<T> shifted = new LongMap<>(elements.size());
+		elements.forEach((key, val) -> {
+			int c = columnOf(key);
+			if (c != index) shifted.put(key(rowOf(key), c > index ? c - 1 : c), val);
+		});
+		elements = shifted;
+	}
+
+	@Override
+	protected void transposeData() {
+		LongMap<T> transposed = new LongMap<>(elements.size());
+		elements.forEach((key, val) -> transposed.put(key(columnOf(key), rowOf(key)), val));
+		elements = transposed;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Overridden to not copy every coordinate, the returned list is a read-only view on a copy of the stored elements.
+	 */
+	@Override
+	protected List<T> copyData() {
+		LongMap<T> copy = elements.copy();
+		int rows = getRowsNum();
+		int columns = getColumnsNum();
+		DefaultProvider<T> provider = defaultProvider;
+		return new AbstractList<>() {
+			@Override
+			public T get(int index) {
+				int r = index / columns;
+				int c = index % columns;
+				T val = copy.get(key(r, c));
+				return (val != null || provider == null) ? val : provider.get(r, c);
+			}
+
+			@Override
+			public int size() {
+				return rows * columns;
+			}
+		};
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public DefaultProvider<T> getDefaultProvider() {
+		return defaultProvider;
+	}
+
+	/**
+	 * Sets the {@link DefaultProvider} used to retrieve the elements of empty coordinates.
+	 * <p>
+	 * <b>Note</b> that this does not notify any change.
+	 */
+	public void setDefaultProvider(DefaultProvider<T> defaultProvider) {
+		this.defaultProvider = defaultProvider;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Functional interface to provide the elements of empty coordinates.
+	 */
+	@FunctionalInterface
+	public interface DefaultProvider<T> {
+		T get(int row, int column);
+	}
+
+	/**
+	 * Minimal open-addressing hash map with primitive {@code long} keys and linear probing.
+	 * Keys are never negative, so -1 is used to mark free slots.
+	 */
+	@SuppressWarnings("unchecked")
+	private static class LongMap<V> {
+		private static final long FREE = -1L;
+		private long[] keys;
+		private Object[] values;
+		private int size;
+		private int mask;
+
+		LongMap() {
+			this(16);
+		}
+
+		LongMap(int expected) {
+			int capacity = Integer.highestOneBit(Math.max(expected * 2, 16) - 1) << 1;
+			allocate(capacity);
+		}
+
+		private void allocate(int capacity) {
+			keys = new long[capacity];
+			Arrays.fill(keys, FREE);
+			values = new Object[capacity];
+			mask = capacity - 1;
+		}
+
+		private int slot(long key) {
+			long h = key * 0x9E3779B97F4A7C15L;
+			return (int) (h ^ (h >>> 32)) & mask;
+		}
+
+		private int indexOf(long key) {
+			int i = slot(key);
+			while (keys[i] != FREE) {
+				if (keys[i] == key) return i;
+				i = (i + 1) & mask;
+			}
+			return -1;
+		}
+
+		V get(long key) {
+			int i = indexOf(key);
+			return (i >= 0) ? (V) values[i] : null;
+		}
+
+		boolean containsKey(long key) {
+			return indexOf(key) >= 0;
+		}
+
+		void put(long key, V value) {
+			int i = slot(key);
+			while (keys[i] != FREE) {
+				if (keys[i] == key) {
+					values[i] = value;
+					return;
+				}
+				i = (i + 1) & mask;
+			}
+			keys[i] = key;
+			values[i] = value;
+			if (++size * 2 > keys.length) rehash();
+		}
+
+		void remove(long key) {
+			int i = indexOf(key);
+			if (i < 0) return;
+			size--;
+			// Backward shift deletion, keeps probe sequences intact without tombstones
+			int j = i;
+			while (true) {
+				j = (j + 1) & mask;
+				if (keys[j] == FREE) break;
+				int home = slot(keys[j]);
+				if (((j - home) & mask) >= ((j - i) & mask)) {
+					keys[i] = keys[j];
+					values[i] = values[j];
+					i = j;
+				}
+			}
+			keys[i] = FREE;
+			values[i] = null;
+		}
+
+		private void rehash() {
+			long[] oldKeys = keys;
+			Object[] oldValues = values;
+			allocate(keys.length * 2);
+			size = 0;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != FREE) put(oldKeys[i], (V) oldValues[i]);
+			}
+		}
+
+		void forEach(LongEntryConsumer<V> action) {
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i] != FREE) action.accept(keys[i], (V) values[i]);
+			}
+		}
+
+		LongMap<V> copy() {
+			LongMap<V> copy = new LongMap<>();
+			copy.keys = keys.clone();
+			copy.values = values.clone();
+			copy.size = size;
+			copy.mask = mask;
+			return copy;
+		}
+
+		int size() {
+			return size;
+		}
+	}
+
+	@FunctionalInterface
+	private interface LongEntryConsumer<V> {
+		void accept(long key, V value);
+	}
+}
@@ -35,9 +35,6 @@
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.ScrollEvent;
 
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-
 /**
  * Concrete implementation of {@link BehaviorBase}.
  * <p></p>
@@ -54,7 +51,7 @@ public class MFXScrollBarBehavior extends BehaviorBase<MFXScrollBar> {
 	private Animation holdAnimation;
 	private Animation scrollAnimation;
 
-	private final Queue<Animation> smoothScrollAnimations = new ConcurrentLinkedQueue<>();
+	private ScrollIntegrator scrollIntegrator;
 	private double dragStart;
 
 	//================================================================================
@@ -358,34 +355,23 @@ public void incPressed() {
 	/**
 	 * This is called by {@link #scroll(ScrollEvent)} if the smooth scroll feature is enabled.
 	 * <p></p>
-	 * The target value is computes as {@code target = val + unitIncrement * direction}, then we compute
-	 * the difference between the current value and the target (which gives the "travel distance") as absolute number.
-	 * <p>
-	 * The scroll bar's value is then adjusted with a {@link MomentumTransition}.
+	 * Rather than building an animation for each event, every scroll bar has a single {@link ScrollIntegrator},
+	 * each call adds an impulse of {@code unitIncrement * direction} to it. This way, no matter how fast the events
+	 * come in, the scroll bar's value is updated at most once per frame.
 	 */
 	public void smoothScroll(int direction) {
 		MFXScrollBar sb = getNode();
-
-		double target = sb.getValue() + sb.getUnitIncrement() * direction;
-		double delta = Math.abs(sb.getValue() - target);
-		MomentumTransition mt = MomentumTransition.fromTime(delta, 530);
-		mt.setInterpolator(Curve.EASE_BOTH);
-		mt.setOnUpdate(upd -> sb.setValue(sb.getValue() + upd * direction));
-		mt.setOnFinished(event -> smoothScrollAnimations.remove(mt));
-		smoothScrollAnimations.add(mt);
-		mt.play();
+		if (scrollIntegrator == null) scrollIntegrator = new ScrollIntegrator(sb.valueProperty(), sb::getMin, sb::getMax);
+		scrollIntegrator.impulse(sb.getUnitIncrement() * direction);
 	}
 
 	/**
-	 * Stops any currently playing animation, including: smooth scroll animations,
+	 * Stops any currently playing animation, including: the smooth scroll integrator,
 	 * hold animation (those responsible for detecting mouse press and hold), and any other
 	 * scroll animation (typically the ones created inside hold animations)
 	 */
 	public void stopAnimations() {
-		if (!smoothScrollAnimations.isEmpty()) {
-			smoothScrollAnimations.forEach(Animation::stop);
-			smoothScrollAnimations.clear();
-		}
+		if (scrollIntegrator != null) scrollIntegrator.stop();
 		if (holdAnimation != null) {
 			holdAnimation.stop();
 			holdAnimation = null;
@@ -476,7 +462,10 @@ private boolean isIncrementing(double position) {
 	//================================================================================
 	@Override
 	public void dispose() {
-		smoothScrollAnimations.clear();
+		if (scrollIntegrator != null) {
+			scrollIntegrator.stop();
+			scrollIntegrator = null;
+		}
 		super.dispose();
 	}
 
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.controls.behavior;
+
+import io.github.palexdev.mfxcore.utils.NumberUtils;
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.DoubleProperty;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Drives smooth scrolling for a single scroll bar (or any other double property) with one integrator
+ * instead of one animation per input event.
+ * <p></p>
+ * Every scroll event is an impulse that moves the target value, see {@link #impulse(double)}. Impulses accumulate,
+ * so a fast trackpad gesture just pushes the target further. A single {@link AnimationTimer} then moves the value
+ * towards the target with a critically damped spring, keeping track of the velocity, so that consecutive impulses
+ * blend together smoothly and the value never overshoots.
+ * <p>
+ * No matter how many events come in, the value is updated at most once per frame, which bounds the work
+ * done by the virtualized controls when they react to scroll changes.
+ * <p></p>
+ * The integration step is exposed by {@link #step(double)}, which does not need a running JavaFX toolkit.
+ */
+public class ScrollIntegrator {
+	//================================================================================
+	// Static Properties
+	//================================================================================
+	public static final double DEFAULT_FREQUENCY = 11.0;
+	private static final double MAX_DT = 1.0 / 30.0;
+
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final DoubleProperty value;
+	private final DoubleSupplier min;
+	private final DoubleSupplier max;
+	private double frequency = DEFAULT_FREQUENCY;
+	private double precision = 0.01;
+
+	private double position;
+	private double velocity;
+	private double target;
+	private double lastSet = Double.NaN;
+
+	private AnimationTimer timer;
+	private long lastFrame = -1;
+	private boolean running = false;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public ScrollIntegrator(DoubleProperty value, DoubleSupplier min, DoubleSupplier max) {
+		this.value = value;
+		this.min = min;
+		this.max = max;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Adds the given amount to the target value (the result is clamped between min and max) and starts the
+	 * integrator if it's not running.
+	 * <p>
+	 * If idle, the integrator's state is first synced with the current value.
+	 */
+	public void impulse(double delta) {
+		if (!running) {
+			position = value.get();
+			velocity = 0.0;
+			target = position;
+		}
+		target = NumberUtils.clamp(target + delta, min.getAsDouble(), max.getAsDouble());
+		if (!running) {
+			running = true;
+			start();
+		}
+	}
+
+	/**
+	 * Stops the integrator, the value stays where it is and the accumulated velocity is lost.
+	 */
+	public void stop() {
+		if (timer != null) timer.stop();
+		running = false;
+		velocity = 0.0;
+		lastFrame = -1;
+		lastSet = Double.NaN;
+	}
+
+	/**
+	 * Advances the integration by the given amount of seconds (clamped to a max of 1/30 s to keep it stable
+	 * when frames are skipped).
+	 * <p>
+	 * This only updates the internal state, the new value can be retrieved with {@link #getPosition()}.
+	 *
+	 * @return whether the value reached the target and the motion stopped
+	 */
+	public boolean step(double dt) {
+		dt = Math.min(dt, MAX_DT);
+		double lo = min.getAsDouble();
+		double hi = max.getAsDouble();
+		target = NumberUtils.clamp(target, lo, hi);
+
+		double acceleration = frequency * frequency * (target - position) - 2 * frequency * velocity;
+		velocity += acceleration * dt;
+		position += velocity * dt;
+		if (position <= lo || position >= hi) {
+			position = NumberUtils.clamp(position, lo, hi);
+			velocity = 0.0;
+		}
+
+		if (Math.abs(target - position) < precision && Math.abs(velocity) < precision * frequency) {
+			position = target;
+			velocity = 0.0;
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Executed once per frame by the {@link AnimationTimer}. If the value has been changed by someone else
+	 * in the meanwhile (e.g. the thumb has been dragged), the integrator's position and target are re-synced
+	 * and the velocity is dropped, so that the motion doesn't pull the value back where it was going before.
+	 * The value is then updated once.
+	 */
+	protected void onFrame(long now) {
+		double dt = (lastFrame < 0) ? 1.0 / 60.0 : (now - lastFrame) / 1e9;
+		lastFrame = now;
+		if (!Double.isNaN(lastSet) && value.get() != lastSet) {
+			position = value.get();
+			target = position;
+			velocity = 0.0;
+		}
+
+		boolean settled = step(dt);
+		value.set(position);
+		lastSet = position;
+		if (settled) stop();
+	}
+
+	/**
+	 * Starts the {@link AnimationTimer} driving the integrator.
+	 */
+	protected void start() {
+		if (timer == null) {
+			timer = new AnimationTimer() {
+				@Override
+				public void handle(long now) {
+					onFrame(now);
+				}
+			};
+		}
+		lastFrame = -1;
+		timer.start();
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public boolean isRunning() {
+		return running;
+	}
+
+	public double getPosition() {
+		return position;
+	}
+
+	public double getVelocity() {
+		return velocity;
+	}
+
+	public double getTarget() {
+		return target;
+	}
+
+	public double getFrequency() {
+		return frequency;
+	}
+
+	/**
+	 * Sets the spring's natural frequency (rad/s). Higher values make the value reach the target faster,
+	 * the default settles a single impulse in about half a second.
+	 */
+	public void setFrequency(double frequency) {
+		this.frequency = frequency;
+	}
+
+	public double getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * Sets the distance from the target under which the motion is considered settled.
+	 */
+	public void setPrecision(double precision) {
+		this.precision = precision;
+	}
+}
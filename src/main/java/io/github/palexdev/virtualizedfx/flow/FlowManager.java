@@ -24,11 +24,21 @@
 import io.github.palexdev.mfxcore.utils.fx.ListChangeHelper;
 import io.github.palexdev.virtualizedfx.beans.FlowStateProperty;
 import io.github.palexdev.virtualizedfx.cell.Cell;
+import io.github.palexdev.virtualizedfx.collections.RingBufferList;
+import io.github.palexdev.virtualizedfx.flow.paginated.PaginatedVirtualFlow;
+import io.github.palexdev.virtualizedfx.tree.TreeList;
+import io.github.palexdev.virtualizedfx.utils.CellUpdateScheduler;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.collections.ListChangeListener;
+import javafx.geometry.Orientation;
+import javafx.scene.Scene;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
 
 /**
  * The {@code FlowManager} is responsible for managing the flow's viewport, the cells.
@@ -52,6 +62,21 @@
 	private final FlowStateProperty<T, C> state = new FlowStateProperty<>(FlowState.EMPTY);
 	private final IntegerRangeProperty lastRange = new IntegerRangeProperty();
 
+	private Scene followScene;
+	private Runnable followAction;
+	private final Set<C> lightweightCells = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final CellUpdateScheduler<C> scheduler = new CellUpdateScheduler<>(this::updateScheduled, Cell::updatePending) {
+		@Override
+		public int run(double budget) {
+			try {
+				return super.run(budget);
+			} finally {
+				scheduledIndexes = null;
+			}
+		}
+	};
+	private Map<C, Integer> scheduledIndexes;
+
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -143,7 +168,7 @@ public void init() {
 			newState.addCell(i, cell);
 		}
 
-		cells.values().forEach(C::dispose);
+		cells.values().forEach(virtualFlow::releaseCell);
 		newState.setCellsChanged(oldState.cellsNum() != newState.cellsNum());
 		setState(newState);
 		setLastRange(range);
@@ -161,6 +186,13 @@ public void init() {
 	 * <p>
 	 * The second step is to call {@link VirtualFlow#requestViewportLayout()}, but this happens only if the last range and the
 	 * new range are not equal.
+	 * <p></p>
+	 * If the {@link VirtualFlow#fastScrollThresholdProperty()} is greater than 0, the scroll velocity is tracked.
+	 * While it is above the threshold, cells are updated with {@link Cell#updateItemFast(Object)}, they will be fully
+	 * updated by {@link #onScrollSettled()}.
+	 * <p>
+	 * If the {@link VirtualFlow#updateBudgetProperty()} is greater than 0, cells updates are time-sliced,
+	 * see {@link #cellUpdater(boolean, double)}.
 	 */
 	public void onScroll() {
 		FlowState<T, C> state = getState();
@@ -169,14 +201,27 @@ public void onScroll() {
 		OrientationHelper helper = virtualFlow.getOrientationHelper();
 		int num = helper.maxCells();
 
+		// Velocity Tracking
+		boolean fast = false;
+		double threshold = virtualFlow.getFastScrollThreshold();
+		if (threshold > 0) {
+			double pos = (virtualFlow.getOrientation() == Orientation.VERTICAL) ? virtualFlow.getVPos() : virtualFlow.getHPos();
+			fast = virtualFlow.getVelocityTracker().update(pos) > threshold;
+		}
+
 		// State Computation
 		int sFirst = helper.firstVisible();
 		int sLast = helper.lastVisible();
 		int sTrueFirst = Math.max(sLast - num + 1, 0); // Fix the start index if last - first != num
 		IntegerRange sRange = IntegerRange.of(sTrueFirst, sLast);
 		if (!sRange.equals(state.getRange())) {
-			setState(state.transition(sRange));
+			setState(state.transition(sRange, cellUpdater(fast, (sFirst + sLast) / 2.0)));
+			if (scheduler.size() > 0) {
+				scheduler.setBudget(virtualFlow.getUpdateBudget());
+				scheduler.run();
+			}
 		}
+		if (!fast) onScrollSettled();
 
 		// Layout Computation
 		IntegerRange lRange = IntegerRange.of(sFirst, sLast); // The layout range and the state range not always are equal
@@ -195,6 +240,10 @@ public void onScroll() {
 	 * <p> 3) The given change is processed by using the {@link ListChangeHelper} utility class,
 	 * then the new state is computed by using {@link FlowState#transition(List)}, finally
 	 * {@link VirtualFlow#requestViewportLayout()} is called and the last range property is updated.
+	 * <p></p>
+	 * Before the third step, there's a fast path for appends, see {@link #onAppend(ListChangeListener.Change)}, and
+	 * one for shifts (see {@link RingBufferList}) which are handled by {@link FlowState#shift(int)}, and one for single
+	 * contiguous additions or removals, see {@link #onSplice(ListChangeListener.Change)}.
 	 */
 	public void onListChange(ListChangeListener.Change<? extends T> c) {
 		if (itemsEmpty()) {
@@ -207,16 +256,186 @@ public void onListChange(ListChangeListener.Change<? extends T> c) {
 			return;
 		}
 
+		if (onAppend(c)) return;
+
+		int shift = (virtualFlow instanceof PaginatedVirtualFlow) ? 0 : RingBufferList.shiftOf(c);
+		if (shift > 0) {
+			setState(getState().shift(shift));
+			virtualFlow.requestViewportLayout();
+			return;
+		}
+
+		if (onSplice(c)) return;
+
 		List<ListChangeHelper.Change> changes = ListChangeHelper.instance().processChange(c);
 		setState(getState().transition(changes));
 		virtualFlow.requestViewportLayout();
 		setLastRange(getState().getRange());
 	}
 
+	/**
+	 * This is the fast path for changes that only append items at the end of the list, which is a very common
+	 * case for example when tailing logs.
+	 * <p>
+	 * If the change is made of a single addition at the end of the list, and the viewport is already full
+	 * (see {@link FlowState#isViewportFull()}), then the new items are beyond the displayed range,
+	 * there's no need to transition to a new state, the only thing that changes is the estimated length (which
+	 * is recomputed by the skin anyway).
+	 * <p>
+	 * If {@link VirtualFlow#followTailProperty()} is enabled and the viewport was pinned to the end before the
+	 * change, a scroll to the end is scheduled for the next pulse, see {@link #scheduleFollow()}. This way no matter
+	 * how many appends occur in the same pulse, there will be only one transition, {@link #onScroll()}.
+	 * <p></p>
+	 * {@link PaginatedVirtualFlow} is not supported, for it this always returns false.
+	 *
+	 * @return whether the change has been handled, if false the change is reset
+	 * so that it can be processed by the general algorithm
+	 */
+	protected boolean onAppend(ListChangeListener.Change<? extends T> c) {
+		if (virtualFlow instanceof PaginatedVirtualFlow) return false;
+
+		int from = -1;
+		if (c.next() && c.wasAdded() && !c.wasRemoved() && !c.wasPermutated() && !c.wasUpdated() && c.getTo() == itemsNum()) {
+			from = c.getFrom();
+		}
+		boolean append = from >= 0 && !c.next();
+		c.reset();
+		if (!append) return false;
+
+		FlowState<T, C> state = getState();
+		if (!state.isViewportFull() || from <= state.getRange().getMax()) return false;
+		if (virtualFlow.isFollowTail() && isPinnedToEnd()) scheduleFollow();
+		return true;
+	}
+
+	/**
+	 * This is the fast path for changes made of a single contiguous addition or removal, for example
+	 * the expansion or collapse of a node in a {@link TreeList}.
+	 * <p>
+	 * Such changes are handled by {@link FlowState#splice(int, int, int)}, whose cost only depends on the number of cells,
+	 * while the general algorithm would need to process every added/removed index.
+	 * <p></p>
+	 * {@link PaginatedVirtualFlow} is not supported, for it this always returns false.
+	 *
+	 * @return whether the change has been handled, if false the change is reset
+	 * so that it can be processed by the general algorithm
+	 */
+	protected boolean onSplice(ListChangeListener.Change<? extends T> c) {
+		if (virtualFlow instanceof PaginatedVirtualFlow) return false;
+
+		int from = -1;
+		int removed = 0;
+		int added = 0;
+		if (c.next() && !c.wasPermutated() && !c.wasUpdated() && (c.wasAdded() != c.wasRemoved())) {
+			from = c.getFrom();
+			removed = c.getRemovedSize();
+			added = c.getAddedSize();
+		}
+		boolean splice = from >= 0 && !c.next();
+		c.reset();
+		if (!splice) return false;
+
+		setState(getState().splice(from, removed, added));
+		virtualFlow.requestViewportLayout();
+		setLastRange(getState().getRange());
+		return true;
+	}
+
+	/**
+	 * Schedules a scroll to the end of the viewport for the next pulse, if one is not already scheduled.
+	 * If the flow is not in a scene, scrolls immediately. In such case the estimated length must be computed first,
+	 * as it is still the one before the append, and the new position would be clamped to the old end.
+	 */
+	protected void scheduleFollow() {
+		if (followAction != null) return;
+		Scene scene = virtualFlow.getScene();
+		if (scene == null) {
+			virtualFlow.getOrientationHelper().computeEstimatedLength();
+			virtualFlow.scrollToPixel(Double.MAX_VALUE);
+			return;
+		}
+
+		followScene = scene;
+		followAction = () -> {
+			followScene.removePreLayoutPulseListener(followAction);
+			followScene = null;
+			followAction = null;
+			virtualFlow.scrollToPixel(Double.MAX_VALUE);
+		};
+		scene.addPreLayoutPulseListener(followAction);
+	}
+
+	/**
+	 * @return whether the viewport is scrolled to the end, along the current orientation
+	 */
+	protected boolean isPinnedToEnd() {
+		OrientationHelper helper = virtualFlow.getOrientationHelper();
+		if (virtualFlow.getOrientation() == Orientation.VERTICAL) {
+			return virtualFlow.getVPos() >= helper.maxVScroll() - 1.0;
+		}
+		return virtualFlow.getHPos() >= helper.maxHScroll() - 1.0;
+	}
+
+	/**
+	 * Builds the function used by {@link FlowState#transition(IntegerRange, BiConsumer)} to update the reused cells:
+	 * <p> - If scrolling fast, cells are updated with {@link Cell#updateItemFast(Object)}
+	 * <p> - If the {@link VirtualFlow#updateBudgetProperty()} is greater than 0, updates are scheduled with a
+	 * {@link CellUpdateScheduler}, the priority is the distance from the given center index. After the transition,
+	 * the scheduler executes as many updates as the budget allows, the others are marked as pending
+	 * (see {@link Cell#updatePending(boolean)}) and executed in the next pulses
+	 * <p> - Otherwise, cells are updated with {@link Cell#updateItem(Object)}
+	 */
+	protected BiConsumer<Integer, C> cellUpdater(boolean fast, double center) {
+		if (fast) return (index, cell) -> {
+			cell.updateItemFast(indexToItem(index));
+			lightweightCells.add(cell);
+		};
+		if (virtualFlow.getUpdateBudget() > 0) return (index, cell) -> scheduler.schedule(cell, Math.abs(index - center));
+		return (index, cell) -> cell.updateItem(indexToItem(index));
+	}
+
+	/**
+	 * Executed by the {@link CellUpdateScheduler}, updates the given cell with the item at its current index
+	 * (which may have changed since it was scheduled). Cells which are not in the viewport anymore are ignored.
+	 * <p>
+	 * Cells don't know their index, so the first update of each run builds a map from the cells to their indexes,
+	 * which is then used by the other updates of the same run and discarded at its end.
+	 */
+	protected void updateScheduled(C cell) {
+		if (scheduledIndexes == null) {
+			scheduledIndexes = new IdentityHashMap<>();
+			getState().getCells().forEach((index, c) -> scheduledIndexes.put(c, index));
+		}
+		Integer index = scheduledIndexes.get(cell);
+		if (index != null && index < itemsNum()) cell.updateItem(indexToItem(index));
+	}
+
+	/**
+	 * Performs the full update, {@link Cell#updateItem(Object)}, on the cells that were updated with
+	 * {@link Cell#updateItemFast(Object)} while scrolling fast and are still in the viewport.
+	 * <p>
+	 * Called when the scroll settles or the velocity goes below the {@link VirtualFlow#fastScrollThresholdProperty()}.
+	 */
+	protected void onScrollSettled() {
+		if (lightweightCells.isEmpty()) return;
+		int size = itemsNum();
+		for (Map.Entry<Integer, C> e : getState().getCells().entrySet()) {
+			int index = e.getKey();
+			C cell = e.getValue();
+			if (index < size && lightweightCells.contains(cell)) {
+				scheduler.cancel(cell);
+				cell.updateItem(indexToItem(index));
+			}
+		}
+		lightweightCells.clear();
+	}
+
 	/**
 	 * Clears the viewport. Sets the state to {@link FlowState#EMPTY}.
 	 */
 	public void clear() {
+		lightweightCells.clear();
+		scheduler.clear();
 		getState().clear();
 		setState(FlowState.EMPTY);
 		setLastRange(IntegerRange.of(-1));
@@ -241,10 +460,11 @@ protected T indexToItem(int index) {
 	}
 
 	/**
-	 * Converts the given item to a cell using {@link VirtualFlow#cellFactoryProperty()}.
+	 * Converts the given item to a cell using {@link VirtualFlow#cellFactoryProperty()}, or takes it from the
+	 * {@link VirtualFlow#cellPoolProperty()} if set.
 	 */
 	protected C itemToCell(T item) {
-		return virtualFlow.getCellFactory().apply(item);
+		return virtualFlow.createCell(item);
 	}
 
 	/**
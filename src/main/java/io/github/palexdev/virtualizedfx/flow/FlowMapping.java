@@ -101,7 +101,7 @@ public void manage(FlowState<T, C> oldState, FlowState<T, C> newState) {
 			if (cell != null) {
 				cell.updateItem(item);
 			} else {
-				cell = virtualFlow.getCellFactory().apply(item);
+				cell = virtualFlow.createCell(item);
 			}
 			cell.updateIndex(newIndex);
 			newState.addCell(newIndex, cell);
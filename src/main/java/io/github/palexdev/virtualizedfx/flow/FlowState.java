@@ -23,14 +23,18 @@
 import io.github.palexdev.mfxcore.utils.fx.ListChangeHelper.Change;
 import io.github.palexdev.mfxcore.utils.fx.ListChangeHelper.ChangeType;
 import io.github.palexdev.virtualizedfx.cell.Cell;
+import io.github.palexdev.virtualizedfx.cell.CellPool;
+import io.github.palexdev.virtualizedfx.collections.RingBufferList;
 import io.github.palexdev.virtualizedfx.enums.UpdateType;
 import io.github.palexdev.virtualizedfx.flow.FlowMapping.FullMapping;
 import io.github.palexdev.virtualizedfx.flow.FlowMapping.PartialMapping;
 import io.github.palexdev.virtualizedfx.flow.FlowMapping.ValidMapping;
 import io.github.palexdev.virtualizedfx.flow.paginated.PaginatedVirtualFlow;
+import io.github.palexdev.virtualizedfx.layout.AxisLayout;
 import javafx.scene.Node;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -120,6 +124,22 @@ public FlowState(VirtualFlow<T, C> virtualFlow, IntegerRange range) {
 	 * @return the new state
 	 */
 	public FlowState<T, C> transition(IntegerRange newRange) {
+		return transition(newRange, (index, cell) -> cell.updateItem(virtualFlow.getItems().get(index)));
+	}
+
+	/**
+	 * Same as {@link #transition(IntegerRange)} but the update of the reused cells' item is delegated to the given
+	 * function, which receives the new index and the cell (already updated in index).
+	 * <p>
+	 * This allows the {@link FlowManager} to perform lightweight updates while scrolling fast
+	 * (see {@link VirtualFlow#fastScrollThresholdProperty()}), or to postpone updates
+	 * (see {@link VirtualFlow#updateBudgetProperty()}).
+	 *
+	 * @param newRange the new state's range of items
+	 * @param updater  the function responsible for updating the reused cells' item
+	 * @return the new state
+	 */
+	public FlowState<T, C> transition(IntegerRange newRange, BiConsumer<Integer, C> updater) {
 		if (range.equals(newRange)) return this;
 		type = UpdateType.SCROLL;
 
@@ -139,9 +159,8 @@ public FlowState<T, C> transition(IntegerRange newRange) {
 			Map.Entry<Integer, C> next = it.next();
 			C cell = next.getValue();
 			int cIndex = toUpdate.removeFirst();
-			T item = virtualFlow.getItems().get(cIndex);
 			cell.updateIndex(cIndex);
-			cell.updateItem(item);
+			updater.accept(cIndex, cell);
 			newState.addCell(cIndex, cell);
 			it.remove();
 		}
@@ -156,6 +175,136 @@ public FlowState<T, C> transition(IntegerRange newRange) {
 		return newState;
 	}
 
+	/**
+	 * This is responsible for transitioning this state to a new one when all the items in the list have been
+	 * shifted towards the start by the given amount of positions (for example, N items evicted from the start and
+	 * N items appended at the end, see {@link RingBufferList}).
+	 * <p></p>
+	 * Since the number of items doesn't change, the range stays the same. The item displayed by the cell at index
+	 * {@code i} is now at index {@code i - shift}, so for all the cells that are still in range only the index is
+	 * updated. The cells that go out of range are reused (updated both in item and index) for the indexes that are
+	 * still missing, which are at the end of the range.
+	 * <p>
+	 * The update type is set to {@link UpdateType#CHANGE} and positions are copied.
+	 *
+	 * @param shift the number of positions by which items moved towards the start of the list
+	 * @return the new state
+	 */
+	public FlowState<T, C> shift(int shift) {
+		FlowState<T, C> newState = new FlowState<>(virtualFlow, range);
+		Deque<C> reusable = new ArrayDeque<>();
+		for (Map.Entry<Integer, C> next : cells.entrySet()) {
+			int nIndex = next.getKey() - shift;
+			C cell = next.getValue();
+			if (IntegerRange.inRangeOf(nIndex, range)) {
+				cell.updateIndex(nIndex);
+				newState.addCell(nIndex, cell);
+				continue;
+			}
+			reusable.add(cell);
+		}
+		cells.clear();
+
+		for (int i = range.getMin(); i <= range.getMax(); i++) {
+			if (newState.cells.containsKey(i)) continue;
+			T item = virtualFlow.getItems().get(i);
+			C cell = reusable.poll();
+			if (cell == null) {
+				cell = virtualFlow.createCell(item);
+				newState.setCellsChanged(true);
+			} else {
+				cell.updateItem(item);
+			}
+			cell.updateIndex(i);
+			newState.addCell(i, cell);
+		}
+
+		if (!reusable.isEmpty()) {
+			reusable.forEach(virtualFlow::releaseCell);
+			newState.setCellsChanged(true);
+		}
+		newState.positions.addAll(positions);
+		newState.type = UpdateType.CHANGE;
+		return newState;
+	}
+
+	/**
+	 * This is responsible for transitioning this state to a new one when a single contiguous range of items
+	 * has been removed from the list, or added to it, at the given index. A typical source of such changes is the
+	 * expansion or collapse of a node in a flattened tree.
+	 * <p></p>
+	 * Unlike {@link #transition(List)}, the cost of this doesn't depend on the number of added or removed items,
+	 * since no indexes are ever expanded to a collection, only on the number of cells.
+	 * <p>
+	 * The new range is computed as in {@link FlowManager#init()}. Then, for each index in the new range, the old index
+	 * of its item is computed: indexes before {@code from} didn't change, indexes after the added items moved by
+	 * {@code added - removed}, the others are the new items. Cells displaying an item that is still in range are moved
+	 * to the new state with only an index update. The remaining cells are reused for the new items (or created if
+	 * there are not enough), the exceeding ones are disposed.
+	 * <p>
+	 * The update type is set to {@link UpdateType#CHANGE}, positions are not copied since the range may have changed.
+	 *
+	 * @param from    the index at which the change occurred
+	 * @param removed the number of removed items
+	 * @param added   the number of added items
+	 * @return the new state
+	 */
+	public FlowState<T, C> splice(int from, int removed, int added) {
+		OrientationHelper helper = virtualFlow.getOrientationHelper();
+		int itemsNum = virtualFlow.getItems().size();
+		int num = helper.maxCells();
+		int last = Math.min(helper.firstVisible() + num - 1, itemsNum - 1);
+		int first = Math.max(last - num + 1, 0);
+		IntegerRange newRange = IntegerRange.of(first, last);
+		FlowState<T, C> newState = new FlowState<>(virtualFlow, newRange);
+
+		int shift = added - removed;
+		Deque<Integer> toUpdate = new ArrayDeque<>();
+		for (int i = first; i <= last; i++) {
+			int oIndex;
+			if (i < from) {
+				oIndex = i;
+			} else if (i >= from + added) {
+				oIndex = i - shift;
+			} else {
+				toUpdate.add(i);
+				continue;
+			}
+
+			C cell = cells.remove(oIndex);
+			if (cell == null) {
+				toUpdate.add(i);
+				continue;
+			}
+			if (oIndex != i) cell.updateIndex(i);
+			newState.addCell(i, cell);
+		}
+
+		Iterator<C> it = cells.values().iterator();
+		for (Integer index : toUpdate) {
+			T item = virtualFlow.getItems().get(index);
+			C cell;
+			if (it.hasNext()) {
+				cell = it.next();
+				it.remove();
+				cell.updateIndex(index);
+				cell.updateItem(item);
+			} else {
+				cell = virtualFlow.createCell(item);
+				cell.updateIndex(index);
+				newState.setCellsChanged(true);
+			}
+			newState.addCell(index, cell);
+		}
+
+		if (!cells.isEmpty()) {
+			clear();
+			newState.setCellsChanged(true);
+		}
+		newState.type = UpdateType.CHANGE;
+		return newState;
+	}
+
 	/**
 	 * This is responsible for transitioning this state to a new one given a series of changes occurred
 	 * in the items list.
@@ -333,7 +482,7 @@ protected FlowState<T, C> transition(Change change) {
 						cell = cells.remove(index);
 						cell.updateItem(item);
 					} else {
-						cell = virtualFlow.getCellFactory().apply(item);
+						cell = virtualFlow.createCell(item);
 					}
 					cell.updateIndex(i);
 					newState.addCell(i, cell);
@@ -343,7 +492,7 @@ protected FlowState<T, C> transition(Change change) {
 					Iterator<Map.Entry<Integer, C>> it = cells.entrySet().iterator();
 					while (it.hasNext()) {
 						C cell = it.next().getValue();
-						cell.dispose();
+						virtualFlow.releaseCell(cell);
 						it.remove();
 					}
 					positions.clear();
@@ -461,7 +610,7 @@ protected FlowState<T, C> transition(Change change) {
 					while (it.hasNext()) {
 						Map.Entry<Integer, C> next = it.next();
 						C cell = next.getValue();
-						cell.dispose();
+						virtualFlow.releaseCell(cell);
 						it.remove();
 					}
 					newState.setCellsChanged(true);
@@ -526,23 +675,16 @@ public Set<Double> computePositions() {
 
 		OrientationHelper helper = virtualFlow.getOrientationHelper();
 		double cellSize = virtualFlow.getCellSize();
-		int first = helper.firstVisible();
-		int last = first + helper.maxCells() - 1;
-		boolean adjust = last > virtualFlow.getItems().size() - 1 && isViewportFull();
+		int itemsNum = virtualFlow.getItems().size();
+		boolean adjust = AxisLayout.needsAdjust(helper.firstVisible(), helper.maxCells(), itemsNum) && isViewportFull();
 
 		if (!adjust && type == UpdateType.CHANGE && positions.size() >= targetSize) {
 			return positions;
 		}
 
 		positions.clear();
-		double bottom = (cells.size() - 1) * cellSize;
-		if (adjust) {
-			bottom -= cellSize;
-		}
-
-		for (int i = range.getMax(); i >= range.getMin(); i--) {
-			positions.add(bottom);
-			bottom -= cellSize;
+		for (double position : AxisLayout.positions(cells.size(), cellSize, adjust)) {
+			positions.add(position);
 		}
 		return positions;
 	}
@@ -715,10 +857,13 @@ protected int computeTargetSize(int expectedSize) {
 	}
 
 	/**
-	 * Shortcut to dispose all cells present in this state's cells map and then clear it.
+	 * Shortcut to dispose all cells present in this state's cells map (or release them to the flow's
+	 * {@link CellPool}) and then clear it.
 	 */
 	protected void clear() {
-		cells.values().forEach(C::dispose);
+		for (C cell : cells.values()) {
+			virtualFlow.releaseCell(cell);
+		}
 		cells.clear();
 	}
 
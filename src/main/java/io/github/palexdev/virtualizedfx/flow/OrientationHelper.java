@@ -20,6 +20,7 @@
 
 import io.github.palexdev.mfxcore.utils.NumberUtils;
 import io.github.palexdev.mfxcore.utils.fx.LayoutUtils;
+import io.github.palexdev.virtualizedfx.layout.AxisLayout;
 import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.DoubleBinding;
@@ -34,6 +35,8 @@
  * {@link VerticalHelper}, both are used by the {@link VirtualFlow} and its subcomponents, depending on its
  * {@link VirtualFlow#orientationProperty()}, to separate common computations/operations that depend on the
  * orientation.
+ * <p>
+ * A third implementation, {@link WrappingHelper}, can be used to lay out items on multiple lines.
  */
 public interface OrientationHelper {
 
@@ -122,6 +125,16 @@ public interface OrientationHelper {
 	 */
 	void layout(Node node, double pos, double breadth);
 
+	/**
+	 * Same as {@link #layout(Node, double, double)} but also receives the index of the item displayed by the cell.
+	 * This is needed by helpers which do not lay out cells on a single line, see {@link WrappingHelper}.
+	 * <p>
+	 * Default implementation ignores the index and calls {@link #layout(Node, double, double)}.
+	 */
+	default void layout(int index, Node node, double pos, double breadth) {
+		layout(node, pos, breadth);
+	}
+
 	/**
 	 * Disposes bindings/listeners that are not required anymore, for example
 	 * when changing orientation and helper as well, the old is disposed.
@@ -191,21 +204,17 @@ public HorizontalHelper(VirtualFlow<?, ?> virtualFlow) {
 
 		@Override
 		public int firstVisible() {
-			return NumberUtils.clamp(
-					(int) Math.floor(virtualFlow.getHPos() / virtualFlow.getCellSize()),
-					0,
-					virtualFlow.getItems().size() - 1
-			);
+			return AxisLayout.firstVisible(virtualFlow.getHPos(), virtualFlow.getCellSize(), virtualFlow.getItems().size());
 		}
 
 		@Override
 		public int lastVisible() {
-			return NumberUtils.clamp(firstVisible() + maxCells() - 1, 0, virtualFlow.getItems().size() - 1);
+			return AxisLayout.lastVisible(firstVisible(), maxCells(), virtualFlow.getItems().size());
 		}
 
 		@Override
 		public int maxCells() {
-			return (int) (Math.ceil(virtualFlow.getWidth() / virtualFlow.getCellSize()) + 1);
+			return AxisLayout.maxCells(virtualFlow.getWidth(), virtualFlow.getCellSize());
 		}
 
 		/**
@@ -230,7 +239,7 @@ public double maxHScroll() {
 
 		@Override
 		public double computeEstimatedLength() {
-			double val = virtualFlow.getItems().size() * virtualFlow.getCellSize();
+			double val = AxisLayout.estimatedLength(virtualFlow.getItems().size(), virtualFlow.getCellSize());
 			estimatedLength.set(val);
 			return val;
 		}
@@ -271,7 +280,7 @@ public double computeBreadth(Node node) {
 		public DoubleBinding xPosBinding() {
 			if (xPosBinding == null) {
 				xPosBinding = Bindings.createDoubleBinding(
-						() -> -virtualFlow.getHPos() % virtualFlow.getCellSize(),
+						() -> AxisLayout.offset(virtualFlow.getHPos(), virtualFlow.getCellSize()),
 						virtualFlow.hPosProperty(), virtualFlow.cellSizeProperty()
 				);
 			}
@@ -390,21 +399,17 @@ public VerticalHelper(VirtualFlow<?, ?> virtualFlow) {
 
 		@Override
 		public int firstVisible() {
-			return NumberUtils.clamp(
-					(int) Math.floor(virtualFlow.getVPos() / virtualFlow.getCellSize()),
-					0,
-					virtualFlow.getItems().size() - 1
-			);
+			return AxisLayout.firstVisible(virtualFlow.getVPos(), virtualFlow.getCellSize(), virtualFlow.getItems().size());
 		}
 
 		@Override
 		public int lastVisible() {
-			return NumberUtils.clamp(firstVisible() + maxCells() - 1, 0, virtualFlow.getItems().size() - 1);
+			return AxisLayout.lastVisible(firstVisible(), maxCells(), virtualFlow.getItems().size());
 		}
 
 		@Override
 		public int maxCells() {
-			return (int) (Math.ceil(virtualFlow.getHeight() / virtualFlow.getCellSize()) + 1);
+			return AxisLayout.maxCells(virtualFlow.getHeight(), virtualFlow.getCellSize());
 		}
 
 		/**
@@ -429,7 +434,7 @@ public double maxHScroll() {
 
 		@Override
 		public double computeEstimatedLength() {
-			double val = virtualFlow.getItems().size() * virtualFlow.getCellSize();
+			double val = AxisLayout.estimatedLength(virtualFlow.getItems().size(), virtualFlow.getCellSize());
 			estimatedLength.set(val);
 			return val;
 		}
@@ -489,7 +494,7 @@ public DoubleBinding xPosBinding() {
 		public DoubleBinding yPosBinding() {
 			if (yPosBinding == null) {
 				yPosBinding = Bindings.createDoubleBinding(
-						() -> -virtualFlow.getVPos() % virtualFlow.getCellSize(),
+						() -> AxisLayout.offset(virtualFlow.getVPos(), virtualFlow.getCellSize()),
 						virtualFlow.vPosProperty(), virtualFlow.cellSizeProperty()
 				);
 			}
@@ -552,4 +557,300 @@ public void dispose() {
 			yPosBinding = null;
 		}
 	}
+
+	/**
+	 * Concrete implementation of {@link AbstractOrientationHelper} for a VERTICAL virtual flow which wraps
+	 * the items on multiple lines, think of a gallery of thumbnails.
+	 * <p>
+	 * Each line contains {@code Math.floor(virtualFlow.getWidth() / cellBreadth)} items (at least one), and is
+	 * {@link VirtualFlow#cellSizeProperty()} tall. The items list is never reshaped, the index of an item simply
+	 * determines its line and column as {@code index / itemsPerLine} and {@code index % itemsPerLine}.
+	 * Everything else works exactly like the {@link VerticalHelper}, except that the viewport scrolls by lines rather than
+	 * by items, and that the number of cells is always a multiple of the items per line.
+	 * <p></p>
+	 * This helper adds the following listeners:
+	 * <p> - A listener to the virtual flow's height to re-initialize the viewport, {@link FlowManager#init()}
+	 * <p> - A listener to both the virtual flow's width and the {@link #cellBreadthProperty()}. When the number of items
+	 * per line changes the viewport is re-initialized, existing cells are recycled, and the first visible item
+	 * is kept in the viewport. Otherwise, it's just a re-layout, {@link VirtualFlow#requestViewportLayout()}
+	 * <p> - A listener on the virtual flow's vPos property to process the scroll, {@link FlowManager#onScroll()}
+	 * <p></p>
+	 * To use it, change the {@link VirtualFlow#orientationHelperFactoryProperty()}, for example:
+	 * <pre>
+	 * {@code
+	 * flow.setOrientationHelperFactory(o -> (o == Orientation.VERTICAL) ?
+	 *     new WrappingHelper(flow, 128) :
+	 *     new HorizontalHelper(flow)
+	 * );
+	 * }
+	 * </pre>
+	 */
+	class WrappingHelper extends AbstractOrientationHelper {
+		private final DoubleProperty cellBreadth = new SimpleDoubleProperty();
+		private int itemsPerLine;
+
+		private ChangeListener<? super Number> heightListener;
+		private InvalidationListener breadthListener;
+		private InvalidationListener vPosListener;
+
+		private DoubleBinding xPosBinding;
+		private DoubleBinding yPosBinding;
+
+		public WrappingHelper(VirtualFlow<?, ?> virtualFlow, double cellBreadth) {
+			super(virtualFlow);
+			this.cellBreadth.set(cellBreadth);
+			this.itemsPerLine = itemsPerLine();
+
+			heightListener = (observable, oldValue, newValue) -> {
+				if (newValue.doubleValue() > 0) manager.init();
+			};
+			breadthListener = invalidated -> onBreadthChanged();
+			vPosListener = invalidated -> manager.onScroll();
+
+			virtualFlow.heightProperty().addListener(heightListener);
+			virtualFlow.widthProperty().addListener(breadthListener);
+			this.cellBreadth.addListener(breadthListener);
+			virtualFlow.vPosProperty().addListener(vPosListener);
+
+			((DoubleProperty) virtualFlow.estimatedLengthProperty()).bind(estimatedLengthProperty());
+			((DoubleProperty) virtualFlow.maxBreadthProperty()).bind(maxBreadthProperty());
+		}
+
+		/**
+		 * Called when either the virtual flow's width or the {@link #cellBreadthProperty()} change.
+		 * <p>
+		 * If the number of items per line didn't change, just requests a re-layout. Otherwise, the estimated
+		 * length is re-computed, the viewport re-initialized, and the position adjusted to keep the item
+		 * that was first visible in the viewport.
+		 */
+		protected void onBreadthChanged() {
+			int ipl = itemsPerLine();
+			if (ipl == itemsPerLine) {
+				virtualFlow.requestViewportLayout();
+				return;
+			}
+
+			int anchor = (int) Math.floor(virtualFlow.getVPos() / virtualFlow.getCellSize()) * itemsPerLine;
+			itemsPerLine = ipl;
+			computeEstimatedLength();
+			if (virtualFlow.getHeight() > 0) manager.init();
+			scrollToIndex(anchor);
+		}
+
+		/**
+		 * @return the number of items in a single line, {@code Math.floor(virtualFlow.getWidth() / cellBreadth)},
+		 * never lesser than 1
+		 */
+		public int itemsPerLine() {
+			return AxisLayout.itemsPerLine(virtualFlow.getWidth(), getCellBreadth());
+		}
+
+		/**
+		 * @return the number of lines needed to display all the items
+		 */
+		public int lines() {
+			return AxisLayout.lines(virtualFlow.getItems().size(), itemsPerLine());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * This is the index of the first item of the first visible line.
+		 */
+		@Override
+		public int firstVisible() {
+			int line = AxisLayout.firstVisible(virtualFlow.getVPos(), virtualFlow.getCellSize(), lines());
+			return Math.max(line, 0) * itemsPerLine();
+		}
+
+		@Override
+		public int lastVisible() {
+			return AxisLayout.lastVisible(firstVisible(), maxCells(), virtualFlow.getItems().size());
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * For the {@code WrappingHelper} this is the maximum number of lines multiplied by the number of items per line.
+		 */
+		@Override
+		public int maxCells() {
+			return AxisLayout.maxCells(virtualFlow.getHeight(), virtualFlow.getCellSize()) * itemsPerLine();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * The value is given by: {@code estimatedLength - virtualFlow.getHeight()}
+		 */
+		@Override
+		public double maxVScroll() {
+			return estimatedLengthProperty().get() - virtualFlow.getHeight();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * The value is given by: {@code itemsPerLine * maxBreadth - virtualFlow.getWidth()}, this can be positive
+		 * only when the viewport is not large enough for a single cell
+		 */
+		@Override
+		public double maxHScroll() {
+			return itemsPerLine() * maxBreadthProperty().get() - virtualFlow.getWidth();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * For the {@code WrappingHelper} this is the virtual length of all the lines.
+		 */
+		@Override
+		public double computeEstimatedLength() {
+			double val = AxisLayout.estimatedLength(lines(), virtualFlow.getCellSize());
+			estimatedLength.set(val);
+			return val;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * The {@code WrappingHelper} computes the values depending on {@link VirtualFlow#fitToBreadthProperty()}:
+		 * <p> - True: the cells share the viewport's width, {@code virtualFlow.getWidth() / itemsPerLine}
+		 * <p> - False: {@link #cellBreadthProperty()}
+		 */
+		@Override
+		public double computeBreadth(Node node) {
+			boolean fitToBreadth = virtualFlow.isFitToBreadth();
+			return fitToBreadth ? virtualFlow.getWidth() / itemsPerLine() : getCellBreadth();
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * This is computed as: {@code -NumberUtils.clamp(virtualFlow.getHPos(), 0.0, maxHScroll())}
+		 */
+		@Override
+		public DoubleBinding xPosBinding() {
+			if (xPosBinding == null) {
+				xPosBinding = Bindings.createDoubleBinding(
+						() -> -NumberUtils.clamp(virtualFlow.getHPos(), 0.0, Math.max(0.0, maxHScroll())),
+						virtualFlow.hPosProperty(), virtualFlow.widthProperty(), maxBreadth, cellBreadth
+				);
+			}
+			return xPosBinding;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * Same as {@link VerticalHelper#yPosBinding()}, lines are treated as cells:
+		 * {@code -virtualFlow.getVPos() % virtualFlow.getCellSize()}.
+		 */
+		@Override
+		public DoubleBinding yPosBinding() {
+			if (yPosBinding == null) {
+				yPosBinding = Bindings.createDoubleBinding(
+						() -> AxisLayout.offset(virtualFlow.getVPos(), virtualFlow.getCellSize()),
+						virtualFlow.vPosProperty(), virtualFlow.cellSizeProperty()
+				);
+			}
+			return yPosBinding;
+		}
+
+		@Override
+		public void invalidatePos() {
+			double length = estimatedLength.get();
+			double breadth = maxBreadth.get();
+			virtualFlow.setVPos(Math.min(virtualFlow.getVPos(), length));
+			virtualFlow.setHPos(Math.min(virtualFlow.getHPos(), breadth));
+		}
+
+		@Override
+		public void scrollBy(double pixels) {
+			double newVal = NumberUtils.clamp(virtualFlow.getVPos() + pixels, 0, maxVScroll());
+			virtualFlow.setVPos(newVal);
+		}
+
+		@Override
+		public void scrollToPixel(double pixel) {
+			double clampedVal = NumberUtils.clamp(pixel, 0, maxVScroll());
+			virtualFlow.setVPos(clampedVal);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * Scrolls to the line containing the given item.
+		 */
+		@Override
+		public void scrollToIndex(int index) {
+			double val = (index / itemsPerLine()) * virtualFlow.getCellSize();
+			double clampedVal = NumberUtils.clamp(val, 0, Math.max(0.0, maxVScroll()));
+			virtualFlow.setVPos(clampedVal);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * Without the item's index the cell can't be placed in its column, so this just positions the node
+		 * at the start of the line. The {@link VirtualFlowSkin} uses {@link #layout(int, Node, double, double)}.
+		 *
+		 * @param node    the node to layout
+		 * @param pos     the y position
+		 * @param breadth the node's width
+		 */
+		@Override
+		public void layout(Node node, double pos, double breadth) {
+			double size = virtualFlow.getCellSize();
+			node.resizeRelocate(0, pos, breadth, size);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 * <p>
+		 * The given position is ignored, the node's line and column are computed from the index. The y position is
+		 * relative to the first visible line, so that it is consistent with {@link #yPosBinding()}.
+		 */
+		@Override
+		public void layout(int index, Node node, double pos, double breadth) {
+			int ipl = itemsPerLine();
+			double size = virtualFlow.getCellSize();
+			int firstLine = firstVisible() / ipl;
+			double x = (index % ipl) * breadth;
+			double y = (index / ipl - firstLine) * size;
+			node.resizeRelocate(x, y, breadth, size);
+		}
+
+		@Override
+		public void dispose() {
+			virtualFlow.heightProperty().removeListener(heightListener);
+			virtualFlow.widthProperty().removeListener(breadthListener);
+			cellBreadth.removeListener(breadthListener);
+			virtualFlow.vPosProperty().removeListener(vPosListener);
+
+			heightListener = null;
+			breadthListener = null;
+			vPosListener = null;
+
+			if (xPosBinding != null) xPosBinding.dispose();
+			if (yPosBinding != null) yPosBinding.dispose();
+			xPosBinding = null;
+			yPosBinding = null;
+		}
+
+		public double getCellBreadth() {
+			return cellBreadth.get();
+		}
+
+		/**
+		 * Specifies the width of the cells, used to compute how many items fit in a single line.
+		 */
+		public DoubleProperty cellBreadthProperty() {
+			return cellBreadth;
+		}
+
+		public void setCellBreadth(double cellBreadth) {
+			this.cellBreadth.set(cellBreadth);
+		}
+	}
 }
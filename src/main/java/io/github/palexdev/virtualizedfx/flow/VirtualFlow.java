@@ -27,10 +27,12 @@
 import io.github.palexdev.mfxcore.utils.fx.PropUtils;
 import io.github.palexdev.mfxcore.utils.fx.StyleUtils;
 import io.github.palexdev.virtualizedfx.cell.Cell;
+import io.github.palexdev.virtualizedfx.cell.CellPool;
 import io.github.palexdev.virtualizedfx.controls.VirtualScrollPane;
 import io.github.palexdev.virtualizedfx.flow.OrientationHelper.HorizontalHelper;
 import io.github.palexdev.virtualizedfx.flow.OrientationHelper.VerticalHelper;
 import io.github.palexdev.virtualizedfx.flow.paginated.PaginatedVirtualFlow;
+import io.github.palexdev.virtualizedfx.utils.ScrollVelocityTracker;
 import io.github.palexdev.virtualizedfx.utils.VSPUtils;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
@@ -125,6 +127,11 @@ protected void invalidated() {
 	private final DoubleProperty estimatedLength = new SimpleDoubleProperty();
 	private final DoubleProperty maxBreadth = new SimpleDoubleProperty();
 	private final ReadOnlyBooleanWrapper needsViewportLayout = new ReadOnlyBooleanWrapper(false);
+	private final BooleanProperty followTail = new SimpleBooleanProperty(false);
+	private final DoubleProperty fastScrollThreshold = new SimpleDoubleProperty(0.0);
+	private final DoubleProperty updateBudget = new SimpleDoubleProperty(0.0);
+	private final ObjectProperty<CellPool<T, C>> cellPool = new SimpleObjectProperty<>();
+	private final ScrollVelocityTracker velocityTracker = new ScrollVelocityTracker(manager::onScrollSettled);
 
 	//================================================================================
 	// Constructors
@@ -164,6 +171,23 @@ public void requestViewportLayout() {
 		needsViewportLayout.set(true);
 	}
 
+	/**
+	 * Creates a new cell for the given item with the {@link #cellFactoryProperty()}. If a {@link #cellPoolProperty()}
+	 * is set, the cell is taken from there instead, see {@link CellPool#take(Object, Function)}.
+	 */
+	protected C createCell(T item) {
+		CellPool<T, C> pool = getCellPool();
+		return (pool != null) ? pool.take(item, getCellFactory()) : getCellFactory().apply(item);
+	}
+
+	/**
+	 * Disposes the given cell, or releases it to the {@link #cellPoolProperty()} if set.
+	 */
+	protected void releaseCell(C cell) {
+		CellPool<T, C> pool = getCellPool();
+		if (pool == null || !pool.release(cell)) cell.dispose();
+	}
+
 	protected void cellSizeChanged() {
 		OrientationHelper helper = getOrientationHelper();
 		helper.computeEstimatedLength();
@@ -596,4 +620,102 @@ public ReadOnlyBooleanProperty needsViewportLayoutProperty() {
 	protected void setNeedsViewportLayout(boolean needsViewportLayout) {
 		this.needsViewportLayout.set(needsViewportLayout);
 	}
+
+	public boolean isFollowTail() {
+		return followTail.get();
+	}
+
+	/**
+	 * Specifies whether the viewport should follow the end of the list when new items are appended, useful
+	 * for live feeds such as logs.
+	 * <p>
+	 * When enabled and the viewport is scrolled to the end, appending items causes the flow to scroll to the new end.
+	 * The scroll happens once per pulse, no matter how many appends occurred in the meantime.
+	 * Scrolling away from the end pauses the following, scrolling back to the end resumes it.
+	 * <p>
+	 * Unsupported by {@link PaginatedVirtualFlow}.
+	 */
+	public BooleanProperty followTailProperty() {
+		return followTail;
+	}
+
+	public void setFollowTail(boolean followTail) {
+		this.followTail.set(followTail);
+	}
+
+	public double getFastScrollThreshold() {
+		return fastScrollThreshold.get();
+	}
+
+	/**
+	 * Specifies the scroll velocity, in pixels per second, above which cells are updated with
+	 * {@link Cell#updateItemFast(Object)} rather than {@link Cell#updateItem(Object)}. Cells are then fully updated
+	 * once the scroll settles.
+	 * <p>
+	 * Values less or equal to 0 disable the feature, this is the default.
+	 */
+	public DoubleProperty fastScrollThresholdProperty() {
+		return fastScrollThreshold;
+	}
+
+	public void setFastScrollThreshold(double fastScrollThreshold) {
+		this.fastScrollThreshold.set(fastScrollThreshold);
+	}
+
+	/**
+	 * @return the {@link ScrollVelocityTracker} used to measure the scroll velocity along the flow's orientation.
+	 * Velocity is tracked only if the {@link #fastScrollThresholdProperty()} is greater than 0
+	 */
+	public ScrollVelocityTracker getVelocityTracker() {
+		return velocityTracker;
+	}
+
+	public double getUpdateBudget() {
+		return updateBudget.get();
+	}
+
+	/**
+	 * Specifies the maximum amount of time, in milliseconds, that can be spent updating cells during a single pulse
+	 * when scrolling. Cells nearest to the viewport's center are updated first, the others are marked as pending
+	 * (see {@link Cell#updatePending(boolean)}) and updated in the next pulses.
+	 * <p>
+	 * Values less or equal to 0 disable the feature, this is the default.
+	 */
+	public DoubleProperty updateBudgetProperty() {
+		return updateBudget;
+	}
+
+	public void setUpdateBudget(double updateBudget) {
+		this.updateBudget.set(updateBudget);
+	}
+
+	public CellPool<T, C> getCellPool() {
+		return cellPool.get();
+	}
+
+	/**
+	 * Specifies the {@link CellPool} from which cells are taken and to which cells are released
+	 * instead of being disposed. A pool can be shared by many controls, but cells are only shared between
+	 * the ones that use the same {@link #cellFactoryProperty()} instance.
+	 * <p>
+	 * By default, this is null.
+	 */
+	public ObjectProperty<CellPool<T, C>> cellPoolProperty() {
+		return cellPool;
+	}
+
+	public void setCellPool(CellPool<T, C> cellPool) {
+		this.cellPool.set(cellPool);
+	}
+
+	public double getScrollVelocity() {
+		return velocityTracker.getVelocity();
+	}
+
+	/**
+	 * Delegate for {@link ScrollVelocityTracker#velocityProperty()}.
+	 */
+	public ReadOnlyDoubleProperty scrollVelocityProperty() {
+		return velocityTracker.velocityProperty();
+	}
 }
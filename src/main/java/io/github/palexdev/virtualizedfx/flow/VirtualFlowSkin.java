@@ -21,6 +21,7 @@
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.virtualizedfx.cell.Cell;
 import io.github.palexdev.virtualizedfx.enums.UpdateType;
+import io.github.palexdev.virtualizedfx.utils.NodeUtils;
 import javafx.beans.InvalidationListener;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.value.ChangeListener;
@@ -102,15 +103,16 @@ protected void layoutChildren() {
 				double mBreadth = 0.0; // Max breadth
 
 				ListIterator<Double> pIt = new ArrayList<>(positions).listIterator(positions.size());
-				ListIterator<C> cIt = new ArrayList<>(cells.values()).listIterator(cells.size());
+				ListIterator<Map.Entry<Integer, C>> cIt = new ArrayList<>(cells.entrySet()).listIterator(cells.size());
 				while (pIt.hasPrevious() && cIt.hasPrevious()) {
-					Cell<?> cell = cIt.previous();
+					Map.Entry<Integer, C> entry = cIt.previous();
+					Cell<?> cell = entry.getValue();
 					Double pos = pIt.previous();
 					Node node = cell.getNode();
 					cell.beforeLayout();
 					double breadth = helper.computeBreadth(node);
 					if (breadth > mBreadth) mBreadth = breadth;
-					helper.layout(node, pos, breadth);
+					helper.layout(entry.getKey(), node, pos, breadth);
 					cell.afterLayout();
 				}
 
@@ -223,7 +225,7 @@ protected void onStateChanged(FlowState<T, C> oldValue, FlowState<T, C> newValue
 
 		if (newValue.haveCellsChanged()) {
 			List<Node> nodes = newValue.getNodes();
-			viewport.getChildren().setAll(nodes);
+			NodeUtils.updateChildren(viewport.getChildren(), nodes);
 		}
 	}
 
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.flow.sectioned;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Immutable index of the section boundaries in a grouped list of items, used by {@link SectionedVirtualFlow}.
+ * <p>
+ * A grouped list contains both the headers and the items of each section, a header marks the start
+ * of a new section. The index stores the positions of the headers in ascending order, so that the section
+ * containing any given item can be found by binary search in O(log n), rather than scanning the items backwards
+ * on every scroll.
+ * <p></p>
+ * Building the index costs a single O(n) pass on the items, which must be repeated only when the items change.
+ */
+public class SectionIndex {
+	//================================================================================
+	// Static Properties
+	//================================================================================
+	public static final SectionIndex EMPTY = new SectionIndex(new int[0]);
+
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final int[] headers;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+
+	/**
+	 * @param headers the positions of the headers, must be sorted in ascending order
+	 */
+	public SectionIndex(int[] headers) {
+		this.headers = headers;
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Builds the index of the given items, headers are identified by the given predicate.
+	 */
+	public static <T> SectionIndex build(List<? extends T> items, Predicate<? super T> isHeader) {
+		if (items == null || isHeader == null || items.isEmpty()) return EMPTY;
+		int[] headers = new int[16];
+		int count = 0;
+		for (int i = 0; i < items.size(); i++) {
+			if (!isHeader.test(items.get(i))) continue;
+			if (count == headers.length) headers = Arrays.copyOf(headers, count << 1);
+			headers[count++] = i;
+		}
+		return new SectionIndex(Arrays.copyOf(headers, count));
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the number of the section containing the item at the given index,
+	 * -1 if the item comes before the first header
+	 */
+	public int sectionOf(int index) {
+		int pos = Arrays.binarySearch(headers, index);
+		return (pos >= 0) ? pos : -pos - 2;
+	}
+
+	/**
+	 * @return the index of the header of the section containing the item at the given index,
+	 * -1 if the item comes before the first header
+	 */
+	public int headerOf(int index) {
+		int section = sectionOf(index);
+		return (section >= 0) ? headers[section] : -1;
+	}
+
+	/**
+	 * @return the index of the first header after the given index, -1 if there are no more headers
+	 */
+	public int nextHeader(int index) {
+		int next = sectionOf(index) + 1;
+		return (next < headers.length) ? headers[next] : -1;
+	}
+
+	/**
+	 * @return the index of the header of the given section
+	 */
+	public int getHeader(int section) {
+		return headers[section];
+	}
+
+	/**
+	 * @return the number of sections
+	 */
+	public int size() {
+		return headers.length;
+	}
+
+	public boolean isEmpty() {
+		return headers.length == 0;
+	}
+}
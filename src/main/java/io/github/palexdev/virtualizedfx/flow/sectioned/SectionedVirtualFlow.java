@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.flow.sectioned;
+
+import io.github.palexdev.mfxcore.base.properties.functional.FunctionProperty;
+import io.github.palexdev.virtualizedfx.cell.Cell;
+import io.github.palexdev.virtualizedfx.flow.VirtualFlow;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.control.Skin;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Extension of {@link VirtualFlow} for grouped lists, which pins the header of the current section at the
+ * top (or left, when HORIZONTAL) of the viewport.
+ * <p></p>
+ * The items list is not reshaped in any way, it must contain both the headers and the items of each section.
+ * Headers are identified by the {@link #headerPredicateProperty()}. A {@link SectionIndex} of the headers' positions
+ * is built once the list or the predicate change, so that finding which section contains the first visible item
+ * is a binary search, O(log n) on each scroll.
+ * <p>
+ * The pinned header is a cell which is not part of the viewport's state, it's built by the {@link #headerFactoryProperty()}
+ * (or by the {@link #cellFactoryProperty()} if not set) and reused for all the sections. When the section changes, the
+ * same cell is updated with {@link Cell#updateIndex(int)} and {@link Cell#updateItem(Object)}, so no node is ever created
+ * while scrolling. When the next header reaches the pinned one, it pushes it out of the viewport.
+ * <p></p>
+ * This flow also has its own skin, {@link SectionedVirtualFlowSkin}, which manages the pinned header.
+ *
+ * @param <T> the type of objects to represent
+ * @param <C> the type of {@code Cell} to use
+ */
+public class SectionedVirtualFlow<T, C extends Cell<T>> extends VirtualFlow<T, C> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final String STYLE_CLASS = "sectioned-virtual-flow";
+
+	private final ObjectProperty<Predicate<? super T>> headerPredicate = new SimpleObjectProperty<>() {
+		@Override
+		protected void invalidated() {
+			invalidateSections();
+		}
+	};
+	private final FunctionProperty<T, C> headerFactory = new FunctionProperty<>();
+	private final ReadOnlyIntegerWrapper currentHeader = new ReadOnlyIntegerWrapper(-1);
+	private SectionIndex sectionIndex;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public SectionedVirtualFlow() {
+		super();
+		initialize();
+	}
+
+	public SectionedVirtualFlow(ObservableList<T> items, Function<T, C> cellFactory, Predicate<? super T> headerPredicate) {
+		super(items, cellFactory);
+		setHeaderPredicate(headerPredicate);
+		initialize();
+	}
+
+	public SectionedVirtualFlow(ObservableList<T> items, Function<T, C> cellFactory, Predicate<? super T> headerPredicate, Orientation orientation) {
+		super(items, cellFactory, orientation);
+		setHeaderPredicate(headerPredicate);
+		initialize();
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+	private void initialize() {
+		getStyleClass().add(STYLE_CLASS);
+	}
+
+	/**
+	 * Invalidates the {@link SectionIndex}, it will be re-built at the next {@link #getSectionIndex()} call,
+	 * and requests a viewport layout so that the pinned header is updated.
+	 * <p>
+	 * This is automatically called when the items or the {@link #headerPredicateProperty()} change. Call this
+	 * manually if a header may have become a regular item (or vice versa) without the list being notified.
+	 */
+	public void invalidateSections() {
+		sectionIndex = null;
+		requestViewportLayout();
+	}
+
+	/**
+	 * @return the index of the header of the section containing the given item,
+	 * -1 if there's no header before it
+	 */
+	public int headerOf(int index) {
+		return getSectionIndex().headerOf(index);
+	}
+
+	/**
+	 * Scrolls to the header of the given section.
+	 */
+	public void scrollToSection(int section) {
+		scrollToIndex(getSectionIndex().getHeader(section));
+	}
+
+	/**
+	 * Used by the skin to update the {@link #currentHeaderProperty()}.
+	 */
+	protected void setCurrentHeader(int currentHeader) {
+		this.currentHeader.set(currentHeader);
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	protected Skin<?> createDefaultSkin() {
+		return new SectionedVirtualFlowSkin<>(this);
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the index of the headers' positions, built lazily
+	 */
+	public SectionIndex getSectionIndex() {
+		if (sectionIndex == null) sectionIndex = SectionIndex.build(getItems(), getHeaderPredicate());
+		return sectionIndex;
+	}
+
+	public Predicate<? super T> getHeaderPredicate() {
+		return headerPredicate.get();
+	}
+
+	/**
+	 * Specifies the function used to determine whether an item is a section's header.
+	 */
+	public ObjectProperty<Predicate<? super T>> headerPredicateProperty() {
+		return headerPredicate;
+	}
+
+	public void setHeaderPredicate(Predicate<? super T> headerPredicate) {
+		this.headerPredicate.set(headerPredicate);
+	}
+
+	public Function<T, C> getHeaderFactory() {
+		return headerFactory.get();
+	}
+
+	/**
+	 * Specifies the function used to build the pinned header cell.
+	 * If null, the {@link #cellFactoryProperty()} is used.
+	 */
+	public FunctionProperty<T, C> headerFactoryProperty() {
+		return headerFactory;
+	}
+
+	public void setHeaderFactory(Function<T, C> headerFactory) {
+		this.headerFactory.set(headerFactory);
+	}
+
+	public int getCurrentHeader() {
+		return currentHeader.get();
+	}
+
+	/**
+	 * Specifies the index of the header currently pinned at the start of the viewport, -1 if none.
+	 */
+	public ReadOnlyIntegerProperty currentHeaderProperty() {
+		return currentHeader.getReadOnlyProperty();
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.flow.sectioned;
+
+import io.github.palexdev.virtualizedfx.cell.Cell;
+import io.github.palexdev.virtualizedfx.flow.OrientationHelper;
+import io.github.palexdev.virtualizedfx.flow.VirtualFlowSkin;
+import javafx.beans.InvalidationListener;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+
+import java.util.function.Function;
+
+/**
+ * Default skin implementation for {@link SectionedVirtualFlow}, extends {@link VirtualFlowSkin}.
+ * <p></p>
+ * In addition to the viewport, this also manages the pinned header cell. The cell's node is added on top of the
+ * viewport, it's unmanaged and positioned by {@link #updateHeader()} every time the position changes or the
+ * viewport is laid out.
+ */
+public class SectionedVirtualFlowSkin<T, C extends Cell<T>> extends VirtualFlowSkin<T, C> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private C header;
+	private InvalidationListener posListener;
+	private InvalidationListener headerFactoryListener;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public SectionedVirtualFlowSkin(SectionedVirtualFlow<T, C> virtualFlow) {
+		super(virtualFlow);
+
+		posListener = invalidated -> updateHeader();
+		headerFactoryListener = invalidated -> disposeHeader();
+		virtualFlow.vPosProperty().addListener(posListener);
+		virtualFlow.hPosProperty().addListener(posListener);
+		virtualFlow.headerFactoryProperty().addListener(headerFactoryListener);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return {@link #getSkinnable()} cast as {@link SectionedVirtualFlow}
+	 */
+	protected SectionedVirtualFlow<T, C> getFlow() {
+		return ((SectionedVirtualFlow<T, C>) getSkinnable());
+	}
+
+	/**
+	 * Core method of this skin, responsible for updating and positioning the pinned header.
+	 * <p>
+	 * The section containing the first visible item is found through the {@link SectionIndex}. If it's the same
+	 * as before only the position is updated, otherwise the pinned cell is updated with the new header. If no
+	 * cell exists yet, it is built by {@link #createHeader(Object)}, from then on it's always reused.
+	 * <p>
+	 * The pinned header is at the start of the viewport, unless the next section's header is closer than the cell
+	 * size, in which case it's pushed back by the difference.
+	 */
+	protected void updateHeader() {
+		SectionedVirtualFlow<T, C> flow = getFlow();
+		OrientationHelper helper = flow.getOrientationHelper();
+		ObservableList<T> items = flow.getItems();
+		if (helper == null || items.isEmpty()) {
+			hideHeader();
+			return;
+		}
+
+		SectionIndex index = flow.getSectionIndex();
+		int first = helper.firstVisible();
+		int headerIndex = index.headerOf(first);
+		if (headerIndex < 0) {
+			hideHeader();
+			return;
+		}
+
+		if (header == null) {
+			header = createHeader(items.get(headerIndex));
+			if (header == null) return;
+			Node node = header.getNode();
+			node.setManaged(false);
+			node.getStyleClass().add("pinned-header");
+			getChildren().add(node);
+		}
+		if (headerIndex != flow.getCurrentHeader() || !header.getNode().isVisible()) {
+			header.updateIndex(headerIndex);
+			header.updateItem(items.get(headerIndex));
+			flow.setCurrentHeader(headerIndex);
+		}
+
+		boolean vertical = flow.getOrientation() == Orientation.VERTICAL;
+		double cellSize = flow.getCellSize();
+		double pos = vertical ? flow.getVPos() : flow.getHPos();
+		int next = index.nextHeader(headerIndex);
+		double offset = (next >= 0) ? Math.min(0.0, next * cellSize - pos - cellSize) : 0.0;
+
+		Node node = header.getNode();
+		node.setVisible(true);
+		header.beforeLayout();
+		double breadth = helper.computeBreadth(node);
+		if (vertical) {
+			node.resizeRelocate(helper.xPosBinding().get(), offset, breadth, cellSize);
+		} else {
+			node.resizeRelocate(offset, helper.yPosBinding().get(), cellSize, breadth);
+		}
+		header.afterLayout();
+	}
+
+	/**
+	 * Builds the pinned header cell for the given header item with the {@link SectionedVirtualFlow#headerFactoryProperty()},
+	 * or the {@link SectionedVirtualFlow#cellFactoryProperty()} if the former is null.
+	 *
+	 * @return the new cell, or null if both factories are null
+	 */
+	protected C createHeader(T item) {
+		SectionedVirtualFlow<T, C> flow = getFlow();
+		Function<T, C> factory = flow.getHeaderFactory() != null ? flow.getHeaderFactory() : flow.getCellFactory();
+		return (factory != null) ? factory.apply(item) : null;
+	}
+
+	/**
+	 * Hides the pinned header, the cell is kept to be reused.
+	 */
+	protected void hideHeader() {
+		if (header != null) header.getNode().setVisible(false);
+		getFlow().setCurrentHeader(-1);
+	}
+
+	/**
+	 * Disposes the pinned header cell, a new one will be built at the next {@link #updateHeader()}.
+	 * This is needed when the factories change.
+	 */
+	protected void disposeHeader() {
+		if (header != null) {
+			header.dispose();
+			getChildren().remove(header.getNode());
+			header = null;
+		}
+		getFlow().setCurrentHeader(-1);
+		updateHeader();
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * {@inheritDoc}
+	 * Overridden to also invalidate the {@link SectionIndex}.
+	 */
+	@Override
+	protected void onListChanged(ObservableList<? extends T> oldList, ObservableList<? extends T> newList) {
+		getFlow().invalidateSections();
+		super.onListChanged(oldList, newList);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Overridden to also invalidate the {@link SectionIndex}.
+	 */
+	@Override
+	protected void onItemsChanged(ListChangeListener.Change<? extends T> c) {
+		getFlow().invalidateSections();
+		super.onItemsChanged(c);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Overridden to also dispose the pinned header, since it has been built by the old factory.
+	 */
+	@Override
+	protected void onFactoryChanged() {
+		super.onFactoryChanged();
+		if (getFlow().getHeaderFactory() == null) disposeHeader();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * Overridden to also update the pinned header.
+	 */
+	@Override
+	protected void onLayoutRequest(Boolean newValue) {
+		super.onLayoutRequest(newValue);
+		if (newValue) updateHeader();
+	}
+
+	@Override
+	public void dispose() {
+		SectionedVirtualFlow<T, C> flow = getFlow();
+		flow.vPosProperty().removeListener(posListener);
+		flow.hPosProperty().removeListener(posListener);
+		flow.headerFactoryProperty().removeListener(headerFactoryListener);
+		posListener = null;
+		headerFactoryListener = null;
+
+		if (header != null) {
+			header.dispose();
+			header = null;
+		}
+		super.dispose();
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.grid;
+
+import io.github.palexdev.mfxcore.base.beans.Position;
+import io.github.palexdev.mfxcore.base.beans.Size;
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.mfxcore.collections.Grid.Coordinates;
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
+import io.github.palexdev.mfxcore.collections.ObservableGrid.Change;
+import io.github.palexdev.virtualizedfx.cell.GridCellPainter;
+import io.github.palexdev.virtualizedfx.collections.RegionGrid.RegionChange;
+import io.github.palexdev.virtualizedfx.layout.AxisLayout;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.BitSet;
+
+/**
+ * A {@link Canvas} used by {@link VirtualGridSkin} to render the visible items of a {@link VirtualGrid} when
+ * a {@link GridCellPainter} is set, see {@link VirtualGrid#cellPainterProperty()}.
+ * <p></p>
+ * The canvas is as big as the viewport, and it's not translated. Items are drawn at their position relative to the
+ * current {@link VirtualGrid#positionProperty()}, there are no nodes in the scene graph for them.
+ * <p>
+ * Repaints are never immediate. The canvas keeps track of what needs to be painted again and requests a layout
+ * to the grid, so that no matter how many invalidations occur, {@link #paint()} runs at most once per pulse:
+ * <p> - Full repaints, {@link #invalidate()}, are needed when the viewport scrolls, when its size or the cells' size change
+ * and for structural changes in the data structure (additions, removals...)
+ * <p> - For replacements only the affected coordinates are painted again, see {@link #onChange(Change)}. These are kept
+ * in a {@link BitSet}, relative to the ranges of the last full repaint
+ *
+ * @param <T> the type of items
+ */
+public class GridCanvas<T> extends Canvas {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final VirtualGrid<T, ?> grid;
+	private IntegerRange rowsRange = IntegerRange.of(-1);
+	private IntegerRange columnsRange = IntegerRange.of(-1);
+	private final BitSet dirty = new BitSet();
+	private boolean invalid = true;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public GridCanvas(VirtualGrid<T, ?> grid) {
+		this.grid = grid;
+		getStyleClass().add("canvas");
+		setManaged(false);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Requests a full repaint of the canvas.
+	 */
+	public void invalidate() {
+		invalid = true;
+		dirty.clear();
+		grid.requestLayout();
+	}
+
+	/**
+	 * Requests to paint again the item at the given coordinates, only if it's in the ranges of the last full repaint.
+	 */
+	public void invalidate(int row, int column) {
+		invalidate(row, column, row, column);
+	}
+
+	/**
+	 * Requests to paint again the items in the given region (all indexes inclusive), only the coordinates
+	 * which are in the ranges of the last full repaint are considered.
+	 */
+	public void invalidate(int rowFrom, int columnFrom, int rowTo, int columnTo) {
+		if (invalid) return;
+		int rFrom = Math.max(rowFrom, rowsRange.getMin());
+		int rTo = Math.min(rowTo, rowsRange.getMax());
+		int cFrom = Math.max(columnFrom, columnsRange.getMin());
+		int cTo = Math.min(columnTo, columnsRange.getMax());
+		if (rFrom > rTo || cFrom > cTo) return;
+
+		int columns = columnsRange.diff() + 1;
+		for (int r = rFrom; r <= rTo; r++) {
+			int from = (r - rowsRange.getMin()) * columns + (cFrom - columnsRange.getMin());
+			dirty.set(from, from + cTo - cFrom + 1);
+		}
+		grid.requestLayout();
+	}
+
+	/**
+	 * Handles a change in the grid's items data structure. Replacements only invalidate the affected coordinates,
+	 * any other change requests a full repaint.
+	 * <p>
+	 * Note that the change is not ended here, see {@link Change#endChange()}.
+	 */
+	public void onChange(Change<T> change) {
+		switch (change.getType()) {
+			case REPLACE_ELEMENT: {
+				if (change instanceof RegionChange) {
+					RegionChange<T> region = (RegionChange<T>) change;
+					invalidate(region.getRowFrom(), region.getColumnFrom(), region.getRowTo(), region.getColumnTo());
+					break;
+				}
+				Coordinates coordinates = change.getCoordinates();
+				invalidate(coordinates.getRow(), coordinates.getColumn());
+				break;
+			}
+			case REPLACE_ROW: {
+				int row = change.getCoordinates().getRow();
+				invalidate(row, 0, row, Integer.MAX_VALUE);
+				break;
+			}
+			case REPLACE_COLUMN: {
+				int column = change.getCoordinates().getColumn();
+				invalidate(0, column, Integer.MAX_VALUE, column);
+				break;
+			}
+			case REPLACE_DIAGONAL: {
+				for (int i = rowsRange.getMin(); i <= rowsRange.getMax(); i++) {
+					invalidate(i, i);
+				}
+				break;
+			}
+			default:
+				invalidate();
+		}
+	}
+
+	/**
+	 * Paints the canvas if needed. In case of a full repaint the canvas is cleared, the ranges of visible rows and
+	 * columns are computed with {@link AxisLayout#range(double, double, double, int)} and all the items in them are painted.
+	 * Otherwise, only the invalidated coordinates are painted again.
+	 * <p>
+	 * Automatically called by {@link VirtualGridSkin} during layout.
+	 */
+	public void paint() {
+		if (!invalid && dirty.isEmpty()) return;
+		GraphicsContext gc = getGraphicsContext2D();
+		GridCellPainter<T> painter = grid.getCellPainter();
+
+		if (invalid) {
+			gc.clearRect(0, 0, getWidth(), getHeight());
+			invalid = false;
+			dirty.clear();
+			ObservableGrid<T> items = grid.getItems();
+			if (painter == null || grid.isEmpty()) {
+				rowsRange = IntegerRange.of(-1);
+				columnsRange = IntegerRange.of(-1);
+				return;
+			}
+
+			Size size = grid.getZoomedCellSize();
+			Position position = grid.getPosition();
+			rowsRange = AxisLayout.range(getHeight(), position.getY(), size.getHeight(), items.getRowsNum());
+			columnsRange = AxisLayout.range(getWidth(), position.getX(), size.getWidth(), items.getColumnsNum());
+			for (Integer r : rowsRange) {
+				for (Integer c : columnsRange) {
+					paintCell(gc, painter, r, c);
+				}
+			}
+			return;
+		}
+
+		int columns = columnsRange.diff() + 1;
+		for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+			paintCell(gc, painter, rowsRange.getMin() + i / columns, columnsRange.getMin() + i % columns);
+		}
+		dirty.clear();
+	}
+
+	/**
+	 * Clears the bounds of the cell at the given coordinates and then delegates the painting to the given {@link GridCellPainter}.
+	 */
+	protected void paintCell(GraphicsContext gc, GridCellPainter<T> painter, int row, int column) {
+		Size size = grid.getZoomedCellSize();
+		Position position = grid.getPosition();
+		double w = size.getWidth();
+		double h = size.getHeight();
+		double x = column * w - position.getX();
+		double y = row * h - position.getY();
+		gc.clearRect(x, y, w, h);
+		painter.paint(gc, grid.getItems().getElement(row, column), row, column, x, y, w, h);
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the range of rows painted by the last full repaint
+	 */
+	public IntegerRange getRowsRange() {
+		return rowsRange;
+	}
+
+	/**
+	 * @return the range of columns painted by the last full repaint
+	 */
+	public IntegerRange getColumnsRange() {
+		return columnsRange;
+	}
+
+	/**
+	 * @return whether the canvas needs a full repaint
+	 */
+	public boolean isInvalid() {
+		return invalid;
+	}
+}
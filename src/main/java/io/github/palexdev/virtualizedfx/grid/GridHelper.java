@@ -23,6 +23,7 @@
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.collections.ObservableGrid;
 import io.github.palexdev.mfxcore.utils.NumberUtils;
+import io.github.palexdev.virtualizedfx.layout.AxisLayout;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.property.ObjectProperty;
@@ -144,6 +145,16 @@ public interface GridHelper {
 	 */
 	void layout(Node node, double x, double y);
 
+	/**
+	 * Responsible for calling {@link Node#resizeRelocate(double, double, double, double)} with the needed parameters,
+	 * this is used to position and resize the cells displaying spans, see {@link VirtualGrid#addSpan(int, int, int, int)}.
+	 * <p>
+	 * By default, simply resizes and relocates the node with the given values.
+	 */
+	default void layoutSpan(Node node, double x, double y, double width, double height) {
+		node.resizeRelocate(x, y, width, height);
+	}
+
 	/**
 	 * Disposes bindings/listeners that are not required anymore.
 	 */
@@ -239,38 +250,22 @@ public DefaultGridHelper(VirtualGrid<?, ?> grid) {
 
 		@Override
 		public int firstRow() {
-			return NumberUtils.clamp(
-					(int) Math.floor(grid.getVPos() / grid.getCellSize().getHeight()),
-					0,
-					grid.getRowsNum() - 1
-			);
+			return AxisLayout.firstVisible(grid.getVPos(), grid.getZoomedCellSize().getHeight(), grid.getRowsNum());
 		}
 
 		@Override
 		public int firstColumn() {
-			return NumberUtils.clamp(
-					(int) Math.floor(grid.getHPos() / grid.getCellSize().getWidth()),
-					0,
-					grid.getColumnsNum() - 1
-			);
+			return AxisLayout.firstVisible(grid.getHPos(), grid.getZoomedCellSize().getWidth(), grid.getColumnsNum());
 		}
 
 		@Override
 		public int lastRow() {
-			return NumberUtils.clamp(
-					firstRow() + maxRows() - 1,
-					0,
-					grid.getRowsNum() - 1
-			);
+			return AxisLayout.lastVisible(firstRow(), maxRows(), grid.getRowsNum());
 		}
 
 		@Override
 		public int lastColumn() {
-			return NumberUtils.clamp(
-					firstColumn() + maxColumns() - 1,
-					0,
-					grid.getColumnsNum() - 1
-			);
+			return AxisLayout.lastVisible(firstColumn(), maxColumns(), grid.getColumnsNum());
 		}
 
 		/**
@@ -281,10 +276,7 @@ public int lastColumn() {
 		 */
 		@Override
 		public IntegerRange rowsRange() {
-			int rNum = Math.min(maxRows(), grid.getRowsNum());
-			int last = lastRow();
-			int first = Math.max(last - rNum + 1, 0);
-			return IntegerRange.of(first, last);
+			return AxisLayout.range(lastRow(), maxRows(), grid.getRowsNum());
 		}
 
 		/**
@@ -295,20 +287,17 @@ public IntegerRange rowsRange() {
 		 */
 		@Override
 		public IntegerRange columnsRange() {
-			int cNum = Math.min(maxColumns(), grid.getColumnsNum());
-			int last = lastColumn();
-			int first = Math.max(last - cNum + 1, 0);
-			return IntegerRange.of(first, last);
+			return AxisLayout.range(lastColumn(), maxColumns(), grid.getColumnsNum());
 		}
 
 		@Override
 		public int maxRows() {
-			return (int) (Math.ceil(grid.getHeight() / grid.getCellSize().getHeight()) + 1);
+			return AxisLayout.maxCells(grid.getHeight(), grid.getZoomedCellSize().getHeight());
 		}
 
 		@Override
 		public int maxColumns() {
-			return (int) (Math.ceil(grid.getWidth() / grid.getCellSize().getWidth()) + 1);
+			return AxisLayout.maxCells(grid.getWidth(), grid.getZoomedCellSize().getWidth());
 		}
 
 		/**
@@ -333,9 +322,9 @@ public double maxHScroll() {
 
 		@Override
 		public Size computeEstimatedSize() {
-			Size cellSize = grid.getCellSize();
-			double width = grid.getColumnsNum() * cellSize.getWidth();
-			double height = grid.getRowsNum() * cellSize.getHeight();
+			Size cellSize = grid.getZoomedCellSize();
+			double width = AxisLayout.estimatedLength(grid.getColumnsNum(), cellSize.getWidth());
+			double height = AxisLayout.estimatedLength(grid.getRowsNum(), cellSize.getHeight());
 			Size size = Size.of(width, height);
 			estimatedSize.set(size);
 			return size;
@@ -346,10 +335,10 @@ public Size computeEstimatedSize() {
 		 * <p>
 		 * This is the direction along the estimated breath. However, the implementation
 		 * makes it so that the position of the viewport is virtual. This binding which depends on both {@link VirtualGrid#positionProperty()}
-		 * and {@link VirtualGrid#cellSizeProperty()} will always return a value that is greater or equal to 0 and lesser
+		 * and {@link VirtualGrid#zoomedCellSizeProperty()} will always return a value that is greater or equal to 0 and lesser
 		 * than the cell size. (the value is made negative as this is how scrolling works)
 		 * <p>
-		 * This is the formula: {@code -virtualGrid.getHPos() % virtualGrid.getCellSize().getWidth()}.
+		 * This is the formula: {@code -virtualGrid.getHPos() % virtualGrid.getZoomedCellSize().getWidth()}.
 		 * <p>
 		 * Think about this. We have cells of width 64. and we scroll 15px on each gesture. When we reach 60px, we can still
 		 * see the cell for 4px, but once we scroll again it makes no sense to go to 75px because the first cell won't be
@@ -364,8 +353,8 @@ public Size computeEstimatedSize() {
 		public DoubleBinding xPosBinding() {
 			if (xPosBinding == null) {
 				xPosBinding = Bindings.createDoubleBinding(
-						() -> -grid.getHPos() % grid.getCellSize().getWidth(),
-						grid.positionProperty(), grid.cellSizeProperty()
+						() -> AxisLayout.offset(grid.getHPos(), grid.getZoomedCellSize().getWidth()),
+						grid.positionProperty(), grid.zoomedCellSizeProperty()
 				);
 			}
 			return xPosBinding;
@@ -376,10 +365,10 @@ public DoubleBinding xPosBinding() {
 		 * <p>
 		 * This is the direction along the estimated length. However, the implementation
 		 * makes it so that the position of the viewport is virtual. This binding which depends on both {@link VirtualGrid#positionProperty()}
-		 * and {@link VirtualGrid#cellSizeProperty()} will always return a value that is greater or equal to 0 and lesser
+		 * and {@link VirtualGrid#zoomedCellSizeProperty()} will always return a value that is greater or equal to 0 and lesser
 		 * than the cell size.
 		 * <p>
-		 * This is the formula: {@code -virtualGrid.getVPos() % virtualGrid.getCellSize().getHeight()}.
+		 * This is the formula: {@code -virtualGrid.getVPos() % virtualGrid.getZoomedCellSize().getHeight()}.
 		 * <p>
 		 * Think about this. We have cells of height 64. and we scroll 15px on each gesture. When we reach 60px, we can still
 		 * see the cell for 4px, but once we scroll again it makes no sense to go to 75px because the first cell won't be
@@ -394,8 +383,8 @@ public DoubleBinding xPosBinding() {
 		public DoubleBinding yPosBinding() {
 			if (yPosBinding == null) {
 				yPosBinding = Bindings.createDoubleBinding(
-						() -> -grid.getVPos() % grid.getCellSize().getHeight(),
-						grid.positionProperty(), grid.cellSizeProperty()
+						() -> AxisLayout.offset(grid.getVPos(), grid.getZoomedCellSize().getHeight()),
+						grid.positionProperty(), grid.zoomedCellSizeProperty()
 				);
 			}
 			return yPosBinding;
@@ -403,14 +392,14 @@ public DoubleBinding yPosBinding() {
 
 		@Override
 		public void scrollToRow(int index) {
-			double val = index * grid.getCellSize().getHeight();
+			double val = index * grid.getZoomedCellSize().getHeight();
 			double clampedVal = NumberUtils.clamp(val, 0, maxVScroll());
 			grid.setVPos(clampedVal);
 		}
 
 		@Override
 		public void scrollToColumn(int index) {
-			double val = index * grid.getCellSize().getWidth();
+			double val = index * grid.getZoomedCellSize().getWidth();
 			double clampedVal = NumberUtils.clamp(val, 0, maxHScroll());
 			grid.setHPos(clampedVal);
 		}
@@ -446,7 +435,7 @@ public void scrollTo(double pixel, Orientation orientation) {
 		 */
 		@Override
 		public void layout(Node node, double x, double y) {
-			Size cellSize = grid.getCellSize();
+			Size cellSize = grid.getZoomedCellSize();
 			node.resizeRelocate(x, y, cellSize.getWidth(), cellSize.getHeight());
 		}
 
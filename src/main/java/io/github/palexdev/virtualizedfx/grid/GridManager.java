@@ -18,13 +18,22 @@
 
 package io.github.palexdev.virtualizedfx.grid;
 
+import io.github.palexdev.mfxcore.base.beans.Position;
+import io.github.palexdev.mfxcore.base.beans.Size;
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.base.beans.range.NumberRange;
 import io.github.palexdev.mfxcore.base.properties.range.IntegerRangeProperty;
+import io.github.palexdev.mfxcore.collections.Grid.Coordinates;
 import io.github.palexdev.mfxcore.collections.ObservableGrid.Change;
 import io.github.palexdev.mfxcore.enums.GridChangeType;
 import io.github.palexdev.virtualizedfx.beans.GridStateProperty;
 import io.github.palexdev.virtualizedfx.cell.GridCell;
+import io.github.palexdev.virtualizedfx.collections.CellSpan;
+import io.github.palexdev.virtualizedfx.collections.RegionGrid.RegionChange;
+import io.github.palexdev.virtualizedfx.grid.paginated.PaginatedVirtualGrid;
+import javafx.scene.Scene;
+
+import java.util.BitSet;
 
 /**
  * The {@code FlowManager} is responsible for managing the grid's viewport, track its current {@link GridState}
@@ -53,6 +62,13 @@
 	private final IntegerRangeProperty lastRowsRange = new IntegerRangeProperty();
 	private final IntegerRangeProperty lastColumnsRange = new IntegerRangeProperty();
 
+	private final BitSet pendingReplacements = new BitSet();
+	private IntegerRange pendingRowsRange;
+	private IntegerRange pendingColumnsRange;
+	private boolean pendingSpansRefresh = false;
+	private Scene flushScene;
+	private Runnable flushAction;
+
 	//================================================================================
 	// Constructors
 	//================================================================================
@@ -68,6 +84,9 @@
 	 * This is responsible for filling the viewport with the right amount of rows/columns/cells.
 	 * So, it is a bit more than just an initialization method since this is also called for example when the viewport
 	 * size changes and cells may need to be added or removed.
+	 * <p>
+	 * Nothing is done if the grid is rendering on a canvas, see {@link VirtualGrid#cellPainterProperty()}, or if it's in
+	 * the level-of-detail mode, see {@link VirtualGrid#levelOfDetailProperty()}.
 	 * <p></p>
 	 * The first step is to gather a series of useful information such as:
 	 * <p> - the expected range of rows, {@link GridHelper#rowsRange()}
@@ -95,7 +114,8 @@
 	 * whether computations lead to a layout request or not, {@link VirtualGrid#requestViewportLayout()}
 	 */
 	public boolean init() {
-		if (grid.getCellFactory() == null || itemsEmpty()) return false;
+		if (grid.getCellFactory() == null || grid.getCellPainter() != null || grid.isLevelOfDetail() || itemsEmpty())
+			return false;
 
 		// Pre-computation
 		GridHelper helper = grid.getGridHelper();
@@ -222,7 +242,11 @@ public void onHScroll() {
 	 * Before transitioning to a new state, there are three special cases that need to be covered:
 	 * <p> - if there are no items in the data structure (was cleared), we invoke {@link #clear()}
 	 * <p> - if the current state is the {@link GridState#EMPTY} state than we must call {@link #init()}
-	 * <p> - if the change is of type {@link GridChangeType#TRANSPOSE} then we {@link #reset()} the viewport
+	 * <p> - if the change is of type {@link GridChangeType#TRANSPOSE} then we call {@link #onTranspose()}
+	 * <p></p>
+	 * If {@link VirtualGrid#batchChangesProperty()} is enabled, changes of type {@link GridChangeType#REPLACE_ELEMENT}
+	 * are handled by {@link #onReplaceBatched(GridState, Change)}, any other change first applies the pending
+	 * replacements with {@link #flushReplacements()}.
 	 * <p></p>
 	 * In any other case we can call {@link GridState#change(Change)} on the current state
 	 * to produce a new state that reflects the changes occurred in the data structure.
@@ -243,23 +267,235 @@ public void onChange(Change<T> change) {
 			return;
 		}
 
+		if (change.getType() == GridChangeType.REPLACE_ELEMENT && isBatching()) {
+			onReplaceBatched(state, change);
+			return;
+		}
+
 		if (change.getType() == GridChangeType.TRANSPOSE) {
-			reset();
+			onTranspose();
 			change.endChange();
 			return;
 		}
+		flushReplacements();
 
 		state = state.change(change);
 		setState(state);
+		getState().refreshSpans();
 		grid.requestViewportLayout();
 		setLastRowsRange(state.getRowsRange());
 		setLastColumnsRange(state.getColumnsRange());
 	}
 
+	/**
+	 * This is responsible for handling changes of type {@link GridChangeType#TRANSPOSE}.
+	 * <p>
+	 * Rather than resetting the viewport, which would dispose and re-create every cell, this transitions to a new
+	 * state with {@link GridState#transpose(IntegerRange, IntegerRange)}, which moves the existing cells to their
+	 * transposed coordinates.
+	 * <p>
+	 * Before doing so, the scroll position is transposed as well, so that the same logical region stays in view:
+	 * the first visible row becomes the first visible column and vice versa. The new position is set while the change
+	 * is still being processed, so it won't trigger a scroll transition, see {@link GridHelper.DefaultGridHelper}.
+	 * <p>
+	 * Pending replacements, see {@link #onReplaceBatched(GridState, Change)}, are transposed too and applied immediately.
+	 * <p></p>
+	 * {@link PaginatedVirtualGrid} is not supported, for it the viewport is simply {@link #reset()}.
+	 */
+	protected void onTranspose() {
+		if (grid instanceof PaginatedVirtualGrid) {
+			cancelFlush();
+			pendingReplacements.clear();
+			pendingSpansRefresh = false;
+			reset();
+			return;
+		}
+
+		GridHelper helper = grid.getGridHelper();
+		Size size = grid.getZoomedCellSize();
+		Position position = grid.getPosition();
+		helper.computeEstimatedSize();
+		grid.setPosition(
+				position.getY() / size.getHeight() * size.getWidth(),
+				position.getX() / size.getWidth() * size.getHeight()
+		);
+
+		IntegerRange rowsRange = helper.rowsRange();
+		IntegerRange columnsRange = helper.columnsRange();
+		GridState<T, C> state = getState().transpose(rowsRange, columnsRange);
+		setState(state);
+		getState().refreshSpans();
+		transposeReplacements();
+		flushReplacements();
+		grid.requestViewportLayout();
+		setLastRowsRange(state.getRowsRange());
+		setLastColumnsRange(state.getColumnsRange());
+	}
+
+	/**
+	 * Maps the pending replacements to their transposed coordinates.
+	 */
+	private void transposeReplacements() {
+		if (pendingReplacements.isEmpty()) return;
+		int rows = pendingRowsRange.diff() + 1;
+		int columns = pendingColumnsRange.diff() + 1;
+		BitSet transposed = new BitSet();
+		for (int i = pendingReplacements.nextSetBit(0); i >= 0; i = pendingReplacements.nextSetBit(i + 1)) {
+			transposed.set((i % columns) * rows + i / columns);
+		}
+		pendingReplacements.clear();
+		pendingReplacements.or(transposed);
+
+		IntegerRange tmp = pendingRowsRange;
+		pendingRowsRange = pendingColumnsRange;
+		pendingColumnsRange = tmp;
+	}
+
+	/**
+	 * Batched version of {@link GridState#change(Change)} for changes of type {@link GridChangeType#REPLACE_ELEMENT}.
+	 * <p>
+	 * Replacements outside the current state's ranges are dropped, since there are no cells to update. Otherwise, the
+	 * coordinates are marked in a {@link BitSet} (relative to the state's ranges) and applied at the next pulse by
+	 * {@link #flushReplacements()}, see {@link #scheduleFlush()}. This way no matter how many elements are replaced
+	 * in the same pulse (or how many times the same element is replaced), there will be only one pass over the rows.
+	 * <p>
+	 * If the state's ranges changed since the last batched replacement, the pending ones are flushed first.
+	 * <p>
+	 * {@link RegionChange}s are supported too, all the coordinates in the intersection between the region and the
+	 * state's ranges are marked.
+	 * <p>
+	 * Span cells display the item at their span's anchor, which may be out of the state's ranges when the span is only
+	 * partially visible. So, before clipping, if the replaced region contains the anchor of any span cell, a refresh of
+	 * the span cells is scheduled as well, see {@link GridState#refreshSpans()}.
+	 */
+	protected void onReplaceBatched(GridState<T, C> state, Change<T> change) {
+		int rowFrom, columnFrom, rowTo, columnTo;
+		if (change instanceof RegionChange) {
+			RegionChange<T> region = (RegionChange<T>) change;
+			rowFrom = region.getRowFrom();
+			columnFrom = region.getColumnFrom();
+			rowTo = region.getRowTo();
+			columnTo = region.getColumnTo();
+		} else {
+			Coordinates coordinates = change.getCoordinates();
+			rowFrom = rowTo = coordinates.getRow();
+			columnFrom = columnTo = coordinates.getColumn();
+		}
+		change.endChange();
+
+		for (CellSpan span : state.getSpanCells().keySet()) {
+			if (span.getRow() >= rowFrom && span.getRow() <= rowTo && span.getColumn() >= columnFrom && span.getColumn() <= columnTo) {
+				pendingSpansRefresh = true;
+				break;
+			}
+		}
+
+		IntegerRange rowsRange = state.getRowsRange();
+		IntegerRange columnsRange = state.getColumnsRange();
+		rowFrom = Math.max(rowFrom, rowsRange.getMin());
+		rowTo = Math.min(rowTo, rowsRange.getMax());
+		columnFrom = Math.max(columnFrom, columnsRange.getMin());
+		columnTo = Math.min(columnTo, columnsRange.getMax());
+		if (rowFrom > rowTo || columnFrom > columnTo) {
+			if (pendingSpansRefresh) scheduleFlush();
+			return;
+		}
+
+		if (!rowsRange.equals(pendingRowsRange) || !columnsRange.equals(pendingColumnsRange)) {
+			flushReplacements();
+			pendingRowsRange = rowsRange;
+			pendingColumnsRange = columnsRange;
+		}
+
+		int columns = columnsRange.getMax() - columnsRange.getMin() + 1;
+		for (int r = rowFrom; r <= rowTo; r++) {
+			int offset = (r - rowsRange.getMin()) * columns - columnsRange.getMin();
+			pendingReplacements.set(offset + columnFrom, offset + columnTo + 1);
+		}
+		scheduleFlush();
+	}
+
+	/**
+	 * Applies the replacements accumulated by {@link #onReplaceBatched(GridState, Change)} to the current state
+	 * with {@link GridState#onReplaceBatch(BitSet, IntegerRange, IntegerRange)}.
+	 * <p>
+	 * This is automatically called at the next pulse, before any other change is processed and when
+	 * {@link VirtualGrid#batchChangesProperty()} is disabled.
+	 */
+	public void flushReplacements() {
+		cancelFlush();
+		if (pendingReplacements.isEmpty() && !pendingSpansRefresh) return;
+		pendingSpansRefresh = false;
+		GridState<T, C> state = getState();
+		if (state != GridState.EMPTY && !pendingReplacements.isEmpty())
+			state.onReplaceBatch(pendingReplacements, pendingRowsRange, pendingColumnsRange);
+		pendingReplacements.clear();
+
+		// Cells may have been created or released, see VirtualGrid.skipEmptyCellsProperty()
+		setState(state);
+		getState().refreshSpans();
+		if (getState() != state) grid.requestViewportLayout();
+	}
+
+	/**
+	 * This is responsible for updating the viewport when spans are added or removed, see {@link VirtualGrid#addSpan(int, int, int, int)}.
+	 * <p>
+	 * The state queries the visible spans again and shares them with the rows, {@link GridState#invalidateSpans()}.
+	 * Then every row is updated to drop the cells of the newly covered coordinates, or to create the ones
+	 * for coordinates not covered anymore, {@link GridRow#sparseUpdate(int, IntegerRange, boolean)}. Then the span cells
+	 * are synced by {@link #setState(GridState)}.
+	 */
+	public void onSpansChanged() {
+		GridState<T, C> state = getState();
+		if (state == GridState.EMPTY) return;
+		flushReplacements();
+		state.invalidateSpans();
+		for (GridRow<T, C> row : state.getRows().values()) {
+			row.sparseUpdate(row.getIndex(), row.getColumns(), false);
+		}
+		setState(state);
+		grid.requestViewportLayout();
+	}
+
+	/**
+	 * Schedules {@link #flushReplacements()} for the next pulse, if not already scheduled.
+	 * If the grid is not in a scene, flushes immediately.
+	 */
+	protected void scheduleFlush() {
+		if (flushAction != null) return;
+		Scene scene = grid.getScene();
+		if (scene == null) {
+			flushReplacements();
+			return;
+		}
+
+		flushScene = scene;
+		flushAction = this::flushReplacements;
+		scene.addPreLayoutPulseListener(flushAction);
+	}
+
+	private void cancelFlush() {
+		if (flushAction == null) return;
+		flushScene.removePreLayoutPulseListener(flushAction);
+		flushScene = null;
+		flushAction = null;
+	}
+
+	/**
+	 * @return whether {@link VirtualGrid#batchChangesProperty()} is enabled, always false for {@link PaginatedVirtualGrid}
+	 */
+	protected boolean isBatching() {
+		return grid.isBatchChanges() && !(grid instanceof PaginatedVirtualGrid);
+	}
+
 	/**
 	 * Responsible for clearing the viewport and resetting the manager' state.
+	 * Pending replacements, see {@link #onReplaceBatched(GridState, Change)}, are discarded.
 	 */
 	public void clear() {
+		cancelFlush();
+		pendingReplacements.clear();
+		pendingSpansRefresh = false;
 		getState().clear();
 		setState(GridState.EMPTY);
 		setLastRowsRange(IntegerRange.of(-1));
@@ -299,8 +535,20 @@ public GridStateProperty<T, C> stateProperty() {
 		return state;
 	}
 
+	/**
+	 * Sets the new state. Before doing so, the span cells are moved from the current state to the new one and synced
+	 * with the visible spans, {@link GridState#updateSpans(GridState)}, then it checks whether cells have been created or
+	 * released with {@link GridState#checkCells(boolean)}.
+	 */
 	protected void setState(GridState<T, C> state) {
-		this.state.set(state);
+		GridState<T, C> old = getState();
+		if (state == GridState.EMPTY) {
+			if (old != GridState.EMPTY) old.clearSpans();
+			this.state.set(state);
+			return;
+		}
+		boolean spansChanged = state.updateSpans(old);
+		this.state.set(state.checkCells(spansChanged));
 	}
 
 	public NumberRange<Integer> getLastRowsRange() {
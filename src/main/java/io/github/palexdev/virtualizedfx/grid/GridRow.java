@@ -18,12 +18,15 @@
 
 package io.github.palexdev.virtualizedfx.grid;
 
-import io.github.palexdev.mfxcore.base.beans.Size;
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.collections.ObservableGrid;
 import io.github.palexdev.mfxcore.enums.GridChangeType;
 import io.github.palexdev.mfxcore.utils.GridUtils;
+import io.github.palexdev.virtualizedfx.cell.CellPool;
 import io.github.palexdev.virtualizedfx.cell.GridCell;
+import io.github.palexdev.virtualizedfx.collections.CellSpan;
+import io.github.palexdev.virtualizedfx.collections.SparseGrid;
+import io.github.palexdev.virtualizedfx.layout.AxisLayout;
 import javafx.scene.Node;
 
 import java.util.*;
@@ -44,8 +47,6 @@
  * <p> - the row's index
  * <p> - the range of columns for the row
  * <p> - the actual cells that will be displayed in the viewport, kept in a map as: columnIndex -> Cell
- * <p> - a map containing the horizontal positions of the cells, so that in some cases these can be reused avoiding
- * a part of the {@link #layoutCells(double, boolean)} computation
  * <p> - the vertical position at which the row (every cell) will be positioned
  */
 public class GridRow<T, C extends GridCell<T>> {
@@ -56,10 +57,11 @@
 	private int index;
 	private IntegerRange columns;
 	private final Map<Integer, C> cells = new TreeMap<>();
-	private final Set<Double> positions = new TreeSet<>();
 	private double position;
-	private boolean reusablePositions = false;
+	private double[] positions = new double[0];
 	private boolean visible = true;
+	private boolean cellsChanged = false;
+	private List<CellSpan> spans = List.of();
 
 	//================================================================================
 	// Constructors
@@ -89,10 +91,14 @@ public GridRow<T, C> init() {
 		if (index < 0 || IntegerRange.of(-1).equals(columns)) return this;
 
 		clear();
+		if (sparseItems() != null || isCovered(index, columns)) {
+			sparseUpdate(index, columns, false);
+			return this;
+		}
 		for (Integer column : columns) {
 			int linear = toLinear(index, column);
 			T item = grid.getItems().getElement(linear);
-			C cell = grid.getCellFactory().apply(item);
+			C cell = grid.createCell(item);
 			cell.updateIndex(linear);
 			cell.updateCoordinates(index, column);
 			cells.put(column, cell);
@@ -108,6 +114,10 @@ public GridRow<T, C> init() {
 	 */
 	protected void onInit(IntegerRange columns) {
 		if (this.columns.equals(columns)) return;
+		if (isSparse(index, columns)) {
+			sparseUpdate(index, columns, false);
+			return;
+		}
 
 		Map<Integer, C> tmp = new HashMap<>();
 		Set<Integer> range = IntegerRange.expandRangeToSet(columns);
@@ -133,7 +143,7 @@ protected void onInit(IntegerRange columns) {
 				cell = cells.remove(oIndex);
 				cell.updateItem(item);
 			} else {
-				cell = grid.getCellFactory().apply(item);
+				cell = grid.createCell(item);
 			}
 			cell.updateIndex(linear);
 			cell.updateCoordinates(index, rIndex);
@@ -153,6 +163,10 @@ protected void onInit(IntegerRange columns) {
 	 */
 	protected void updateIndex(int index) {
 		if (this.index == index) return;
+		if (isSparse(index, columns)) {
+			sparseUpdate(index, columns, true);
+			return;
+		}
 
 		for (Map.Entry<Integer, C> e : cells.entrySet()) {
 			int column = e.getKey();
@@ -164,13 +178,17 @@ protected void updateIndex(int index) {
 			cell.updateCoordinates(index, column);
 		}
 		this.index = index;
-		reusablePositions = true;
 	}
 
 	/**
 	 * This is responsible for updating the {@code GridRow} when the viewport scrolls horizontally.
 	 */
 	protected void onScroll(IntegerRange columns) {
+		if (isSparse(index, columns)) {
+			sparseUpdate(index, columns, false);
+			return;
+		}
+
 		Map<Integer, C> tmp = new HashMap<>();
 		Set<Integer> range = IntegerRange.expandRangeToSet(columns);
 		int targetSize = columns.diff() + 1;
@@ -212,12 +230,15 @@ protected void onScroll(IntegerRange columns) {
 	 * All the cells keep their indexes but their item must be updated.
 	 */
 	protected void onReplace() {
+		if (isSparse(index, columns)) {
+			sparseUpdate(index, columns, true);
+			return;
+		}
 		cells.forEach((i, c) -> {
 			int linear = toLinear(index, i);
 			T item = grid.getItems().getElement(linear);
 			c.updateItem(item);
 		});
-		reusablePositions = true;
 	}
 
 	/**
@@ -225,9 +246,13 @@ protected void onReplace() {
 	 * with the given item.
 	 */
 	protected void onReplace(int column, T item) {
-		Optional.ofNullable(cells.get(column))
-				.ifPresent(cell -> cell.updateItem(item));
-		reusablePositions = true;
+		C cell = cells.get(column);
+		if (cell != null) cell.updateItem(item);
+
+		// The coordinate became empty or populated
+		SparseGrid<T> sparse = sparseItems();
+		if (sparse != null && (cell != null) != sparse.isPopulated(index, column) && !isCovered(index, IntegerRange.of(column)))
+			sparseUpdate(index, columns, false);
 	}
 
 	/**
@@ -260,6 +285,11 @@ protected void onRowRemove(int newIndex) {
 	 * described here {@link GridState#change(ObservableGrid.Change)}.
 	 */
 	protected void onColumnAdd(int column, IntegerRange columns) {
+		if (isSparse(index, columns)) {
+			sparseUpdate(index, columns, true);
+			return;
+		}
+
 		Map<Integer, C> processed = new HashMap<>();
 		Set<Integer> available = new HashSet<>(cells.keySet());
 		int targetSize = columns.diff() + 1;
@@ -304,7 +334,7 @@ protected void onColumnAdd(int column, IntegerRange columns) {
 				cell = cells.remove(oIndex);
 				cell.updateItem(item);
 			} else {
-				cell = grid.getCellFactory().apply(item);
+				cell = grid.createCell(item);
 			}
 			cell.updateIndex(lIndex);
 			cell.updateCoordinates(index, column);
@@ -324,6 +354,11 @@ protected void onColumnAdd(int column, IntegerRange columns) {
 	 * described here {@link GridState#change(ObservableGrid.Change)}.
 	 */
 	protected void onColumnRemove(int column, IntegerRange columns) {
+		if (isSparse(index, columns)) {
+			sparseUpdate(index, columns, true);
+			return;
+		}
+
 		Map<Integer, C> processed = new HashMap<>();
 		Set<Integer> available = new HashSet<>(cells.keySet());
 		Set<Integer> rangeSet = IntegerRange.expandRangeToSet(columns);
@@ -373,7 +408,7 @@ protected void onColumnRemove(int column, IntegerRange columns) {
 				cell = cells.remove(oIndex);
 				cell.updateItem(item);
 			} else {
-				cell = grid.getCellFactory().apply(item);
+				cell = grid.createCell(item);
 			}
 			cell.updateIndex(lIndex);
 			cell.updateCoordinates(index, nIndex);
@@ -390,66 +425,192 @@ protected void onColumnRemove(int column, IntegerRange columns) {
 	 * will be updated as the item is expected to be valid.
 	 */
 	private void partialUpdate(int newIndex) {
+		if (isSparse(newIndex, columns)) {
+			sparseUpdate(newIndex, columns, false);
+			return;
+		}
 		cells.forEach((i, c) -> {
 			int linear = toLinear(newIndex, i);
 			c.updateIndex(linear);
 			c.updateCoordinates(newIndex, i);
 		});
 		this.index = newIndex;
-		reusablePositions = true;
+	}
+
+	// Sparse
+
+	/**
+	 * This is used instead of all the other update methods when cells for some coordinates must not be created,
+	 * see {@link #isSparse(int, IntegerRange)}.
+	 * <p>
+	 * For each column in the given range, a cell is needed only if the coordinate is not covered by a span,
+	 * see {@link VirtualGrid#addSpan(int, int, int, int)}, and, when {@link VirtualGrid#skipEmptyCellsProperty()} is enabled,
+	 * only if the {@link SparseGrid} has an element at the given row and that column, {@link SparseGrid#isPopulated(int, int)}. Cells already at the right column are kept,
+	 * and their item is updated only if the {@code refresh} flag is true. The other cells are reused for the missing
+	 * columns, new cells are created only if there are not enough of them, and the remaining ones are released.
+	 * <p>
+	 * Since the number of cells may change, this also sets a flag which {@link GridState} checks with {@link #pollCellsChanged()}.
+	 */
+	protected void sparseUpdate(int index, IntegerRange columns, boolean refresh) {
+		ObservableGrid<T> items = grid.getItems();
+		SparseGrid<T> sparse = sparseItems();
+		BitSet covered = coveredColumns(index, columns);
+		Map<Integer, C> tmp = new TreeMap<>();
+		List<Integer> missing = new ArrayList<>();
+		boolean sameRow = this.index == index;
+		for (Integer column : columns) {
+			if (covered.get(column - columns.getMin())) continue;
+			if (sparse != null && !sparse.isPopulated(index, column)) continue;
+			C cell = sameRow ? cells.remove(column) : null;
+			if (cell == null) {
+				missing.add(column);
+				continue;
+			}
+			if (refresh) cell.updateItem(items.getElement(index, column));
+			tmp.put(column, cell);
+		}
+
+		Deque<C> reusable = new ArrayDeque<>(cells.values());
+		cells.clear();
+		for (Integer column : missing) {
+			T item = items.getElement(index, column);
+			C cell = reusable.poll();
+			if (cell != null) {
+				cell.updateItem(item);
+			} else {
+				cell = grid.createCell(item);
+				cellsChanged = true;
+			}
+			tmp.put(column, cell);
+		}
+		if (!reusable.isEmpty()) cellsChanged = true;
+		reusable.forEach(grid::releaseCell);
+
+		tmp.forEach((column, cell) -> {
+			cell.updateIndex(toLinear(index, column));
+			cell.updateCoordinates(index, column);
+		});
+		cells.putAll(tmp);
+		this.index = index;
+		this.columns = columns;
+	}
+
+	/**
+	 * @return the columns in the given range which are covered by a span at the given row, as a {@link BitSet}
+	 * in which bits are relative to the range's start. Only the spans given by {@link #setSpans(List)} are checked
+	 */
+	protected BitSet coveredColumns(int index, IntegerRange columns) {
+		BitSet covered = new BitSet();
+		for (CellSpan span : spans) {
+			if (!intersects(span, index, columns)) continue;
+			int from = Math.max(span.getColumn(), columns.getMin()) - columns.getMin();
+			int to = Math.min(span.getLastColumn(), columns.getMax()) - columns.getMin();
+			covered.set(from, to + 1);
+		}
+		return covered;
+	}
+
+	/**
+	 * @return whether any of the spans given by {@link #setSpans(List)} covers the given row in the given columns range
+	 */
+	protected boolean isCovered(int index, IntegerRange columns) {
+		for (CellSpan span : spans) {
+			if (intersects(span, index, columns)) return true;
+		}
+		return false;
+	}
+
+	private boolean intersects(CellSpan span, int index, IntegerRange columns) {
+		return index >= span.getRow() && index <= span.getLastRow() &&
+				span.getColumn() <= columns.getMax() && span.getLastColumn() >= columns.getMin();
+	}
+
+	/**
+	 * @return whether the row may not have a cell for every column in the given range at the given index, in such case
+	 * the update is delegated to {@link #sparseUpdate(int, IntegerRange, boolean)}. This happens when
+	 * {@link VirtualGrid#skipEmptyCellsProperty()} is enabled, when a span covers the target coordinates,
+	 * {@link #isCovered(int, IntegerRange)}, or when the row is currently missing some cells because of a span.
+	 * Rows which no visible span touches use the plain update algorithms, even if the grid has spans
+	 */
+	protected boolean isSparse(int index, IntegerRange columns) {
+		if (sparseItems() != null) return true;
+		if (grid.getSpans().isEmpty()) return false;
+		return cells.size() != this.columns.diff() + 1 || isCovered(index, columns);
+	}
+
+	/**
+	 * @return the grid's items as a {@link SparseGrid} if {@link VirtualGrid#skipEmptyCellsProperty()} is enabled,
+	 * null otherwise
+	 */
+	protected SparseGrid<T> sparseItems() {
+		if (!grid.isSkipEmptyCells()) return null;
+		ObservableGrid<T> items = grid.getItems();
+		return (items instanceof SparseGrid) ? (SparseGrid<T>) items : null;
+	}
+
+	/**
+	 * @return whether cells have been created or released by {@link #sparseUpdate(int, IntegerRange, boolean)}
+	 * since the last call. The flag is reset
+	 */
+	protected boolean pollCellsChanged() {
+		boolean changed = cellsChanged;
+		cellsChanged = false;
+		return changed;
 	}
 
 	// Layout
 
 	/**
 	 * This core method is called by {@link GridState#layoutRows()} and it's responsible for laying out all the cells in
-	 * the {@code GridRow}. Two information are required, the vertical position of the row in the viewport and whether
-	 * we are in an exceptional case as described here {@link GridState#layoutRows()}.
+	 * the {@code GridRow}. Two information are required, the vertical position of the row in the viewport and the
+	 * horizontal positions of the columns.
 	 * <p></p>
-	 * The horizontal positions for each column/cell are computed or reused if possible.
+	 * Since all the rows have the same columns, the horizontal positions are computed only once by the state,
+	 * see {@link GridState#columnsPositions(boolean)}, and shared by all the rows: the cell at column {@code c}
+	 * is positioned at {@code columnsPositions[c - columnsRange.getMin()]}. This also works for rows with missing cells,
+	 * see {@link VirtualGrid#skipEmptyCellsProperty()}.
 	 * <p>
-	 * Then from the last cell and position, cells are laid out using {@link GridHelper#layout(Node, double, double)}.
+	 * Cells are laid out using {@link GridHelper#layout(Node, double, double)}.
 	 */
-	public void layoutCells(double position, boolean adjustColumns) {
+	public void layoutCells(double position, double[] columnsPositions) {
 		if (cells.isEmpty()) return;
 
 		GridHelper helper = grid.getGridHelper();
-		Size size = grid.getCellSize();
-		double right = columns.diff() * size.getWidth();
-		if (adjustColumns) right -= size.getWidth();
-
-		// Compute positions
-		if (!canReusePositions() || (positions.size() != columns.diff() + 1 || adjustColumns)) {
-			positions.clear();
-			for (int i = 0; i < size(); i++) {
-				positions.add(right);
-				right -= size.getWidth();
-			}
-		}
-
-		// Layout
-		ListIterator<C> cIt = new ArrayList<>(cells.values()).listIterator(size());
-		ListIterator<Double> pIt = new ArrayList<>(positions).listIterator(size());
-		while (cIt.hasPrevious()) {
-			C cell = cIt.previous();
-			Double pos = pIt.previous();
-			Node node = cell.getNode();
+		int min = columns.getMin();
+		for (Map.Entry<Integer, C> e : cells.entrySet()) {
+			int pIndex = e.getKey() - min;
+			if (pIndex < 0 || pIndex >= columnsPositions.length) continue;
+			C cell = e.getValue();
 			cell.beforeLayout();
-			helper.layout(node, pos, position);
+			helper.layout(cell.getNode(), columnsPositions[pIndex], position);
 			cell.afterLayout();
 		}
 		this.position = position;
-		this.reusablePositions = false;
+		this.positions = columnsPositions;
+	}
+
+	/**
+	 * Lays out the cells at the given vertical position, computing the horizontal positions for this row only.
+	 *
+	 * @deprecated the horizontal positions are now computed once per state and shared by all the rows,
+	 * use {@link #layoutCells(double, double[])} with the positions given by {@link GridState#columnsPositions(boolean)}
+	 */
+	@Deprecated
+	public void layoutCells(double position, boolean adjustColumns) {
+		double width = grid.getZoomedCellSize().getWidth();
+		layoutCells(position, AxisLayout.positions(columns.diff() + 1, width, adjustColumns));
 	}
 
 	// Misc
 
 	/**
-	 * Calls {@link C#dispose()} on all the cells in the map, then clears the map, leading to
-	 * an empty {@code GridRow}.
+	 * Calls {@link C#dispose()} on all the cells in the map (or releases them to the grid's {@link CellPool}),
+	 * then clears the map, leading to an empty {@code GridRow}.
 	 */
 	protected void clear() {
-		cells.values().forEach(C::dispose);
+		for (C cell : cells.values()) {
+			grid.releaseCell(cell);
+		}
 		cells.clear();
 	}
 
@@ -521,17 +682,27 @@ public Map<Integer, C> getLinearCells() {
 	}
 
 	/**
-	 * @return the cells' positions set
+	 * @return the horizontal positions of the cells in the last layout
+	 * @deprecated the positions are now shared by all the rows in the state, see {@link GridState#columnsPositions(boolean)}
 	 */
+	@Deprecated
 	protected Set<Double> getPositions() {
-		return positions;
+		int min = columns.getMin();
+		Set<Double> set = new TreeSet<>();
+		for (Integer column : cells.keySet()) {
+			int pIndex = column - min;
+			if (pIndex >= 0 && pIndex < positions.length) set.add(positions[pIndex]);
+		}
+		return set;
 	}
 
 	/**
-	 * @return the cells' positions set as an unmodifiable set
+	 * @return the horizontal positions of the cells in the last layout as an unmodifiable set
+	 * @deprecated the positions are now shared by all the rows in the state, see {@link GridState#columnsPositions(boolean)}
 	 */
+	@Deprecated
 	public Set<Double> getPositionsUnmodifiable() {
-		return Collections.unmodifiableSet(positions);
+		return Collections.unmodifiableSet(getPositions());
 	}
 
 	/**
@@ -542,14 +713,35 @@ public double getPosition() {
 	}
 
 	/**
-	 * @return whether the already computed positions for the cells can be reused by {@link #layoutCells(double, boolean)}
+	 * @return always true, the positions shared by all the rows are reused until the columns or their width change
+	 * @deprecated the positions are not computed by the rows anymore, see {@link GridState#columnsPositions(boolean)}
 	 */
+	@Deprecated
 	public boolean canReusePositions() {
-		return reusablePositions;
+		return true;
 	}
 
+	/**
+	 * @deprecated the positions are not computed by the rows anymore, this does nothing
+	 */
+	@Deprecated
 	protected void setReusablePositions(boolean reusablePositions) {
-		this.reusablePositions = reusablePositions;
+	}
+
+	/**
+	 * @return the spans this row checks for covered coordinates
+	 */
+	protected List<CellSpan> getSpans() {
+		return spans;
+	}
+
+	/**
+	 * Sets the spans this row checks for covered coordinates. These are the spans intersecting the ranges
+	 * of the {@link GridState} the row belongs to, queried only once per state and shared by all its rows,
+	 * see {@link GridState#getVisibleSpans()}.
+	 */
+	protected void setSpans(List<CellSpan> spans) {
+		this.spans = spans;
 	}
 
 	/**
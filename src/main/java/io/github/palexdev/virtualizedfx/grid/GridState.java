@@ -21,15 +21,24 @@
 import io.github.palexdev.mfxcore.base.beans.Size;
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.collections.Grid.Coordinates;
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
 import io.github.palexdev.mfxcore.collections.ObservableGrid.Change;
 import io.github.palexdev.mfxcore.enums.GridChangeType;
+import io.github.palexdev.mfxcore.utils.GridUtils;
 import io.github.palexdev.virtualizedfx.cell.GridCell;
+import io.github.palexdev.virtualizedfx.collections.CellSpan;
+import io.github.palexdev.virtualizedfx.collections.RegionGrid;
+import io.github.palexdev.virtualizedfx.collections.RegionGrid.RegionChange;
+import io.github.palexdev.virtualizedfx.collections.SpanIndex;
+import io.github.palexdev.virtualizedfx.collections.SparseGrid;
 import io.github.palexdev.virtualizedfx.enums.UpdateType;
 import io.github.palexdev.virtualizedfx.grid.paginated.PaginatedVirtualGrid;
+import io.github.palexdev.virtualizedfx.layout.AxisLayout;
 import javafx.scene.Node;
 
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Class used by the {@link GridManager} to represent the state of the viewport at a given time.
@@ -42,6 +51,8 @@
  * <p> - The range of columns contained by each {@link GridRow} in the state, {@link #getColumnsRange()}
  * <p> - The cells in the viewport. These are stored in {@link GridRow}s, each of these has a cell for each column.
  * {@link GridRow}s are kept in a map: rowIndex -> gridRow
+ * <p> - The cells for the spans which intersect the state's ranges, see {@link VirtualGrid#addSpan(int, int, int, int)}.
+ * These are kept in a separate map: span -> cell, see {@link #getSpanCells()}
  * <p> - The expected number of rows, {@link #getTargetSize()}. Note that this is computed by {@link GridHelper#maxRows()},
  * so the result may be greater than the number of rows available in the data structure
  * <p> - The type of event that lead the old state to transition to the new one, see {@link UpdateType}
@@ -63,11 +74,16 @@
 	//================================================================================
 	private final VirtualGrid<T, C> grid;
 	private final Map<Integer, GridRow<T, C>> rows = new TreeMap<>();
+	private final Map<CellSpan, C> spanCells = new LinkedHashMap<>();
 	private final IntegerRange rowsRange;
 	private final IntegerRange columnsRange;
 	private int targetSize;
 	private UpdateType type = UpdateType.INIT;
 	private boolean cellsChanged;
+	private double[] columnsPositions = new double[0];
+	private boolean columnsAdjusted;
+	private double columnsWidth;
+	private List<CellSpan> visibleSpans;
 
 	//================================================================================
 	// Constructors
@@ -111,6 +127,7 @@ protected GridState<T, C> init(IntegerRange rowsRange, IntegerRange columnsRange
 		}
 
 		GridState<T, C> newState = new GridState<>(grid, rowsRange, columnsRange);
+		newState.shareSpans(rows.values());
 		Set<Integer> range = IntegerRange.expandRangeToSet(rowsRange);
 		int targetSize = rowsRange.diff() + 1;
 
@@ -131,6 +148,7 @@ protected GridState<T, C> init(IntegerRange rowsRange, IntegerRange columnsRange
 			if (oIndex != null) {
 				GridRow<T, C> row = rows.remove(oIndex);
 				row.updateIndex(rIndex);
+				row.onInit(columnsRange);
 				newState.addRow(rIndex, row);
 			} else {
 				newState.addRow(rIndex);
@@ -150,6 +168,7 @@ protected GridState<T, C> vScroll(IntegerRange rowsRange) {
 
 		GridState<T, C> newState = new GridState<>(grid, rowsRange, columnsRange);
 		newState.type = UpdateType.SCROLL;
+		newState.shareSpans(rows.values());
 		Set<Integer> range = IntegerRange.expandRangeToSet(rowsRange);
 
 		for (Integer rowIndex : rowsRange) {
@@ -171,7 +190,6 @@ protected GridState<T, C> vScroll(IntegerRange rowsRange) {
 			}
 			GridRow<T, C> row = rows.remove(oIndex);
 			row.updateIndex(rIndex);
-			row.setReusablePositions(false);
 			newState.addRow(rIndex, row);
 		}
 		return newState;
@@ -187,6 +205,7 @@ protected GridState<T, C> hScroll(IntegerRange columnsRange) {
 
 		GridState<T, C> newState = new GridState<>(grid, rowsRange, columnsRange);
 		newState.type = UpdateType.SCROLL;
+		newState.shareSpans(rows.values());
 		Iterator<Map.Entry<Integer, GridRow<T, C>>> it = rows.entrySet().iterator();
 		while (it.hasNext()) {
 			Map.Entry<Integer, GridRow<T, C>> next = it.next();
@@ -206,7 +225,8 @@ protected GridState<T, C> hScroll(IntegerRange columnsRange) {
 	 * <p></p>
 	 * <b>REPLACE_ELEMENT</b>
 	 * Simple case, if the row at which the change occurred, {@link Change#getCoordinates()}, is in range of this state,
-	 * calls {@link GridRow#onReplace(int, Object)} on it.
+	 * calls {@link GridRow#onReplace(int, Object)} on it. Region replacements, {@link RegionChange}, are delegated
+	 * to {@link #onRegionReplace(RegionChange)}.
 	 * <p>
 	 * Note that this type of change returns the old state.
 	 * <p></p>
@@ -302,9 +322,13 @@ protected GridState<T, C> change(Change<T> change) {
 
 		switch (change.getType()) {
 			case REPLACE_ELEMENT: {
+				if (change instanceof RegionChange) {
+					onRegionReplace((RegionChange<T>) change);
+					break;
+				}
 				Coordinates coordinates = change.getCoordinates();
-				Optional.ofNullable(rows.get(coordinates.getRow()))
-						.ifPresent(row -> row.onReplace(coordinates.getColumn(), change.getAdded().get(0)));
+				GridRow<T, C> row = rows.get(coordinates.getRow());
+				if (row != null) row.onReplace(coordinates.getColumn(), change.getAdded().get(0));
 				break;
 			}
 			case REPLACE_DIAGONAL: {
@@ -331,12 +355,12 @@ protected GridState<T, C> change(Change<T> change) {
 				if (range.equals(rowsRange) && index > rowsRange.getMax() && rowsFilled()) break;
 
 				state = new GridState<>(grid, range, columnsRange);
+				state.shareSpans(rows.values());
 				Set<Integer> available = new HashSet<>(rows.keySet());
 
 				// Valid
 				for (int i = range.getMin(); i < index; i++) {
 					GridRow<T, C> row = rows.remove(i);
-					row.setReusablePositions(true);
 					state.addRow(i, row);
 					available.remove(i);
 				}
@@ -365,7 +389,7 @@ protected GridState<T, C> change(Change<T> change) {
 					row = rows.remove(oIndex);
 					row.updateIndex(index);
 				} else {
-					row = GridRow.of(grid, index, columnsRange).init();
+					row = state.createRow(index);
 				}
 				state.addRow(index, row);
 				break;
@@ -377,6 +401,7 @@ protected GridState<T, C> change(Change<T> change) {
 				if (range.equals(rowsRange) && index > range.getMax()) break;
 
 				state = new GridState<>(grid, range, columnsRange);
+				state.shareSpans(rows.values());
 				Set<Integer> available = new HashSet<>(rows.keySet());
 				Set<Integer> rangeSet = IntegerRange.expandRangeToSet(range);
 
@@ -384,7 +409,6 @@ protected GridState<T, C> change(Change<T> change) {
 				int start = Math.max(range.getMin(), rowsRange.getMin());
 				for (int i = start; i < index; i++) {
 					GridRow<T, C> row = rows.remove(i);
-					row.setReusablePositions(true);
 					state.addRow(i, row);
 					available.remove(i);
 					rangeSet.remove(i);
@@ -421,7 +445,7 @@ protected GridState<T, C> change(Change<T> change) {
 					row = rows.remove(oIndex);
 					row.updateIndex(nIndex);
 				} else {
-					row = GridRow.of(grid, nIndex, columnsRange).init();
+					row = state.createRow(nIndex);
 				}
 				state.addRow(nIndex, row);
 				break;
@@ -432,6 +456,7 @@ protected GridState<T, C> change(Change<T> change) {
 				int index = change.getCoordinates().getColumn();
 
 				state = new GridState<>(grid, rowsRange, range);
+				state.shareSpans(rows.values());
 				Iterator<Map.Entry<Integer, GridRow<T, C>>> it = rows.entrySet().iterator();
 				while (it.hasNext()) {
 					Map.Entry<Integer, GridRow<T, C>> next = it.next();
@@ -448,7 +473,8 @@ protected GridState<T, C> change(Change<T> change) {
 				IntegerRange range = helper.columnsRange();
 				int index = change.getCoordinates().getColumn();
 
-				state = new GridState<>(grid, rowsRange, columnsRange);
+				state = new GridState<>(grid, rowsRange, range);
+				state.shareSpans(rows.values());
 				Iterator<Map.Entry<Integer, GridRow<T, C>>> it = rows.entrySet().iterator();
 				while (it.hasNext()) {
 					Map.Entry<Integer, GridRow<T, C>> next = it.next();
@@ -468,6 +494,257 @@ protected GridState<T, C> change(Change<T> change) {
 		return state;
 	}
 
+	/**
+	 * This is responsible for transitioning to a new state when the data structure has been transposed,
+	 * {@link GridChangeType#TRANSPOSE}.
+	 * <p>
+	 * After the transposition, the element which was at [row, column] is now at [column, row]. So, the cell which was
+	 * displaying it can simply be moved to the transposed coordinates, only its index and coordinates need to be updated.
+	 * For each [row, column] in the given ranges the cell is searched in this state at [column, row].
+	 * Coordinates covered by a span are skipped, see {@link VirtualGrid#addSpan(int, int, int, int)}.
+	 * Coordinates for which no cell was found are filled by reusing the remaining cells (updating their item too),
+	 * or by creating new ones if there are not enough. Cells still remaining at the end are released.
+	 * <p></p>
+	 * The given ranges are expected to be the ones computed after the transposition, see {@link GridManager#onTranspose()}.
+	 */
+	protected GridState<T, C> transpose(IntegerRange rowsRange, IntegerRange columnsRange) {
+		ObservableGrid<T> items = grid.getItems();
+		int nColumns = items.getColumnsNum();
+		GridState<T, C> newState = new GridState<>(grid, rowsRange, columnsRange);
+		newState.type = UpdateType.CHANGE;
+		SparseGrid<T> sparse = (grid.isSkipEmptyCells() && items instanceof SparseGrid) ? (SparseGrid<T>) items : null;
+
+		List<Coordinates> missing = new ArrayList<>();
+		for (Integer rIndex : rowsRange) {
+			GridRow<T, C> row = GridRow.of(grid, rIndex, columnsRange);
+			row.setSpans(newState.getVisibleSpans());
+			BitSet covered = row.coveredColumns(rIndex, columnsRange);
+			Map<Integer, C> cells = row.getCells();
+			for (Integer cIndex : columnsRange) {
+				if (covered.get(cIndex - columnsRange.getMin())) continue;
+				GridRow<T, C> oldRow = rows.get(cIndex);
+				C cell = (oldRow != null) ? oldRow.getCells().remove(rIndex) : null;
+				if (cell == null) {
+					if (sparse != null && !sparse.isPopulated(rIndex, cIndex)) continue;
+					missing.add(Coordinates.of(rIndex, cIndex));
+					continue;
+				}
+				cell.updateIndex(rIndex * nColumns + cIndex);
+				cell.updateCoordinates(rIndex, cIndex);
+				cells.put(cIndex, cell);
+			}
+			newState.addRow(rIndex, row);
+		}
+
+		Deque<C> remaining = rows.values().stream()
+				.flatMap(row -> row.getCells().values().stream())
+				.collect(Collectors.toCollection(ArrayDeque::new));
+		rows.values().forEach(row -> row.getCells().clear());
+		boolean cellsChanged = false;
+		for (Coordinates coordinates : missing) {
+			int rIndex = coordinates.getRow();
+			int cIndex = coordinates.getColumn();
+			int linear = rIndex * nColumns + cIndex;
+			T item = items.getElement(linear);
+			C cell = remaining.poll();
+			if (cell != null) {
+				cell.updateItem(item);
+			} else {
+				cell = grid.createCell(item);
+				cellsChanged = true;
+			}
+			cell.updateIndex(linear);
+			cell.updateCoordinates(rIndex, cIndex);
+			newState.rows.get(rIndex).getCells().put(cIndex, cell);
+		}
+
+		if (!remaining.isEmpty()) cellsChanged = true;
+		remaining.forEach(grid::releaseCell);
+		rows.clear();
+		if (cellsChanged) newState.cellsChanged();
+		return newState;
+	}
+
+	/**
+	 * When cells for empty coordinates are skipped, see {@link VirtualGrid#skipEmptyCellsProperty()}, rows may create or
+	 * release cells on any transition, even on the ones that usually don't change the number of cells (scroll, replacements).
+	 * <p>
+	 * This checks the rows with {@link GridRow#pollCellsChanged()}, if any of them changed its cells, or if the given
+	 * flag is true, a copy of this state is returned, with the {@link #cellsChanged()} flag set. A copy is needed
+	 * because the viewport updates its children only when the state changes, and replacements return the same state.
+	 * <p>
+	 * Otherwise, returns this.
+	 *
+	 * @param changed whether cells have already been created or released by other means, for example for spans,
+	 *                see {@link #updateSpans(GridState)}
+	 */
+	protected GridState<T, C> checkCells(boolean changed) {
+		for (GridRow<T, C> row : rows.values()) {
+			changed |= row.pollCellsChanged();
+		}
+		if (!changed) return this;
+
+		GridState<T, C> copy = new GridState<>(grid, rowsRange, columnsRange);
+		copy.rows.putAll(rows);
+		copy.spanCells.putAll(spanCells);
+		copy.visibleSpans = visibleSpans;
+		copy.targetSize = targetSize;
+		copy.type = type;
+		copy.cellsChanged();
+		rows.clear();
+		spanCells.clear();
+		return copy;
+	}
+
+	/**
+	 * Takes the span cells of the given state, which is the one this replaces, and then makes sure that there is a cell
+	 * only for the spans intersecting this state's ranges, {@link #getVisibleSpans()}.
+	 * Cells of spans not visible anymore are released, cells for new visible spans are created
+	 * with the item at the span's anchor. Each span is displayed by a single cell, no matter how many of its rows and
+	 * columns are visible.
+	 * <p>
+	 * This is called by {@link GridManager} on every transition.
+	 *
+	 * @return whether any cell has been created or released
+	 */
+	protected boolean updateSpans(GridState<T, C> old) {
+		if (old != this) {
+			spanCells.putAll(old.spanCells);
+			old.spanCells.clear();
+		}
+		if (spanCells.isEmpty() && (isEmpty() || grid.getSpans().isEmpty())) return false;
+
+		Set<CellSpan> visible = isEmpty() ?
+				Collections.emptySet() :
+				new LinkedHashSet<>(getVisibleSpans());
+		boolean changed = false;
+		Iterator<Map.Entry<CellSpan, C>> it = spanCells.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<CellSpan, C> e = it.next();
+			if (visible.contains(e.getKey())) continue;
+			grid.releaseCell(e.getValue());
+			it.remove();
+			changed = true;
+		}
+
+		ObservableGrid<T> items = grid.getItems();
+		for (CellSpan span : visible) {
+			if (spanCells.containsKey(span)) continue;
+			int linear = GridUtils.subToInd(grid.getColumnsNum(), span.getRow(), span.getColumn());
+			C cell = grid.createCell(items.getElement(linear));
+			cell.updateIndex(linear);
+			cell.updateCoordinates(span.getRow(), span.getColumn());
+			spanCells.put(span, cell);
+			changed = true;
+		}
+		return changed;
+	}
+
+	/**
+	 * Updates the span cells with the item currently at their span's anchor, used after changes in the data structure.
+	 */
+	protected void refreshSpans() {
+		if (spanCells.isEmpty()) return;
+		ObservableGrid<T> items = grid.getItems();
+		spanCells.forEach((span, cell) -> {
+			int linear = GridUtils.subToInd(grid.getColumnsNum(), span.getRow(), span.getColumn());
+			cell.updateItem(items.getElement(linear));
+			cell.updateIndex(linear);
+		});
+	}
+
+	/**
+	 * Releases all the span cells.
+	 */
+	protected void clearSpans() {
+		if (spanCells.isEmpty()) return;
+		spanCells.values().forEach(grid::releaseCell);
+		spanCells.clear();
+	}
+
+	/**
+	 * @return the spans intersecting this state's ranges, {@link SpanIndex#query(IntegerRange, IntegerRange)}.
+	 * The query is done only once per state, the result is cached and shared by all the rows, see {@link #shareSpans(Collection)}
+	 */
+	protected List<CellSpan> getVisibleSpans() {
+		if (visibleSpans == null) {
+			SpanIndex spans = grid.getSpans();
+			visibleSpans = spans.isEmpty() ? List.of() : spans.query(rowsRange, columnsRange);
+		}
+		return visibleSpans;
+	}
+
+	/**
+	 * Gives the {@link #getVisibleSpans()} to the given rows, {@link GridRow#setSpans(List)}. This is done at the start of
+	 * each transition, before the rows are updated for this state, so that rows can check which of their coordinates are
+	 * covered without querying the {@link SpanIndex} again.
+	 */
+	protected void shareSpans(Collection<GridRow<T, C>> rows) {
+		List<CellSpan> spans = getVisibleSpans();
+		rows.forEach(row -> row.setSpans(spans));
+	}
+
+	/**
+	 * Discards the cached {@link #getVisibleSpans()} and shares the new ones with the rows of this state.
+	 * Used by {@link GridManager#onSpansChanged()}.
+	 */
+	protected void invalidateSpans() {
+		visibleSpans = null;
+		shareSpans(rows.values());
+	}
+
+	/**
+	 * Handles changes of type {@link RegionChange}, produced by {@link RegionGrid}. Only the rows and columns
+	 * which are both in this state and in the region are processed, and the cells are updated with the new
+	 * elements carried by the change.
+	 */
+	protected void onRegionReplace(RegionChange<T> change) {
+		int rFrom = Math.max(change.getRowFrom(), rowsRange.getMin());
+		int rTo = Math.min(change.getRowTo(), rowsRange.getMax());
+		int cFrom = Math.max(change.getColumnFrom(), columnsRange.getMin());
+		int cTo = Math.min(change.getColumnTo(), columnsRange.getMax());
+		for (int r = rFrom; r <= rTo; r++) {
+			GridRow<T, C> row = rows.get(r);
+			if (row == null) continue;
+			for (int c = cFrom; c <= cTo; c++) {
+				row.onReplace(c, change.getAdded(r, c));
+			}
+		}
+	}
+
+	/**
+	 * Applies a batch of element replacements with a single pass over the rows of this state.
+	 * <p>
+	 * The given {@link BitSet} contains the replaced coordinates relative to the given ranges, the bit of the element
+	 * at [row, column] is: {@code (row - rowsRange.getMin()) * columns + (column - columnsRange.getMin())}, where
+	 * {@code columns} is the number of columns in the given range.
+	 * <p>
+	 * Cells are updated with the element currently in the data structure, so when the same coordinates are
+	 * replaced many times only the last value is used. Rows and cells not in this state anymore are simply skipped.
+	 * <p></p>
+	 * Since replacements do not change the number of cells nor their position, there is no need to transition to a new state.
+	 *
+	 * @see GridManager#flushReplacements()
+	 */
+	protected void onReplaceBatch(BitSet changed, IntegerRange rowsRange, IntegerRange columnsRange) {
+		if (changed.isEmpty()) return;
+		ObservableGrid<T> items = grid.getItems();
+		int rMin = rowsRange.getMin();
+		int cMin = columnsRange.getMin();
+		int columns = columnsRange.getMax() - cMin + 1;
+		for (Map.Entry<Integer, GridRow<T, C>> e : rows.entrySet()) {
+			int rIndex = e.getKey();
+			if (rIndex < rMin || rIndex > rowsRange.getMax()) continue;
+			GridRow<T, C> row = e.getValue();
+			int from = (rIndex - rMin) * columns;
+			int to = from + columns;
+			for (int i = changed.nextSetBit(from); i >= 0 && i < to; i = changed.nextSetBit(i + 1)) {
+				int column = cMin + i - from;
+				row.onReplace(column, items.getElement(rIndex, column));
+			}
+		}
+	}
+
 	/**
 	 * This is responsible for laying out the rows in the viewport with the help of {@link GridHelper#layout(Node, double, double)}.
 	 * <p></p>
@@ -486,7 +763,8 @@ protected GridState<T, C> change(Change<T> change) {
 	 * by {@code (columnsRange.diff() - 1) * cellWidth}
 	 * <p></p>
 	 * At this point rows are laid out from the bottom to the top, and each row is responsible for laying out its cells
-	 * with {@link GridRow#layoutCells(double, boolean)}.
+	 * with {@link GridRow#layoutCells(double, double[])}. The columns' positions are the same for every row, so they are
+	 * computed once, see {@link #columnsPositions(boolean)}.
 	 */
 	public void layoutRows() {
 		if (isEmpty()) return;
@@ -496,27 +774,24 @@ public void layoutRows() {
 		}
 
 		GridHelper helper = grid.getGridHelper();
-		Size size = grid.getCellSize();
+		Size size = grid.getZoomedCellSize();
 		int gRows = grid.getRowsNum(); // Grid Rows
 		int gColumns = grid.getColumnsNum(); // Grid Columns
 
-		int firstRow = helper.firstRow();
-		int lastRow = firstRow + helper.maxRows() - 1;
-		boolean adjustRows = lastRow > gRows - 1 && rowsFilled();
-
-		int firstColumn = helper.firstColumn();
-		int lastColumn = firstColumn + helper.maxColumns() - 1;
-		boolean adjustColumns = lastColumn > gColumns - 1 && columnsFilled();
-
-		double bottom = rowsRange.diff() * size.getHeight();
-		if (adjustRows) bottom -= size.getHeight();
+		boolean adjustRows = AxisLayout.needsAdjust(helper.firstRow(), helper.maxRows(), gRows) && rowsFilled();
+		boolean adjustColumns = AxisLayout.needsAdjust(helper.firstColumn(), helper.maxColumns(), gColumns) && columnsFilled();
 
+		double[] positions = AxisLayout.positions(rowsRange.diff() + 1, size.getHeight(), adjustRows);
+		double[] cPositions = columnsPositions(adjustColumns);
+		int pIndex = positions.length - 1;
 		ListIterator<GridRow<T, C>> it = new ArrayList<>(rows.values()).listIterator(size());
-		while (it.hasPrevious()) {
+		while (it.hasPrevious() && pIndex >= 0) {
 			GridRow<T, C> row = it.previous();
-			row.layoutCells(bottom, adjustColumns);
-			bottom -= size.getHeight();
+			row.layoutCells(positions[pIndex], cPositions);
+			pIndex--;
 		}
+		if (positions.length > 0 && cPositions.length > 0)
+			layoutSpans(positions[0], rowsRange.getMin(), cPositions[0]);
 	}
 
 	/**
@@ -539,7 +814,7 @@ public void layoutRows() {
 	 * by {@code (columnsRange.diff() - 1) * cellWidth}
 	 * <p></p>
 	 * At this point rows are laid out from the top to the bottom, and each row is responsible for laying out its cells
-	 * with {@link GridRow#layoutCells(double, boolean)}.
+	 * with {@link GridRow#layoutCells(double, double[])}, the columns' positions are given by {@link #columnsPositions(boolean)}.
 	 * <p></p>
 	 * Last but not least, for {@link PaginatedVirtualGrid}s it may happen that there aren't enough rows to entirely
 	 * fill a page, in such case extra rows are still present in the viewport, but they need to be hidden with
@@ -548,7 +823,7 @@ public void layoutRows() {
 	public void layoutPaginatedRows() {
 		PaginatedVirtualGrid pGrid = ((PaginatedVirtualGrid) grid);
 		GridHelper helper = pGrid.getGridHelper();
-		Size size = pGrid.getCellSize();
+		Size size = pGrid.getZoomedCellSize();
 		int gColumns = pGrid.getColumnsNum(); // Grid Columns
 
 		int firstRow = helper.firstRow();
@@ -559,13 +834,15 @@ public void layoutPaginatedRows() {
 		int lastColumn = firstColumn + helper.maxColumns() - 1;
 		boolean adjustColumns = lastColumn > gColumns - 1 && columnsFilled();
 
+		double[] cPositions = columnsPositions(adjustColumns);
 		double pos = 0;
 		for (int i = firstRow; i <= lastRow; i++) {
 			GridRow<T, C> row = rows.get(i);
-			row.layoutCells(pos, adjustColumns);
+			row.layoutCells(pos, cPositions);
 			pos += size.getHeight();
 			row.setVisible(true);
 		}
+		if (cPositions.length > 0) layoutSpans(0, firstRow, cPositions[0]);
 
 		// Hide extra rows that are not in range
 		rows.entrySet().stream()
@@ -573,12 +850,49 @@ public void layoutPaginatedRows() {
 				.forEach(e -> e.getValue().setVisible(false));
 	}
 
+	/**
+	 * Lays out the span cells with {@link GridHelper#layoutSpan(Node, double, double, double, double)}.
+	 * <p>
+	 * Since all cells have the same size, the position of a span's anchor is computed from the position of the first
+	 * row and the first column laid out, even when the anchor is before them (partially visible spans).
+	 * The cell is sized to cover all the rows and columns of its span.
+	 *
+	 * @param rowsStart    the vertical position of the row at index {@code firstRow}
+	 * @param firstRow     the index of the first row laid out
+	 * @param columnsStart the horizontal position of the first column in the {@link #getColumnsRange()}
+	 */
+	protected void layoutSpans(double rowsStart, int firstRow, double columnsStart) {
+		if (spanCells.isEmpty()) return;
+		GridHelper helper = grid.getGridHelper();
+		Size size = grid.getZoomedCellSize();
+		double w = size.getWidth();
+		double h = size.getHeight();
+		int firstColumn = columnsRange.getMin();
+		spanCells.forEach((span, cell) -> {
+			double x = columnsStart + (span.getColumn() - firstColumn) * w;
+			double y = rowsStart + (span.getRow() - firstRow) * h;
+			cell.beforeLayout();
+			helper.layoutSpan(cell.getNode(), x, y, span.getColumnSpan() * w, span.getRowSpan() * h);
+			cell.afterLayout();
+		});
+	}
+
 	/**
 	 * Creates a new {@link GridRow} with the given index and the state's columns range, initializes it with {@link GridRow#init()}
 	 * then adds it to the state's map.
 	 */
 	protected void addRow(int index) {
-		rows.put(index, GridRow.of(grid, index, columnsRange).init());
+		rows.put(index, createRow(index));
+	}
+
+	/**
+	 * Creates a new {@link GridRow} with the given index and the state's columns range, shares the
+	 * {@link #getVisibleSpans()} with it, then initializes it with {@link GridRow#init()}.
+	 */
+	protected GridRow<T, C> createRow(int index) {
+		GridRow<T, C> row = GridRow.of(grid, index, columnsRange);
+		row.setSpans(getVisibleSpans());
+		return row.init();
 	}
 
 	/**
@@ -595,26 +909,32 @@ protected void addRow(int index, GridRow<T, C> row) {
 	protected void clear() {
 		rows.values().forEach(GridRow::clear);
 		rows.clear();
+		clearSpans();
 	}
 
 	/**
 	 * By iterating over all the rows in the state (using Streams) this converts the cells contained in the rows
-	 * to a list of {@link Node}s, with {@link C#getNode()}
+	 * to a list of {@link Node}s, with {@link C#getNode()}. The nodes of the span cells are last, so that they are above
+	 * the other cells.
 	 */
 	public List<Node> getNodes() {
-		return rows.values().stream()
-				.flatMap(row -> row.getCells().values().stream())
+		return Stream.concat(
+						rows.values().stream().flatMap(row -> row.getCells().values().stream()),
+						spanCells.values().stream()
+				)
 				.map(C::getNode)
 				.collect(Collectors.toUnmodifiableList());
 	}
 
 	/**
 	 * By iterating over all the rows in the state (using Streams) this gathers all the cells contained in the rows
-	 * into one list.
+	 * into one list, span cells included.
 	 */
 	public List<C> getCells() {
-		return rows.values().stream()
-				.flatMap(row -> row.getCells().values().stream())
+		return Stream.concat(
+						rows.values().stream().flatMap(row -> row.getCells().values().stream()),
+						spanCells.values().stream()
+				)
 				.collect(Collectors.toList());
 	}
 
@@ -623,14 +943,17 @@ public List<C> getCells() {
 	 * in one map. Cells are mapped as follows: linearIndex -> Cell.
 	 * <p>
 	 * Note that since Cells are kept by their column index in the rows, we use flatMap on {@link GridRow#getLinearCells()}.
+	 * Span cells are mapped by the linear index of their anchor.
 	 */
 	public Map<Integer, C> getIndexedCells() {
-		return rows.values().stream()
+		Map<Integer, C> cells = rows.values().stream()
 				.flatMap(row -> row.getLinearCells().entrySet().stream())
 				.collect(Collectors.toMap(
 						Map.Entry::getKey,
 						Map.Entry::getValue
 				));
+		spanCells.forEach((span, cell) -> cells.put(GridUtils.subToInd(grid.getColumnsNum(), span.getRow(), span.getColumn()), cell));
+		return cells;
 	}
 
 	/**
@@ -644,6 +967,25 @@ public boolean rowsFilled() {
 		return size() >= targetSize;
 	}
 
+	/**
+	 * Computes the horizontal positions of the columns in {@link #getColumnsRange()}, in ascending order, with
+	 * {@link AxisLayout#positions(int, double, boolean)}. The positions are shared by all the rows in this state,
+	 * and are computed again only if the number of columns, the cells' width or the given flag change.
+	 *
+	 * @param adjustColumns whether we are in the exceptional case described here {@link #layoutRows()}, in which the
+	 *                      positions are shifted back by one cell
+	 */
+	protected double[] columnsPositions(boolean adjustColumns) {
+		int columns = columnsRange.diff() + 1;
+		double width = grid.getZoomedCellSize().getWidth();
+		if (columnsPositions.length != columns || columnsAdjusted != adjustColumns || columnsWidth != width) {
+			columnsPositions = AxisLayout.positions(columns, width, adjustColumns);
+			columnsAdjusted = adjustColumns;
+			columnsWidth = width;
+		}
+		return columnsPositions;
+	}
+
 	/**
 	 * @return whether there are enough columns in this state to fill the viewport
 	 */
@@ -651,7 +993,7 @@ public boolean columnsFilled() {
 		GridHelper helper = grid.getGridHelper();
 		int targetColumns = helper.maxColumns();
 		return rows.values().stream()
-				.allMatch(row -> row.size() >= targetColumns);
+				.allMatch(row -> row.getColumns().diff() + 1 >= targetColumns);
 	}
 
 	/**
@@ -688,6 +1030,13 @@ protected Map<Integer, GridRow<T, C>> getRows() {
 		return rows;
 	}
 
+	/**
+	 * @return the cells displaying the spans which intersect this state, as an unmodifiable map: span -> cell
+	 */
+	public Map<CellSpan, C> getSpanCells() {
+		return Collections.unmodifiableMap(spanCells);
+	}
+
 	/**
 	 * @return {@link #getRows()} as an unmodifiable map
 	 */
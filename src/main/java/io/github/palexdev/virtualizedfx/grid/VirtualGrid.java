@@ -34,9 +34,19 @@
 import io.github.palexdev.mfxcore.enums.GridChangeType;
 import io.github.palexdev.mfxcore.utils.NumberUtils;
 import io.github.palexdev.mfxcore.utils.fx.StyleUtils;
+import io.github.palexdev.virtualizedfx.cell.CellPool;
 import io.github.palexdev.virtualizedfx.cell.GridCell;
+import io.github.palexdev.virtualizedfx.cell.GridCellPainter;
+import io.github.palexdev.virtualizedfx.collections.CellSpan;
+import io.github.palexdev.virtualizedfx.collections.ChunkedGrid;
+import io.github.palexdev.virtualizedfx.collections.RegionGrid;
+import io.github.palexdev.virtualizedfx.collections.SpanIndex;
+import io.github.palexdev.virtualizedfx.collections.SparseGrid;
 import io.github.palexdev.virtualizedfx.controls.VirtualScrollPane;
 import io.github.palexdev.virtualizedfx.grid.GridHelper.DefaultGridHelper;
+import io.github.palexdev.virtualizedfx.grid.lod.GridTileCanvas;
+import io.github.palexdev.virtualizedfx.grid.lod.TileAggregator;
+import io.github.palexdev.virtualizedfx.grid.paginated.PaginatedVirtualGrid;
 import io.github.palexdev.virtualizedfx.utils.VSPUtils;
 import javafx.beans.property.*;
 import javafx.css.CssMetaData;
@@ -46,6 +56,7 @@
 import javafx.geometry.Orientation;
 import javafx.scene.control.Control;
 import javafx.scene.control.Skin;
+import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Pair;
 
@@ -82,6 +93,20 @@
  * since it will almost always require a "complete" update of the viewport, to be precise, most of the cells will just
  * need an index update, whereas just a few of them may require both an index and item update. Nonetheless, computing
  * changes like a column addition or removal is always a quite complex and expensive operation.
+ * <p>
+ * For big data structures with frequent rows/columns insertions and removals, consider using {@link ChunkedGrid},
+ * which stores each row in its own array.
+ * <p></p>
+ * By default, each visible item is represented by a {@link GridCell}, which is a node. For items that are simple to
+ * draw (numbers, colors...) and for which the number of nodes would be too high, the grid can also render them on a
+ * single canvas, see {@link #cellPainterProperty()}.
+ * <p>
+ * The grid can also be zoomed, see {@link #zoomProperty()}. When the cells become too small, items are not rendered
+ * individually anymore, the grid switches to a level-of-detail mode which renders pre-aggregated tiles, see
+ * {@link #levelOfDetailProperty()}.
+ * <p></p>
+ * Cells can be merged, a region of the grid can be displayed by a single cell which spans across multiple rows and
+ * columns, see {@link #addSpan(int, int, int, int)}.
  *
  * @param <T> the type of objects to represent
  * @param <C> the type of {@code GridCell} to use
@@ -141,6 +166,53 @@ protected void invalidated() {
 
 	private final ObjectProperty<Size> estimatedSize = new SimpleObjectProperty<>(Size.of(0, 0));
 	private final ReadOnlyBooleanWrapper needsViewportLayout = new ReadOnlyBooleanWrapper(false);
+	private final ObjectProperty<CellPool<T, C>> cellPool = new SimpleObjectProperty<>();
+	private final BooleanProperty batchChanges = new SimpleBooleanProperty(false) {
+		@Override
+		protected void invalidated() {
+			if (!get()) manager.flushReplacements();
+		}
+	};
+	private final ObjectProperty<GridCellPainter<T>> cellPainter = new SimpleObjectProperty<>();
+	private final BooleanProperty skipEmptyCells = new SimpleBooleanProperty(false) {
+		@Override
+		protected void invalidated() {
+			if (manager.getState() != GridState.EMPTY) manager.reset();
+		}
+	};
+	private final DoubleProperty zoom = new SimpleDoubleProperty(1.0) {
+		private double lastValue = 1.0;
+
+		@Override
+		public void set(double newValue) {
+			if (!(newValue > 0)) throw new IllegalArgumentException("Zoom must be greater than 0");
+			super.set(newValue);
+		}
+
+		@Override
+		protected void invalidated() {
+			double oldValue = lastValue;
+			lastValue = get();
+			if (oldValue != lastValue) onZoomChanged(oldValue, lastValue);
+		}
+	};
+	private final ReadOnlyObjectWrapper<Size> zoomedCellSize = new ReadOnlyObjectWrapper<>(Size.of(100, 100));
+	private final DoubleProperty lodThreshold = new SimpleDoubleProperty(4.0) {
+		@Override
+		protected void invalidated() {
+			updateZoomedCellSize();
+		}
+	};
+	private final ReadOnlyBooleanWrapper levelOfDetail = new ReadOnlyBooleanWrapper(false);
+	private final ObjectProperty<TileAggregator<T>> tileAggregator = new SimpleObjectProperty<>(TileAggregator.presence(Color.GRAY));
+	private final IntegerProperty tileCacheCapacity = new SimpleIntegerProperty(256) {
+		@Override
+		public void set(int newValue) {
+			if (newValue <= 0) throw new IllegalArgumentException("Capacity must be greater than 0");
+			super.set(newValue);
+		}
+	};
+	private final SpanIndex spans = new SpanIndex();
 
 	//================================================================================
 	// Constructors
@@ -174,6 +246,164 @@ public void requestViewportLayout() {
 		setNeedsViewportLayout(true);
 	}
 
+	/**
+	 * Converts the given point, in the grid's local coordinates, to the coordinates of the item displayed there.
+	 * This works for both rendering modes, cells and canvas, see {@link #cellPainterProperty()}, and can be used
+	 * for hit-testing, for example in a mouse event handler.
+	 *
+	 * @return the item's coordinates, or null if there is no item at the given point
+	 */
+	public Grid.Coordinates coordinatesAt(double x, double y) {
+		Size size = getZoomedCellSize();
+		Position position = getPosition();
+		int row = (int) Math.floor((y - snappedTopInset() + position.getY()) / size.getHeight());
+		int column = (int) Math.floor((x - snappedLeftInset() + position.getX()) / size.getWidth());
+		if (row < 0 || column < 0 || row >= getRowsNum() || column >= getColumnsNum()) return null;
+		return Grid.Coordinates.of(row, column);
+	}
+
+	/**
+	 * Creates a new cell for the given item with the {@link #cellFactoryProperty()}. If a {@link #cellPoolProperty()}
+	 * is set, the cell is taken from there instead, see {@link CellPool#take(Object, Function)}.
+	 */
+	protected C createCell(T item) {
+		CellPool<T, C> pool = getCellPool();
+		return (pool != null) ? pool.take(item, getCellFactory()) : getCellFactory().apply(item);
+	}
+
+	/**
+	 * Disposes the given cell, or releases it to the {@link #cellPoolProperty()} if set.
+	 */
+	protected void releaseCell(C cell) {
+		CellPool<T, C> pool = getCellPool();
+		if (pool == null || !pool.release(cell)) cell.dispose();
+	}
+
+	/**
+	 * Replaces the items in the region starting at the given coordinates with the given matrix.
+	 * <p>
+	 * If the items data structure is a {@link RegionGrid} this fires a single change, see {@link RegionGrid#setRegion(int, int, Object[][])},
+	 * otherwise items are replaced one by one.
+	 */
+	public void setRegion(int rowFrom, int columnFrom, T[][] values) {
+		ObservableGrid<T> items = getItems();
+		if (items instanceof RegionGrid) {
+			((RegionGrid<T>) items).setRegion(rowFrom, columnFrom, values);
+			return;
+		}
+		for (int r = 0; r < values.length; r++) {
+			for (int c = 0; c < values[r].length; c++) {
+				items.setElement(rowFrom + r, columnFrom + c, values[r][c]);
+			}
+		}
+	}
+
+	/**
+	 * Replaces all the items in the region starting at the given coordinates and of the given size with the given value.
+	 * <p>
+	 * If the items data structure is a {@link RegionGrid} this fires a single change, see {@link RegionGrid#fill(int, int, int, int, Object)},
+	 * otherwise items are replaced one by one.
+	 */
+	public void fill(int rowFrom, int columnFrom, int rows, int columns, T value) {
+		ObservableGrid<T> items = getItems();
+		if (items instanceof RegionGrid) {
+			((RegionGrid<T>) items).fill(rowFrom, columnFrom, rows, columns, value);
+			return;
+		}
+		for (int r = rowFrom; r < rowFrom + rows; r++) {
+			for (int c = columnFrom; c < columnFrom + columns; c++) {
+				items.setElement(r, c, value);
+			}
+		}
+	}
+
+	/**
+	 * Merges the cells in the given region, which will be displayed by a single cell spanning across all its rows and
+	 * columns. The cell displays the item at the top-left coordinates of the region, the items at the other coordinates
+	 * are not displayed, and no cell is created for them.
+	 * <p>
+	 * Spans are kept in a {@link SpanIndex}, which is indexed by both rows and columns, so finding the ones which intersect
+	 * the viewport only visits the spans around the visible region, even when they are many. The viewport queries them
+	 * once per update, and only the rows touched by a visible span handle missing cells, the others are updated as usual.
+	 * Also, spans are defined in terms of coordinates, they are not moved nor resized when rows or columns are added or removed.
+	 * <p></p>
+	 * Spans are supported only when items are displayed by cells, they are ignored by the {@link #cellPainterProperty()}
+	 * and in level-of-detail mode, see {@link #levelOfDetailProperty()}.
+	 *
+	 * @param row     the row of the top-left coordinates
+	 * @param column  the column of the top-left coordinates
+	 * @param rows    the number of rows covered by the span
+	 * @param columns the number of columns covered by the span
+	 * @return the new span
+	 * @throws IllegalArgumentException if the region overlaps an existing span
+	 */
+	public CellSpan addSpan(int row, int column, int rows, int columns) {
+		CellSpan span = CellSpan.of(row, column, rows, columns);
+		spans.add(span);
+		manager.onSpansChanged();
+		return span;
+	}
+
+	/**
+	 * Removes the span covering the given coordinates, if any.
+	 *
+	 * @return whether a span has been removed
+	 */
+	public boolean removeSpan(int row, int column) {
+		CellSpan span = spans.spanAt(row, column);
+		if (span == null) return false;
+		spans.remove(span);
+		manager.onSpansChanged();
+		return true;
+	}
+
+	/**
+	 * Removes all the spans.
+	 */
+	public void clearSpans() {
+		if (spans.isEmpty()) return;
+		spans.clear();
+		manager.onSpansChanged();
+	}
+
+	/**
+	 * @return the span covering the given coordinates, or null if none does
+	 */
+	public CellSpan spanAt(int row, int column) {
+		return spans.spanAt(row, column);
+	}
+
+	/**
+	 * Updates the {@link #zoomedCellSizeProperty()} and the {@link #levelOfDetailProperty()}, called when
+	 * the {@link #cellSizeProperty()}, the {@link #zoomProperty()} or the {@link #lodThresholdProperty()} change.
+	 */
+	protected void updateZoomedCellSize() {
+		Size size = getCellSize();
+		double zoom = getZoom();
+		Size zoomed = Size.of(size.getWidth() * zoom, size.getHeight() * zoom);
+		zoomedCellSize.set(zoomed);
+		levelOfDetail.set(Math.min(zoomed.getWidth(), zoomed.getHeight()) < getLodThreshold());
+	}
+
+	/**
+	 * This method is called every time the {@link #zoomProperty()} changes, and is responsible for updating the viewport.
+	 * <p>
+	 * Unlike {@link #onCellSizeChanged()}, the position is not reset, it's scaled by the zoom ratio, so that the item at
+	 * the top-left corner of the viewport stays there (as long as the new position is valid).
+	 */
+	protected void onZoomChanged(double oldValue, double newValue) {
+		double ratio = newValue / oldValue;
+		double x = getHPos() * ratio;
+		double y = getVPos() * ratio;
+		updateZoomedCellSize();
+		GridHelper helper = getGridHelper();
+		helper.computeEstimatedSize();
+
+		if (getWidth() != 0.0 && getHeight() != 0.0) manager.init();
+		setPosition(x, y);
+		requestViewportLayout();
+	}
+
 	/**
 	 * This method is called every time the {@link #cellSizeProperty()} changes, and is responsible
 	 * for updating the viewport. Different implementations may take different approaches as how to
@@ -407,6 +637,7 @@ public VirtualScrollPane wrap() {
 	) {
 		@Override
 		protected void invalidated() {
+			updateZoomedCellSize();
 			onCellSizeChanged();
 		}
 	};
@@ -649,4 +880,202 @@ public ReadOnlyBooleanProperty needsViewportLayoutProperty() {
 	protected void setNeedsViewportLayout(boolean needsViewportLayout) {
 		this.needsViewportLayout.set(needsViewportLayout);
 	}
+
+	public CellPool<T, C> getCellPool() {
+		return cellPool.get();
+	}
+
+	/**
+	 * Specifies the {@link CellPool} from which cells are taken and to which cells are released
+	 * instead of being disposed. A pool can be shared by many controls, but cells are only shared between
+	 * the ones that use the same {@link #cellFactoryProperty()} instance.
+	 * <p>
+	 * By default, this is null.
+	 */
+	public ObjectProperty<CellPool<T, C>> cellPoolProperty() {
+		return cellPool;
+	}
+
+	public void setCellPool(CellPool<T, C> cellPool) {
+		this.cellPool.set(cellPool);
+	}
+
+	public boolean isBatchChanges() {
+		return batchChanges.get();
+	}
+
+	/**
+	 * Specifies whether changes of type {@link GridChangeType#REPLACE_ELEMENT} should be coalesced and applied
+	 * once per pulse rather than one by one. Useful when many elements of the data structure are replaced
+	 * at a high rate (live heatmaps, dashboards...), see {@link GridManager#onChange(ObservableGrid.Change)}.
+	 * <p>
+	 * When this is disabled, pending replacements are applied immediately.
+	 * <p>
+	 * By default, this is false. Not supported by {@link PaginatedVirtualGrid}.
+	 */
+	public BooleanProperty batchChangesProperty() {
+		return batchChanges;
+	}
+
+	public void setBatchChanges(boolean batchChanges) {
+		this.batchChanges.set(batchChanges);
+	}
+
+	public boolean isSkipEmptyCells() {
+		return skipEmptyCells.get();
+	}
+
+	/**
+	 * Specifies whether cells should be created only for the coordinates which actually hold an element.
+	 * This only has effect if the items data structure is a {@link SparseGrid}, for which empty coordinates are the ones
+	 * for which {@link SparseGrid#isPopulated(int, int)} returns false.
+	 * <p>
+	 * For big grids in which only a small fraction of the coordinates is populated, this greatly reduces the number
+	 * of cells in the viewport.
+	 * <p>
+	 * By default, this is false.
+	 */
+	public BooleanProperty skipEmptyCellsProperty() {
+		return skipEmptyCells;
+	}
+
+	public void setSkipEmptyCells(boolean skipEmptyCells) {
+		this.skipEmptyCells.set(skipEmptyCells);
+	}
+
+	public GridCellPainter<T> getCellPainter() {
+		return cellPainter.get();
+	}
+
+	/**
+	 * Specifies the {@link GridCellPainter} used to draw the items on a canvas rather than creating a cell for each of them,
+	 * see {@link GridCanvas}.
+	 * <p>
+	 * When this is set, the viewport is replaced by the canvas, the {@link #cellFactoryProperty()} is ignored and the
+	 * {@link #stateProperty()} stays {@link GridState#EMPTY}. Items are not nodes anymore, so to know which item is under
+	 * the mouse use {@link #coordinatesAt(double, double)}.
+	 * <p>
+	 * By default, this is null, which means that cells are used.
+	 */
+	public ObjectProperty<GridCellPainter<T>> cellPainterProperty() {
+		return cellPainter;
+	}
+
+	public void setCellPainter(GridCellPainter<T> cellPainter) {
+		this.cellPainter.set(cellPainter);
+	}
+
+	public double getZoom() {
+		return zoom.get();
+	}
+
+	/**
+	 * Specifies the zoom factor of the grid. The cells are displayed with a size of {@code cellSize * zoom},
+	 * see {@link #zoomedCellSizeProperty()}.
+	 * <p>
+	 * When the zoomed size goes below the {@link #lodThresholdProperty()}, the grid switches to the level-of-detail mode,
+	 * see {@link #levelOfDetailProperty()}.
+	 * <p>
+	 * By default, this is 1.0. Values lesser or equal to 0 are not allowed.
+	 */
+	public DoubleProperty zoomProperty() {
+		return zoom;
+	}
+
+	public void setZoom(double zoom) {
+		this.zoom.set(zoom);
+	}
+
+	public Size getZoomedCellSize() {
+		return zoomedCellSize.get();
+	}
+
+	/**
+	 * Specifies the size at which cells are actually displayed, {@code cellSize * zoom}.
+	 * <p>
+	 * This is the size used by the grid's layout, the position and the estimated size are expressed in this unit.
+	 */
+	public ReadOnlyObjectProperty<Size> zoomedCellSizeProperty() {
+		return zoomedCellSize.getReadOnlyProperty();
+	}
+
+	public double getLodThreshold() {
+		return lodThreshold.get();
+	}
+
+	/**
+	 * Specifies the minimum size (the smallest between width and height) of the zoomed cells, below which the grid
+	 * switches to the level-of-detail mode, see {@link #levelOfDetailProperty()}.
+	 * <p>
+	 * By default, this is 4.0.
+	 */
+	public DoubleProperty lodThresholdProperty() {
+		return lodThreshold;
+	}
+
+	public void setLodThreshold(double lodThreshold) {
+		this.lodThreshold.set(lodThreshold);
+	}
+
+	public boolean isLevelOfDetail() {
+		return levelOfDetail.get();
+	}
+
+	/**
+	 * Specifies whether the grid is in the level-of-detail mode, which is when the {@link #zoomedCellSizeProperty()}
+	 * is smaller than the {@link #lodThresholdProperty()}.
+	 * <p>
+	 * In this mode items are not rendered individually, neither by cells nor by the {@link #cellPainterProperty()}.
+	 * Instead, the grid renders tiles, in which each pixel is the aggregation of one or more items given by the
+	 * {@link #tileAggregatorProperty()}. Tiles are computed in background and cached, see {@link GridTileCanvas}.
+	 * The {@link #stateProperty()} stays {@link GridState#EMPTY}.
+	 */
+	public ReadOnlyBooleanProperty levelOfDetailProperty() {
+		return levelOfDetail.getReadOnlyProperty();
+	}
+
+	public TileAggregator<T> getTileAggregator() {
+		return tileAggregator.get();
+	}
+
+	/**
+	 * Specifies the {@link TileAggregator} used to reduce the items to colors in the level-of-detail mode,
+	 * see {@link #levelOfDetailProperty()}. Changing this clears the tiles cache.
+	 * <p>
+	 * By default, non-null items are drawn in gray, see {@link TileAggregator#presence(Color)}. If null, nothing is drawn.
+	 */
+	public ObjectProperty<TileAggregator<T>> tileAggregatorProperty() {
+		return tileAggregator;
+	}
+
+	public void setTileAggregator(TileAggregator<T> tileAggregator) {
+		this.tileAggregator.set(tileAggregator);
+	}
+
+	public int getTileCacheCapacity() {
+		return tileCacheCapacity.get();
+	}
+
+	/**
+	 * Specifies the maximum number of tiles kept in cache in the level-of-detail mode, see {@link #levelOfDetailProperty()}.
+	 * When the cache is full, the least recently used tiles are evicted.
+	 * <p>
+	 * By default, this is 256.
+	 */
+	public IntegerProperty tileCacheCapacityProperty() {
+		return tileCacheCapacity;
+	}
+
+	public void setTileCacheCapacity(int tileCacheCapacity) {
+		this.tileCacheCapacity.set(tileCacheCapacity);
+	}
+
+	/**
+	 * @return the index containing the grid's spans. To add or remove spans use {@link #addSpan(int, int, int, int)},
+	 * {@link #removeSpan(int, int)} and {@link #clearSpans()}, changes made directly on the index are not reflected
+	 * in the viewport
+	 */
+	public SpanIndex getSpans() {
+		return spans;
+	}
 }
@@ -22,9 +22,14 @@
 import io.github.palexdev.mfxcore.collections.ObservableGrid;
 import io.github.palexdev.mfxcore.collections.ObservableGrid.Change;
 import io.github.palexdev.virtualizedfx.cell.GridCell;
+import io.github.palexdev.virtualizedfx.cell.GridCellPainter;
+import io.github.palexdev.virtualizedfx.grid.lod.GridTileCanvas;
+import io.github.palexdev.virtualizedfx.utils.NodeUtils;
+import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
 import javafx.scene.Node;
 import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.control.SkinBase;
 import javafx.scene.layout.Pane;
 import javafx.scene.shape.Rectangle;
@@ -52,12 +57,20 @@
  * <p></p>
  * The position of the viewport is controlled through its translateX and translateY properties, two bindings are
  * created by the {@link GridHelper} to update the positions when needed (linked above).
+ * <p></p>
+ * When a {@link GridCellPainter} is set, {@link VirtualGrid#cellPainterProperty()}, the viewport is replaced by a
+ * {@link GridCanvas}, which is painted during the layout, see {@link #layoutChildren(double, double, double, double)}.
+ * <p>
+ * In the level-of-detail mode, {@link VirtualGrid#levelOfDetailProperty()}, both are replaced by a {@link GridTileCanvas},
+ * which is painted during the layout too.
  */
 public class VirtualGridSkin<T, C extends GridCell<T>> extends SkinBase<VirtualGrid<T, C>> {
 	//================================================================================
 	// Properties
 	//================================================================================
 	protected final Pane viewport;
+	protected final GridCanvas<T> canvas;
+	protected final GridTileCanvas<T> tiles;
 	private final Rectangle clip;
 	protected GridManager<T, C> manager;
 
@@ -69,6 +82,10 @@
 	private ChangeListener<? super GridState<T, C>> stateChanged;
 	private ChangeListener<? super GridHelper> helperChanged;
 	private ChangeListener<? super Boolean> layoutRequestListener;
+	private ChangeListener<? super GridCellPainter<T>> painterChanged;
+	private InvalidationListener canvasInvalidated;
+	private ChangeListener<? super Boolean> lodChanged;
+	private InvalidationListener aggregatorChanged;
 
 	//================================================================================
 	// Constructors
@@ -93,6 +110,8 @@ protected void layoutChildren() {
 			}
 		};
 		viewport.getStyleClass().add("viewport");
+		canvas = new GridCanvas<>(grid);
+		tiles = new GridTileCanvas<>(grid);
 
 		clip = new Rectangle();
 		clip.widthProperty().bind(grid.widthProperty());
@@ -108,6 +127,16 @@ protected void layoutChildren() {
 		stateChanged = (observable, oldValue, newValue) -> onStateChanged(oldValue, newValue);
 		helperChanged = (observable, oldValue, newValue) -> onHelperChanged(newValue);
 		layoutRequestListener = (observable, oldValue, newValue) -> onLayoutRequest(newValue);
+		painterChanged = (observable, oldValue, newValue) -> onPainterChanged(oldValue, newValue);
+		canvasInvalidated = invalidated -> {
+			if (isLodMode()) {
+				tiles.invalidate();
+			} else if (isCanvasMode()) {
+				canvas.invalidate();
+			}
+		};
+		lodChanged = (observable, oldValue, newValue) -> onLevelOfDetailChanged(newValue);
+		aggregatorChanged = invalidated -> tiles.clear();
 
 		// Initialize Bindings
 		GridHelper helper = grid.getGridHelper();
@@ -116,7 +145,7 @@ protected void layoutChildren() {
 
 		// End Initialization
 		helper.computeEstimatedSize();
-		getChildren().setAll(viewport);
+		getChildren().setAll(isLodMode() ? tiles : isCanvasMode() ? canvas : viewport);
 		addListeners();
 	}
 
@@ -128,6 +157,11 @@ protected void layoutChildren() {
 	 * <p> - A listener on the {@link VirtualGrid#stateProperty()} which calls {@link #onStateChanged(GridState, GridState)}
 	 * <p> - A listener on the {@link VirtualGrid#gridHelperProperty()} which calls {@link #onHelperChanged(GridHelper)}
 	 * <p> - A listener on the {@link VirtualGrid#needsViewportLayoutProperty()} which calls {@link #onLayoutRequest(boolean)}
+	 * <p> - A listener on the {@link VirtualGrid#cellPainterProperty()} which calls {@link #onPainterChanged(GridCellPainter, GridCellPainter)}
+	 * <p> - A listener on the {@link VirtualGrid#positionProperty()} and on the {@link VirtualGrid#zoomedCellSizeProperty()} which
+	 * requests a full repaint of the {@link GridCanvas} or of the {@link GridTileCanvas}, only if the grid is rendering on them
+	 * <p> - A listener on the {@link VirtualGrid#levelOfDetailProperty()} which calls {@link #onLevelOfDetailChanged(boolean)}
+	 * <p> - A listener on the {@link VirtualGrid#tileAggregatorProperty()} which clears the {@link GridTileCanvas}
 	 */
 	private void addListeners() {
 		VirtualGrid<T, C> virtualGrid = getSkinnable();
@@ -138,6 +172,11 @@ private void addListeners() {
 		virtualGrid.stateProperty().addListener(stateChanged);
 		virtualGrid.gridHelperProperty().addListener(helperChanged);
 		virtualGrid.needsViewportLayoutProperty().addListener(layoutRequestListener);
+		virtualGrid.cellPainterProperty().addListener(painterChanged);
+		virtualGrid.positionProperty().addListener(canvasInvalidated);
+		virtualGrid.zoomedCellSizeProperty().addListener(canvasInvalidated);
+		virtualGrid.levelOfDetailProperty().addListener(lodChanged);
+		virtualGrid.tileAggregatorProperty().addListener(aggregatorChanged);
 	}
 
 	/**
@@ -145,10 +184,21 @@ private void addListeners() {
 	 * {@link Change} and produce eventually a new state.
 	 * <p>
 	 * This also ensures after the change that the viewport's estimated size is correct by calling {@link GridHelper#computeEstimatedSize()}.
+	 * <p>
+	 * When rendering on the canvas the change is handled by {@link GridCanvas#onChange(Change)} instead, and in
+	 * the level-of-detail mode by {@link GridTileCanvas#onChange(Change)}.
 	 */
 	protected void onItemsChanged(Change<T> change) {
 		VirtualGrid<T, C> grid = getSkinnable();
-		manager.onChange(change);
+		if (isLodMode()) {
+			tiles.onChange(change);
+			change.endChange();
+		} else if (isCanvasMode()) {
+			canvas.onChange(change);
+			change.endChange();
+		} else {
+			manager.onChange(change);
+		}
 
 		GridHelper helper = grid.getGridHelper();
 		helper.computeEstimatedSize();
@@ -164,6 +214,8 @@ protected void onGridChanged(ObservableGrid<T> oldValue, ObservableGrid<T> newVa
 		if (newValue != null) {
 			newValue.addListener(itemsChanged);
 			manager.reset();
+			tiles.clear();
+			if (isCanvasMode()) canvas.invalidate();
 		}
 	}
 
@@ -196,7 +248,7 @@ protected void onStateChanged(GridState<T, C> oldValue, GridState<T, C> newValue
 
 		if (newValue.haveCellsChanged()) {
 			List<Node> nodes = newValue.getNodes();
-			viewport.getChildren().setAll(nodes);
+			NodeUtils.updateChildren(viewport.getChildren(), nodes);
 		}
 	}
 
@@ -214,6 +266,67 @@ protected void onHelperChanged(GridHelper newValue) {
 		viewport.translateYProperty().bind(newValue.yPosBinding());
 	}
 
+	/**
+	 * The default implementation is responsible for switching between the two rendering modes.
+	 * <p>
+	 * When a painter is set, the viewport is cleared with {@link GridManager#clear()} and replaced by the {@link GridCanvas}.
+	 * When the painter is removed, the viewport is put back and rebuilt with {@link GridManager#reset()}.
+	 * <p>
+	 * Nothing is done in the level-of-detail mode, the new painter is used once the mode ends.
+	 */
+	protected void onPainterChanged(GridCellPainter<T> oldValue, GridCellPainter<T> newValue) {
+		if (isLodMode()) return;
+		if (newValue == null) {
+			getChildren().setAll(viewport);
+			manager.reset();
+			return;
+		}
+
+		if (oldValue == null) {
+			manager.clear();
+			getChildren().setAll(canvas);
+		}
+		canvas.invalidate();
+	}
+
+	/**
+	 * The default implementation is responsible for switching to and from the level-of-detail mode.
+	 * <p>
+	 * When entering the mode, the viewport is cleared with {@link GridManager#clear()} and replaced by the {@link GridTileCanvas}.
+	 * When leaving it, the grid goes back to the {@link GridCanvas} if a painter is set, otherwise to the viewport
+	 * which is rebuilt with {@link GridManager#reset()}.
+	 */
+	protected void onLevelOfDetailChanged(boolean newValue) {
+		if (newValue) {
+			manager.clear();
+			getChildren().setAll(tiles);
+			tiles.invalidate();
+			return;
+		}
+
+		if (isCanvasMode()) {
+			getChildren().setAll(canvas);
+			canvas.invalidate();
+			return;
+		}
+		getChildren().setAll(viewport);
+		manager.reset();
+	}
+
+	/**
+	 * @return whether the grid is in the level-of-detail mode, see {@link VirtualGrid#levelOfDetailProperty()}
+	 */
+	protected boolean isLodMode() {
+		return getSkinnable().isLevelOfDetail();
+	}
+
+	/**
+	 * @return whether the grid is rendering on the canvas, see {@link VirtualGrid#cellPainterProperty()}
+	 */
+	protected boolean isCanvasMode() {
+		return getSkinnable().getCellPainter() != null;
+	}
+
 	/**
 	 * The default implementation is responsible for calling {@link Parent#requestLayout()} on the viewport when
 	 * the {@link VirtualGrid#needsViewportLayoutProperty()} has been set to true.
@@ -225,6 +338,38 @@ protected void onLayoutRequest(boolean newValue) {
 	//================================================================================
 	// Overridden Methods
 	//================================================================================
+
+	/**
+	 * When rendering on the canvas, it is resized to fill the content area and then painted, {@link GridCanvas#paint()}.
+	 * The same goes for the level-of-detail mode, {@link GridTileCanvas#paint()}.
+	 */
+	@Override
+	protected void layoutChildren(double x, double y, double w, double h) {
+		super.layoutChildren(x, y, w, h);
+		if (isLodMode()) {
+			if (resizeCanvas(tiles, x, y, w, h)) tiles.invalidate();
+			tiles.paint();
+			return;
+		}
+		if (!isCanvasMode()) return;
+
+		if (resizeCanvas(canvas, x, y, w, h)) canvas.invalidate();
+		canvas.paint();
+	}
+
+	/**
+	 * Relocates and resizes the given canvas to the given bounds.
+	 *
+	 * @return whether the size of the canvas changed
+	 */
+	private boolean resizeCanvas(Canvas canvas, double x, double y, double w, double h) {
+		canvas.relocate(x, y);
+		if (canvas.getWidth() == w && canvas.getHeight() == h) return false;
+		canvas.setWidth(w);
+		canvas.setHeight(h);
+		return true;
+	}
+
 	@Override
 	protected double computeMinWidth(double height, double topInset, double rightInset, double bottomInset, double leftInset) {
 		return leftInset + DEFAULT_SIZE + rightInset;
@@ -238,13 +383,13 @@ protected double computeMinHeight(double width, double topInset, double rightIns
 	@Override
 	protected double computeMaxWidth(double height, double topInset, double rightInset, double bottomInset, double leftInset) {
 		VirtualGrid<T, C> virtualGrid = getSkinnable();
-		return leftInset + virtualGrid.getColumnsNum() * virtualGrid.getCellSize().getWidth() + rightInset;
+		return leftInset + virtualGrid.getColumnsNum() * virtualGrid.getZoomedCellSize().getWidth() + rightInset;
 	}
 
 	@Override
 	protected double computeMaxHeight(double width, double topInset, double rightInset, double bottomInset, double leftInset) {
 		VirtualGrid<T, C> virtualGrid = getSkinnable();
-		return topInset + virtualGrid.getRowsNum() * virtualGrid.getCellSize().getHeight() + bottomInset;
+		return topInset + virtualGrid.getRowsNum() * virtualGrid.getZoomedCellSize().getHeight() + bottomInset;
 	}
 
 	@Override
@@ -257,6 +402,12 @@ public void dispose() {
 		virtualGrid.stateProperty().removeListener(stateChanged);
 		virtualGrid.gridHelperProperty().removeListener(helperChanged);
 		virtualGrid.needsViewportLayoutProperty().removeListener(layoutRequestListener);
+		virtualGrid.cellPainterProperty().removeListener(painterChanged);
+		virtualGrid.positionProperty().removeListener(canvasInvalidated);
+		virtualGrid.zoomedCellSizeProperty().removeListener(canvasInvalidated);
+		virtualGrid.levelOfDetailProperty().removeListener(lodChanged);
+		virtualGrid.tileAggregatorProperty().removeListener(aggregatorChanged);
+		tiles.dispose();
 
 		itemsChanged = null;
 		gridChanged = null;
@@ -264,6 +415,10 @@ public void dispose() {
 		stateChanged = null;
 		helperChanged = null;
 		layoutRequestListener = null;
+		painterChanged = null;
+		canvasInvalidated = null;
+		lodChanged = null;
+		aggregatorChanged = null;
 		manager = null;
 		super.dispose();
 	}
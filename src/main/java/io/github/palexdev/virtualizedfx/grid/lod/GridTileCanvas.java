@@ -0,0 +1,418 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.grid.lod;
+
+import io.github.palexdev.mfxcore.base.beans.Position;
+import io.github.palexdev.mfxcore.base.beans.Size;
+import io.github.palexdev.mfxcore.collections.Grid.Coordinates;
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
+import io.github.palexdev.mfxcore.collections.ObservableGrid.Change;
+import io.github.palexdev.virtualizedfx.collections.RegionGrid.RegionChange;
+import io.github.palexdev.virtualizedfx.grid.GridCanvas;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+import io.github.palexdev.virtualizedfx.grid.VirtualGridSkin;
+import javafx.application.Platform;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A {@link Canvas} used by {@link VirtualGridSkin} to render a {@link VirtualGrid} when it's zoomed out so much that
+ * drawing every item would be impossible, see {@link VirtualGrid#levelOfDetailProperty()}.
+ * <p></p>
+ * Instead of items, the canvas draws {@link Tile}s, blocks of pre-aggregated pixels. The level of the tiles is chosen
+ * so that a pixel of a tile is about as big as a pixel on screen, see {@link #levelFor(Size)}.
+ * <p>
+ * Tiles are computed on a background thread and kept in a {@link TileCache}, whose capacity is given by
+ * {@link VirtualGrid#tileCacheCapacityProperty()}. When a tile is missing, it is requested and in the meantime the
+ * corresponding part of a cached tile of a higher level (coarser) is drawn, if available. When a tile is ready, it is
+ * published on the JavaFX thread (see {@link #publish(Runnable)}), cached and the canvas is painted again.
+ * A tile is computed from the four tiles of the previous level when they are all cached, otherwise from the data,
+ * see {@link Tile}.
+ * <p></p>
+ * Same as {@link GridCanvas}, repaints are never immediate, {@link #paint()} runs at most once per pulse.
+ * Changes to the data structure are handled by {@link #onChange(Change)}.
+ * <p>
+ * <b>Note</b> that the data structure is read from the background thread while it may be modified on the JavaFX
+ * thread. Tiles computed while a change occurred are discarded, but only if the change is notified with
+ * {@link #onChange(Change)}.
+ *
+ * @param <T> the type of items
+ */
+public class GridTileCanvas<T> extends Canvas {
+	//================================================================================
+	// Static Properties
+	//================================================================================
+	protected static final int MAX_FALLBACK_LEVELS = 4;
+
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final VirtualGrid<T, ?> grid;
+	private final TileCache cache;
+	private final Map<Long, TileTask> pending = new HashMap<>();
+	private ExecutorService executor;
+	private int level = -1;
+	private boolean invalid = true;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public GridTileCanvas(VirtualGrid<T, ?> grid) {
+		this.grid = grid;
+		this.cache = new TileCache(grid.getTileCacheCapacity());
+		getStyleClass().add("tiles-canvas");
+		setManaged(false);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Requests a repaint of the canvas.
+	 */
+	public void invalidate() {
+		invalid = true;
+		grid.requestLayout();
+	}
+
+	/**
+	 * Cancels all the pending tiles, clears the cache and requests a repaint.
+	 */
+	public void clear() {
+		cancel(Set.of());
+		cache.clear();
+		invalidate();
+	}
+
+	/**
+	 * Marks as stale the tiles covering the given region (all indexes inclusive), cancels the pending ones and requests
+	 * a repaint. Stale tiles are still painted until the new ones are ready.
+	 */
+	public void invalidate(int rowFrom, int columnFrom, int rowTo, int columnTo) {
+		cache.invalidate(rowFrom, columnFrom, rowTo, columnTo);
+		Iterator<TileTask> it = pending.values().iterator();
+		while (it.hasNext()) {
+			TileTask task = it.next();
+			if (task.intersects(rowFrom, columnFrom, rowTo, columnTo)) {
+				task.cancelled = true;
+				it.remove();
+			}
+		}
+		invalidate();
+	}
+
+	/**
+	 * Handles a change in the grid's items data structure. Replacements only invalidate the tiles covering the
+	 * affected coordinates, see {@link #invalidate(int, int, int, int)}, any other change clears the cache, see {@link #clear()}.
+	 * <p>
+	 * Note that the change is not ended here, see {@link Change#endChange()}.
+	 */
+	public void onChange(Change<T> change) {
+		switch (change.getType()) {
+			case REPLACE_ELEMENT: {
+				if (change instanceof RegionChange) {
+					RegionChange<T> region = (RegionChange<T>) change;
+					invalidate(region.getRowFrom(), region.getColumnFrom(), region.getRowTo(), region.getColumnTo());
+					break;
+				}
+				Coordinates coordinates = change.getCoordinates();
+				invalidate(coordinates.getRow(), coordinates.getColumn(), coordinates.getRow(), coordinates.getColumn());
+				break;
+			}
+			case REPLACE_ROW: {
+				int row = change.getCoordinates().getRow();
+				invalidate(row, 0, row, Integer.MAX_VALUE);
+				break;
+			}
+			case REPLACE_COLUMN: {
+				int column = change.getCoordinates().getColumn();
+				invalidate(0, column, Integer.MAX_VALUE, column);
+				break;
+			}
+			default:
+				clear();
+		}
+	}
+
+	/**
+	 * Paints the canvas if needed.
+	 * <p>
+	 * Computes the level of the tiles and which of them are visible. Cached tiles are drawn scaled to the
+	 * current {@link VirtualGrid#zoomedCellSizeProperty()}, missing or stale tiles are requested, missing ones are
+	 * replaced by a coarser tile, see {@link #paintFallback(GraphicsContext, int, int, double, double, double, double)}.
+	 * Pending tiles that are not visible anymore are cancelled.
+	 * <p>
+	 * Automatically called by {@link VirtualGridSkin} during layout.
+	 */
+	public void paint() {
+		if (!invalid) return;
+		invalid = false;
+		GraphicsContext gc = getGraphicsContext2D();
+		gc.clearRect(0, 0, getWidth(), getHeight());
+		if (cache.getCapacity() != grid.getTileCacheCapacity()) cache.setCapacity(grid.getTileCacheCapacity());
+
+		ObservableGrid<T> items = grid.getItems();
+		if (grid.isEmpty() || grid.getTileAggregator() == null) {
+			cancel(Set.of());
+			return;
+		}
+
+		Size size = grid.getZoomedCellSize();
+		Position position = grid.getPosition();
+		level = levelFor(size);
+		int span = Tile.span(level);
+		double tw = span * size.getWidth();
+		double th = span * size.getHeight();
+		int lastRow = (items.getRowsNum() - 1) / span;
+		int lastColumn = (items.getColumnsNum() - 1) / span;
+		int rFrom = Math.max(0, (int) Math.floor(position.getY() / th));
+		int rTo = Math.min(lastRow, (int) Math.floor((position.getY() + getHeight()) / th));
+		int cFrom = Math.max(0, (int) Math.floor(position.getX() / tw));
+		int cTo = Math.min(lastColumn, (int) Math.floor((position.getX() + getWidth()) / tw));
+
+		gc.setImageSmoothing(false);
+		Set<Long> visible = new HashSet<>();
+		for (int r = rFrom; r <= rTo; r++) {
+			for (int c = cFrom; c <= cTo; c++) {
+				long key = Tile.key(level, r, c);
+				double x = c * tw - position.getX();
+				double y = r * th - position.getY();
+				Tile tile = cache.get(key);
+				if (tile == null || tile.isStale()) {
+					visible.add(key);
+					request(level, r, c);
+				}
+				if (tile != null) {
+					gc.drawImage(tile.getImage(), x, y, tw, th);
+				} else {
+					paintFallback(gc, r, c, x, y, tw, th);
+				}
+			}
+		}
+		cancel(visible);
+	}
+
+	/**
+	 * Draws the part of a cached tile of a higher level that covers the tile at the given coordinates and current level.
+	 * Levels are searched upwards, up to {@link #MAX_FALLBACK_LEVELS}.
+	 */
+	protected void paintFallback(GraphicsContext gc, int row, int column, double x, double y, double w, double h) {
+		for (int i = 1; i <= MAX_FALLBACK_LEVELS; i++) {
+			Tile parent = cache.get(Tile.key(level + i, row >> i, column >> i));
+			if (parent == null) continue;
+			double sub = (double) Tile.SIZE / (1 << i);
+			int mask = (1 << i) - 1;
+			gc.drawImage(parent.getImage(), (column & mask) * sub, (row & mask) * sub, sub, sub, x, y, w, h);
+			return;
+		}
+	}
+
+	/**
+	 * Submits the computation of the tile at the given level and tile coordinates, only if not already pending.
+	 */
+	protected void request(int level, int row, int column) {
+		long key = Tile.key(level, row, column);
+		if (pending.containsKey(key)) return;
+		TileTask task = new TileTask(level, row, column);
+		pending.put(key, task);
+		executor().execute(task);
+	}
+
+	/**
+	 * Cancels all the pending tiles whose key is not in the given set.
+	 */
+	protected void cancel(Set<Long> keep) {
+		Iterator<Map.Entry<Long, TileTask>> it = pending.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<Long, TileTask> next = it.next();
+			if (keep.contains(next.getKey())) continue;
+			next.getValue().cancelled = true;
+			it.remove();
+		}
+	}
+
+	/**
+	 * @return the level of the tiles to use for the given cells' size. This is the lowest level for which a pixel of
+	 * a tile is at least one pixel on screen, {@code ceil(log2(1 / min(width, height)))}, never lesser than 0
+	 */
+	protected int levelFor(Size size) {
+		double min = Math.min(size.getWidth(), size.getHeight());
+		if (min >= 1.0) return 0;
+		int level = 0;
+		while ((1 << level) * min < 1.0 && level < 30 - Tile.SHIFT) level++;
+		return level;
+	}
+
+	/**
+	 * Executed on the background thread. Computes the given tile from the four tiles of the previous level if
+	 * they are all cached and not stale, otherwise from the data.
+	 */
+	protected Tile computeTile(TileTask task) {
+		int level = task.level;
+		if (level > 0) {
+			Tile[] children = new Tile[4];
+			boolean available = true;
+			int rows = task.items.getRowsNum();
+			int columns = task.items.getColumnsNum();
+			int childSpan = Tile.span(level - 1);
+			for (int i = 0; i < 4 && available; i++) {
+				int r = task.row * 2 + i / 2;
+				int c = task.column * 2 + i % 2;
+				if ((long) r * childSpan >= rows || (long) c * childSpan >= columns) continue;
+				Tile child = cache.get(Tile.key(level - 1, r, c));
+				available = child != null && !child.isStale();
+				children[i] = child;
+			}
+			if (available) return Tile.downsample(level, task.row, task.column, children);
+		}
+		return Tile.compute(task.items, task.aggregator, level, task.row, task.column, () -> task.cancelled);
+	}
+
+	/**
+	 * This is responsible for handing the computed tiles to the JavaFX thread.
+	 * By default, uses {@link Platform#runLater(Runnable)}.
+	 */
+	protected void publish(Runnable action) {
+		Platform.runLater(action);
+	}
+
+	/**
+	 * Lazily creates the single daemon thread on which the tiles are computed.
+	 */
+	protected ExecutorService executor() {
+		if (executor == null) {
+			executor = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r, "GridTileCanvas-Worker");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return executor;
+	}
+
+	/**
+	 * Cancels all the pending tiles, stops the background thread and clears the cache.
+	 */
+	public void dispose() {
+		cancel(Set.of());
+		cache.clear();
+		if (executor != null) executor.shutdownNow();
+		executor = null;
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the {@link TileCache} used by this canvas
+	 */
+	public TileCache getCache() {
+		return cache;
+	}
+
+	/**
+	 * @return the level of the tiles used by the last repaint, -1 if never painted
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * @return the number of tiles requested and not yet computed
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * @return whether the canvas needs a repaint
+	 */
+	public boolean isInvalid() {
+		return invalid;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * The computation of a single tile. On completion the tile is cached, only if the task is still pending.
+	 */
+	protected class TileTask implements Runnable {
+		private final int level;
+		private final int row;
+		private final int column;
+		private final ObservableGrid<T> items;
+		private final TileAggregator<T> aggregator;
+		private volatile boolean cancelled = false;
+
+		TileTask(int level, int row, int column) {
+			this.level = level;
+			this.row = row;
+			this.column = column;
+			this.items = grid.getItems();
+			this.aggregator = grid.getTileAggregator();
+		}
+
+		boolean intersects(int rowFrom, int columnFrom, int rowTo, int columnTo) {
+			long span = Tile.span(level);
+			long rStart = row * span;
+			long cStart = column * span;
+			return rStart <= rowTo && rStart + span > rowFrom && cStart <= columnTo && cStart + span > columnFrom;
+		}
+
+		@Override
+		public void run() {
+			if (cancelled) return;
+			Tile tile;
+			try {
+				tile = computeTile(this);
+			} catch (RuntimeException ex) {
+				// The data structure may have changed while reading it, in such case the task has been cancelled.
+				// Otherwise, the failure is reported to the worker's handler, so that the thread survives
+				if (!cancelled) {
+					Thread thread = Thread.currentThread();
+					thread.getUncaughtExceptionHandler().uncaughtException(thread, ex);
+				}
+				tile = null;
+			}
+			if (tile == null || cancelled) {
+				publish(() -> pending.remove(Tile.key(level, row, column), this));
+				return;
+			}
+			Tile result = tile;
+			publish(() -> {
+				if (!pending.remove(Tile.key(level, row, column), this)) return;
+				cache.put(result);
+				invalidate();
+			});
+		}
+	}
+}
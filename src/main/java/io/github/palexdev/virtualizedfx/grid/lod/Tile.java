@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.grid.lod;
+
+import io.github.palexdev.mfxcore.collections.Grid;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * A square block of pre-aggregated pixels, used by {@link GridTileCanvas} to render a zoomed-out grid.
+ * <p></p>
+ * Tiles are organized in levels. At level L each pixel represents a block of {@code 2^L x 2^L} items, and
+ * each tile is {@link #SIZE} pixels wide, so it covers {@code SIZE * 2^L} rows and columns. The pixel's color is the
+ * average of the items' colors given by a {@link TileAggregator}, while its alpha is also proportional to the
+ * fraction of non-null items in the block.
+ * <p>
+ * A tile can be computed directly from the data, {@link #compute(Grid, TileAggregator, int, int, int, BooleanSupplier)},
+ * or from the four tiles of the previous level it covers, {@link #downsample(int, int, int, Tile[])}. The two methods
+ * produce the same result (except for rounding errors), but the latter is much cheaper.
+ * <p></p>
+ * The pixels are kept in an array of 32-bit ARGB integers, the {@link WritableImage} is only built when the tile is
+ * painted, see {@link #getImage()}.
+ */
+public class Tile {
+	//================================================================================
+	// Static Properties
+	//================================================================================
+	public static final int SHIFT = 7;
+	public static final int SIZE = 1 << SHIFT;
+
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final int level;
+	private final int row;
+	private final int column;
+	private final int[] pixels;
+	private WritableImage image;
+	private volatile boolean stale = false;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public Tile(int level, int row, int column, int[] pixels) {
+		if (pixels.length != SIZE * SIZE)
+			throw new IllegalArgumentException("Pixels array must have a length of " + SIZE * SIZE);
+		this.level = level;
+		this.row = row;
+		this.column = column;
+		this.pixels = pixels;
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Builds a unique key for the tile at the given level and tile coordinates.
+	 */
+	public static long key(int level, int row, int column) {
+		return ((long) level << 56) | ((long) row << 28) | column;
+	}
+
+	/**
+	 * @return the number of items per side covered by a tile at the given level, {@code SIZE * 2^level}
+	 */
+	public static int span(int level) {
+		return SIZE << level;
+	}
+
+	/**
+	 * Computes the tile at the given level and tile coordinates by reading the items from the given grid.
+	 * <p>
+	 * The computation is aborted (and null returned) as soon as the given supplier returns true.
+	 */
+	public static <T> Tile compute(Grid<T> items, TileAggregator<T> aggregator, int level, int row, int column, BooleanSupplier cancelled) {
+		int[] pixels = new int[SIZE * SIZE];
+		int block = 1 << level;
+		int area = block * block;
+		int rows = items.getRowsNum();
+		int columns = items.getColumnsNum();
+		int rStart = row * span(level);
+		int cStart = column * span(level);
+
+		for (int py = 0; py < SIZE; py++) {
+			int rFrom = rStart + py * block;
+			if (rFrom >= rows) break;
+			if (cancelled.getAsBoolean()) return null;
+			int rTo = Math.min(rFrom + block, rows);
+			for (int px = 0; px < SIZE; px++) {
+				int cFrom = cStart + px * block;
+				if (cFrom >= columns) break;
+				int cTo = Math.min(cFrom + block, columns);
+				long a = 0, r = 0, g = 0, b = 0;
+				for (int ir = rFrom; ir < rTo; ir++) {
+					for (int ic = cFrom; ic < cTo; ic++) {
+						T item = items.getElement(ir, ic);
+						if (item == null) continue;
+						int argb = aggregator.argb(item);
+						int alpha = argb >>> 24;
+						a += alpha;
+						r += ((argb >> 16) & 0xFF) * alpha;
+						g += ((argb >> 8) & 0xFF) * alpha;
+						b += (argb & 0xFF) * alpha;
+					}
+				}
+				pixels[py * SIZE + px] = blend(a, r, g, b, area);
+			}
+		}
+		return new Tile(level, row, column, pixels);
+	}
+
+	/**
+	 * Computes the tile at the given level and tile coordinates from the four tiles of the previous level it covers,
+	 * given in this order: top-left, top-right, bottom-left, bottom-right. Null tiles are considered empty,
+	 * this is the case for tiles that would be outside the grid.
+	 */
+	public static Tile downsample(int level, int row, int column, Tile[] children) {
+		int[] pixels = new int[SIZE * SIZE];
+		int half = SIZE / 2;
+		for (int py = 0; py < SIZE; py++) {
+			for (int px = 0; px < SIZE; px++) {
+				Tile child = children[(py / half) * 2 + (px / half)];
+				if (child == null) continue;
+				int cy = (py % half) * 2;
+				int cx = (px % half) * 2;
+				long a = 0, r = 0, g = 0, b = 0;
+				for (int dy = 0; dy < 2; dy++) {
+					for (int dx = 0; dx < 2; dx++) {
+						int argb = child.pixels[(cy + dy) * SIZE + cx + dx];
+						int alpha = argb >>> 24;
+						a += alpha;
+						r += ((argb >> 16) & 0xFF) * alpha;
+						g += ((argb >> 8) & 0xFF) * alpha;
+						b += (argb & 0xFF) * alpha;
+					}
+				}
+				pixels[py * SIZE + px] = blend(a, r, g, b, 4);
+			}
+		}
+		return new Tile(level, row, column, pixels);
+	}
+
+	/**
+	 * Averages the given alpha-weighted sums of colors. The resulting alpha is the average over the given area.
+	 */
+	private static int blend(long a, long r, long g, long b, int area) {
+		if (a == 0) return 0;
+		int alpha = (int) Math.round((double) a / area);
+		int red = (int) Math.round((double) r / a);
+		int green = (int) Math.round((double) g / a);
+		int blue = (int) Math.round((double) b / a);
+		return (alpha << 24) | (red << 16) | (green << 8) | blue;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return whether this tile covers any of the items in the given region (all indexes inclusive)
+	 */
+	public boolean intersects(int rowFrom, int columnFrom, int rowTo, int columnTo) {
+		long span = span(level);
+		long rStart = row * span;
+		long cStart = column * span;
+		return rStart <= rowTo && rStart + span > rowFrom && cStart <= columnTo && cStart + span > columnFrom;
+	}
+
+	/**
+	 * @return the ARGB color of the pixel at the given coordinates
+	 */
+	public int getPixel(int x, int y) {
+		return pixels[y * SIZE + x];
+	}
+
+	/**
+	 * Lazily builds the {@link WritableImage} from the pixels. Must be called on the JavaFX thread.
+	 */
+	public WritableImage getImage() {
+		if (image == null) {
+			image = new WritableImage(SIZE, SIZE);
+			image.getPixelWriter().setPixels(0, 0, SIZE, SIZE, PixelFormat.getIntArgbInstance(), pixels, 0, SIZE);
+		}
+		return image;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public int getLevel() {
+		return level;
+	}
+
+	public int getRow() {
+		return row;
+	}
+
+	public int getColumn() {
+		return column;
+	}
+
+	/**
+	 * @return the unique key of this tile, see {@link #key(int, int, int)}
+	 */
+	public long getKey() {
+		return key(level, row, column);
+	}
+
+	/**
+	 * @return whether some of the covered items have changed since the tile was computed. Stale tiles can still be
+	 * painted while the new ones are computed, but they must not be used to compute other tiles
+	 */
+	public boolean isStale() {
+		return stale;
+	}
+
+	public void setStale(boolean stale) {
+		this.stale = stale;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.grid.lod;
+
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+import javafx.scene.paint.Color;
+
+import java.util.function.Function;
+
+/**
+ * Functional interface used by {@link GridTileCanvas} to reduce the items of a {@link VirtualGrid} to colors,
+ * see {@link VirtualGrid#tileAggregatorProperty()}.
+ * <p>
+ * Each item is mapped to a color, the colors of the items covered by a pixel of a {@link Tile} are then averaged
+ * (weighted by their alpha). Null items are considered empty and this is never called for them.
+ *
+ * @param <T> the type of items
+ */
+@FunctionalInterface
+public interface TileAggregator<T> {
+
+	/**
+	 * @return the color representing the given item, as a 32-bit ARGB integer (non-premultiplied)
+	 */
+	int argb(T item);
+
+	/**
+	 * @return an aggregator that maps all the non-null items to the given color. Useful to give an overview of
+	 * which parts of the grid are populated
+	 */
+	static <T> TileAggregator<T> presence(Color color) {
+		int argb = toArgb(color);
+		return item -> argb;
+	}
+
+	/**
+	 * @return an aggregator that maps the items to colors with the given function
+	 */
+	static <T> TileAggregator<T> color(Function<T, Color> function) {
+		return item -> toArgb(function.apply(item));
+	}
+
+	/**
+	 * Converts the given {@link Color} to a 32-bit ARGB integer.
+	 */
+	static int toArgb(Color color) {
+		int a = (int) Math.round(color.getOpacity() * 255);
+		int r = (int) Math.round(color.getRed() * 255);
+		int g = (int) Math.round(color.getGreen() * 255);
+		int b = (int) Math.round(color.getBlue() * 255);
+		return (a << 24) | (r << 16) | (g << 8) | b;
+	}
+}
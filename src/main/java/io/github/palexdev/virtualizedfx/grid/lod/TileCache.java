@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.grid.lod;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of {@link Tile}s, which evicts the least recently used tile when full.
+ * <p>
+ * Tiles are computed on a background thread that also reads from the cache, so all the methods are synchronized.
+ */
+public class TileCache {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private int capacity;
+	private final LinkedHashMap<Long, Tile> tiles = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Tile> eldest) {
+			return size() > capacity;
+		}
+	};
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public TileCache(int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("Capacity must be greater than 0");
+		this.capacity = capacity;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the tile with the given key, or null if not cached. The tile becomes the most recently used
+	 */
+	public synchronized Tile get(long key) {
+		return tiles.get(key);
+	}
+
+	/**
+	 * Adds the given tile to the cache, replacing the one with the same key if present.
+	 */
+	public synchronized void put(Tile tile) {
+		tiles.put(tile.getKey(), tile);
+	}
+
+	public synchronized Tile remove(long key) {
+		return tiles.remove(key);
+	}
+
+	/**
+	 * Marks as stale all the tiles that cover any of the items in the given region (all indexes inclusive),
+	 * see {@link Tile#isStale()}.
+	 */
+	public synchronized void invalidate(int rowFrom, int columnFrom, int rowTo, int columnTo) {
+		for (Tile tile : tiles.values()) {
+			if (tile.intersects(rowFrom, columnFrom, rowTo, columnTo)) tile.setStale(true);
+		}
+	}
+
+	public synchronized void clear() {
+		tiles.clear();
+	}
+
+	public synchronized int size() {
+		return tiles.size();
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public synchronized int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Sets the maximum number of tiles, if the cache is bigger than that the least recently used tiles are evicted.
+	 */
+	public synchronized void setCapacity(int capacity) {
+		if (capacity <= 0) throw new IllegalArgumentException("Capacity must be greater than 0");
+		this.capacity = capacity;
+		Iterator<Map.Entry<Long, Tile>> it = tiles.entrySet().iterator();
+		while (tiles.size() > capacity && it.hasNext()) {
+			it.next();
+			it.remove();
+		}
+	}
+}
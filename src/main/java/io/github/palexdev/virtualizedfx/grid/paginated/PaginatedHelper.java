@@ -70,7 +70,7 @@ public double maxVScroll() {
 		 */
 		@Override
 		public double pageToPos(int page) {
-			return (page - 1) * pGrid.getRowsPerPage() * pGrid.getCellSize().getHeight();
+			return (page - 1) * pGrid.getRowsPerPage() * pGrid.getZoomedCellSize().getHeight();
 		}
 
 		@Override
@@ -62,7 +62,7 @@ protected PaginatedVirtualGrid<T, C> getGrid() {
 	 */
 	protected double getLength() {
 		PaginatedVirtualGrid<T, C> grid = getGrid();
-		return grid.getRowsPerPage() * grid.getCellSize().getHeight();
+		return grid.getRowsPerPage() * grid.getZoomedCellSize().getHeight();
 	}
 
 	//================================================================================
@@ -0,0 +1,260 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.layout;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.mfxcore.utils.NumberUtils;
+import io.github.palexdev.virtualizedfx.flow.OrientationHelper;
+import io.github.palexdev.virtualizedfx.grid.GridHelper;
+import io.github.palexdev.virtualizedfx.table.TableHelper;
+
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * Pure computation core for the layout of a virtualized viewport along a single axis.
+ * <p></p>
+ * All the virtualized controls need to answer the same questions for each of their axes: which items are visible
+ * given the viewport's size and the scroll position, how many cells are needed to fill the viewport, what's the
+ * total length of the content and where each cell must be placed. The methods here answer those questions
+ * without depending on any JavaFX node, they only take numbers in input: the viewport's length, the scroll position,
+ * the number of items and the cells' size (fixed, or given by a size provider, see {@link Variable}).
+ * <p></p>
+ * {@link OrientationHelper}, {@link GridHelper} and {@link TableHelper} are adapters that gather these inputs from
+ * their control and delegate to this. This way the core can be tested, fuzzed and benchmarked headless,
+ * no {@code Stage} needed.
+ */
+public class AxisLayout {
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	private AxisLayout() {
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * @return the index of the first visible item, clamped between 0 and {@code count - 1}
+	 */
+	public static int firstVisible(double position, double cellSize, int count) {
+		return NumberUtils.clamp((int) Math.floor(position / cellSize), 0, count - 1);
+	}
+
+	/**
+	 * @return the index of the last visible item, clamped between 0 and {@code count - 1}
+	 */
+	public static int lastVisible(int first, int maxCells, int count) {
+		return NumberUtils.clamp(first + maxCells - 1, 0, count - 1);
+	}
+
+	/**
+	 * @return the maximum number of cells needed to fill the viewport, {@code Math.ceil(viewportLength / cellSize) + 1}.
+	 * One extra cell is needed while scrolling as the first and last cells may be partially visible
+	 */
+	public static int maxCells(double viewportLength, double cellSize) {
+		return (int) (Math.ceil(viewportLength / cellSize) + 1);
+	}
+
+	/**
+	 * Computes the range of items for which cells are needed. This may differ from the range of visible items,
+	 * when at the end of the content the range is shifted back to keep the number of cells constant.
+	 * <p>
+	 * The number of cells is clamped so that it will never be greater than the number of items.
+	 *
+	 * @param last     the index of the last visible item, see {@link #lastVisible(int, int, int)}
+	 * @param maxCells the maximum number of cells, see {@link #maxCells(double, double)}
+	 * @param count    the number of items
+	 */
+	public static IntegerRange range(int last, int maxCells, int count) {
+		int num = Math.min(maxCells, count);
+		int first = Math.max(last - num + 1, 0);
+		return IntegerRange.of(first, last);
+	}
+
+	/**
+	 * Convenience method which combines {@link #firstVisible(double, double, int)}, {@link #maxCells(double, double)},
+	 * {@link #lastVisible(int, int, int)} and {@link #range(int, int, int)}.
+	 */
+	public static IntegerRange range(double viewportLength, double position, double cellSize, int count) {
+		int maxCells = maxCells(viewportLength, cellSize);
+		int last = lastVisible(firstVisible(position, cellSize, count), maxCells, count);
+		return range(last, maxCells, count);
+	}
+
+	/**
+	 * @return the total length of the content, {@code count * cellSize}
+	 */
+	public static double estimatedLength(int count, double cellSize) {
+		return count * cellSize;
+	}
+
+	/**
+	 * @return the translation to apply to the cells' container to give the illusion of scrolling,
+	 * {@code -position % cellSize}
+	 */
+	public static double offset(double position, double cellSize) {
+		return -position % cellSize;
+	}
+
+	/**
+	 * @return whether the last cell needed by the viewport would go beyond the number of items. In such case
+	 * the range is shifted back, and so should the positions (if there are enough cells to fill the viewport),
+	 * see {@link #positions(int, double, boolean)}
+	 */
+	public static boolean needsAdjust(int first, int maxCells, int count) {
+		return first + maxCells - 1 > count - 1;
+	}
+
+	/**
+	 * Computes the positions (relative to the translated container, see {@link #offset(double, double)}) of
+	 * the given number of cells.
+	 * <p>
+	 * The last cell is at {@code (cells - 1) * cellSize}. If {@code adjust} is true, which means that the range has been
+	 * shifted back because the viewport is at the end, everything is moved back by one cell.
+	 *
+	 * @return the positions in ascending order
+	 */
+	public static double[] positions(int cells, double cellSize, boolean adjust) {
+		double[] positions = new double[Math.max(cells, 0)];
+		double start = adjust ? -cellSize : 0.0;
+		for (int i = 0; i < positions.length; i++) {
+			positions[i] = start + i * cellSize;
+		}
+		return positions;
+	}
+
+	/**
+	 * For layouts that wrap items on multiple lines, computes how many items fit in a single line,
+	 * {@code Math.floor(breadth / cellBreadth)}. The result is never lesser than 1.
+	 */
+	public static int itemsPerLine(double breadth, double cellBreadth) {
+		if (cellBreadth <= 0) return 1;
+		return Math.max(1, (int) Math.floor(breadth / cellBreadth));
+	}
+
+	/**
+	 * @return the number of lines needed to display the given number of items, {@code Math.ceil(count / perLine)}
+	 */
+	public static int lines(int count, int perLine) {
+		if (count <= 0) return 0;
+		return (count + perLine - 1) / perLine;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Layout computation along a single axis for cells of variable size, given by a size provider.
+	 * <p>
+	 * The offset of each cell is computed once at construction (O(n)), visible items are then found
+	 * with binary search. Since the exact range is known, no cell of overscan is needed.
+	 * <p>
+	 * This is used by {@link TableHelper.VariableTableHelper} for the columns, whose widths can change at any time.
+	 */
+	public static class Variable {
+		private final double viewportLength;
+		private final double position;
+		private final int count;
+		private final double[] offsets;
+
+		public Variable(double viewportLength, double position, int count, IntToDoubleFunction sizes) {
+			this.viewportLength = viewportLength;
+			this.position = position;
+			this.count = Math.max(count, 0);
+			this.offsets = new double[this.count + 1];
+			for (int i = 0; i < this.count; i++) {
+				offsets[i + 1] = offsets[i] + sizes.applyAsDouble(i);
+			}
+		}
+
+		/**
+		 * @return the index of the item at the given position, clamped between 0 and {@code count - 1}.
+		 * -1 if there are no items
+		 */
+		public int indexAt(double pos) {
+			if (count == 0) return -1;
+			int index = Arrays.binarySearch(offsets, 0, count, pos);
+			if (index < 0) index = -index - 2;
+			return NumberUtils.clamp(index, 0, count - 1);
+		}
+
+		public int firstVisible() {
+			return indexAt(position);
+		}
+
+		public int lastVisible() {
+			if (count == 0) return -1;
+			int first = firstVisible();
+			int last = indexAt(position + viewportLength);
+			// The item starting exactly at the viewport's end is not visible
+			if (last > first && offsets[last] >= position + viewportLength) last--;
+			return last;
+		}
+
+		/**
+		 * @return the range of visible items, {@code [-1, -1]} if there are no items
+		 */
+		public IntegerRange range() {
+			if (count == 0) return IntegerRange.of(-1);
+			return IntegerRange.of(firstVisible(), lastVisible());
+		}
+
+		public double estimatedLength() {
+			return offsets[count];
+		}
+
+		/**
+		 * @return the translation to apply to the cells' container, this is the negated amount by which the
+		 * first visible item is out of the viewport
+		 */
+		public double offset() {
+			if (count == 0) return 0.0;
+			return -(position - offsets[firstVisible()]);
+		}
+
+		/**
+		 * @return the positions (relative to the translated container, see {@link #offset()}) of the items in {@link #range()}
+		 */
+		public double[] positions() {
+			if (count == 0) return new double[0];
+			int first = firstVisible();
+			int last = lastVisible();
+			double[] positions = new double[last - first + 1];
+			for (int i = 0; i < positions.length; i++) {
+				positions[i] = offsets[first + i] - offsets[first];
+			}
+			return positions;
+		}
+
+		/**
+		 * @return the offset at which the item at the given index starts
+		 */
+		public double offsetOf(int index) {
+			return offsets[index];
+		}
+
+		public int getCount() {
+			return count;
+		}
+	}
+}
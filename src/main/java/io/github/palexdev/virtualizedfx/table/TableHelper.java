@@ -26,6 +26,7 @@
 import io.github.palexdev.mfxcore.utils.fx.LayoutUtils;
 import io.github.palexdev.virtualizedfx.cell.TableCell;
 import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
+import io.github.palexdev.virtualizedfx.layout.AxisLayout;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.DoubleBinding;
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -37,6 +38,7 @@
 
 import java.util.*;
 import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.DoubleStream;
 
@@ -279,11 +281,8 @@ public double getViewportHeight() {
 		 */
 		@Override
 		public double horizontalOffset() {
-			int columnsNum = table.getColumns().size();
-			int maxColumns = maxColumns();
-			int firstColumn = firstColumn();
-			int lastColumn = firstColumn + maxColumns - 1;
-			return (lastColumn > columnsNum - 1 && table.getState().columnsFilled()) ? -table.getColumnSize().getWidth() : 0;
+			boolean adjust = AxisLayout.needsAdjust(firstColumn(), maxColumns(), table.getColumns().size());
+			return (adjust && table.getState().columnsFilled()) ? -table.getColumnSize().getWidth() : 0;
 		}
 
 		/**
@@ -298,11 +297,8 @@ public double horizontalOffset() {
 		 */
 		@Override
 		public double verticalOffset() {
-			int rowsNum = table.getItems().size();
-			int maxRows = maxRows();
-			int firstRow = firstRow();
-			int lastRow = firstRow + maxRows - 1;
-			return (lastRow > rowsNum - 1 && table.getState().rowsFilled()) ? -table.getCellHeight() : 0;
+			boolean adjust = AxisLayout.needsAdjust(firstRow(), maxRows(), table.getItems().size());
+			return (adjust && table.getState().rowsFilled()) ? -table.getCellHeight() : 0;
 		}
 
 		@Override
@@ -353,48 +349,32 @@ public FixedTableHelper(VirtualTable<?> table) {
 
 		@Override
 		public int firstRow() {
-			return NumberUtils.clamp(
-					(int) Math.floor(table.getVPos() / table.getCellHeight()),
-					0,
-					table.getItems().size() - 1
-			);
+			return AxisLayout.firstVisible(table.getVPos(), table.getCellHeight(), table.getItems().size());
 		}
 
 		@Override
 		public int lastRow() {
-			return NumberUtils.clamp(
-					firstRow() + maxRows() - 1,
-					0,
-					table.getItems().size() - 1
-			);
+			return AxisLayout.lastVisible(firstRow(), maxRows(), table.getItems().size());
 		}
 
 		@Override
 		public int firstColumn() {
-			return NumberUtils.clamp(
-					(int) Math.floor(table.getHPos() / table.getColumnSize().getWidth()),
-					0,
-					table.getColumns().size() - 1
-			);
+			return AxisLayout.firstVisible(table.getHPos(), table.getColumnSize().getWidth(), table.getColumns().size());
 		}
 
 		@Override
 		public int lastColumn() {
-			return NumberUtils.clamp(
-					firstColumn() + maxColumns() - 1,
-					0,
-					table.getColumns().size() - 1
-			);
+			return AxisLayout.lastVisible(firstColumn(), maxColumns(), table.getColumns().size());
 		}
 
 		@Override
 		public int maxRows() {
-			return (int) (Math.ceil(getViewportHeight() / table.getCellHeight()) + 1);
+			return AxisLayout.maxCells(getViewportHeight(), table.getCellHeight());
 		}
 
 		@Override
 		public int maxColumns() {
-			return (int) (Math.ceil(table.getWidth() / table.getColumnSize().getWidth()) + 1);
+			return AxisLayout.maxCells(table.getWidth(), table.getColumnSize().getWidth());
 		}
 
 		/**
@@ -405,10 +385,7 @@ public int maxColumns() {
 		 */
 		@Override
 		public IntegerRange rowsRange() {
-			int rNum = Math.min(maxRows(), table.getItems().size());
-			int last = lastRow();
-			int first = Math.max(0, last - rNum + 1);
-			return IntegerRange.of(first, last);
+			return AxisLayout.range(lastRow(), maxRows(), table.getItems().size());
 		}
 
 		/**
@@ -422,10 +399,7 @@ public IntegerRange rowsRange() {
 		@Override
 		public IntegerRange columnsRange() {
 			if (table.getColumns().isEmpty()) return IntegerRange.of(-1);
-			int cNum = Math.min(maxColumns(), table.getColumns().size());
-			int last = lastColumn();
-			int first = Math.max(0, last - cNum + 1);
-			return IntegerRange.of(first, last);
+			return AxisLayout.range(lastColumn(), maxColumns(), table.getColumns().size());
 		}
 
 		/**
@@ -452,8 +426,8 @@ public double maxHScroll() {
 		public Size computeEstimatedSize() {
 			double cellHeight = table.getCellHeight();
 			double columnWidth = table.getColumnSize().getWidth();
-			double length = table.getItems().size() * cellHeight;
-			double breadth = table.getColumns().size() * columnWidth;
+			double length = AxisLayout.estimatedLength(table.getItems().size(), cellHeight);
+			double breadth = AxisLayout.estimatedLength(table.getColumns().size(), columnWidth);
 			Size size = Size.of(breadth, length);
 			estimatedSize.set(size);
 			return size;
@@ -481,7 +455,7 @@ public Size computeEstimatedSize() {
 		public DoubleBinding xPosBinding() {
 			if (xPosBinding == null) {
 				xPosBinding = Bindings.createDoubleBinding(
-						() -> -table.getHPos() % table.getColumnSize().getWidth(),
+						() -> AxisLayout.offset(table.getHPos(), table.getColumnSize().getWidth()),
 						table.positionProperty(), table.columnSizeProperty()
 				);
 			}
@@ -510,7 +484,7 @@ public DoubleBinding xPosBinding() {
 		public DoubleBinding yPosBinding() {
 			if (yPosBinding == null) {
 				yPosBinding = Bindings.createDoubleBinding(
-						() -> -table.getVPos() % table.getCellHeight(),
+						() -> AxisLayout.offset(table.getVPos(), table.getCellHeight()),
 						table.positionProperty(), table.cellHeightProperty()
 				);
 			}
@@ -784,17 +758,15 @@ public IntegerRange columnsRange() {
 		/**
 		 * {@inheritDoc}
 		 * <p></p>
-		 * The breadth is computed by iterating over all the columns and getting their width.
-		 * To be precise the width used by the computation is given by the maximum between the actual width of the
-		 * column's region and the size specified by {@link VirtualTable#columnSizeProperty()}.
+		 * The breadth is the length of the columns' axis, {@link AxisLayout.Variable#estimatedLength()}, where the size
+		 * of each column is given by the maximum between the actual width of the column's region and the size specified
+		 * by {@link VirtualTable#columnSizeProperty()}.
 		 */
 		@Override
 		public Size computeEstimatedSize() {
 			double cellHeight = table.getCellHeight();
 			double length = table.getItems().size() * cellHeight;
-			double breadth = table.getColumns().stream()
-					.mapToDouble(c -> Math.max(c.getRegion().getWidth(), table.getColumnSize().getWidth()))
-					.sum();
+			double breadth = columnsAxis(c -> c.getRegion().getWidth()).estimatedLength();
 			Size size = Size.of(breadth, length);
 			estimatedSize.set(size);
 			return size;
@@ -912,6 +884,17 @@ public void autosizeColumn(TableColumn<?, ? extends TableCell<?>> column) {
 			layout();
 		}
 
+		/**
+		 * Builds the layout of the columns' axis, the columns have variable widths, each given by the maximum between
+		 * the given function's result and the minimum width specified by {@link VirtualTable#columnSizeProperty()}.
+		 * Since all columns are laid out in this mode, the viewport length and position are irrelevant.
+		 */
+		protected AxisLayout.Variable columnsAxis(ToDoubleFunction<TableColumn<?, ? extends TableCell<?>>> widthFunction) {
+			List<? extends TableColumn<?, ? extends TableCell<?>>> columns = table.getColumns();
+			double minW = table.getColumnSize().getWidth();
+			return new AxisLayout.Variable(0, 0, columns.size(), i -> Math.max(widthFunction.applyAsDouble(columns.get(i)), minW));
+		}
+
 		/**
 		 * Calls {@link #autosizeColumn(TableColumn)} on all the columns in the table.
 		 */
@@ -929,9 +912,9 @@ public void autosizeColumns() {
 		 * <p></p>
 		 * <b>X Positions Computation</b>
 		 * <p>
-		 * The horizontal positions are computed by iterating over all the columns and getting their width as the maximum
-		 * between its current width and the minimum width specified by {@link VirtualTable#columnSizeProperty()}.
-		 * The positions are actually computed with a simple accumulator.
+		 * The horizontal positions are the offsets of the columns along their axis, {@link AxisLayout.Variable#offsetOf(int)},
+		 * where the size of each column is the maximum between its current width and the minimum width specified by
+		 * {@link VirtualTable#columnSizeProperty()}.
 		 * <p>
 		 * Horizontal positions are not computed unless at least one of these conditions is true:
 		 * <p> - forceXComputation flag is true
@@ -962,13 +945,10 @@ public Map<Orientation, List<Double>> computePositions(TableState<?> state, bool
 			List<Double> xPositions = positions.computeIfAbsent(Orientation.HORIZONTAL, o -> new ArrayList<>());
 			if (forceXComputation || xPositions.isEmpty() || xPositions.size() != columnsRange.diff() + 1) {
 				xPositions.clear();
-				double pos = 0;
+				AxisLayout.Variable axis = columnsAxis(c -> LayoutUtils.boundWidth(c.getRegion()));
+				double start = axis.offsetOf(columnsRange.getMin());
 				for (Integer cIndex : columnsRange) {
-					TableColumn<?, ? extends TableCell<?>> column = table.getColumn(cIndex);
-					Region region = column.getRegion();
-					xPositions.add(pos);
-					double colW = Math.max(LayoutUtils.boundWidth(region), table.getColumnSize().getWidth());
-					pos += colW;
+					xPositions.add(axis.offsetOf(cIndex) - start);
 				}
 			}
 
@@ -25,9 +25,14 @@
 import io.github.palexdev.mfxcore.utils.fx.ListChangeHelper.Change;
 import io.github.palexdev.virtualizedfx.beans.TableStateProperty;
 import io.github.palexdev.virtualizedfx.cell.TableCell;
+import io.github.palexdev.virtualizedfx.collections.RingBufferList;
+import io.github.palexdev.virtualizedfx.table.paginated.PaginatedVirtualTable;
+import io.github.palexdev.virtualizedfx.tree.TreeList;
+import io.github.palexdev.virtualizedfx.utils.CellUpdateScheduler;
 import javafx.collections.ListChangeListener;
 
-import java.util.List;
+import java.util.*;
+import java.util.function.BiConsumer;
 
 /**
  * The {@code FlowManager} is responsible for managing the table's viewport, track its current {@link TableState}
@@ -54,6 +59,13 @@
 	private final IntegerRangeProperty lastRowsRange = new IntegerRangeProperty();
 	private final IntegerRangeProperty lastColumnsRange = new IntegerRangeProperty();
 	private boolean processingChange = false;
+	private boolean suspended = false;
+	private int dirtyFrom = Integer.MAX_VALUE;
+	private int dirtyChanges = 0;
+	private boolean stale = false;
+	private boolean resetOnResume = false;
+	private final Set<TableRow<T>> lightweightRows = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final CellUpdateScheduler<TableRow<T>> scheduler = new CellUpdateScheduler<>(this::updateScheduled, TableRow::updatePending);
 
 	//================================================================================
 	// Constructors
@@ -98,10 +110,26 @@
 	 * there's no need to proceed and the method exits immediately. Otherwise, same as above, update all the properties,
 	 * call {@link TableState#rowsChanged()} and then {@link VirtualTable#requestViewportLayout()}.
 	 *
+	 * <p></p>
+	 * While the manager is suspended (see {@link #suspend()}) this does nothing but recording that the viewport must be
+	 * re-initialized on {@link #resume()}.
+	 *
 	 * @return in addition to the various computations made in this method, it also returns a boolean value to indicate
 	 * whether computations lead to a layout request or not, {@link VirtualTable#requestViewportLayout()}
 	 */
 	public boolean init() {
+		return init(null);
+	}
+
+	/**
+	 * Same as {@link #init()} but the update of the reused rows is delegated to the given function, if null
+	 * {@link #rowUpdater(boolean, double)} is used.
+	 */
+	protected boolean init(BiConsumer<Integer, TableRow<T>> updater) {
+		if (suspended) {
+			stale = true;
+			return false;
+		}
 		if (columnsEmpty()) {
 			setState(TableState.empty());
 			return false;
@@ -135,8 +163,10 @@ public boolean init() {
 		}
 
 		// Transition from old state to new state
-		newState = oldState.init(rowsRange, columnsRange);
+		if (updater == null) updater = rowUpdater(false, (helper.firstRow() + helper.lastRow()) / 2.0);
+		newState = oldState.init(rowsRange, columnsRange, updater);
 		if (newState == oldState) return false;
+		runScheduler();
 		newState.rowsChanged();
 		setState(newState);
 		setLastRowsRange(rowsRange);
@@ -161,14 +191,32 @@ public boolean init() {
 	 * equal then {@link VirtualTable#requestViewportLayout()} is invoked.
 	 * <p>
 	 * At the end the last rows range property is updated.
+	 * <p></p>
+	 * If the {@link VirtualTable#fastScrollThresholdProperty()} is greater than 0, the vertical scroll velocity is tracked.
+	 * While it is above the threshold, rows are updated with {@link TableRow#updateFullFast(int)}, they will be fully
+	 * updated by {@link #onScrollSettled()}.
+	 * <p>
+	 * If the {@link VirtualTable#updateBudgetProperty()} is greater than 0, rows updates are time-sliced,
+	 * see {@link #rowUpdater(boolean, double)}.
+	 * <p>
+	 * While the manager is suspended, the scroll is only recorded and handled on {@link #resume()}.
 	 */
 	public void onVScroll() {
+		if (suspended) {
+			stale = true;
+			return;
+		}
 		TableState<T> state = getState();
 		if (state.isEmpty() || itemsEmpty()) return;
 
 		TableHelper helper = table.getTableHelper();
 		int rows = helper.maxRows();
 
+		// Velocity Tracking
+		boolean fast = false;
+		double threshold = table.getFastScrollThreshold();
+		if (threshold > 0) fast = table.getVelocityTracker().update(table.getVPos()) > threshold;
+
 		// State Computation
 		int sFirstRow = helper.firstRow();
 		int sLastRow = helper.lastRow();
@@ -176,8 +224,10 @@ public void onVScroll() {
 		IntegerRange sRange = IntegerRange.of(sTrueFirstRow, sLastRow);
 
 		if (!sRange.equals(state.getRowsRange())) {
-			setState(state.vScroll(sRange));
+			setState(state.vScroll(sRange, rowUpdater(fast, (sFirstRow + sLastRow) / 2.0)));
+			runScheduler();
 		}
+		if (!fast) onScrollSettled();
 
 		// Layout Computation
 		IntegerRange lRange = IntegerRange.of(sFirstRow, sLastRow);
@@ -206,8 +256,14 @@ public void onVScroll() {
 	 * equal then {@link VirtualTable#requestViewportLayout()} is invoked.
 	 * <p>
 	 * At the end the last columns range property is updated.
+	 * <p>
+	 * While the manager is suspended, the scroll is only recorded and handled on {@link #resume()}.
 	 */
 	public void onHScroll() {
+		if (suspended) {
+			stale = true;
+			return;
+		}
 		TableState<T> state = getState();
 		if (columnsEmpty()) return;
 
@@ -242,8 +298,21 @@ public void onHScroll() {
 	 * <p> 3) The given change is processed by using the {@link ListChangeHelper} utility class,
 	 * then the new state is computed by using {@link TableState#processChange(Change)}, finally
 	 * {@link VirtualTable#requestViewportLayout()} is called and the last range property is updated.
+	 * <p>
+	 * If the change represents a shift (see {@link RingBufferList}) the general algorithm is skipped, and the
+	 * new state is computed with {@link TableState#shift(int)}. The same goes for single contiguous additions or
+	 * removals (see {@link #spliceOf(ListChangeListener.Change)}), computed with {@link TableState#splice(int, int, int)}.
+	 * These are not supported by {@link PaginatedVirtualTable}.
+	 * <p></p>
+	 * While the manager is suspended (see {@link #suspend()}) the change is not processed, it is only recorded
+	 * with {@link #markDirty(ListChangeListener.Change)}.
 	 */
 	public void onChange(ListChangeListener.Change<? extends T> change) {
+		if (suspended) {
+			markDirty(change);
+			return;
+		}
+
 		try {
 			processingChange = true;
 			TableState<T> oState = getState();
@@ -257,8 +326,17 @@ public void onChange(ListChangeListener.Change<? extends T> change) {
 				return;
 			}
 
-			List<Change> changes = ListChangeHelper.instance().processChange(change);
-			TableState<T> nState = oState.change(changes);
+			boolean paginated = table instanceof PaginatedVirtualTable;
+			int shift = paginated ? 0 : RingBufferList.shiftOf(change);
+			int[] splice = (paginated || shift > 0) ? null : spliceOf(change);
+			TableState<T> nState;
+			if (shift > 0) {
+				nState = oState.shift(shift);
+			} else if (splice != null) {
+				nState = oState.splice(splice[0], splice[1], splice[2]);
+			} else {
+				nState = oState.change(ListChangeHelper.instance().processChange(change));
+			}
 			if (nState != oState) {
 				setState(nState);
 				table.requestViewportLayout();
@@ -272,22 +350,206 @@ public void onChange(ListChangeListener.Change<? extends T> change) {
 		}
 	}
 
+	/**
+	 * Checks whether the given change is made of a single contiguous addition or removal, for example
+	 * the expansion or collapse of a node in a {@link TreeList}.
+	 * <p>
+	 * The change is reset before returning, so it can still be processed by others.
+	 *
+	 * @return an array containing the index at which the change occurred, the number of removed items and the number
+	 * of added items, or null if the change is not a splice
+	 */
+	protected int[] spliceOf(ListChangeListener.Change<? extends T> c) {
+		try {
+			if (!c.next() || c.wasPermutated() || c.wasUpdated() || c.wasAdded() == c.wasRemoved()) return null;
+			int[] splice = new int[]{c.getFrom(), c.getRemovedSize(), c.getAddedSize()};
+			return c.next() ? null : splice;
+		} finally {
+			c.reset();
+		}
+	}
+
 	/**
 	 * This is responsible for transitioning to a new valid state when a cell factory ahs changed
 	 * for a certain column. The state is computed with {@link TableState#columnChangedFactory(TableColumn)}.
 	 * <p>
 	 * At the end {@link VirtualTable#requestViewportLayout()} is invoked.
+	 * <p>
+	 * While the manager is suspended, the viewport is reset on {@link #resume()} instead.
 	 */
 	public void onColumnChangedFactory(TableColumn<T, ? extends TableCell<T>> column) {
+		if (suspended) {
+			resetOnResume = true;
+			return;
+		}
 		TableState<T> state = getState();
 		setState(state.columnChangedFactory(column));
 		table.requestViewportLayout();
 	}
 
+	/**
+	 * Builds the function used by {@link TableState#vScroll(IntegerRange, BiConsumer)} and
+	 * {@link TableState#init(IntegerRange, IntegerRange, BiConsumer)} to update the reused rows:
+	 * <p> - If scrolling fast, rows are updated with {@link TableRow#updateFullFast(int)}
+	 * <p> - If the {@link VirtualTable#updateBudgetProperty()} is greater than 0, rows are updated in index, while the
+	 * update of the item is scheduled with a {@link CellUpdateScheduler}, the priority is the distance from the given
+	 * center index. Then, the scheduler executes as many updates as the budget allows, the others are marked as pending
+	 * (see {@link TableRow#updatePending(boolean)}) and executed in the next pulses
+	 * <p> - Otherwise, rows are updated with {@link TableRow#updateFull(int)}
+	 */
+	protected BiConsumer<Integer, TableRow<T>> rowUpdater(boolean fast, double center) {
+		if (fast) return (index, row) -> {
+			row.updateFullFast(index);
+			lightweightRows.add(row);
+		};
+		if (table.getUpdateBudget() > 0) return (index, row) -> {
+			row.updateIndex(index);
+			scheduler.schedule(row, Math.abs(index - center));
+		};
+		return (index, row) -> row.updateFull(index);
+	}
+
+	/**
+	 * Runs the {@link CellUpdateScheduler} if any update has been scheduled.
+	 */
+	private void runScheduler() {
+		if (scheduler.size() == 0) return;
+		scheduler.setBudget(table.getUpdateBudget());
+		scheduler.run();
+	}
+
+	/**
+	 * Executed by the {@link CellUpdateScheduler}, updates the given row with {@link TableRow#updateItem()}
+	 * if it is still in the viewport.
+	 */
+	protected void updateScheduled(TableRow<T> row) {
+		int index = row.getIndex();
+		if (index < table.getItems().size() && getState().getRows().get(index) == row) row.updateItem();
+	}
+
+	/**
+	 * Fully updates, with {@link TableRow#updateItem()}, the rows that were updated with {@link TableRow#updateFullFast(int)}
+	 * while scrolling fast and are still in the viewport.
+	 * <p>
+	 * Called when the scroll settles or the velocity goes below the {@link VirtualTable#fastScrollThresholdProperty()}.
+	 */
+	protected void onScrollSettled() {
+		if (lightweightRows.isEmpty()) return;
+		int size = table.getItems().size();
+		getState().getRows().forEach((index, row) -> {
+			if (index < size && lightweightRows.contains(row)) {
+				scheduler.cancel(row);
+				row.updateItem();
+			}
+		});
+		lightweightRows.clear();
+	}
+
+	/**
+	 * Suspends the manager, changes in the items list are not processed anymore until {@link #resume()} is called.
+	 * Instead, they are recorded as a "dirty since" index, the lowest index affected by any of the changes.
+	 * <p>
+	 * The other update paths are suspended too: scrolls and resizes ({@link #onVScroll()}, {@link #onHScroll()},
+	 * {@link #init()}) are only recorded as "stale", while resets and columns changes ({@link #reset()},
+	 * {@link #onColumnChangedFactory(TableColumn)}) are postponed to the resume.
+	 * <p>
+	 * Used by {@link VirtualTable#suspendWhenHiddenProperty()}.
+	 */
+	public void suspend() {
+		suspended = true;
+	}
+
+	/**
+	 * Resumes the manager and reconciles the state with all the changes occurred while suspended, see {@link #reconcile()}.
+	 */
+	public void resume() {
+		if (!suspended) return;
+		suspended = false;
+		reconcile();
+	}
+
+	/**
+	 * Records the given change in the "dirty since" summary. The change is reset before returning.
+	 */
+	protected void markDirty(ListChangeListener.Change<? extends T> change) {
+		int from = Integer.MAX_VALUE;
+		try {
+			while (change.next()) {
+				from = Math.min(from, change.getFrom());
+			}
+		} finally {
+			change.reset();
+		}
+		if (from != Integer.MAX_VALUE) markDirty(from);
+	}
+
+	/**
+	 * Records that all the items from the given index onward may have changed.
+	 */
+	protected void markDirty(int from) {
+		dirtyFrom = Math.min(dirtyFrom, Math.max(0, from));
+		dirtyChanges++;
+	}
+
+	/**
+	 * Brings the state up-to-date with all the changes recorded while suspended, in a single pass.
+	 * <p>
+	 * If a reset was postponed, the viewport is just reset with {@link #reset()}. Otherwise, the estimated size and
+	 * the position are re-validated, then the rows are adapted to the new range with {@link #init(BiConsumer)}, the
+	 * reused rows are fully updated right away. Finally, the rows that kept their index are fully updated with
+	 * {@link TableRow#updateFull(int)} only if at or after the "dirty since" index, the others are still valid.
+	 * This way, every row is updated at most once, and the updates previously scheduled for them are cancelled.
+	 * If nothing changed, this does nothing.
+	 */
+	protected void reconcile() {
+		int from = dirtyFrom;
+		boolean stale = this.stale;
+		boolean reset = resetOnResume;
+		dirtyFrom = Integer.MAX_VALUE;
+		dirtyChanges = 0;
+		this.stale = false;
+		resetOnResume = false;
+		if (from == Integer.MAX_VALUE && !stale && !reset) return;
+
+		if (itemsEmpty()) {
+			clear();
+			return;
+		}
+
+		if (reset) {
+			reset();
+			return;
+		}
+
+		// Taken before re-validating the position, which may scroll the viewport
+		Map<Integer, TableRow<T>> oldRows = new HashMap<>(getState().getRows());
+		TableHelper helper = table.getTableHelper();
+		helper.computeEstimatedSize();
+		helper.invalidatedPos();
+		if (getState().isEmpty()) {
+			init();
+			return;
+		}
+
+		init((index, row) -> {
+			scheduler.cancel(row);
+			row.updateFull(index);
+		});
+		getState().getRows().forEach((index, row) -> {
+			if (index >= from && oldRows.get(index) == row) {
+				scheduler.cancel(row);
+				row.updateFull(index);
+			}
+		});
+		table.requestViewportLayout();
+	}
+
 	/**
 	 * Clears the viewport. Sets the state to {@link TableState#emptyItems(VirtualTable)}.
 	 */
 	public void clear() {
+		lightweightRows.clear();
+		scheduler.clear();
 		TableHelper helper = table.getTableHelper();
 		getState().clear();
 		setState(TableState.emptyItems(table));
@@ -297,8 +559,14 @@ public void clear() {
 
 	/**
 	 * Resets the viewport by first calling {@link #clear()}, then {@link #init()}.
+	 * <p>
+	 * While the manager is suspended, the reset is postponed to {@link #resume()}.
 	 */
 	public void reset() {
+		if (suspended) {
+			resetOnResume = true;
+			return;
+		}
 		clear();
 		init();
 	}
@@ -365,6 +633,28 @@ protected void setLastColumnsRange(NumberRange<Integer> lastColumnsRange) {
 		this.lastColumnsRange.set(lastColumnsRange);
 	}
 
+	/**
+	 * @return whether the manager is suspended, see {@link #suspend()}
+	 */
+	public boolean isSuspended() {
+		return suspended;
+	}
+
+	/**
+	 * @return the lowest index affected by the changes occurred while suspended, {@link Integer#MAX_VALUE}
+	 * if there are none
+	 */
+	public int getDirtyFrom() {
+		return dirtyFrom;
+	}
+
+	/**
+	 * @return the number of changes occurred while suspended
+	 */
+	public int getDirtyChanges() {
+		return dirtyChanges;
+	}
+
 	/**
 	 * @return whether a change is being processed by {@link #onChange(ListChangeListener.Change)}
 	 */
@@ -84,6 +84,27 @@ public TableRow(VirtualTable<T> table, int index, IntegerRange columns) {
 	 */
 	protected abstract void updateFull(int index);
 
+	/**
+	 * Called instead of {@link #updateFull(int)} when the table is scrolling fast, should update the cells
+	 * with {@link TableCell#updateItem(Object)}. The row will be updated with {@link #updateItem()} once the scroll settles,
+	 * see {@link VirtualTable#fastScrollThresholdProperty()}.
+	 * <p>
+	 * By default, calls {@link #updateFull(int)}.
+	 */
+	protected void updateFullFast(int index) {
+		updateFull(index);
+	}
+
+	/**
+	 * Called when the row's update has been postponed because it didn't fit in the table's update budget,
+	 * see {@link VirtualTable#updateBudgetProperty()}.
+	 * <p>
+	 * By default, calls {@link TableCell#updatePending(boolean)} on all the cells.
+	 */
+	protected void updatePending(boolean pending) {
+		cells.values().forEach(c -> c.updatePending(pending));
+	}
+
 	/**
 	 * Should specify the behavior for then one of the columns has changed its cell factory at runtime.
 	 * <p>
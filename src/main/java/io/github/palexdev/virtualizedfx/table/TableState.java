@@ -23,11 +23,15 @@
 import io.github.palexdev.mfxcore.utils.fx.ListChangeHelper.Change;
 import io.github.palexdev.mfxcore.utils.fx.ListChangeHelper.ChangeType;
 import io.github.palexdev.virtualizedfx.cell.TableCell;
+import io.github.palexdev.virtualizedfx.collections.RingBufferList;
 import io.github.palexdev.virtualizedfx.enums.UpdateType;
 import io.github.palexdev.virtualizedfx.table.paginated.PaginatedVirtualTable;
+import io.github.palexdev.virtualizedfx.tree.TreeList;
+import javafx.collections.ListChangeListener;
 import javafx.scene.layout.Region;
 
 import java.util.*;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -104,6 +108,14 @@ public TableState(VirtualTable<T> table, IntegerRange rowsRange, IntegerRange co
 	 * a new one given the new ranges for rows and columns
 	 */
 	protected TableState<T> init(IntegerRange rowsRange, IntegerRange columnsRange) {
+		return init(rowsRange, columnsRange, (index, row) -> row.updateFull(index));
+	}
+
+	/**
+	 * Same as {@link #init(IntegerRange, IntegerRange)} but the update of the reused rows is delegated to the given
+	 * function, which receives the new index and the row.
+	 */
+	protected TableState<T> init(IntegerRange rowsRange, IntegerRange columnsRange, BiConsumer<Integer, TableRow<T>> updater) {
 		if (this.rowsRange.equals(rowsRange) && this.columnsRange.equals(columnsRange)) return this;
 
 		TableState<T> newState = new TableState<>(table, rowsRange, columnsRange);
@@ -127,7 +139,7 @@ protected TableState<T> init(IntegerRange rowsRange, IntegerRange columnsRange)
 			Integer oIndex = reusable.poll();
 			if (oIndex != null) {
 				TableRow<T> row = rows.remove(oIndex);
-				row.updateFull(rIndex);
+				updater.accept(rIndex, row);
 				newState.addRow(rIndex, row);
 			} else {
 				newState.addRow(rIndex);
@@ -145,6 +157,17 @@ protected TableState<T> init(IntegerRange rowsRange, IntegerRange columnsRange)
 	 * Used by {@link TableManager#onVScroll()}.
 	 */
 	protected TableState<T> vScroll(IntegerRange rowsRange) {
+		return vScroll(rowsRange, (index, row) -> row.updateFull(index));
+	}
+
+	/**
+	 * Same as {@link #vScroll(IntegerRange)} but the update of the reused rows is delegated to the given function,
+	 * which receives the new index and the row.
+	 * <p>
+	 * Used by {@link TableManager#onVScroll()} to perform lightweight updates while scrolling fast, or to
+	 * postpone updates, see {@link TableManager#rowUpdater(boolean, double)}.
+	 */
+	protected TableState<T> vScroll(IntegerRange rowsRange, BiConsumer<Integer, TableRow<T>> updater) {
 		if (this.rowsRange.equals(rowsRange)) return this;
 
 		TableState<T> newState = new TableState<>(table, rowsRange, columnsRange);
@@ -171,7 +194,7 @@ protected TableState<T> vScroll(IntegerRange rowsRange) {
 				continue;
 			}
 			TableRow<T> row = rows.remove(oIndex);
-			row.updateFull(rIndex);
+			updater.accept(rIndex, row);
 			newState.addRow(rIndex, row);
 		}
 
@@ -200,6 +223,111 @@ protected TableState<T> hScroll(IntegerRange columnsRange) {
 		return newState;
 	}
 
+	/**
+	 * This is responsible for transitioning this state to a new one when all the items in the list have been
+	 * shifted towards the start by the given amount of positions (for example, N items evicted from the start and
+	 * N items appended at the end, see {@link RingBufferList}).
+	 * <p></p>
+	 * Since the number of items doesn't change, the range stays the same. Rows that are still in range after
+	 * the shift are only updated in index with {@link TableRow#updateIndex(int)}, the others are reused for the
+	 * missing indexes and updated with {@link TableRow#updateFull(int)}.
+	 * <p>
+	 * Used by {@link TableManager#onChange(ListChangeListener.Change)}.
+	 */
+	protected TableState<T> shift(int shift) {
+		TableState<T> newState = new TableState<>(table, rowsRange, columnsRange);
+		newState.type = UpdateType.CHANGE;
+		Deque<TableRow<T>> reusable = new ArrayDeque<>();
+		for (Map.Entry<Integer, TableRow<T>> next : rows.entrySet()) {
+			int nIndex = next.getKey() - shift;
+			TableRow<T> row = next.getValue();
+			if (IntegerRange.inRangeOf(nIndex, rowsRange)) {
+				row.updateIndex(nIndex);
+				newState.addRow(nIndex, row);
+				continue;
+			}
+			reusable.add(row);
+		}
+		rows.clear();
+
+		for (Integer rIndex : rowsRange) {
+			if (newState.rows.containsKey(rIndex)) continue;
+			TableRow<T> row = reusable.poll();
+			if (row == null) {
+				newState.addRow(rIndex);
+				newState.rowsChanged();
+				continue;
+			}
+			row.updateFull(rIndex);
+			newState.addRow(rIndex, row);
+		}
+
+		if (!reusable.isEmpty()) {
+			reusable.forEach(TableRow::clear);
+			newState.rowsChanged();
+		}
+		return newState;
+	}
+
+	/**
+	 * This is responsible for transitioning this state to a new one when a single contiguous range of items
+	 * has been removed from the list, or added to it, at the given index. A typical source of such changes is the
+	 * expansion or collapse of a node in a flattened tree, see {@link TreeList}.
+	 * <p></p>
+	 * The cost of this only depends on the number of rows, not on the number of added/removed items.
+	 * The new rows range is given by the {@link TableHelper}. Rows displaying an item that is still in range are
+	 * only updated in index with {@link TableRow#updateIndex(int)}, the others are reused for the new items and updated
+	 * with {@link TableRow#updateFull(int)}. Rows are created or cleared if the number of rows changed.
+	 * <p>
+	 * Used by {@link TableManager#onChange(ListChangeListener.Change)}.
+	 *
+	 * @param from    the index at which the change occurred
+	 * @param removed the number of removed items
+	 * @param added   the number of added items
+	 */
+	protected TableState<T> splice(int from, int removed, int added) {
+		IntegerRange rowsRange = table.getTableHelper().rowsRange();
+		TableState<T> newState = new TableState<>(table, rowsRange, columnsRange);
+		newState.type = UpdateType.CHANGE;
+
+		int shift = added - removed;
+		Deque<Integer> toUpdate = new ArrayDeque<>();
+		for (Integer rIndex : rowsRange) {
+			if (rIndex >= from && rIndex < from + added) {
+				toUpdate.add(rIndex);
+				continue;
+			}
+
+			int oIndex = (rIndex < from) ? rIndex : rIndex - shift;
+			TableRow<T> row = rows.remove(oIndex);
+			if (row == null) {
+				toUpdate.add(rIndex);
+				continue;
+			}
+			if (oIndex != rIndex) row.updateIndex(rIndex);
+			newState.addRow(rIndex, row);
+		}
+
+		Iterator<TableRow<T>> it = rows.values().iterator();
+		for (Integer rIndex : toUpdate) {
+			if (!it.hasNext()) {
+				newState.addRow(rIndex);
+				newState.rowsChanged();
+				continue;
+			}
+			TableRow<T> row = it.next();
+			it.remove();
+			row.updateFull(rIndex);
+			newState.addRow(rIndex, row);
+		}
+
+		if (!rows.isEmpty()) {
+			clear();
+			newState.rowsChanged();
+		}
+		return newState;
+	}
+
 	/**
 	 * This is responsible for transitioning this state to a new one given a series of changes occurred
 	 * in the items list.
@@ -43,7 +43,10 @@
 import io.github.palexdev.virtualizedfx.table.TableHelper.FixedTableHelper;
 import io.github.palexdev.virtualizedfx.table.TableHelper.VariableTableHelper;
 import io.github.palexdev.virtualizedfx.table.defaults.DefaultTableRow;
+import io.github.palexdev.virtualizedfx.utils.ScrollVelocityTracker;
+import io.github.palexdev.virtualizedfx.utils.ShowingTracker;
 import io.github.palexdev.virtualizedfx.utils.VSPUtils;
+import javafx.animation.PauseTransition;
 import javafx.beans.property.*;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
@@ -56,6 +59,7 @@
 import javafx.scene.control.Control;
 import javafx.scene.control.Skin;
 import javafx.scene.shape.Rectangle;
+import javafx.util.Duration;
 
 import java.util.*;
 import java.util.function.BiFunction;
@@ -201,6 +205,19 @@ protected void invalidated() {
 	private final ReadOnlyBooleanWrapper needsViewportLayout = new ReadOnlyBooleanWrapper(false);
 	private final Map<TableColumn<T, ? extends TableCell<T>>, Integer> idxColumns = new HashMap<>();
 	private boolean updateRequested = false;
+	private final DoubleProperty fastScrollThreshold = new SimpleDoubleProperty(0.0);
+	private final DoubleProperty updateBudget = new SimpleDoubleProperty(0.0);
+	private final ScrollVelocityTracker velocityTracker = new ScrollVelocityTracker(manager::onScrollSettled);
+	private final BooleanProperty suspendWhenHidden = new SimpleBooleanProperty(false) {
+		@Override
+		protected void invalidated() {
+			onSuspendWhenHiddenChanged();
+		}
+	};
+	private final ReadOnlyBooleanWrapper suspended = new ReadOnlyBooleanWrapper(false);
+	private final DoubleProperty trimDelay = new SimpleDoubleProperty(0.0);
+	private ShowingTracker showingTracker;
+	private PauseTransition trimTimer;
 
 	//================================================================================
 	// Constructors
@@ -244,6 +261,59 @@ public void requestViewportLayout() {
 		setNeedsViewportLayout(true);
 	}
 
+	/**
+	 * Called when the {@link #suspendWhenHiddenProperty()} changes, creates or disposes the {@link ShowingTracker}
+	 * used to detect whether the table is showing, then calls {@link #updateSuspended()}.
+	 */
+	protected void onSuspendWhenHiddenChanged() {
+		if (isSuspendWhenHidden()) {
+			if (showingTracker == null) {
+				showingTracker = new ShowingTracker(this);
+				showingTracker.showingProperty().addListener(invalidated -> updateSuspended());
+			}
+		} else if (showingTracker != null) {
+			showingTracker.dispose();
+			showingTracker = null;
+		}
+		updateSuspended();
+	}
+
+	/**
+	 * Suspends or resumes the {@link TableManager} according to the {@link #suspendWhenHiddenProperty()} and
+	 * whether the table is showing. On suspension, schedules a {@link #trim()} after the {@link #trimDelayProperty()}.
+	 */
+	protected void updateSuspended() {
+		boolean suspend = showingTracker != null && !showingTracker.isShowing();
+		if (suspend == isSuspended()) return;
+		suspended.set(suspend);
+		if (suspend) {
+			manager.suspend();
+			double delay = getTrimDelay();
+			if (delay > 0) {
+				if (trimTimer == null) {
+					trimTimer = new PauseTransition();
+					trimTimer.setOnFinished(event -> {
+						if (isSuspended()) trim();
+					});
+				}
+				trimTimer.setDuration(Duration.millis(delay));
+				trimTimer.playFromStart();
+			}
+		} else {
+			if (trimTimer != null) trimTimer.stop();
+			manager.resume();
+		}
+	}
+
+	/**
+	 * Releases memory not strictly needed by the table, by default disposes all the cells in the {@link TableCache}.
+	 * <p>
+	 * Automatically called when the table has been suspended for the {@link #trimDelayProperty()}.
+	 */
+	public void trim() {
+		cache.clear();
+	}
+
 	/**
 	 * Sets the {@link #rowFactoryProperty()} to a default function which produces {@link DefaultTableRow}s.
 	 */
@@ -282,7 +352,7 @@ protected void onCellHeightChanged() {
 		TableHelper helper = getTableHelper();
 		helper.computeEstimatedSize();
 
-		if (getWidth() != 0 && getHeight() != 0.0) {
+		if (getWidth() != 0 && getHeight() != 0.0 && !manager.isSuspended()) {
 			if (!manager.init()) {
 				requestViewportLayout();
 			} else {
@@ -301,7 +371,7 @@ protected void onCellHeightChanged() {
 	protected void onColumnSizeChanged() {
 		TableHelper helper = getTableHelper();
 		helper.computeEstimatedSize();
-		helper.computePositions(getState(), true, false);
+		if (!manager.isSuspended()) helper.computePositions(getState(), true, false);
 		manager.reset();
 	}
 
@@ -364,6 +434,8 @@ public void onColumnChangedFactory(TableColumn<T, ? extends TableCell<T>> column
 	 * <p></p>
 	 * Optionally with the "reset" flag set to true, the table's viewport can also be reset, {@link TableManager#reset()},
 	 * this will work only if the table has already been laid out at least once and its skin is not null.
+	 * <p>
+	 * If the table is suspended, see {@link #suspendWhenHiddenProperty()}, the update is postponed to when it's shown again.
 	 */
 	public void updateTable(boolean reset) {
 		try {
@@ -374,6 +446,10 @@ public void updateTable(boolean reset) {
 			} else {
 				TableState<T> state = getState();
 				if (state.isEmpty()) return;
+				if (manager.isSuspended()) {
+					manager.markDirty(0);
+					return;
+				}
 				state.getRowsUnmodifiable().values().forEach(TableRow::updateItem);
 			}
 		} finally {
@@ -936,6 +1012,112 @@ protected void setNeedsViewportLayout(boolean needsViewportLayout) {
 		this.needsViewportLayout.set(needsViewportLayout);
 	}
 
+	public double getFastScrollThreshold() {
+		return fastScrollThreshold.get();
+	}
+
+	/**
+	 * Specifies the vertical scroll velocity, in pixels per second, above which rows are updated with
+	 * {@link TableRow#updateFullFast(int)}, which by default calls {@link TableCell#updateItemFast(Object)} on the cells.
+	 * Rows are then fully updated once the scroll settles.
+	 * <p>
+	 * Values less or equal to 0 disable the feature, this is the default.
+	 */
+	public DoubleProperty fastScrollThresholdProperty() {
+		return fastScrollThreshold;
+	}
+
+	public void setFastScrollThreshold(double fastScrollThreshold) {
+		this.fastScrollThreshold.set(fastScrollThreshold);
+	}
+
+	/**
+	 * @return the {@link ScrollVelocityTracker} used to measure the vertical scroll velocity.
+	 * Velocity is tracked only if the {@link #fastScrollThresholdProperty()} is greater than 0
+	 */
+	public ScrollVelocityTracker getVelocityTracker() {
+		return velocityTracker;
+	}
+
+	public double getUpdateBudget() {
+		return updateBudget.get();
+	}
+
+	/**
+	 * Specifies the maximum amount of time, in milliseconds, that can be spent updating rows during a single pulse
+	 * when scrolling vertically or resizing. Rows nearest to the viewport's center are updated first, the others are
+	 * marked as pending (see {@link TableRow#updatePending(boolean)}) and updated in the next pulses.
+	 * <p>
+	 * Values less or equal to 0 disable the feature, this is the default.
+	 */
+	public DoubleProperty updateBudgetProperty() {
+		return updateBudget;
+	}
+
+	public void setUpdateBudget(double updateBudget) {
+		this.updateBudget.set(updateBudget);
+	}
+
+	public boolean isSuspendWhenHidden() {
+		return suspendWhenHidden.get();
+	}
+
+	/**
+	 * Specifies whether the table should automatically suspend its work when not showing, which means that it's not
+	 * in a showing window, or that it or any of its ancestors is invisible (for example, in a background tab).
+	 * <p>
+	 * While suspended, changes in the items list are not processed, they are only recorded, and a single reconciliation
+	 * is done once the table is showing again, see {@link TableManager#suspend()}.
+	 * <p>
+	 * By default, this is false.
+	 */
+	public BooleanProperty suspendWhenHiddenProperty() {
+		return suspendWhenHidden;
+	}
+
+	public void setSuspendWhenHidden(boolean suspendWhenHidden) {
+		this.suspendWhenHidden.set(suspendWhenHidden);
+	}
+
+	public boolean isSuspended() {
+		return suspended.get();
+	}
+
+	/**
+	 * Specifies whether the table is currently suspended, see {@link #suspendWhenHiddenProperty()}.
+	 */
+	public ReadOnlyBooleanProperty suspendedProperty() {
+		return suspended.getReadOnlyProperty();
+	}
+
+	public double getTrimDelay() {
+		return trimDelay.get();
+	}
+
+	/**
+	 * Specifies the amount of time, in milliseconds, after which a suspended table calls {@link #trim()}.
+	 * <p>
+	 * Values less or equal to 0 disable the feature, this is the default.
+	 */
+	public DoubleProperty trimDelayProperty() {
+		return trimDelay;
+	}
+
+	public void setTrimDelay(double trimDelay) {
+		this.trimDelay.set(trimDelay);
+	}
+
+	public double getScrollVelocity() {
+		return velocityTracker.getVelocity();
+	}
+
+	/**
+	 * Delegate for {@link ScrollVelocityTracker#velocityProperty()}.
+	 */
+	public ReadOnlyDoubleProperty scrollVelocityProperty() {
+		return velocityTracker.velocityProperty();
+	}
+
 	/**
 	 * @return whether {@link #updateTable(boolean)} was invoked
 	 */
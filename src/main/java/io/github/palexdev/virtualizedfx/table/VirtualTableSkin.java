@@ -22,6 +22,7 @@
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.mfxcore.utils.fx.LayoutUtils;
 import io.github.palexdev.virtualizedfx.enums.ColumnsLayoutMode;
+import io.github.palexdev.virtualizedfx.utils.NodeUtils;
 import javafx.beans.value.ChangeListener;
 import javafx.collections.ListChangeListener;
 import javafx.collections.ListChangeListener.Change;
@@ -208,11 +209,13 @@ private void addListeners() {
 	 * The default implementation is responsible for telling the {@link TableManager} to process the occurred
 	 * {@link Change} and produce eventually a new state.
 	 * <p>
-	 * This also ensures after the change that the viewport's estimated size is correct by calling {@link TableHelper#computeEstimatedSize()}.
+	 * This also ensures after the change that the viewport's estimated size is correct by calling {@link TableHelper#computeEstimatedSize()},
+	 * unless the manager is suspended, see {@link TableManager#suspend()}.
 	 */
 	protected void onItemsChanged(Change<? extends T> change) {
 		VirtualTable<T> table = getSkinnable();
 		manager.onChange(change);
+		if (manager.isSuspended()) return;
 
 		TableHelper helper = table.getTableHelper();
 		helper.computeEstimatedSize();
@@ -222,6 +225,7 @@ protected void onItemsChanged(Change<? extends T> change) {
 	 * Tells the table's components what to do when the items data structure changes.
 	 * By default, this causes the removal of the itemsChanged listener from the old structure,
 	 * which is then added to the new one. The estimated size is also recomputed and the viewport reset.
+	 * If the manager is suspended, the whole list is just marked as dirty, see {@link TableManager#markDirty(int)}.
 	 */
 	protected void onListChanged(ObservableList<T> oldValue, ObservableList<T> newValue) {
 		if (oldValue != null) oldValue.removeListener(itemsChanged);
@@ -229,6 +233,10 @@ protected void onListChanged(ObservableList<T> oldValue, ObservableList<T> newVa
 		TableHelper helper = getSkinnable().getTableHelper();
 		if (newValue != null) {
 			newValue.addListener(itemsChanged);
+			if (manager.isSuspended()) {
+				manager.markDirty(0);
+				return;
+			}
 			helper.computeEstimatedSize();
 			manager.reset();
 		}
@@ -258,7 +266,7 @@ protected void onStateChanged(TableState<T> oldValue, TableState<T> newValue) {
 			rContainer.getChildren().clear();
 		} else if (newValue.haveRowsChanged()) {
 			Collection<TableRow<T>> rows = newValue.getRows().values();
-			rContainer.getChildren().setAll(rows);
+			NodeUtils.updateChildren(rContainer.getChildren(), rows);
 		}
 	}
 
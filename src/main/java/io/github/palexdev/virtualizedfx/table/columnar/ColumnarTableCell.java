@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.table.columnar;
+
+import io.github.palexdev.mfxcore.utils.converters.FunctionalStringConverter;
+import io.github.palexdev.virtualizedfx.table.columnar.ColumnarTableModel.ColumnData;
+import io.github.palexdev.virtualizedfx.table.defaults.SimpleTableCell;
+
+/**
+ * Extension of {@link SimpleTableCell} to be used with a {@link ColumnarTableModel}.
+ * <p>
+ * The item of this cell is the index of the row to display, the value is read directly from the
+ * {@link ColumnData} by using {@link ColumnData#toString(int)}, so no intermediate object (nor boxed value)
+ * is created to display it.
+ *
+ * @param <D> the type of column data
+ */
+public class ColumnarTableCell<D extends ColumnData> extends SimpleTableCell<Integer, Integer> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final D data;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public ColumnarTableCell(Integer row, D data) {
+		super(row, r -> r, FunctionalStringConverter.to(r -> (r == null || r < 0) ? "" : data.toString(r)));
+		this.data = data;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the {@link ColumnData} this cell reads from
+	 */
+	public D getData() {
+		return data;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.table.columnar;
+
+import io.github.palexdev.virtualizedfx.table.VirtualTable;
+import io.github.palexdev.virtualizedfx.table.columnar.ColumnarTableModel.ColumnData;
+import io.github.palexdev.virtualizedfx.table.defaults.DefaultTableColumn;
+
+/**
+ * Extension of {@link DefaultTableColumn} to be used with a {@link ColumnarTableModel}.
+ * <p>
+ * The table's items are row indexes (see {@link ColumnarTableModel#rows()}), each column is associated
+ * to a {@link ColumnData} and produces {@link ColumnarTableCell}s that read from it by row index.
+ *
+ * @param <D> the type of column data
+ */
+public class ColumnarTableColumn<D extends ColumnData> extends DefaultTableColumn<Integer, ColumnarTableCell<D>> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final D data;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public ColumnarTableColumn(VirtualTable<Integer> table, D data) {
+		this(table, data.getName(), data);
+	}
+
+	public ColumnarTableColumn(VirtualTable<Integer> table, String text, D data) {
+		super(table, text);
+		this.data = data;
+		defaultCellFactory();
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Overridden to produce cells of type {@link ColumnarTableCell}.
+	 * <p>
+	 * <b>Note</b> that the super constructor calls this before the column data is set, so in that
+	 * case the method does nothing, the factory is set once the data is available.
+	 */
+	@Override
+	public void defaultCellFactory() {
+		if (data == null) return;
+		setCellFactory(row -> new ColumnarTableCell<>(row, data));
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the {@link ColumnData} this column reads from
+	 */
+	public D getData() {
+		return data;
+	}
+}
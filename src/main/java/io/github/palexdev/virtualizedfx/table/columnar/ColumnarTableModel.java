@@ -0,0 +1,485 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package io.github.palexdev.virtualizedfx.table.columnar;
+
+import io.github.palexdev.virtualizedfx.table.VirtualTable;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+import java.util.*;
+
+/**
+ * A column-oriented data model for {@link VirtualTable}.
+ * <p></p>
+ * Instead of storing one object per row (which for big numeric datasets means millions of objects, each with its
+ * header and boxed fields), this model stores each column in its own primitive array. Supported column types are:
+ * <p> - {@link DoubleData}, backed by a {@code double[]}
+ * <p> - {@link LongData}, backed by a {@code long[]}
+ * <p> - {@link IntData}, backed by an {@code int[]}
+ * <p> - {@link StringData}, dictionary-encoded, every distinct string is stored only once and each row holds
+ * just an {@code int} code
+ * <p></p>
+ * The table doesn't know anything about this model, its items are just the row indexes, see {@link #rows()}.
+ * That list doesn't store anything, it just reports the current rows count and maps every index to itself,
+ * changes to the rows count or to the values are notified to the table through it.
+ * <p>
+ * Use {@link ColumnarTableColumn} and {@link ColumnarTableCell} to read values by row index.
+ * <p></p>
+ * <b>Note</b> that values are written directly in the arrays, no event is fired by the setters to avoid
+ * flooding the table with changes. Once done with a batch of writes call {@link #fireRowsUpdated(int, int)}
+ * to refresh the cells displaying those rows.
+ */
+public class ColumnarTableModel {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Map<String, ColumnData> columns = new LinkedHashMap<>();
+	private final RowsList rows = new RowsList();
+	private int size = 0;
+	private int capacity;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public ColumnarTableModel() {
+		this(16);
+	}
+
+	public ColumnarTableModel(int initialCapacity) {
+		if (initialCapacity < 0) throw new IllegalArgumentException("Capacity cannot be negative");
+		this.capacity = initialCapacity;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Adds a new column backed by a {@code double[]}.
+	 *
+	 * @throws IllegalArgumentException if a column with the same name already exists
+	 */
+	public DoubleData addDoubleColumn(String name) {
+		return addColumn(new DoubleData(name, capacity));
+	}
+
+	/**
+	 * Adds a new column backed by a {@code long[]}.
+	 *
+	 * @throws IllegalArgumentException if a column with the same name already exists
+	 */
+	public LongData addLongColumn(String name) {
+		return addColumn(new LongData(name, capacity));
+	}
+
+	/**
+	 * Adds a new column backed by an {@code int[]}.
+	 *
+	 * @throws IllegalArgumentException if a column with the same name already exists
+	 */
+	public IntData addIntColumn(String name) {
+		return addColumn(new IntData(name, capacity));
+	}
+
+	/**
+	 * Adds a new dictionary-encoded strings column.
+	 *
+	 * @throws IllegalArgumentException if a column with the same name already exists
+	 */
+	public StringData addStringColumn(String name) {
+		return addColumn(new StringData(name, capacity));
+	}
+
+	/**
+	 * Adds the given amount of rows at the end of the model. New rows are zeroed
+	 * (or null for string columns).
+	 * <p>
+	 * A single change is fired by {@link #rows()} for the whole block.
+	 *
+	 * @return the index of the first added row
+	 */
+	public int addRows(int count) {
+		if (count < 0) throw new IllegalArgumentException("Count cannot be negative");
+		int first = size;
+		if (count == 0) return first;
+		ensureCapacity(size + count);
+		size += count;
+		rows.fireAdded(first, size);
+		return first;
+	}
+
+	/**
+	 * Convenience method to add a single row, same as calling {@link #addRows(int)} with 1.
+	 *
+	 * @return the index of the added row
+	 */
+	public int addRow() {
+		return addRows(1);
+	}
+
+	/**
+	 * Removes all the rows from the model, the columns are kept but their values are discarded.
+	 * Dictionaries of string columns are cleared too.
+	 */
+	public void clear() {
+		int oldSize = size;
+		size = 0;
+		columns.values().forEach(c -> c.clear(oldSize));
+		rows.fireRemoved(oldSize);
+	}
+
+	/**
+	 * Notifies the table that the values of the rows in the given range (both inclusive) have changed,
+	 * so that cells displaying them can be updated.
+	 */
+	public void fireRowsUpdated(int from, int to) {
+		Objects.checkIndex(from, size);
+		Objects.checkIndex(to, size);
+		if (from > to) throw new IllegalArgumentException("From index must be lesser or equal than the to index");
+		rows.fireUpdated(from, to);
+	}
+
+	/**
+	 * Ensures that all the columns can store at least the given number of rows without reallocating.
+	 * Growth is geometric (x1.5) to amortize the cost of copying the arrays.
+	 */
+	public void ensureCapacity(int minCapacity) {
+		if (minCapacity <= capacity) return;
+		int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+		columns.values().forEach(c -> c.grow(newCapacity));
+		capacity = newCapacity;
+	}
+
+	/**
+	 * Shrinks the columns' arrays to the current rows count.
+	 */
+	public void trimToSize() {
+		if (capacity == size) return;
+		columns.values().forEach(c -> c.grow(size));
+		capacity = size;
+	}
+
+	/**
+	 * @return the column with the given name or null if not found
+	 */
+	public ColumnData getColumn(String name) {
+		return columns.get(name);
+	}
+
+	/**
+	 * @return an unmodifiable view of the model's columns, in insertion order
+	 */
+	public Collection<ColumnData> getColumns() {
+		return Collections.unmodifiableCollection(columns.values());
+	}
+
+	private <D extends ColumnData> D addColumn(D data) {
+		if (columns.containsKey(data.getName()))
+			throw new IllegalArgumentException("A column named " + data.getName() + " already exists");
+		columns.put(data.getName(), data);
+		return data;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the list to use as {@link VirtualTable}'s items. Each element is the index of a row
+	 */
+	public ObservableList<Integer> rows() {
+		return rows;
+	}
+
+	/**
+	 * @return the number of rows in the model
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of rows the columns can hold before their arrays are reallocated
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * Base class for all the columns of a {@link ColumnarTableModel}.
+	 * <p>
+	 * Each implementation wraps a primitive array and specifies how to convert a value at a given row
+	 * to a {@link String}, see {@link #toString(int)}.
+	 */
+	public static abstract class ColumnData {
+		private final String name;
+
+		protected ColumnData(String name) {
+			this.name = Objects.requireNonNull(name, "Column name cannot be null");
+		}
+
+		/**
+		 * Converts the value at the given row to a string, avoids boxing.
+		 */
+		public abstract String toString(int row);
+
+		/**
+		 * Reallocates the backing array to the given capacity.
+		 */
+		protected abstract void grow(int capacity);
+
+		/**
+		 * Resets the values of the first {@code size} rows.
+		 */
+		protected abstract void clear(int size);
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	/**
+	 * A {@link ColumnData} backed by a {@code double[]}.
+	 */
+	public static class DoubleData extends ColumnData {
+		private double[] values;
+
+		protected DoubleData(String name, int capacity) {
+			super(name);
+			this.values = new double[capacity];
+		}
+
+		public double get(int row) {
+			return values[row];
+		}
+
+		public void set(int row, double value) {
+			values[row] = value;
+		}
+
+		@Override
+		public String toString(int row) {
+			return Double.toString(values[row]);
+		}
+
+		@Override
+		protected void grow(int capacity) {
+			values = Arrays.copyOf(values, capacity);
+		}
+
+		@Override
+		protected void clear(int size) {
+			Arrays.fill(values, 0, size, 0.0);
+		}
+	}
+
+	/**
+	 * A {@link ColumnData} backed by a {@code long[]}.
+	 */
+	public static class LongData extends ColumnData {
+		private long[] values;
+
+		protected LongData(String name, int capacity) {
+			super(name);
+			this.values = new long[capacity];
+		}
+
+		public long get(int row) {
+			return values[row];
+		}
+
+		public void set(int row, long value) {
+			values[row] = value;
+		}
+
+		@Override
+		public String toString(int row) {
+			return Long.toString(values[row]);
+		}
+
+		@Override
+		protected void grow(int capacity) {
+			values = Arrays.copyOf(values, capacity);
+		}
+
+		@Override
+		protected void clear(int size) {
+			Arrays.fill(values, 0, size, 0L);
+		}
+	}
+
+	/**
+	 * A {@link ColumnData} backed by an {@code int[]}.
+	 */
+	public static class IntData extends ColumnData {
+		private int[] values;
+
+		protected IntData(String name, int capacity) {
+			super(name);
+			this.values = new int[capacity];
+		}
+
+		public int get(int row) {
+			return values[row];
+		}
+
+		public void set(int row, int value) {
+			values[row] = value;
+		}
+
+		@Override
+		public String toString(int row) {
+			return Integer.toString(values[row]);
+		}
+
+		@Override
+		protected void grow(int capacity) {
+			values = Arrays.copyOf(values, capacity);
+		}
+
+		@Override
+		protected void clear(int size) {
+			Arrays.fill(values, 0, size, 0);
+		}
+	}
+
+	/**
+	 * A dictionary-encoded strings column.
+	 * <p>
+	 * Every distinct string is stored only once in the dictionary, rows only hold an {@code int} code
+	 * pointing to it. Code 0 is reserved for null values, so new rows are null by default.
+	 * This is very efficient for low-cardinality data such as categories, hosts, status names...
+	 */
+	public static class StringData extends ColumnData {
+		private int[] codes;
+		private final List<String> dictionary = new ArrayList<>();
+		private final Map<String, Integer> lookup = new HashMap<>();
+
+		protected StringData(String name, int capacity) {
+			super(name);
+			this.codes = new int[capacity];
+			dictionary.add(null);
+		}
+
+		public String get(int row) {
+			return dictionary.get(codes[row]);
+		}
+
+		public void set(int row, String value) {
+			codes[row] = encode(value);
+		}
+
+		/**
+		 * @return the dictionary code of the given string, adds it to the dictionary if not yet present
+		 */
+		public int encode(String value) {
+			if (value == null) return 0;
+			return lookup.computeIfAbsent(value, s -> {
+				dictionary.add(s);
+				return dictionary.size() - 1;
+			});
+		}
+
+		/**
+		 * @return the dictionary code at the given row
+		 */
+		public int getCode(int row) {
+			return codes[row];
+		}
+
+		/**
+		 * @return the number of distinct non-null strings in the dictionary
+		 */
+		public int cardinality() {
+			return dictionary.size() - 1;
+		}
+
+		@Override
+		public String toString(int row) {
+			String s = get(row);
+			return s != null ? s : "";
+		}
+
+		@Override
+		protected void grow(int capacity) {
+			codes = Arrays.copyOf(codes, capacity);
+		}
+
+		@Override
+		protected void clear(int size) {
+			Arrays.fill(codes, 0, size, 0);
+			dictionary.subList(1, dictionary.size()).clear();
+			lookup.clear();
+		}
+	}
+
+	/**
+	 * A virtual list of row indexes. It doesn't store anything, the size is the model's rows count and
+	 * every index is mapped to itself.
+	 */
+	private class RowsList extends ObservableListBase<Integer> {
+
+		@Override
+		public Integer get(int index) {
+			Objects.checkIndex(index, size);
+			return index;
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		private void fireAdded(int from, int to) {
+			beginChange();
+			nextAdd(from, to);
+			endChange();
+		}
+
+		private void fireRemoved(int oldSize) {
+			if (oldSize == 0) return;
+			List<Integer> removed = new AbstractList<>() {
+				@Override
+				public Integer get(int index) {
+					return index;
+				}
+
+				@Override
+				public int size() {
+					return oldSize;
+				}
+			};
+			beginChange();
+			nextRemove(0, removed);
+			endChange();
+		}
+
+		private void fireUpdated(int from, int to) {
+			beginChange();
+			for (int i = from; i <= to; i++) {
+				nextSet(i, i);
+			}
+			endChange();
+		}
+	}
+}
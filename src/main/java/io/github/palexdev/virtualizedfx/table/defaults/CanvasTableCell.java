@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.table.defaults;
+
+import io.github.palexdev.mfxcore.utils.converters.FunctionalStringConverter;
+import io.github.palexdev.virtualizedfx.cell.MappingTableCell;
+import io.github.palexdev.virtualizedfx.cell.TableCell;
+import io.github.palexdev.virtualizedfx.cell.TableCellPainter;
+import io.github.palexdev.virtualizedfx.table.TableColumn;
+import io.github.palexdev.virtualizedfx.table.TableRow;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Region;
+import javafx.util.StringConverter;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Lightweight alternative to {@link SimpleTableCell} for read-only content, produced by {@link CanvasTableColumn}.
+ * <p>
+ * While {@link SimpleTableCell} is an {@link javafx.scene.layout.HBox} containing a {@link javafx.scene.control.Label}
+ * (which in turn has its own skin and text node), all of them styled by CSS, this cell is not even part of the scene graph.
+ * The value is extracted and converted to a {@link String} the same way, see {@link MappingTableCell}, but it's
+ * drawn by a {@link TableCellPainter} on the canvas shared by all the canvas cells of the row, see {@link DefaultTableRow}.
+ * <p>
+ * The cell is an empty {@link Region} only to be sized and positioned by the table's layout, its bounds tell where to
+ * draw on the row's canvas. Since it's not in the scene graph, it doesn't receive mouse events, handle them on the row instead.
+ * <p>
+ * The state of the cell is kept in plain fields rather than properties. The cell is painted again only when the item
+ * or the text change, and the whole row's canvas when the cell is moved or resized.
+ *
+ * @param <T> the type of items in the table
+ * @param <E> the type of property extracted from the T objects
+ */
+public class CanvasTableCell<T, E> extends Region implements MappingTableCell<T, E> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private TableColumn<T, ? extends TableCell<T>> column;
+	private DefaultTableRow<T> row;
+	private T item;
+	private int index;
+	private T textItem;
+	private String text = "";
+	private double paintedX = Double.NaN;
+	private double paintedY = Double.NaN;
+	private double paintedW = Double.NaN;
+	private double paintedH = Double.NaN;
+	private Function<T, E> extractor;
+	private StringConverter<E> converter;
+	private TableCellPainter<T> painter;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public CanvasTableCell(T item, Function<T, E> extractor) {
+		this(item, extractor, FunctionalStringConverter.to(Objects::toString), TableCellPainter.text());
+	}
+
+	public CanvasTableCell(T item, Function<T, E> extractor, StringConverter<E> converter, TableCellPainter<T> painter) {
+		this.extractor = extractor;
+		this.converter = converter;
+		this.painter = painter;
+		this.item = item;
+		invalidate();
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Draws the content with the {@link TableCellPainter} on the given graphics context, which is the one of the
+	 * row's canvas. The context is translated to the cell's position and clipped to its bounds, the area is expected
+	 * to be already cleared.
+	 * <p>
+	 * Automatically called by {@link DefaultTableRow}.
+	 */
+	protected void paint(GraphicsContext gc) {
+		double x = getLayoutX();
+		double y = getLayoutY();
+		double w = getWidth();
+		double h = getHeight();
+		paintedX = x;
+		paintedY = y;
+		paintedW = w;
+		paintedH = h;
+		if (w <= 0 || h <= 0 || painter == null) return;
+
+		gc.save();
+		gc.translate(x, y);
+		gc.beginPath();
+		gc.rect(0, 0, w, h);
+		gc.clip();
+		painter.paint(gc, item, text, w, h);
+		gc.restore();
+	}
+
+	/**
+	 * Asks the row to paint this cell again, see {@link DefaultTableRow#paintCell(CanvasTableCell)}.
+	 */
+	protected void repaint() {
+		if (row != null) row.paintCell(this);
+	}
+
+	/**
+	 * @return whether the cell was moved or resized since it was last painted
+	 */
+	protected boolean isLayoutChanged() {
+		return paintedX != getLayoutX() || paintedY != getLayoutY() || paintedW != getWidth() || paintedH != getHeight();
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public Node getNode() {
+		return this;
+	}
+
+	@Override
+	public void updateItem(T item) {
+		this.item = item;
+		invalidate();
+	}
+
+	@Override
+	public void updateIndex(int index) {
+		this.index = index;
+	}
+
+	@Override
+	public void updateColumn(TableColumn<T, ? extends TableCell<T>> column) {
+		this.column = column;
+	}
+
+	@Override
+	public void updateRow(int rIndex, DefaultTableRow<T> row) {
+		this.row = row;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Extracts the value E from the current item, converts it to a {@link String} and then paints the cell
+	 * again, only if the item or the text changed.
+	 */
+	@Override
+	public void invalidate() {
+		String s = converter.toString(extractor.apply(item));
+		if (item == textItem && Objects.equals(text, s)) return;
+		textItem = item;
+		text = s;
+		repaint();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Requests a full repaint of the row's canvas if the cell was moved or resized, see {@link DefaultTableRow#invalidateStrip()}.
+	 */
+	@Override
+	public void afterLayout() {
+		if (row != null && isLayoutChanged()) row.invalidateStrip();
+	}
+
+	/**
+	 * The text is not measured, as the font depends on the {@link TableCellPainter}, so this returns the current width.
+	 */
+	@Override
+	protected double computePrefWidth(double height) {
+		return getWidth();
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the {@link TableColumn} this cell is associated to
+	 */
+	public TableColumn<T, ? extends TableCell<T>> getColumn() {
+		return column;
+	}
+
+	/**
+	 * @return the {@link TableRow} which contains this cell
+	 */
+	public TableRow<T> getRow() {
+		return row;
+	}
+
+	/**
+	 * @return the item represented by this cell
+	 */
+	public T getItem() {
+		return item;
+	}
+
+	/**
+	 * @return the index of the column this cell is associated to
+	 */
+	public int getIndex() {
+		return index;
+	}
+
+	/**
+	 * @return the text currently drawn by the cell
+	 */
+	public String getText() {
+		return text;
+	}
+
+	public TableCellPainter<T> getPainter() {
+		return painter;
+	}
+
+	/**
+	 * Sets the {@link TableCellPainter} used to draw the content and paints the cell again.
+	 */
+	public void setPainter(TableCellPainter<T> painter) {
+		this.painter = painter;
+		repaint();
+	}
+
+	@Override
+	public Function<T, E> getExtractor() {
+		return extractor;
+	}
+
+	@Override
+	public void setExtractor(Function<T, E> extractor) {
+		this.extractor = extractor;
+	}
+
+	@Override
+	public StringConverter<E> getConverter() {
+		return converter;
+	}
+
+	@Override
+	public void setConverter(StringConverter<E> converter) {
+		this.converter = converter;
+	}
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.table.defaults;
+
+import io.github.palexdev.mfxcore.utils.converters.FunctionalStringConverter;
+import io.github.palexdev.virtualizedfx.cell.TableCellPainter;
+import io.github.palexdev.virtualizedfx.table.VirtualTable;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.util.StringConverter;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Extension of {@link DefaultTableColumn} for read-only columns with a lot of rows, produces {@link CanvasTableCell}s.
+ * <p>
+ * The header behaves exactly like the one of {@link DefaultTableColumn}, as well as the table's layout and scrolling,
+ * only the cells change: instead of being made of several nodes styled by CSS, their text is drawn by the
+ * {@link #painterProperty()} on a single canvas per row, shared by all the canvas columns, see {@link DefaultTableRow}.
+ *
+ * @param <T> the type of items in the table
+ * @param <E> the type of property extracted from the T objects
+ */
+public class CanvasTableColumn<T, E> extends DefaultTableColumn<T, CanvasTableCell<T, E>> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Function<T, E> extractor;
+	private final StringConverter<E> converter;
+	private final ObjectProperty<TableCellPainter<T>> painter = new SimpleObjectProperty<>(TableCellPainter.text()) {
+		@Override
+		protected void invalidated() {
+			defaultCellFactory();
+		}
+	};
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public CanvasTableColumn(VirtualTable<T> table, String text, Function<T, E> extractor) {
+		this(table, text, extractor, FunctionalStringConverter.to(Objects::toString));
+	}
+
+	public CanvasTableColumn(VirtualTable<T> table, String text, Function<T, E> extractor, StringConverter<E> converter) {
+		super(table, text);
+		this.extractor = extractor;
+		this.converter = converter;
+		defaultCellFactory();
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Overridden to produce cells of type {@link CanvasTableCell}, using this column's extractor, converter
+	 * and painter.
+	 * <p>
+	 * <b>Note</b> that the super constructor calls this before the extractor is set, so in that
+	 * case the method does nothing, the factory is set once the extractor is available.
+	 */
+	@Override
+	public void defaultCellFactory() {
+		if (extractor == null) return;
+		setCellFactory(t -> new CanvasTableCell<>(t, extractor, converter, getPainter()));
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public Function<T, E> getExtractor() {
+		return extractor;
+	}
+
+	public StringConverter<E> getConverter() {
+		return converter;
+	}
+
+	public TableCellPainter<T> getPainter() {
+		return painter.get();
+	}
+
+	/**
+	 * Specifies the {@link TableCellPainter} used by the cells to draw their content.
+	 * <p>
+	 * By default, draws the text with {@link TableCellPainter#text()}. Changing this resets the cell factory,
+	 * so the table builds new cells.
+	 */
+	public ObjectProperty<TableCellPainter<T>> painterProperty() {
+		return painter;
+	}
+
+	public void setPainter(TableCellPainter<T> painter) {
+		this.painter.set(painter);
+	}
+}
@@ -3,7 +3,11 @@
 import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
 import io.github.palexdev.virtualizedfx.cell.TableCell;
 import io.github.palexdev.virtualizedfx.table.*;
+import io.github.palexdev.virtualizedfx.utils.NodeUtils;
+import javafx.collections.ObservableList;
 import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 
 import java.util.*;
 import java.util.function.Supplier;
@@ -14,13 +18,20 @@
  * It is highly recommended to use this as a base class for custom rows rather than {@link TableRow}, as the
  * behaviors specified by the various overridden methods are quite complex but stable.
  * <p></p>
- * Another suggestion is to avoid UI changes in custom implementation. The {@link #layoutChildren()} method
- * is overridden to do nothing as the layout of the row is entirely managed by {@link TableHelper}. This because
- * the row is intended to contain only the cells produced by the columns.
+ * Another suggestion is to avoid UI changes in custom implementation. The layout of the row is entirely managed
+ * by {@link TableHelper}, this because the row is intended to contain only the cells produced by the columns.
+ * <p>
+ * The only exception are {@link CanvasTableCell}s, which are not added to the children list. All of them are drawn on
+ * a single canvas, the strip, which is as big as the row and is painted in {@link #layoutChildren()}, see {@link #invalidateStrip()}.
  * <p>
  * What you should do instead in custom implementations is to introduce new features, for example selection handling.
  */
 public class DefaultTableRow<T> extends TableRow<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private Canvas strip;
+	private boolean stripInvalid = true;
 
 	//================================================================================
 	// Constructors
@@ -156,6 +167,22 @@ protected void updateFull(int index) {
 		});
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Same as {@link #updateFull(int)} but cells are updated with {@link TableCell#updateItemFast(Object)}.
+	 */
+	@Override
+	protected void updateFullFast(int index) {
+		super.index = index;
+
+		T item = table.getItems().get(index);
+		cells.values().forEach(c -> {
+			c.updateRow(index, this);
+			c.updateItemFast(item);
+		});
+	}
+
 	/**
 	 * {@inheritDoc}
 	 * <p></p>
@@ -192,18 +219,83 @@ protected double getWidthOf(int cIndex) {
 	}
 
 	/**
-	 * Converts the cells map to nodes with {@link #getCellsAsNodes()} and updates the children list.
+	 * Converts the cells map to nodes and updates the children list with {@link NodeUtils#updateChildren(ObservableList, Collection)}.
+	 * <p>
+	 * {@link CanvasTableCell}s are replaced by the strip, which is then painted again, see {@link #invalidateStrip()}.
 	 */
 	@Override
 	protected void cellsChanged() {
-		List<Node> nodes = getCellsAsNodes();
-		getChildren().setAll(nodes);
+		List<Node> nodes = new ArrayList<>();
+		boolean needsStrip = false;
+		for (TableCell<T> cell : cells.values()) {
+			if (cell instanceof CanvasTableCell) {
+				needsStrip = true;
+				continue;
+			}
+			nodes.add(cell.getNode());
+		}
+		if (needsStrip) nodes.add(getStrip());
+		NodeUtils.updateChildren(getChildren(), nodes);
+		if (needsStrip) invalidateStrip();
+	}
+
+	/**
+	 * Lays out the strip, if the row contains any {@link CanvasTableCell}. The strip is resized to the row's size and,
+	 * if it's invalid or the size changed, it's cleared and all the canvas cells are painted again at their current position.
+	 */
+	@Override
+	protected void layoutChildren() {
+		if (strip == null || strip.getParent() != this) return;
+		double w = getWidth();
+		double h = getHeight();
+		if (strip.getWidth() != w || strip.getHeight() != h) {
+			strip.setWidth(w);
+			strip.setHeight(h);
+			stripInvalid = true;
+		}
+		if (!stripInvalid) return;
+
+		stripInvalid = false;
+		GraphicsContext gc = strip.getGraphicsContext2D();
+		gc.clearRect(0, 0, w, h);
+		for (TableCell<T> cell : cells.values()) {
+			if (cell instanceof CanvasTableCell) ((CanvasTableCell<T, ?>) cell).paint(gc);
+		}
 	}
 
 	//================================================================================
 	// Methods
 	//================================================================================
 
+	/**
+	 * Requests a full repaint of the strip, which happens during the next layout, see {@link #layoutChildren()}.
+	 * <p>
+	 * Needed when the {@link CanvasTableCell}s change or move, a single cell whose content changed can be painted
+	 * again with {@link #paintCell(CanvasTableCell)}.
+	 */
+	public void invalidateStrip() {
+		if (strip == null || strip.getParent() != this) return;
+		stripInvalid = true;
+		requestLayout();
+	}
+
+	/**
+	 * Clears the area of the given {@link CanvasTableCell} on the strip and paints it again immediately.
+	 * <p>
+	 * Nothing is done if a full repaint is pending, and if the cell moved since it was last painted a full repaint
+	 * is requested instead, see {@link #invalidateStrip()}.
+	 */
+	public void paintCell(CanvasTableCell<T, ?> cell) {
+		if (strip == null || strip.getParent() != this || stripInvalid) return;
+		if (cell.isLayoutChanged()) {
+			invalidateStrip();
+			return;
+		}
+		GraphicsContext gc = strip.getGraphicsContext2D();
+		gc.clearRect(cell.getLayoutX(), cell.getLayoutY(), cell.getWidth(), cell.getHeight());
+		cell.paint(gc);
+	}
+
 	/**
 	 * Tries to reuse a previously created cell by taking it from the table's cache with {@link TableCache#tryTake(TableColumn)}.
 	 * <p></p>
@@ -249,4 +341,21 @@ protected void cacheCell(int index, TableCell<T> cell) {
 		cell.updateColumn(null);
 		cache.cache(column, cell);
 	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+
+	/**
+	 * @return the canvas on which the {@link CanvasTableCell}s of this row are drawn, lazily created
+	 */
+	protected Canvas getStrip() {
+		if (strip == null) {
+			strip = new Canvas();
+			strip.getStyleClass().add("strip");
+			strip.setManaged(false);
+			strip.setMouseTransparent(true);
+		}
+		return strip;
+	}
 }
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.table.tree;
+
+import io.github.palexdev.mfxcore.utils.converters.FunctionalStringConverter;
+import io.github.palexdev.virtualizedfx.table.defaults.SimpleTableCell;
+import io.github.palexdev.virtualizedfx.tree.LazyTreeNode;
+import io.github.palexdev.virtualizedfx.tree.TreeList;
+import io.github.palexdev.virtualizedfx.tree.TreeNode;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.css.PseudoClass;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.util.StringConverter;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Extension of {@link SimpleTableCell} meant to be used as the first column's cell of a {@link VirtualTreeTable}.
+ * <p></p>
+ * Before the label, this has a spacer, whose width is the node's level multiplied by the {@link #indentProperty()},
+ * and a disclosure node which expands/collapses the node when clicked. The disclosure node is hidden for leaves and
+ * is styled with the following pseudo classes: ":expanded", and ":loading" when the children of a {@link LazyTreeNode}
+ * are being loaded.
+ * <p>
+ * The level of a node is its depth, minus one if the root is not shown (see {@link TreeList#isShowRoot()}).
+ * <p></p>
+ * The extractor function operates on the nodes' values, not on the nodes.
+ *
+ * @param <T> the type of the nodes' values
+ * @param <E> the type of property extracted from the T objects
+ */
+public class TreeTableCell<T, E> extends SimpleTableCell<TreeNode<T>, E> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final String STYLE_CLASS = "vtree-table-cell";
+	private static final PseudoClass EXPANDED_PSEUDO_CLASS = PseudoClass.getPseudoClass("expanded");
+	private static final PseudoClass LOADING_PSEUDO_CLASS = PseudoClass.getPseudoClass("loading");
+
+	private final DoubleProperty indent = new SimpleDoubleProperty(16.0) {
+		@Override
+		protected void invalidated() {
+			invalidate();
+		}
+	};
+	private Region spacer;
+	private Region disclosure;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public TreeTableCell(TreeNode<T> item, Function<T, E> extractor) {
+		this(item, extractor, FunctionalStringConverter.to(Objects::toString));
+	}
+
+	public TreeTableCell(TreeNode<T> item, Function<T, E> extractor, StringConverter<E> converter) {
+		super(item, node -> (node != null) ? extractor.apply(node.getValue()) : null, converter);
+		spacer = new Region();
+		spacer.getStyleClass().add("spacer");
+		spacer.setMinWidth(Region.USE_PREF_SIZE);
+
+		disclosure = new Region();
+		disclosure.getStyleClass().add("disclosure-node");
+		disclosure.setMinSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+		disclosure.prefWidthProperty().bind(indent);
+		disclosure.addEventHandler(MouseEvent.MOUSE_CLICKED, e -> {
+			TreeNode<T> node = getItem();
+			if (node != null && !node.isLeaf()) node.toggle();
+			e.consume();
+		});
+
+		getStyleClass().add(STYLE_CLASS);
+		getChildren().addAll(0, List.of(spacer, disclosure));
+		invalidate();
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * @return the indentation level of the given node
+	 */
+	protected int levelOf(TreeNode<T> node) {
+		TreeList<T> list = node.getList();
+		int depth = node.getDepth();
+		return (list != null && !list.isShowRoot()) ? depth - 1 : depth;
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * {@inheritDoc}
+	 * <p></p>
+	 * Overridden to also update the indentation and the disclosure node.
+	 */
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		if (spacer == null) return;
+
+		TreeNode<T> node = getItem();
+		if (node == null) {
+			spacer.setPrefWidth(0);
+			disclosure.setVisible(false);
+			return;
+		}
+		spacer.setPrefWidth(Math.max(0, levelOf(node)) * getIndent());
+		disclosure.setVisible(!node.isLeaf());
+		disclosure.pseudoClassStateChanged(EXPANDED_PSEUDO_CLASS, node.isExpanded());
+		boolean loading = node instanceof LazyTreeNode && ((LazyTreeNode<T>) node).getLoadState() == LazyTreeNode.LoadState.LOADING;
+		disclosure.pseudoClassStateChanged(LOADING_PSEUDO_CLASS, loading);
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public double getIndent() {
+		return indent.get();
+	}
+
+	/**
+	 * Specifies the width of a single indentation level, also used as the disclosure node's width.
+	 */
+	public DoubleProperty indentProperty() {
+		return indent;
+	}
+
+	public void setIndent(double indent) {
+		this.indent.set(indent);
+	}
+}
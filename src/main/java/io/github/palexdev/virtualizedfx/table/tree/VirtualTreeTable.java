@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.table.tree;
+
+import io.github.palexdev.virtualizedfx.cell.TableCell;
+import io.github.palexdev.virtualizedfx.table.TableColumn;
+import io.github.palexdev.virtualizedfx.table.TableState;
+import io.github.palexdev.virtualizedfx.table.VirtualTable;
+import io.github.palexdev.virtualizedfx.tree.LazyTreeNode;
+import io.github.palexdev.virtualizedfx.tree.TreeItemsController;
+import io.github.palexdev.virtualizedfx.tree.TreeList;
+import io.github.palexdev.virtualizedfx.tree.TreeNode;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * Extension of {@link VirtualTable} to display hierarchical data, a tree-table.
+ * <p></p>
+ * The rows are the visible nodes of the tree given by {@link #rootProperty()}. Just like the {@code VirtualTree}, the
+ * table's items list is a {@link TreeList}, so retrieving the node of a row and expanding/collapsing a node cost O(log n)
+ * (for reasonably shaped trees). Expansions and collapses are notified as single contiguous changes which are processed
+ * without resetting the {@link TableState}, only the rows after the affected node are updated.
+ * <p>
+ * Children can be loaded lazily and asynchronously by using {@link LazyTreeNode}s, the loaded children are added
+ * in a single change once available, so the JavaFX thread is never blocked.
+ * <p></p>
+ * To display the tree structure, use a {@link TreeTableCell} for the first column, which indents its content according
+ * to the node's depth and offers a disclosure node to expand/collapse the node.
+ *
+ * @param <T> the type of the nodes' values
+ */
+public class VirtualTreeTable<T> extends VirtualTable<TreeNode<T>> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final String STYLE_CLASS = "virtual-tree-table";
+
+	private final TreeItemsController<T> treeItems = new TreeItemsController<>(itemsProperty(), this::scrollToRow);
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public VirtualTreeTable() {
+		super();
+		initialize();
+	}
+
+	public VirtualTreeTable(TreeNode<T> root, TableColumn<TreeNode<T>, ? extends TableCell<TreeNode<T>>>... columns) {
+		super(FXCollections.observableArrayList(), columns);
+		initialize();
+		setRoot(root);
+	}
+
+	public VirtualTreeTable(TreeNode<T> root, ObservableList<TableColumn<TreeNode<T>, ? extends TableCell<TreeNode<T>>>> columns) {
+		super(FXCollections.observableArrayList(), columns);
+		initialize();
+		setRoot(root);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+	private void initialize() {
+		getStyleClass().add(STYLE_CLASS);
+	}
+
+	/**
+	 * Expands the given node and all its ancestors, see {@link TreeItemsController#expand(TreeNode)}.
+	 */
+	public void expand(TreeNode<T> node) {
+		treeItems.expand(node);
+	}
+
+	/**
+	 * Collapses the given node.
+	 */
+	public void collapse(TreeNode<T> node) {
+		treeItems.collapse(node);
+	}
+
+	/**
+	 * Expands all the ancestors of the given node and scrolls to its row.
+	 */
+	public void scrollToNode(TreeNode<T> node) {
+		treeItems.scrollToNode(node);
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the helper which keeps the items list in sync with the tree, see {@link TreeItemsController}
+	 */
+	protected TreeItemsController<T> getTreeItems() {
+		return treeItems;
+	}
+
+	/**
+	 * @return the items list as a {@link TreeList}, null if no root has been set
+	 */
+	public TreeList<T> getTreeList() {
+		return treeItems.getTreeList();
+	}
+
+	public TreeNode<T> getRoot() {
+		return treeItems.getRoot();
+	}
+
+	/**
+	 * Specifies the root of the tree to display.
+	 */
+	public ObjectProperty<TreeNode<T>> rootProperty() {
+		return treeItems.rootProperty();
+	}
+
+	public void setRoot(TreeNode<T> root) {
+		treeItems.setRoot(root);
+	}
+
+	public boolean isShowRoot() {
+		return treeItems.isShowRoot();
+	}
+
+	/**
+	 * Specifies whether the root is displayed, if false the first level of the tree are the root's children.
+	 */
+	public BooleanProperty showRootProperty() {
+		return treeItems.showRootProperty();
+	}
+
+	public void setShowRoot(boolean showRoot) {
+		treeItems.setShowRoot(showRoot);
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.tree;
+
+import javafx.application.Platform;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Extension of {@link TreeNode} whose children are loaded asynchronously the first time the node is expanded.
+ * <p></p>
+ * The children are requested to a {@link ChildrenLoader}, which is expected to fetch/build them off the JavaFX thread
+ * (on an executor, a remote call...) and return a {@link CompletionStage}. Once the stage completes, the children are
+ * published on the JavaFX thread (see {@link #publish(Runnable)}) and added with a single
+ * {@link #addChildren(java.util.Collection)} call. This way, even a huge number of children is notified as a
+ * single contiguous addition, which the viewport processes without resetting its state.
+ * <p>
+ * While loading, the node is expanded but has no children, the loading state can be checked with {@link #getLoadState()}.
+ * Every time the state changes, the node is refreshed (see {@link #refresh()}), so that cells can show a loading indicator.
+ * If the loading fails, the state becomes {@link LoadState#FAILED} and the next expansion tries again.
+ * <p></p>
+ * Until the children are loaded, {@link #isLeaf()} returns false.
+ *
+ * @param <T> the type of value
+ */
+public class LazyTreeNode<T> extends TreeNode<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final ChildrenLoader<T> loader;
+	private LoadState loadState = LoadState.NOT_LOADED;
+	private Throwable error;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public LazyTreeNode(T value, ChildrenLoader<T> loader) {
+		super(value);
+		this.loader = Objects.requireNonNull(loader, "Loader cannot be null");
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Requests the children to the {@link ChildrenLoader}, if they are not already loaded or being loaded.
+	 * This is automatically called on expansion.
+	 */
+	public void load() {
+		if (loadState == LoadState.LOADING || loadState == LoadState.LOADED) return;
+		error = null;
+		setLoadState(LoadState.LOADING);
+		loader.load(this).whenComplete((children, ex) -> publish(() -> {
+			if (ex != null) {
+				error = ex;
+				setLoadState(LoadState.FAILED);
+				return;
+			}
+			if (children != null) addChildren(children);
+			setLoadState(LoadState.LOADED);
+		}));
+	}
+
+	/**
+	 * Removes the loaded children and resets the state, so that they will be loaded again
+	 * at the next expansion (or immediately if the node is expanded).
+	 */
+	public void reload() {
+		if (loadState == LoadState.LOADING) return;
+		clearChildren();
+		setLoadState(LoadState.NOT_LOADED);
+		if (isExpanded()) load();
+	}
+
+	/**
+	 * This is responsible for handing the loaded children to the JavaFX thread.
+	 * By default, uses {@link Platform#runLater(Runnable)}, or runs the action immediately if already on the
+	 * JavaFX thread.
+	 */
+	protected void publish(Runnable action) {
+		if (Platform.isFxApplicationThread()) {
+			action.run();
+		} else {
+			Platform.runLater(action);
+		}
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Overridden to start loading the children on expansion, see {@link #load()}.
+	 */
+	@Override
+	public void setExpanded(boolean expanded) {
+		super.setExpanded(expanded);
+		if (expanded) load();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Until the children are loaded this returns false, as there's no way to know.
+	 */
+	@Override
+	public boolean isLeaf() {
+		return loadState == LoadState.LOADED && super.isLeaf();
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public LoadState getLoadState() {
+		return loadState;
+	}
+
+	protected void setLoadState(LoadState loadState) {
+		this.loadState = loadState;
+		refresh();
+	}
+
+	/**
+	 * @return the error that caused the last loading to fail, null if none
+	 */
+	public Throwable getError() {
+		return error;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+	public enum LoadState {
+		NOT_LOADED, LOADING, LOADED, FAILED
+	}
+
+	/**
+	 * Function responsible for loading the children of a {@link LazyTreeNode}.
+	 * <p>
+	 * It's called on the JavaFX thread, so the actual work should be done elsewhere. The returned stage can
+	 * complete on any thread.
+	 */
+	@FunctionalInterface
+	public interface ChildrenLoader<T> {
+		CompletionStage<? extends List<? extends TreeNode<T>>> load(LazyTreeNode<T> node);
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.tree;
+
+import io.github.palexdev.virtualizedfx.table.tree.VirtualTreeTable;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Helper class shared by the controls which display a tree, {@link VirtualTree} and {@link VirtualTreeTable}.
+ * <p></p>
+ * It owns the tree's root, {@link #rootProperty()}, and the {@link #showRootProperty()}, and keeps the control's
+ * items list in sync with them: every time one of the two changes, the old {@link TreeList} is disposed and a new one
+ * is set in the control's items property, given at construction. It also offers the operations on nodes which are
+ * the same for every tree control, such as {@link #expand(TreeNode)} and {@link #scrollToNode(TreeNode)}, the latter
+ * scrolls by using the function given at construction (for example, {@code scrollToIndex} for flows and
+ * {@code scrollToRow} for tables).
+ *
+ * @param <T> the type of the nodes' values
+ */
+public class TreeItemsController<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final ObjectProperty<ObservableList<TreeNode<T>>> items;
+	private final IntConsumer scroller;
+
+	private final ObjectProperty<TreeNode<T>> root = new SimpleObjectProperty<>() {
+		@Override
+		protected void invalidated() {
+			onTreeChanged();
+		}
+	};
+	private final BooleanProperty showRoot = new SimpleBooleanProperty(false) {
+		@Override
+		protected void invalidated() {
+			onTreeChanged();
+		}
+	};
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public TreeItemsController(ObjectProperty<ObservableList<TreeNode<T>>> items, IntConsumer scroller) {
+		this.items = items;
+		this.scroller = scroller;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Called when the root or the {@link #showRootProperty()} change. Detaches the old {@link TreeList}
+	 * and sets a new one as the control's items list.
+	 */
+	protected void onTreeChanged() {
+		ObservableList<TreeNode<T>> old = items.get();
+		if (old instanceof TreeList) ((TreeList<T>) old).dispose();
+
+		TreeNode<T> root = getRoot();
+		items.set(root != null ? new TreeList<>(root, isShowRoot()) : FXCollections.observableArrayList());
+	}
+
+	/**
+	 * Expands the given node and all its ancestors.
+	 */
+	public void expand(TreeNode<T> node) {
+		TreeNode<T> parent = node.getParent();
+		if (parent != null) expand(parent);
+		node.setExpanded(true);
+	}
+
+	/**
+	 * Collapses the given node.
+	 */
+	public void collapse(TreeNode<T> node) {
+		node.setExpanded(false);
+	}
+
+	/**
+	 * Expands all the ancestors of the given node and scrolls to it.
+	 */
+	public void scrollToNode(TreeNode<T> node) {
+		TreeNode<T> parent = node.getParent();
+		if (parent != null) expand(parent);
+		int index = items.get().indexOf(node);
+		if (index >= 0) scroller.accept(index);
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the control's items list as a {@link TreeList}, null if no root has been set
+	 */
+	public TreeList<T> getTreeList() {
+		ObservableList<TreeNode<T>> list = items.get();
+		return (list instanceof TreeList) ? ((TreeList<T>) list) : null;
+	}
+
+	public TreeNode<T> getRoot() {
+		return root.get();
+	}
+
+	/**
+	 * Specifies the root of the tree to display.
+	 */
+	public ObjectProperty<TreeNode<T>> rootProperty() {
+		return root;
+	}
+
+	public void setRoot(TreeNode<T> root) {
+		this.root.set(root);
+	}
+
+	public boolean isShowRoot() {
+		return showRoot.get();
+	}
+
+	/**
+	 * Specifies whether the root is displayed, if false the first level of the tree are the root's children.
+	 */
+	public BooleanProperty showRootProperty() {
+		return showRoot;
+	}
+
+	public void setShowRoot(boolean showRoot) {
+		this.showRoot.set(showRoot);
+	}
+}
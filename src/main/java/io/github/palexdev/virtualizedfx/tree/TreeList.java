@@ -0,0 +1,220 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.tree;
+
+import io.github.palexdev.virtualizedfx.flow.FlowManager;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableListBase;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * A read-only {@link javafx.collections.ObservableList} which is the flattened view of the visible nodes of a tree,
+ * in depth-first order. This is the items list of a {@link VirtualTree}.
+ * <p></p>
+ * The list never stores the nodes. {@link #get(int)} and {@link #indexOf(Object)} are answered by the order-statistic
+ * structure maintained by the nodes, see {@link TreeNode}. The size is the visible count of the root.
+ * <p>
+ * The expansion or collapse of a node is notified as a single contiguous change. The removed nodes of such changes are
+ * not copied, they are provided by a view on the collapsed subtree, so notifying the collapse of a huge subtree costs
+ * the same as a small one. This also means that {@link ListChangeListener.Change#getRemoved()} is valid only during
+ * the notification. Such changes are processed by {@link FlowManager} without resetting the viewport,
+ * see {@link FlowManager#onSplice(ListChangeListener.Change)}.
+ *
+ * @param <T> the type of the nodes' values
+ */
+public class TreeList<T> extends ObservableListBase<TreeNode<T>> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final TreeNode<T> root;
+	private final boolean showRoot;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public TreeList(TreeNode<T> root) {
+		this(root, false);
+	}
+
+	/**
+	 * @param root     the root of the tree
+	 * @param showRoot whether the root is part of the list. If false, the list starts with the root's children
+	 * @throws IllegalArgumentException if the given node is not a root, or is already attached to another list
+	 */
+	public TreeList(TreeNode<T> root, boolean showRoot) {
+		Objects.requireNonNull(root, "Root cannot be null");
+		if (root.getParent() != null) throw new IllegalArgumentException("The given node is not a root");
+		if (root.list != null) throw new IllegalArgumentException("The given root is already attached to another list");
+		this.root = root;
+		this.showRoot = showRoot;
+		root.list = this;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Detaches the root from this list, changes in the tree won't be notified anymore.
+	 */
+	public void dispose() {
+		if (root.list == this) root.list = null;
+	}
+
+	void fireAdd(int from, int count) {
+		fireChange(new SpliceChange<>(this, from, from + count, List.of()));
+	}
+
+	void fireRemove(int from, int count, IntFunction<TreeNode<T>> removed) {
+		fireChange(new SpliceChange<>(this, from, from, new AbstractList<>() {
+			@Override
+			public TreeNode<T> get(int index) {
+				Objects.checkIndex(index, count);
+				return removed.apply(index);
+			}
+
+			@Override
+			public int size() {
+				return count;
+			}
+		}));
+	}
+
+	void fireSet(int index, TreeNode<T> node) {
+		beginChange();
+		nextSet(index, node);
+		endChange();
+	}
+
+	//================================================================================
+	// Overridden Methods
+	//================================================================================
+	@Override
+	public TreeNode<T> get(int index) {
+		Objects.checkIndex(index, size());
+		return root.nodeAt(showRoot ? index : index + 1);
+	}
+
+	@Override
+	public int size() {
+		return showRoot ? root.getVisibleCount() : root.getVisibleCount() - 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Overridden to compute the index through the tree structure rather than scanning the list.
+	 */
+	@Override
+	public int indexOf(Object o) {
+		if (!(o instanceof TreeNode)) return -1;
+		TreeNode<?> node = (TreeNode<?>) o;
+		if (node.getRoot() != root || !node.isVisible()) return -1;
+		return node.visibleIndex();
+	}
+
+	@Override
+	public int lastIndexOf(Object o) {
+		return indexOf(o);
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public TreeNode<T> getRoot() {
+		return root;
+	}
+
+	/**
+	 * @return whether the root is part of the list
+	 */
+	public boolean isShowRoot() {
+		return showRoot;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+
+	/**
+	 * A change made of a single contiguous addition or removal, whose removed list is not copied.
+	 */
+	private static class SpliceChange<T> extends ListChangeListener.Change<TreeNode<T>> {
+		private final int from;
+		private final int to;
+		private final List<TreeNode<T>> removed;
+		private int cursor = -1;
+
+		public SpliceChange(TreeList<T> list, int from, int to, List<TreeNode<T>> removed) {
+			super(list);
+			this.from = from;
+			this.to = to;
+			this.removed = removed;
+		}
+
+		@Override
+		public boolean next() {
+			cursor++;
+			return cursor == 0;
+		}
+
+		@Override
+		public void reset() {
+			cursor = -1;
+		}
+
+		@Override
+		public int getFrom() {
+			checkState();
+			return from;
+		}
+
+		@Override
+		public int getTo() {
+			checkState();
+			return to;
+		}
+
+		@Override
+		public List<TreeNode<T>> getRemoved() {
+			checkState();
+			return removed;
+		}
+
+		@Override
+		protected int[] getPermutation() {
+			checkState();
+			return new int[0];
+		}
+
+		private void checkState() {
+			if (cursor != 0) throw new IllegalStateException("Invalid Change state: next() must be called before inspecting the Change.");
+		}
+	}
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.tree;
+
+import java.util.*;
+
+/**
+ * A node of a tree displayed by a {@link VirtualTree} through a {@link TreeList}.
+ * <p></p>
+ * To make the flattened view of the tree efficient, each node keeps track of its number of visible nodes,
+ * the node itself plus, if expanded, the visible nodes of its children. The visible counts of the children are stored in a
+ * Fenwick tree (binary indexed tree), which is an order-statistic structure that allows to:
+ * <p> - Find which child contains the n-th visible node of the subtree in O(log k), k being the number of children
+ * <p> - Update the count of a child in O(log k)
+ * <p>
+ * This means that finding the node at a given visible index, computing the visible index of a node, and propagating the
+ * counts after an expansion/collapse cost O(d * log k), d being the depth of the node. Which, for any reasonably
+ * shaped tree, is O(log n) regardless of the number of nodes.
+ * <p>
+ * Appending children costs O(log k) each, inserting or removing children at any other position costs O(k) since all the
+ * following children must be re-indexed.
+ * <p></p>
+ * Changes are notified by the {@link TreeList} the root of this node is attached to (if any), and only if the
+ * affected nodes are visible. Expanding or collapsing a node is notified as a single contiguous addition or removal, which
+ * the {@code VirtualFlow} can process without resetting its state. The same goes for adding or removing children.
+ * <p></p>
+ * Nodes are not thread-safe and must be modified on the thread that owns the {@link TreeList}.
+ *
+ * @param <T> the type of value
+ */
+public class TreeNode<T> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private T value;
+	private TreeNode<T> parent;
+	private int indexInParent = -1;
+	private List<TreeNode<T>> children = new ArrayList<>();
+	private int[] counts = new int[1];
+	private int descendants = 0;
+	private int visibleCount = 1;
+	private boolean expanded = false;
+	TreeList<T> list;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public TreeNode(T value) {
+		this.value = value;
+	}
+
+	public TreeNode(T value, boolean expanded) {
+		this.value = value;
+		this.expanded = expanded;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Appends the given node to the children of this node.
+	 *
+	 * @throws IllegalArgumentException if the node already has a parent
+	 */
+	public void addChild(TreeNode<T> child) {
+		addChild(children.size(), child);
+	}
+
+	/**
+	 * Adds the given node to the children of this node at the given index.
+	 *
+	 * @throws IllegalArgumentException if the node already has a parent
+	 */
+	public void addChild(int index, TreeNode<T> child) {
+		Objects.checkIndex(index, children.size() + 1);
+		checkOrphan(child);
+		child.parent = this;
+		if (index == children.size()) {
+			append(child);
+		} else {
+			children.add(index, child);
+			reindex(index);
+		}
+		childrenAdded(index, child.visibleCount);
+	}
+
+	/**
+	 * Appends all the given nodes to the children of this node. If this node is visible and expanded,
+	 * the addition is notified as a single change.
+	 *
+	 * @throws IllegalArgumentException if any of the nodes already has a parent
+	 */
+	public void addChildren(Collection<? extends TreeNode<T>> nodes) {
+		if (nodes.isEmpty()) return;
+		for (TreeNode<T> node : nodes) checkOrphan(node);
+
+		int from = children.size();
+		int count = 0;
+		for (TreeNode<T> node : nodes) {
+			node.parent = this;
+			append(node);
+			count += node.visibleCount;
+		}
+		childrenAdded(from, count);
+	}
+
+	/**
+	 * Removes the child at the given index.
+	 *
+	 * @return the removed child
+	 */
+	public TreeNode<T> removeChild(int index) {
+		TreeNode<T> child = children.get(index);
+		int count = child.visibleCount;
+		int from = childrenVisible() ? child.visibleIndex() : -1;
+
+		children.remove(index);
+		child.parent = null;
+		child.indexInParent = -1;
+		reindex(index);
+		descendants -= count;
+		propagate(-count);
+		if (from >= 0) getList().fireRemove(from, count, child::nodeAt);
+		return child;
+	}
+
+	/**
+	 * Removes the given node from the children of this node.
+	 *
+	 * @return whether the node was a child of this node
+	 */
+	public boolean removeChild(TreeNode<T> child) {
+		if (child.parent != this) return false;
+		removeChild(child.indexInParent);
+		return true;
+	}
+
+	/**
+	 * Removes all the children of this node. If this node is visible and expanded,
+	 * the removal is notified as a single change.
+	 */
+	public void clearChildren() {
+		if (children.isEmpty()) return;
+		int count = descendants;
+		int from = childrenVisible() ? visibleIndex() + 1 : -1;
+
+		// The old children and counts are moved to a detached node
+		// which provides the removed nodes to the listeners
+		TreeNode<T> old = new TreeNode<>(null, true);
+		old.children = children;
+		old.counts = counts;
+		old.descendants = descendants;
+		for (TreeNode<T> child : children) child.parent = null;
+
+		children = new ArrayList<>();
+		counts = new int[1];
+		descendants = 0;
+		propagate(-count);
+		if (from >= 0) getList().fireRemove(from, count, old::descendantAt);
+	}
+
+	/**
+	 * Notifies the {@link TreeList} that this node changed, if visible, as a replacement of the node with itself.
+	 * This can be used to update the cell displaying the node when the value changes internally.
+	 */
+	public void refresh() {
+		if (isVisible()) getList().fireSet(visibleIndex(), this);
+	}
+
+	/**
+	 * @return the visible node at the given offset in this subtree, 0 is this node. This node is considered as
+	 * expanded even if it's not, so that the same method can provide the nodes removed by a collapse
+	 */
+	public TreeNode<T> nodeAt(int offset) {
+		return (offset == 0) ? this : descendantAt(offset - 1);
+	}
+
+	/**
+	 * @return the visible node at the given offset among the descendants of this node,
+	 * see {@link #nodeAt(int)}
+	 */
+	protected TreeNode<T> descendantAt(int offset) {
+		TreeNode<T> node = this;
+		int rem = offset;
+		while (true) {
+			int child = node.findChild(rem);
+			rem -= node.prefix(child);
+			node = node.children.get(child);
+			if (rem == 0) return node;
+			rem--;
+		}
+	}
+
+	/**
+	 * @return the index of this node in the flattened view of the tree. The result is meaningful
+	 * only if the node is visible, see {@link #isVisible()}
+	 */
+	public int visibleIndex() {
+		int index = 0;
+		TreeNode<T> node = this;
+		while (node.parent != null) {
+			TreeNode<T> p = node.parent;
+			index += 1 + p.prefix(node.indexInParent);
+			node = p;
+		}
+		TreeList<T> list = node.list;
+		return (list != null && !list.isShowRoot()) ? index - 1 : index;
+	}
+
+	/**
+	 * @return whether this node is part of the flattened view of a {@link TreeList},
+	 * so all its ancestors are expanded and the root is attached to a list
+	 */
+	public boolean isVisible() {
+		TreeNode<T> node = this;
+		while (node.parent != null) {
+			node = node.parent;
+			if (!node.expanded) return false;
+		}
+		return node.list != null && (node != this || node.list.isShowRoot());
+	}
+
+	/**
+	 * @return the {@link TreeList} to which the root of this node is attached, null if none
+	 */
+	public TreeList<T> getList() {
+		return getRoot().list;
+	}
+
+	/**
+	 * @return the root of the tree this node belongs to
+	 */
+	public TreeNode<T> getRoot() {
+		TreeNode<T> node = this;
+		while (node.parent != null) node = node.parent;
+		return node;
+	}
+
+	/**
+	 * @return the number of ancestors of this node
+	 */
+	public int getDepth() {
+		int depth = 0;
+		TreeNode<T> node = this;
+		while (node.parent != null) {
+			node = node.parent;
+			depth++;
+		}
+		return depth;
+	}
+
+	public boolean isLeaf() {
+		return children.isEmpty();
+	}
+
+	/**
+	 * @return whether this is the root of a {@link TreeList} which doesn't show it, see {@link TreeList#isShowRoot()}
+	 */
+	private boolean isHiddenRoot() {
+		return parent == null && list != null && !list.isShowRoot();
+	}
+
+	/**
+	 * @return whether the children of this node are part of the flattened view of a {@link TreeList}
+	 */
+	private boolean childrenVisible() {
+		return expanded && (isVisible() || isHiddenRoot());
+	}
+
+	private void checkOrphan(TreeNode<T> node) {
+		if (node.parent != null || node.list != null)
+			throw new IllegalArgumentException("The node is already part of a tree");
+	}
+
+	/**
+	 * Updates the counts and notifies the change after children have been added, starting from the given index.
+	 */
+	private void childrenAdded(int index, int count) {
+		descendants += count;
+		propagate(count);
+		if (childrenVisible()) {
+			getList().fireAdd(children.get(index).visibleIndex(), count);
+		}
+	}
+
+	/**
+	 * If this node is expanded, adds the given delta to its visible count, and to the counts of all its
+	 * expanded ancestors.
+	 */
+	private void propagate(int delta) {
+		if (delta == 0) return;
+		TreeNode<T> node = this;
+		while (node.expanded) {
+			node.visibleCount += delta;
+			TreeNode<T> p = node.parent;
+			if (p == null) return;
+			p.update(node.indexInParent, delta);
+			p.descendants += delta;
+			node = p;
+		}
+	}
+
+	//================================================================================
+	// Fenwick Tree
+	//================================================================================
+
+	/**
+	 * Appends the given child, its count is added to the Fenwick tree in O(log k).
+	 */
+	private void append(TreeNode<T> child) {
+		int k = children.size() + 1;
+		if (k >= counts.length) counts = Arrays.copyOf(counts, Math.max(k + 1, counts.length << 1));
+		child.indexInParent = k - 1;
+		children.add(child);
+		counts[k] = child.visibleCount + prefix(k - 1) - prefix(k - (k & -k));
+	}
+
+	/**
+	 * Updates the index of the children starting from the given one and rebuilds the Fenwick tree in O(k).
+	 */
+	private void reindex(int from) {
+		for (int i = from; i < children.size(); i++) {
+			children.get(i).indexInParent = i;
+		}
+		int size = children.size();
+		if (size + 1 > counts.length) counts = new int[Math.max(size + 1, counts.length << 1)];
+		Arrays.fill(counts, 0);
+		for (int i = 1; i <= size; i++) {
+			counts[i] += children.get(i - 1).visibleCount;
+			int j = i + (i & -i);
+			if (j <= size) counts[j] += counts[i];
+		}
+	}
+
+	private void update(int child, int delta) {
+		int size = children.size();
+		for (int i = child + 1; i <= size; i += i & -i) {
+			counts[i] += delta;
+		}
+	}
+
+	/**
+	 * @return the sum of the visible counts of the first {@code n} children
+	 */
+	private int prefix(int n) {
+		int sum = 0;
+		for (int i = n; i > 0; i -= i & -i) {
+			sum += counts[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * @return the index of the child whose subtree contains the given offset among the descendants
+	 */
+	private int findChild(int offset) {
+		int size = children.size();
+		int pos = 0;
+		int rem = offset;
+		for (int step = Integer.highestOneBit(Math.max(size, 1)); step > 0; step >>= 1) {
+			int next = pos + step;
+			if (next <= size && counts[next] <= rem) {
+				pos = next;
+				rem -= counts[next];
+			}
+		}
+		return pos;
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public T getValue() {
+		return value;
+	}
+
+	/**
+	 * Sets the value of this node. If the node is visible, this is notified as a replacement.
+	 */
+	public void setValue(T value) {
+		this.value = value;
+		refresh();
+	}
+
+	public TreeNode<T> getParent() {
+		return parent;
+	}
+
+	/**
+	 * @return an unmodifiable view of the children
+	 */
+	public List<TreeNode<T>> getChildren() {
+		return Collections.unmodifiableList(children);
+	}
+
+	/**
+	 * @return the number of visible nodes in this subtree, including this node
+	 */
+	public int getVisibleCount() {
+		return visibleCount;
+	}
+
+	public boolean isExpanded() {
+		return expanded;
+	}
+
+	/**
+	 * Expands or collapses this node. If the node is visible, the change is notified as a single
+	 * addition or removal of all the visible descendants.
+	 */
+	public void setExpanded(boolean expanded) {
+		if (this.expanded == expanded) return;
+		int count = descendants;
+		int from = (isVisible() || isHiddenRoot()) ? visibleIndex() + 1 : -1;
+
+		if (expanded) {
+			this.expanded = true;
+			propagate(count);
+		} else {
+			propagate(-count);
+			this.expanded = false;
+		}
+
+		if (from < 0 || count == 0) return;
+		if (expanded) {
+			getList().fireAdd(from, count);
+		} else {
+			getList().fireRemove(from, count, this::descendantAt);
+		}
+	}
+
+	/**
+	 * Convenience method to toggle {@link #setExpanded(boolean)}.
+	 */
+	public void toggle() {
+		setExpanded(!expanded);
+	}
+}
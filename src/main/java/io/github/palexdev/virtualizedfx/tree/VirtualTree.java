@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.tree;
+
+import io.github.palexdev.virtualizedfx.cell.Cell;
+import io.github.palexdev.virtualizedfx.flow.VirtualFlow;
+import io.github.palexdev.virtualizedfx.table.tree.VirtualTreeTable;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.collections.FXCollections;
+
+import java.util.function.Function;
+
+/**
+ * Extension of {@link VirtualFlow} to display trees.
+ * <p></p>
+ * The tree is given by its root, {@link #rootProperty()}. The flow's items list is a {@link TreeList}, the flattened
+ * view of the visible nodes, which is re-built every time the root or the {@link #showRootProperty()} change.
+ * Both are managed by a {@link TreeItemsController}, shared with the {@link VirtualTreeTable}.
+ * <p>
+ * Thanks to the order-statistic structure maintained by the {@link TreeNode}s, retrieving the node at a given index
+ * and expanding/collapsing a node cost O(log n) (for reasonably shaped trees), no matter how many nodes the tree has.
+ * Expansions and collapses are notified as single contiguous changes which are processed without resetting the
+ * viewport, only the cells after the affected node are updated.
+ * <p></p>
+ * Cells receive {@link TreeNode}s as items, the indentation can be computed from {@link TreeNode#getDepth()}.
+ *
+ * @param <T> the type of the nodes' values
+ * @param <C> the type of {@code Cell} to use
+ */
+public class VirtualTree<T, C extends Cell<TreeNode<T>>> extends VirtualFlow<TreeNode<T>, C> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final String STYLE_CLASS = "virtual-tree";
+
+	private final TreeItemsController<T> treeItems = new TreeItemsController<>(itemsProperty(), this::scrollToIndex);
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public VirtualTree() {
+		super();
+		initialize();
+	}
+
+	public VirtualTree(TreeNode<T> root, Function<TreeNode<T>, C> cellFactory) {
+		super(FXCollections.observableArrayList(), cellFactory);
+		initialize();
+		setRoot(root);
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+	private void initialize() {
+		getStyleClass().add(STYLE_CLASS);
+	}
+
+	/**
+	 * Expands the given node and all its ancestors, see {@link TreeItemsController#expand(TreeNode)}.
+	 */
+	public void expand(TreeNode<T> node) {
+		treeItems.expand(node);
+	}
+
+	/**
+	 * Collapses the given node.
+	 */
+	public void collapse(TreeNode<T> node) {
+		treeItems.collapse(node);
+	}
+
+	/**
+	 * Expands all the ancestors of the given node and scrolls to it.
+	 */
+	public void scrollToNode(TreeNode<T> node) {
+		treeItems.scrollToNode(node);
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+
+	/**
+	 * @return the helper which keeps the items list in sync with the tree, see {@link TreeItemsController}
+	 */
+	protected TreeItemsController<T> getTreeItems() {
+		return treeItems;
+	}
+
+	/**
+	 * @return the items list as a {@link TreeList}, null if no root has been set
+	 */
+	public TreeList<T> getTreeList() {
+		return treeItems.getTreeList();
+	}
+
+	public TreeNode<T> getRoot() {
+		return treeItems.getRoot();
+	}
+
+	/**
+	 * Specifies the root of the tree to display.
+	 */
+	public ObjectProperty<TreeNode<T>> rootProperty() {
+		return treeItems.rootProperty();
+	}
+
+	public void setRoot(TreeNode<T> root) {
+		treeItems.setRoot(root);
+	}
+
+	public boolean isShowRoot() {
+		return treeItems.isShowRoot();
+	}
+
+	/**
+	 * Specifies whether the root is displayed, if false the first level of the tree are the root's children.
+	 */
+	public BooleanProperty showRootProperty() {
+		return treeItems.showRootProperty();
+	}
+
+	public void setShowRoot(boolean showRoot) {
+		treeItems.setShowRoot(showRoot);
+	}
+}
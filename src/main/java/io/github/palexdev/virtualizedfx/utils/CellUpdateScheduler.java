@@ -0,0 +1,255 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import io.github.palexdev.virtualizedfx.cell.Cell;
+import javafx.animation.AnimationTimer;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Time-slices expensive updates (typically {@link Cell#updateItem(Object)}) across multiple pulses.
+ * <p></p>
+ * Updates are scheduled by key (a cell, a row...) with a priority, the lower the value the higher the priority.
+ * Virtualized controls use the distance from the viewport's center, so that central cells are updated first.
+ * Scheduling a key which is already scheduled simply replaces its priority, the update is executed only once.
+ * <p>
+ * {@link #run()} executes as many updates as possible within the time budget, {@link #getBudget()}.
+ * The budget is per pulse, not per call: if {@link #run()} is called multiple times before the next pulse
+ * (e.g. for several scroll events), the calls share what's left of it, each one executing at least one update.
+ * Updates that don't fit are marked as pending (the pending hook is called with {@code true}), and an
+ * {@link AnimationTimer} takes care of executing them over the next pulses, each pulse with a new budget.
+ * When an update is finally executed, the pending hook is called again with {@code false}.
+ * <p>
+ * Note that the updater function is responsible for retrieving the up-to-date data for the key when executed,
+ * since the state of the control may have changed in the meanwhile.
+ * <p></p>
+ * A budget less or equal to 0 means that there's no limit, every scheduled update is executed on {@link #run()}.
+ *
+ * @param <K> the type of keys
+ */
+public class CellUpdateScheduler<K> {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Consumer<K> updater;
+	private final BiConsumer<K, Boolean> pendingHook;
+	private final Map<K, Task> tasks = new IdentityHashMap<>();
+	private double budget = 0.0;
+	private long spent = 0;
+
+	private AnimationTimer timer;
+	private boolean pulsing = false;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public CellUpdateScheduler(Consumer<K> updater, BiConsumer<K, Boolean> pendingHook) {
+		this.updater = updater;
+		this.pendingHook = pendingHook;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Schedules an update for the given key with the given priority (lower values first).
+	 * <p>
+	 * The update is not executed until {@link #run()} is called, either by the user or by the timer.
+	 */
+	public void schedule(K key, double priority) {
+		Task task = tasks.get(key);
+		if (task != null) {
+			task.priority = priority;
+			return;
+		}
+		tasks.put(key, new Task(key, priority));
+	}
+
+	/**
+	 * Removes the update for the given key, if it was marked as pending the hook is called with {@code false}.
+	 *
+	 * @return whether an update was scheduled for the key
+	 */
+	public boolean cancel(K key) {
+		Task task = tasks.remove(key);
+		if (task == null) return false;
+		if (task.pending) pendingHook.accept(key, false);
+		return true;
+	}
+
+	/**
+	 * Calls {@link #run(double)} with {@link #getBudget()}.
+	 */
+	public int run() {
+		return run(budget);
+	}
+
+	/**
+	 * Executes the scheduled updates in priority order until the given budget (in milliseconds) is exhausted.
+	 * The time already spent by previous runs in the same pulse counts towards the budget.
+	 * At least one update is always executed.
+	 * <p>
+	 * The remaining updates are marked as pending and the timer is started to process them in the next pulses.
+	 * The timer is also started when the queue has been emptied, to reset the spent time at the next pulse.
+	 *
+	 * @return the number of executed updates
+	 */
+	public int run(double budget) {
+		if (tasks.isEmpty()) return 0;
+
+		List<Task> queue = new ArrayList<>(tasks.values());
+		queue.sort(Comparator.comparingDouble(t -> t.priority));
+		long limit = (budget > 0) ? (long) (budget * 1_000_000) : Long.MAX_VALUE;
+		long start = System.nanoTime();
+		int executed = 0;
+		for (Task task : queue) {
+			if (executed > 0 && spent + System.nanoTime() - start >= limit) break;
+			tasks.remove(task.key);
+			updater.accept(task.key);
+			if (task.pending) pendingHook.accept(task.key, false);
+			executed++;
+		}
+		spent += System.nanoTime() - start;
+
+		for (Task task : tasks.values()) {
+			if (task.pending) continue;
+			task.pending = true;
+			pendingHook.accept(task.key, true);
+		}
+
+		requestPulse();
+		return executed;
+	}
+
+	/**
+	 * Executes all the scheduled updates regardless of the budget.
+	 */
+	public void flush() {
+		run(0);
+	}
+
+	/**
+	 * Removes all the scheduled updates without executing them, pending keys are notified through the hook.
+	 */
+	public void clear() {
+		List<Task> removed = new ArrayList<>(tasks.values());
+		tasks.clear();
+		stopPulse();
+		removed.stream()
+				.filter(t -> t.pending)
+				.forEach(t -> pendingHook.accept(t.key, false));
+	}
+
+	/**
+	 * @return whether an update is scheduled for the given key
+	 */
+	public boolean isScheduled(K key) {
+		return tasks.containsKey(key);
+	}
+
+	/**
+	 * @return whether the given key has been marked as pending, which means that its update didn't fit
+	 * in the budget and will be executed in one of the next pulses
+	 */
+	public boolean isPending(K key) {
+		Task task = tasks.get(key);
+		return task != null && task.pending;
+	}
+
+	/**
+	 * @return the number of scheduled updates
+	 */
+	public int size() {
+		return tasks.size();
+	}
+
+	/**
+	 * Executed by the {@link AnimationTimer} at the start of every pulse. Resets the time spent on updates,
+	 * then either runs the pending updates or stops the timer if there are none.
+	 */
+	protected void onPulse() {
+		spent = 0;
+		if (tasks.isEmpty()) {
+			stopPulse();
+			return;
+		}
+		run();
+	}
+
+	/**
+	 * Starts the {@link AnimationTimer} which calls {@link #onPulse()} on each pulse.
+	 */
+	protected void requestPulse() {
+		if (pulsing) return;
+		if (timer == null) {
+			timer = new AnimationTimer() {
+				@Override
+				public void handle(long now) {
+					onPulse();
+				}
+			};
+		}
+		pulsing = true;
+		timer.start();
+	}
+
+	/**
+	 * Stops the {@link AnimationTimer} and resets the time spent on updates.
+	 */
+	protected void stopPulse() {
+		spent = 0;
+		if (!pulsing) return;
+		pulsing = false;
+		timer.stop();
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public double getBudget() {
+		return budget;
+	}
+
+	/**
+	 * Sets the maximum amount of time, in milliseconds, that can be spent on updates during a single pulse.
+	 * Values less or equal to 0 disable the limit.
+	 */
+	public void setBudget(double budget) {
+		this.budget = budget;
+	}
+
+	//================================================================================
+	// Internal Classes
+	//================================================================================
+	private class Task {
+		private final K key;
+		private double priority;
+		private boolean pending = false;
+
+		private Task(K key, double priority) {
+			this.key = key;
+			this.priority = priority;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+
+import java.util.*;
+
+/**
+ * Utilities for the management of the viewports' nodes.
+ */
+public class NodeUtils {
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	private NodeUtils() {
+	}
+
+	//================================================================================
+	// Static Methods
+	//================================================================================
+
+	/**
+	 * Updates the given children list so that it contains the given nodes by applying only the delta:
+	 * the nodes which are not needed anymore are removed with a single {@link ObservableList#removeAll(Collection)},
+	 * the missing ones are added at the end with a single {@link ObservableList#addAll(Collection)}.
+	 * Nodes that are in both lists are not touched, unlike {@link ObservableList#setAll(Collection)} which would
+	 * detach and re-attach them, causing CSS to be re-applied and the scene graph bookkeeping to run again for every node.
+	 * <p>
+	 * Nodes are compared by identity. <b>Note</b> that the order of the children list is not guaranteed to match the
+	 * order of the given nodes, virtualized controls position their nodes during layout, so the order doesn't matter.
+	 *
+	 * @return whether the children list changed
+	 */
+	public static boolean updateChildren(ObservableList<Node> children, Collection<? extends Node> nodes) {
+		Set<Node> target = Collections.newSetFromMap(new IdentityHashMap<>(nodes.size()));
+		target.addAll(nodes);
+		Set<Node> current = Collections.newSetFromMap(new IdentityHashMap<>(children.size()));
+		Set<Node> toRemove = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Node child : children) {
+			current.add(child);
+			if (!target.contains(child)) toRemove.add(child);
+		}
+
+		List<Node> toAdd = new ArrayList<>();
+		for (Node node : nodes) {
+			if (!current.contains(node)) toAdd.add(node);
+		}
+
+		if (!toRemove.isEmpty()) children.removeAll(toRemove);
+		if (!toAdd.isEmpty()) children.addAll(toAdd);
+		return !toRemove.isEmpty() || !toAdd.isEmpty();
+	}
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import io.github.palexdev.virtualizedfx.cell.Cell;
+import javafx.animation.PauseTransition;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.util.Duration;
+
+/**
+ * Tracks the scroll velocity (in pixels per second) of a virtualized control from the scroll position updates.
+ * <p></p>
+ * Each call to {@link #update(double)} computes the instantaneous velocity from the previous sample,
+ * the result is smoothed with an exponential moving average to filter out the noise caused by irregular
+ * event timings. The velocity can be observed with {@link #velocityProperty()}.
+ * <p>
+ * When no updates occur for {@link #getSettleDelay()} the scroll is considered settled: the velocity is set to 0 and
+ * the {@code onSettle} action is executed.
+ * <p></p>
+ * Virtualized controls use this to render cells in a lightweight way while scrolling fast, see {@link Cell#updateItemFast(Object)}.
+ */
+public class ScrollVelocityTracker {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final ReadOnlyDoubleWrapper velocity = new ReadOnlyDoubleWrapper(0.0);
+	private final Runnable onSettle;
+	private double smoothing = 0.5;
+	private Duration settleDelay = Duration.millis(120);
+
+	private double lastPos = Double.NaN;
+	private long lastTime;
+	private PauseTransition settleTimer;
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public ScrollVelocityTracker(Runnable onSettle) {
+		this.onSettle = onSettle;
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+
+	/**
+	 * Calls {@link #update(double, long)} with {@link System#nanoTime()}.
+	 */
+	public double update(double position) {
+		return update(position, System.nanoTime());
+	}
+
+	/**
+	 * Adds a new sample and re-computes the velocity.
+	 * <p>
+	 * Samples that come after a pause longer than the settle delay start a new measurement, previous history is discarded.
+	 * Samples with the same timestamp of the previous one are ignored.
+	 *
+	 * @param position the scroll position
+	 * @param nanos    the sample's timestamp in nanoseconds
+	 * @return the new velocity
+	 */
+	public double update(double position, long nanos) {
+		scheduleSettle();
+		if (Double.isNaN(lastPos)) {
+			lastPos = position;
+			lastTime = nanos;
+			return getVelocity();
+		}
+
+		double dt = (nanos - lastTime) / 1e9;
+		if (dt <= 0) return getVelocity();
+
+		double instant = Math.abs(position - lastPos) / dt;
+		double newVelocity = (dt * 1000 > settleDelay.toMillis()) ?
+				instant :
+				smoothing * instant + (1 - smoothing) * getVelocity();
+		lastPos = position;
+		lastTime = nanos;
+		velocity.set(newVelocity);
+		return newVelocity;
+	}
+
+	/**
+	 * Resets the velocity to 0, discards the last sample and executes the {@code onSettle} action.
+	 * <p>
+	 * Automatically called after {@link #getSettleDelay()} since the last update.
+	 */
+	public void settle() {
+		velocity.set(0.0);
+		lastPos = Double.NaN;
+		if (onSettle != null) onSettle.run();
+	}
+
+	/**
+	 * Stops the settle timer and resets the velocity without running the {@code onSettle} action.
+	 */
+	public void reset() {
+		if (settleTimer != null) settleTimer.stop();
+		velocity.set(0.0);
+		lastPos = Double.NaN;
+	}
+
+	/**
+	 * (Re)starts the timer which will call {@link #settle()}.
+	 */
+	protected void scheduleSettle() {
+		if (settleTimer == null) {
+			settleTimer = new PauseTransition();
+			settleTimer.setOnFinished(e -> settle());
+		}
+		settleTimer.setDuration(settleDelay);
+		settleTimer.playFromStart();
+	}
+
+	//================================================================================
+	// Getters/Setters
+	//================================================================================
+	public double getVelocity() {
+		return velocity.get();
+	}
+
+	/**
+	 * Specifies the current scroll velocity in pixels per second.
+	 */
+	public ReadOnlyDoubleProperty velocityProperty() {
+		return velocity.getReadOnlyProperty();
+	}
+
+	public double getSmoothing() {
+		return smoothing;
+	}
+
+	/**
+	 * Sets the weight of the last sample in the moving average, between 0 and 1.
+	 * Higher values make the velocity react faster.
+	 */
+	public void setSmoothing(double smoothing) {
+		this.smoothing = smoothing;
+	}
+
+	public Duration getSettleDelay() {
+		return settleDelay;
+	}
+
+	/**
+	 * Sets the amount of time without updates after which the scroll is considered settled.
+	 */
+	public void setSettleDelay(Duration settleDelay) {
+		this.settleDelay = settleDelay;
+	}
+}
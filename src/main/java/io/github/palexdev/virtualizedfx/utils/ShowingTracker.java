@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package io.github.palexdev.virtualizedfx.utils;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks whether a {@link Node} is actually showing on screen, which means that:
+ * <p> - the node is in a {@link Scene}, which is in a {@link Window} that is showing
+ * <p> - the node and all its ancestors are visible
+ * <p></p>
+ * JavaFX doesn't offer a public API for this, so this listens to the scene, window, showing, parent and visible
+ * properties of the node and its ancestors. The listeners are re-registered every time one of them changes, which is
+ * a rare event, at a cost linear in the depth of the node.
+ * <p>
+ * Virtualized controls use this to suspend their work while not showing, see {@code VirtualTable#suspendWhenHiddenProperty()}.
+ * Don't forget to {@link #dispose()} the tracker when not needed anymore.
+ */
+public class ShowingTracker {
+	//================================================================================
+	// Properties
+	//================================================================================
+	private final Node node;
+	private final ReadOnlyBooleanWrapper showing = new ReadOnlyBooleanWrapper(false);
+	private final InvalidationListener listener = this::invalidated;
+	private final List<Observable> observed = new ArrayList<>();
+
+	//================================================================================
+	// Constructors
+	//================================================================================
+	public ShowingTracker(Node node) {
+		this.node = node;
+		update();
+	}
+
+	//================================================================================
+	// Methods
+	//================================================================================
+	private void invalidated(Observable observable) {
+		update();
+	}
+
+	/**
+	 * Re-registers the listeners on the node's hierarchy and re-computes the showing state.
+	 */
+	protected void update() {
+		unregister();
+
+		boolean visible = true;
+		Node current = node;
+		while (current != null) {
+			register(current.visibleProperty());
+			register(current.parentProperty());
+			visible &= current.isVisible();
+			if (current.getParent() == null) break;
+			current = current.getParent();
+		}
+
+		// The scene of a node is the same as its root's
+		register(node.sceneProperty());
+		Scene scene = node.getScene();
+		Window window = null;
+		if (scene != null) {
+			register(scene.windowProperty());
+			window = scene.getWindow();
+			if (window != null) register(window.showingProperty());
+		}
+		showing.set(visible && window != null && window.isShowing());
+	}
+
+	private void register(Observable observable) {
+		observable.addListener(listener);
+		observed.add(observable);
+	}
+
+	private void unregister() {
+		observed.forEach(o -> o.removeListener(listener));
+		observed.clear();
+	}
+
+	/**
+	 * Removes all the listeners, the showing state won't be updated anymore.
+	 */
+	public void dispose() {
+		unregister();
+	}
+
+	//================================================================================
+	// Getters
+	//================================================================================
+	public Node getNode() {
+		return node;
+	}
+
+	public boolean isShowing() {
+		return showing.get();
+	}
+
+	/**
+	 * Specifies whether the node is showing.
+	 */
+	public ReadOnlyBooleanProperty showingProperty() {
+		return showing.getReadOnlyProperty();
+	}
+}
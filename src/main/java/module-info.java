@@ -16,6 +16,9 @@
 	// Cell Package
 	exports io.github.palexdev.virtualizedfx.cell;
 
+	// Collections Package
+	exports io.github.palexdev.virtualizedfx.collections;
+
 	// Control Package
 	exports io.github.palexdev.virtualizedfx.controls;
 	exports io.github.palexdev.virtualizedfx.controls.behavior;
@@ -27,15 +30,25 @@
 	// Flow Package
 	exports io.github.palexdev.virtualizedfx.flow;
 	exports io.github.palexdev.virtualizedfx.flow.paginated;
+	exports io.github.palexdev.virtualizedfx.flow.sectioned;
 
 	// Grid Package
 	exports io.github.palexdev.virtualizedfx.grid;
+	exports io.github.palexdev.virtualizedfx.grid.lod;
 	exports io.github.palexdev.virtualizedfx.grid.paginated;
 
+	// Layout Package
+	exports io.github.palexdev.virtualizedfx.layout;
+
 	// Table Package
 	exports io.github.palexdev.virtualizedfx.table;
 	exports io.github.palexdev.virtualizedfx.table.paginated;
 	exports io.github.palexdev.virtualizedfx.table.defaults;
+	exports io.github.palexdev.virtualizedfx.table.columnar;
+	exports io.github.palexdev.virtualizedfx.table.tree;
+
+	// Tree Package
+	exports io.github.palexdev.virtualizedfx.tree;
 
 	// Utils
 	exports io.github.palexdev.virtualizedfx.utils;
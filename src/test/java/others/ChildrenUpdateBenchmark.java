@@ -0,0 +1,109 @@
+
+package others;
+
+import io.github.palexdev.virtualizedfx.utils.NodeUtils;
+import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.css.CssMetaData;
+import javafx.css.Styleable;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BiConsumer;
+
+/**
+ * Compares {@link ObservableList#setAll(java.util.Collection)} with {@link NodeUtils#updateChildren(ObservableList, java.util.Collection)}
+ * for the viewports' children updates.
+ * <p>
+ * A viewport with a fixed number of cells goes through a series of transitions, at each transition some cells are
+ * replaced by new ones (as it happens when the viewport is resized or when cells are created/disposed by the states).
+ * For each strategy it counts the attach/detach operations on the children list, the CSS passes on the cells
+ * (approximated by the number of times the CSS engine queries the cells' {@link CssMetaData}) and the time spent.
+ * <p>
+ * Run with: {@code -Dglass.platform=Monocle -Dmonocle.platform=Headless -Dprism.order=sw} to run it headless.
+ */
+public class ChildrenUpdateBenchmark {
+	private static final int CELLS = 60;
+	private static final int TRANSITIONS = 2000;
+	private static final int REPLACED = 3;
+
+	public static void main(String[] args) throws Exception {
+		CountDownLatch latch = new CountDownLatch(1);
+		Platform.startup(() -> {
+			try {
+				run("setAll", ObservableList::setAll);
+				run("diff", NodeUtils::updateChildren);
+				run("setAll", ObservableList::setAll);
+				run("diff", NodeUtils::updateChildren);
+			} finally {
+				latch.countDown();
+			}
+		});
+		latch.await();
+		Platform.exit();
+	}
+
+	private static void run(String name, BiConsumer<ObservableList<Node>, List<Node>> strategy) {
+		Random random = new Random(42);
+		Pane viewport = new Pane();
+		new Scene(viewport, 400, 600);
+
+		int[] attached = new int[1];
+		int[] detached = new int[1];
+		viewport.getChildren().addListener((ListChangeListener<? super Node>) c -> {
+			while (c.next()) {
+				attached[0] += c.getAddedSize();
+				detached[0] += c.getRemovedSize();
+			}
+		});
+
+		List<Node> cells = new ArrayList<>();
+		for (int i = 0; i < CELLS; i++) cells.add(new CountingCell());
+		strategy.accept(viewport.getChildren(), cells);
+		viewport.applyCss();
+		attached[0] = 0;
+		detached[0] = 0;
+		CountingCell.cssQueries = 0;
+
+		long start = System.nanoTime();
+		for (int t = 0; t < TRANSITIONS; t++) {
+			cells = new ArrayList<>(cells);
+			for (int r = 0; r < REPLACED; r++) {
+				cells.set(random.nextInt(CELLS), new CountingCell());
+			}
+			strategy.accept(viewport.getChildren(), cells);
+			viewport.applyCss();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		System.out.printf(
+				"%-7s transitions: %d, attach/transition: %6.2f, detach/transition: %6.2f, css queries/transition: %7.2f, time/transition: %7.2f us%n",
+				name, TRANSITIONS,
+				(double) attached[0] / TRANSITIONS,
+				(double) detached[0] / TRANSITIONS,
+				(double) CountingCell.cssQueries / TRANSITIONS,
+				elapsed / 1000.0 / TRANSITIONS
+		);
+	}
+
+	private static class CountingCell extends Region {
+		private static long cssQueries = 0;
+
+		public CountingCell() {
+			getStyleClass().add("cell");
+		}
+
+		@Override
+		public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() {
+			cssQueries++;
+			return super.getCssMetaData();
+		}
+	}
+}
@@ -1,5 +1,12 @@
 package others;
 
+import javafx.application.Platform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
 public class Utils {
 
 	//================================================================================
@@ -17,4 +24,51 @@ public static void sleep(long millis) {
 		} catch (Exception ignored) {
 		}
 	}
+
+	/**
+	 * Starts the JavaFX toolkit if it's not running yet. This is enough for tests which need controls or
+	 * {@link Platform#runLater(Runnable)} but no {@code Stage}.
+	 */
+	public static void startToolkit() {
+		try {
+			Platform.startup(() -> {});
+		} catch (IllegalStateException ignored) {
+			// Already running
+		}
+		Platform.setImplicitExit(false);
+	}
+
+	/**
+	 * Runs the given action on the JavaFX thread and blocks until it's done. Errors and exceptions thrown by
+	 * the action (failed assertions included) are re-thrown on the calling thread.
+	 */
+	public static void runOnFx(Runnable action) throws Exception {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		Platform.runLater(() -> {
+			try {
+				action.run();
+				future.complete(null);
+			} catch (Throwable t) {
+				future.completeExceptionally(t);
+			}
+		});
+		try {
+			future.get(30, TimeUnit.SECONDS);
+		} catch (ExecutionException ex) {
+			Throwable cause = ex.getCause();
+			if (cause instanceof Error) throw (Error) cause;
+			if (cause instanceof Exception) throw (Exception) cause;
+			throw ex;
+		}
+	}
+
+	/**
+	 * Blocks until all the actions queued with {@link Platform#runLater(Runnable)} before this call have run.
+	 */
+	public static void waitForFx() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		Platform.runLater(latch::countDown);
+		if (!latch.await(10, TimeUnit.SECONDS))
+			throw new IllegalStateException("Timed out while waiting for the JavaFX thread");
+	}
 }
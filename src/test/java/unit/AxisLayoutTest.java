@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.virtualizedfx.layout.AxisLayout;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AxisLayoutTest {
+
+	@Test
+	public void testFixed() {
+		// 100 items of 32px, viewport of 400px
+		assertEquals(14, AxisLayout.maxCells(400, 32));
+		assertEquals(0, AxisLayout.firstVisible(0, 32, 100));
+		assertEquals(3, AxisLayout.firstVisible(100, 32, 100));
+		assertEquals(IntegerRange.of(3, 16), AxisLayout.range(400, 100, 32, 100));
+		assertEquals(-4.0, AxisLayout.offset(100, 32));
+		assertEquals(3200.0, AxisLayout.estimatedLength(100, 32));
+
+		// At the end the range is shifted back to keep the number of cells constant
+		double maxScroll = 3200 - 400;
+		IntegerRange range = AxisLayout.range(400, maxScroll, 32, 100);
+		assertEquals(IntegerRange.of(86, 99), range);
+		assertTrue(AxisLayout.needsAdjust(AxisLayout.firstVisible(maxScroll, 32, 100), 14, 100));
+		double[] positions = AxisLayout.positions(14, 32, true);
+		assertEquals(-32.0, positions[0]);
+		assertEquals(12 * 32.0, positions[13]);
+
+		// Less items than cells
+		assertEquals(IntegerRange.of(0, 4), AxisLayout.range(400, 0, 32, 5));
+		assertFalse(AxisLayout.needsAdjust(0, 14, 100));
+	}
+
+	@Test
+	public void testWrapping() {
+		// Thumbnails of 100px in a viewport of 450px
+		assertEquals(4, AxisLayout.itemsPerLine(450, 100));
+		assertEquals(1, AxisLayout.itemsPerLine(50, 100));
+		assertEquals(1, AxisLayout.itemsPerLine(450, 0));
+		assertEquals(25, AxisLayout.lines(100, 4));
+		assertEquals(26, AxisLayout.lines(101, 4));
+		assertEquals(0, AxisLayout.lines(0, 4));
+	}
+
+	@Test
+	public void fuzzFixed() {
+		Random random = new Random(7);
+		for (int i = 0; i < 10_000; i++) {
+			int count = 1 + random.nextInt(1000);
+			double cellSize = 1 + random.nextInt(100);
+			double viewport = random.nextInt(2000);
+			double maxScroll = Math.max(0, AxisLayout.estimatedLength(count, cellSize) - viewport);
+			double position = random.nextDouble() * maxScroll;
+
+			int maxCells = AxisLayout.maxCells(viewport, cellSize);
+			int first = AxisLayout.firstVisible(position, cellSize, count);
+			IntegerRange range = AxisLayout.range(viewport, position, cellSize, count);
+
+			// Every item intersecting the viewport must be in range
+			for (int j = first; j < count && j * cellSize < position + viewport; j++) {
+				assertTrue(IntegerRange.inRangeOf(j, range), "Item " + j + " not in " + range);
+			}
+			assertEquals(Math.min(maxCells, count), range.diff() + 1);
+			assertTrue(range.getMin() >= 0 && range.getMax() <= count - 1);
+			double offset = AxisLayout.offset(position, cellSize);
+			assertTrue(offset <= 0 && offset > -cellSize);
+		}
+	}
+
+	@Test
+	public void fuzzVariable() {
+		Random random = new Random(11);
+		for (int i = 0; i < 1000; i++) {
+			int count = 1 + random.nextInt(500);
+			double[] sizes = new double[count];
+			double total = 0;
+			for (int j = 0; j < count; j++) {
+				sizes[j] = 1 + random.nextInt(80);
+				total += sizes[j];
+			}
+			double viewport = 1 + random.nextInt(1000);
+			double position = random.nextDouble() * Math.max(0, total - viewport);
+			AxisLayout.Variable layout = new AxisLayout.Variable(viewport, position, count, j -> sizes[j]);
+			assertEquals(total, layout.estimatedLength(), 1e-6);
+
+			// Brute force
+			int bFirst = -1, bLast = -1;
+			double start = 0;
+			for (int j = 0; j < count; j++) {
+				double end = start + sizes[j];
+				if (end > position && start < position + viewport) {
+					if (bFirst == -1) bFirst = j;
+					bLast = j;
+				}
+				start = end;
+			}
+			assertEquals(IntegerRange.of(bFirst, bLast), layout.range());
+
+			double[] positions = layout.positions();
+			assertEquals(bLast - bFirst + 1, positions.length);
+			assertEquals(0.0, positions[0]);
+			for (int j = 1; j < positions.length; j++) {
+				assertEquals(positions[j - 1] + sizes[bFirst + j - 1], positions[j], 1e-6);
+			}
+		}
+	}
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.cell.TableCell;
+import io.github.palexdev.virtualizedfx.cell.TableCellPainter;
+import io.github.palexdev.virtualizedfx.table.TableRow;
+import io.github.palexdev.virtualizedfx.table.VirtualTable;
+import io.github.palexdev.virtualizedfx.table.VirtualTableSkin;
+import io.github.palexdev.virtualizedfx.table.defaults.CanvasTableCell;
+import io.github.palexdev.virtualizedfx.table.defaults.CanvasTableColumn;
+import io.github.palexdev.virtualizedfx.table.defaults.SimpleTableCell;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import others.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CanvasTableColumnTest {
+
+	@BeforeAll
+	public static void startToolkit() {
+		Utils.startToolkit();
+	}
+
+	@Test
+	public void testStrip() throws Exception {
+		Utils.runOnFx(() -> {
+			List<Painted> painted = new ArrayList<>();
+			VirtualTable<Integer> table = table(100, painted);
+			table.layout();
+
+			for (TableRow<Integer> row : table.getState().getRowsUnmodifiable().values()) {
+				List<Node> children = row.getChildrenUnmodifiable();
+				assertEquals(2, children.size());
+				assertEquals(1, children.stream().filter(n -> n instanceof SimpleTableCell).count());
+				assertTrue(children.stream().noneMatch(n -> n instanceof CanvasTableCell));
+
+				Canvas strip = strip(row);
+				assertEquals(row.getWidth(), strip.getWidth());
+				assertEquals(row.getHeight(), strip.getHeight());
+				assertTrue(strip.isMouseTransparent());
+			}
+			assertPainted(table, painted);
+		});
+	}
+
+	@Test
+	public void testScroll() throws Exception {
+		Utils.runOnFx(() -> {
+			List<Painted> painted = new ArrayList<>();
+			VirtualTable<Integer> table = table(100, painted);
+			table.layout();
+
+			// Rows are updated, cells paint their new content immediately and only once
+			painted.clear();
+			table.scrollToRow(30);
+			table.layout();
+			assertFalse(painted.isEmpty());
+			assertTrue(painted.size() <= table.getState().getRowsUnmodifiable().size() * 2);
+			for (Painted p : painted) {
+				assertEquals(String.valueOf(p.item * p.multiplier), p.text);
+				assertEquals(p.multiplier == 1 ? 0 : 200, p.x);
+			}
+			assertEquals(painted.size(), painted.stream().distinct().count());
+			assertCells(table);
+
+			// Nothing changed, nothing to paint
+			painted.clear();
+			table.requestLayout();
+			table.layout();
+			assertTrue(painted.isEmpty());
+		});
+	}
+
+	@Test
+	public void testSameText() throws Exception {
+		Utils.runOnFx(() -> {
+			List<Painted> painted = new ArrayList<>();
+			VirtualTable<Integer> table = table(100, painted);
+			CanvasTableColumn<Integer, String> column = new CanvasTableColumn<>(table, "Same", i -> "same");
+			column.setPainter(painter(3, painted));
+			table.getColumns().add(column);
+			table.layout();
+
+			// The text is the same but the item changed
+			painted.clear();
+			Integer item = 1000;
+			table.getItems().set(0, item);
+			assertEquals(1, painted.stream().filter(p -> p.multiplier == 3).count());
+			assertSame(item, painted.stream().filter(p -> p.multiplier == 3).findFirst().orElseThrow().item);
+
+			// Neither changed
+			painted.clear();
+			table.getState().getRowsUnmodifiable().get(0).getCellsUnmodifiable().values().forEach(TableCell::invalidate);
+			assertTrue(painted.isEmpty());
+		});
+	}
+
+	@Test
+	public void testPainterChanged() throws Exception {
+		Utils.runOnFx(() -> {
+			List<Painted> painted = new ArrayList<>();
+			VirtualTable<Integer> table = table(100, painted);
+			table.layout();
+
+			// New cells are built and the strips painted again with the new painter
+			painted.clear();
+			CanvasTableColumn<Integer, Integer> column = (CanvasTableColumn<Integer, Integer>) table.getColumn(0);
+			column.setPainter(painter(1, painted));
+			table.onColumnChangedFactory(column); // Done by the column's skin, columns are not skinned here
+			table.layout();
+			assertEquals(table.getState().getRowsUnmodifiable().size() * 2, painted.size());
+			assertPainted(table, painted);
+		});
+	}
+
+	//================================================================================
+	// Utils
+	//================================================================================
+
+	/**
+	 * Builds a table with two canvas columns, at the sides of a regular one. The canvas columns display the item
+	 * and its double, the painters record what they draw in the given list.
+
+	 */
+	private static VirtualTable<Integer> table(int items, List<Painted> painted) {
+		ObservableList<Integer> list = IntStream.range(0, items).boxed()
+				.collect(Collectors.toCollection(FXCollections::observableArrayList));
+		VirtualTable<Integer> table = new VirtualTable<>(list);
+		CanvasTableColumn<Integer, Integer> first = new CanvasTableColumn<>(table, "Item", i -> i);
+		first.setPainter(painter(1, painted));
+		CanvasTableColumn<Integer, Integer> third = new CanvasTableColumn<>(table, "Double", i -> i * 2);
+		third.setPainter(painter(2, painted));
+		table.getColumns().addAll(List.of(first, TableManagerTest.column(table, "Value"), third));
+		table.setCellHeight(20);
+		table.setSkin(new VirtualTableSkin<>(table));
+		table.resize(400, 232);
+		return table;
+	}
+
+	private static TableCellPainter<Integer> painter(int multiplier, List<Painted> painted) {
+		return (gc, item, text, width, height) -> painted.add(new Painted(gc.getCanvas(), item, text, multiplier, gc.getTransform().getTx(), width));
+	}
+
+	private static Canvas strip(TableRow<Integer> row) {
+		List<Canvas> strips = row.getChildrenUnmodifiable().stream()
+				.filter(n -> n instanceof Canvas)
+				.map(n -> (Canvas) n)
+				.collect(Collectors.toList());
+		assertEquals(1, strips.size());
+		return strips.get(0);
+	}
+
+	/**
+	 * Asserts that every canvas cell of every row was painted exactly once, on the row's strip, at the cell's position.
+	 */
+	private static void assertPainted(VirtualTable<Integer> table, List<Painted> painted) {
+		int count = 0;
+		for (TableRow<Integer> row : table.getState().getRowsUnmodifiable().values()) {
+			Canvas strip = strip(row);
+			for (TableCell<Integer> c : row.getCellsUnmodifiable().values()) {
+				if (!(c instanceof CanvasTableCell)) continue;
+				CanvasTableCell<?, ?> cell = (CanvasTableCell<?, ?>) c;
+				List<Painted> matches = painted.stream()
+						.filter(p -> p.strip == strip && p.x == cell.getLayoutX())
+						.collect(Collectors.toList());
+				assertEquals(1, matches.size());
+				assertEquals(cell.getText(), matches.get(0).text);
+				assertEquals(table.getItems().get(row.getIndex()), matches.get(0).item);
+				assertEquals(cell.getWidth(), matches.get(0).width);
+				assertTrue(cell.getWidth() > 0);
+				count++;
+			}
+		}
+		assertEquals(count, painted.size());
+	}
+
+	/**
+	 * Asserts that the canvas cells display the items of their rows.
+	 */
+	private static void assertCells(VirtualTable<Integer> table) {
+		for (TableRow<Integer> row : table.getState().getRowsUnmodifiable().values()) {
+			for (TableCell<Integer> c : row.getCellsUnmodifiable().values()) {
+				if (!(c instanceof CanvasTableCell)) continue;
+				CanvasTableCell<?, ?> cell = (CanvasTableCell<?, ?>) c;
+				assertEquals(table.getItems().get(row.getIndex()), cell.getItem());
+			}
+		}
+	}
+
+	private static class Painted {
+		private final Canvas strip;
+		private final Integer item;
+		private final String text;
+		private final int multiplier;
+		private final double x;
+		private final double width;
+
+		Painted(Canvas strip, Integer item, String text, int multiplier, double x, double width) {
+			this.strip = strip;
+			this.item = item;
+			this.text = text;
+			this.multiplier = multiplier;
+			this.x = x;
+			this.width = width;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.cell.Cell;
+import io.github.palexdev.virtualizedfx.cell.CellPool;
+import javafx.scene.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CellPoolTest {
+
+	@Test
+	public void testTakeRelease() {
+		CellPool<Integer, TestCell> pool = new CellPool<>(2);
+		Function<Integer, TestCell> factory = TestCell::new;
+
+		TestCell c0 = pool.take(0, factory);
+		TestCell c1 = pool.take(1, factory);
+		TestCell c2 = pool.take(2, factory);
+		assertEquals(3, pool.getStats().getMisses());
+
+		assertTrue(pool.release(c0));
+		assertTrue(pool.release(c1));
+		assertTrue(pool.release(c2)); // Pool is full, disposed
+		assertTrue(c2.disposed);
+		assertNull(c0.item); // Pooled cells don't keep the items
+		assertNull(c1.item);
+		assertEquals(2, pool.size());
+		assertEquals(1, pool.getStats().getEvicted());
+
+		TestCell taken = pool.take(5, factory);
+		assertSame(c1, taken);
+		assertEquals(5, taken.item);
+		assertEquals(1, pool.getStats().getHits());
+		assertEquals(0.25, pool.getStats().getHitRate(), 1e-9);
+
+		// Different factory, different cells
+		Function<Integer, TestCell> other = TestCell::new;
+		TestCell o = pool.take(7, other);
+		assertNotSame(c0, o);
+		assertEquals(1, pool.size(factory));
+
+		// Cells not created by the pool can't be released
+		assertFalse(pool.release(new TestCell(8)));
+	}
+
+	@Test
+	public void testTrim() {
+		CellPool<Integer, TestCell> pool = new CellPool<>(10);
+		Function<Integer, TestCell> factory = TestCell::new;
+		TestCell[] cells = new TestCell[6];
+		for (int i = 0; i < cells.length; i++) cells[i] = pool.take(i, factory);
+		for (TestCell cell : cells) pool.release(cell);
+		assertEquals(6, pool.getStats().getPeak());
+
+		assertEquals(4, pool.trim(2));
+		assertEquals(2, pool.size());
+		// Oldest released are disposed first
+		assertTrue(cells[0].disposed);
+		assertFalse(cells[5].disposed);
+
+		pool.clear();
+		assertEquals(0, pool.size());
+		assertTrue(cells[5].disposed);
+		assertEquals(6, pool.getStats().getEvicted());
+	}
+
+	@Test
+	public void testTrimFactories() {
+		CellPool<Integer, TestCell> pool = new CellPool<>(10);
+		Function<Integer, TestCell> first = TestCell::new;
+		Function<Integer, TestCell> second = TestCell::new;
+		TestCell f0 = pool.take(0, first);
+		TestCell f1 = pool.take(1, first);
+		TestCell s0 = pool.take(2, second);
+		TestCell s1 = pool.take(3, second);
+
+		// Releases alternate between factories
+		pool.release(s0);
+		pool.release(f0);
+		pool.release(s1);
+		pool.release(f1);
+
+		assertEquals(2, pool.trim(2));
+		assertTrue(s0.disposed);
+		assertTrue(f0.disposed);
+		assertFalse(s1.disposed);
+		assertFalse(f1.disposed);
+		assertEquals(1, pool.size(first));
+		assertEquals(1, pool.size(second));
+
+		pool.clear(second);
+		assertTrue(s1.disposed);
+		assertEquals(3, pool.getStats().getEvicted());
+		assertEquals(1, pool.size());
+	}
+
+	private static class TestCell implements Cell<Integer> {
+		private Integer item;
+		private boolean disposed = false;
+
+		public TestCell(Integer item) {
+			this.item = item;
+		}
+
+		@Override
+		public Node getNode() {
+			return null;
+		}
+
+		@Override
+		public void updateItem(Integer item) {
+			this.item = item;
+		}
+
+		@Override
+		public void dispose() {
+			disposed = true;
+		}
+	}
+}
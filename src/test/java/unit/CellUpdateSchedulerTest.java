@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.utils.CellUpdateScheduler;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CellUpdateSchedulerTest {
+
+	@Test
+	public void testPriority() {
+		List<String> updated = new ArrayList<>();
+		Set<String> pending = new HashSet<>();
+		CellUpdateScheduler<String> scheduler = new ManualScheduler(updated::add, pending);
+		scheduler.schedule("far", 10);
+		scheduler.schedule("center", 0);
+		scheduler.schedule("near", 1);
+		scheduler.schedule("far", 5); // Re-scheduling only changes the priority
+		assertEquals(3, scheduler.size());
+
+		assertEquals(3, scheduler.run(0));
+		assertEquals(List.of("center", "near", "far"), updated);
+		assertTrue(pending.isEmpty());
+		assertEquals(0, scheduler.size());
+	}
+
+	@Test
+	public void testBudget() {
+		List<String> updated = new ArrayList<>();
+		Set<String> pending = new HashSet<>();
+		Consumer<String> slow = s -> {
+			long start = System.nanoTime();
+			while (System.nanoTime() - start < 2_000_000) {
+				Thread.onSpinWait();
+			}
+			updated.add(s);
+		};
+		ManualScheduler scheduler = new ManualScheduler(slow, pending);
+		scheduler.setBudget(1.0);
+		for (int i = 0; i < 5; i++) {
+			scheduler.schedule(("c" + i).intern(), Math.abs(i - 2)); // Keys are compared by identity
+		}
+
+		// Each run exceeds the budget with the first update
+		assertEquals(1, scheduler.run());
+		assertEquals(List.of("c2"), updated);
+		assertEquals(Set.of("c0", "c1", "c3", "c4"), pending);
+		assertTrue(scheduler.isPending("c1"));
+		assertTrue(scheduler.pulsing);
+
+		while (scheduler.size() > 0) {
+			assertEquals(1, scheduler.run());
+		}
+		assertEquals(5, updated.size());
+		assertTrue(pending.isEmpty());
+
+		// The timer stops at the next pulse, once the spent time has been reset
+		scheduler.pulse();
+		assertFalse(scheduler.pulsing);
+	}
+
+	@Test
+	public void testBudgetPerPulse() {
+		List<String> updated = new ArrayList<>();
+		Consumer<String> slow = s -> {
+			long start = System.nanoTime();
+			while (System.nanoTime() - start < 5_000_000) {
+				Thread.onSpinWait();
+			}
+			updated.add(s);
+		};
+		ManualScheduler scheduler = new ManualScheduler(slow, new HashSet<>());
+		scheduler.setBudget(8.0);
+		for (int i = 0; i < 6; i++) {
+			scheduler.schedule(("p" + i).intern(), i);
+		}
+
+		// The first run exhausts the budget
+		int first = scheduler.run();
+		assertTrue(first < 6);
+
+		// Runs in the same pulse only execute the update they are guaranteed
+		assertEquals(1, scheduler.run());
+		assertEquals(1, scheduler.run());
+
+		// New pulses get a new budget
+		while (scheduler.size() > 0) {
+			int before = scheduler.size();
+			scheduler.pulse();
+			assertTrue(scheduler.size() < before);
+		}
+		assertEquals(List.of("p0", "p1", "p2", "p3", "p4", "p5"), updated);
+		assertTrue(scheduler.pulsing);
+		scheduler.pulse();
+		assertFalse(scheduler.pulsing);
+	}
+
+	@Test
+	public void testCancel() {
+		List<String> updated = new ArrayList<>();
+		Set<String> pending = new HashSet<>();
+		ManualScheduler scheduler = new ManualScheduler(updated::add, pending);
+		scheduler.schedule("a", 0);
+		scheduler.schedule("b", 1);
+		scheduler.schedule("c", 2);
+		pending.addAll(List.of("b", "c"));
+		assertTrue(scheduler.cancel("a"));
+		assertFalse(scheduler.cancel("a"));
+		scheduler.clear();
+		assertEquals(0, scheduler.size());
+		assertTrue(updated.isEmpty());
+	}
+
+	private static class ManualScheduler extends CellUpdateScheduler<String> {
+		private boolean pulsing = false;
+
+		public ManualScheduler(Consumer<String> updater, Set<String> pending) {
+			super(updater, (s, p) -> {
+				if (p) pending.add(s);
+				else pending.remove(s);
+			});
+		}
+
+		@Override
+		protected void requestPulse() {
+			pulsing = true;
+		}
+
+		@Override
+		protected void stopPulse() {
+			super.stopPulse();
+			pulsing = false;
+		}
+
+		public void pulse() {
+			onPulse();
+		}
+	}
+}
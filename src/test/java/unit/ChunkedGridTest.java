@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
+import io.github.palexdev.mfxcore.collections.ObservableGrid.Change;
+import io.github.palexdev.virtualizedfx.collections.ChunkedGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ChunkedGridTest {
+
+	@Test
+	public void testSameAsObservableGrid() {
+		List<Integer> data = IntStream.range(0, 30).boxed().collect(Collectors.toList());
+		ObservableGrid<Integer> expected = new ObservableGrid<>(data, 5, 6);
+		ChunkedGrid<Integer> actual = new ChunkedGrid<>(data, 5, 6);
+		List<String> eChanges = new ArrayList<>();
+		List<String> aChanges = new ArrayList<>();
+		expected.addListener((observable, oldValue, newValue) -> record(newValue, eChanges));
+		actual.addListener((observable, oldValue, newValue) -> record(newValue, aChanges));
+
+		Random random = new Random(7);
+		int next = 100;
+		for (int i = 0; i < 200; i++) {
+			int op = random.nextInt(7);
+			int rows = expected.getRowsNum();
+			int columns = expected.getColumnsNum();
+			Consumer<ObservableGrid<Integer>> action;
+			switch (op) {
+				case 0: {
+					int index = random.nextInt(rows + 1);
+					List<Integer> row = IntStream.range(next, next + columns).boxed().collect(Collectors.toList());
+					action = g -> g.addRow(index, row);
+					break;
+				}
+				case 1: {
+					int index = random.nextInt(columns + 1);
+					List<Integer> column = IntStream.range(next, next + rows).boxed().collect(Collectors.toList());
+					action = g -> g.addColumn(index, column);
+					break;
+				}
+				case 2: {
+					if (rows <= 2) continue;
+					int index = random.nextInt(rows);
+					action = g -> g.removeRow(index);
+					break;
+				}
+				case 3: {
+					if (columns <= 2) continue;
+					int index = random.nextInt(columns);
+					action = g -> g.removeColumn(index);
+					break;
+				}
+				case 4: {
+					int index = random.nextInt(rows * columns);
+					int val = next;
+					action = g -> g.setElement(index, val);
+					break;
+				}
+				case 5: {
+					int index = random.nextInt(columns);
+					List<Integer> column = IntStream.range(next, next + rows).boxed().collect(Collectors.toList());
+					action = g -> g.setColumn(index, column);
+					break;
+				}
+				default:
+					action = ObservableGrid::transpose;
+			}
+			next += 100;
+			action.accept(expected);
+			action.accept(actual);
+			assertEquals(expected.getRowsNum(), actual.getRowsNum());
+			assertEquals(expected.getColumnsNum(), actual.getColumnsNum());
+			assertEquals(expected.getData(), actual.getData());
+		}
+		assertEquals(eChanges, aChanges);
+	}
+
+	@Test
+	public void testRegion() {
+		ChunkedGrid<Integer> grid = new ChunkedGrid<>();
+		grid.init(4, 4, 0);
+		grid.addColumn(2, List.of(1, 2, 3, 4));
+		grid.fill(1, 1, 2, 3, 9);
+		assertEquals(List.of(0, 0, 1, 0, 0), grid.getRow(0));
+		assertEquals(List.of(0, 9, 9, 9, 0), grid.getRow(1));
+		assertEquals(List.of(0, 9, 9, 9, 0), grid.getRow(2));
+		assertEquals(List.of(0, 0, 4, 0, 0), grid.getRow(3));
+	}
+
+	private void record(Change<Integer> change, List<String> changes) {
+		if (change.getType() == null) return;
+		changes.add(change.getType() + " " + change.getCoordinates() + " " + change.getStart() + " " +
+				change.getEnd() + " " + change.step() + " " + change.getAdded() + " " + change.getRemoved());
+	}
+}
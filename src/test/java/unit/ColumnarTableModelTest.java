@@ -0,0 +1,94 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.table.columnar.ColumnarTableModel;
+import io.github.palexdev.virtualizedfx.table.columnar.ColumnarTableModel.DoubleData;
+import io.github.palexdev.virtualizedfx.table.columnar.ColumnarTableModel.StringData;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarTableModelTest {
+
+	@Test
+	public void testGrowth() {
+		ColumnarTableModel model = new ColumnarTableModel(2);
+		DoubleData values = model.addDoubleColumn("value");
+		for (int i = 0; i < 100; i++) {
+			int row = model.addRow();
+			values.set(row, i * 0.5);
+		}
+		assertEquals(100, model.size());
+		assertEquals(100, model.rows().size());
+		assertTrue(model.getCapacity() >= 100);
+		assertEquals(49.5, values.get(99));
+		assertEquals(42, model.rows().get(42));
+
+		model.trimToSize();
+		assertEquals(100, model.getCapacity());
+		assertEquals(0.5, values.get(1));
+	}
+
+	@Test
+	public void testDictionary() {
+		ColumnarTableModel model = new ColumnarTableModel();
+		StringData hosts = model.addStringColumn("host");
+		model.addRows(6);
+		for (int i = 0; i < 6; i++) {
+			hosts.set(i, "host-" + (i % 3));
+		}
+		assertEquals(3, hosts.cardinality());
+		assertEquals("host-1", hosts.get(4));
+		assertEquals(hosts.getCode(1), hosts.getCode(4));
+
+		hosts.set(0, null);
+		assertNull(hosts.get(0));
+		assertEquals("", hosts.toString(0));
+	}
+
+	@Test
+	public void testChanges() {
+		ColumnarTableModel model = new ColumnarTableModel();
+		model.addIntColumn("id");
+		List<String> changes = new ArrayList<>();
+		model.rows().addListener((ListChangeListener<? super Integer>) c -> {
+			while (c.next()) {
+				if (c.wasReplaced()) {
+					changes.add("R" + c.getFrom() + "-" + c.getTo());
+				} else if (c.wasAdded()) {
+					changes.add("A" + c.getFrom() + "-" + c.getTo());
+				} else if (c.wasRemoved()) {
+					changes.add("D" + c.getRemovedSize());
+				}
+			}
+		});
+
+		model.addRows(10);
+		model.fireRowsUpdated(2, 4);
+		model.clear();
+		assertEquals(List.of("A0-10", "R2-5", "D10"), changes);
+		assertTrue(model.rows().isEmpty());
+	}
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.cell.Cell;
+import io.github.palexdev.virtualizedfx.flow.FlowState;
+import io.github.palexdev.virtualizedfx.flow.VirtualFlow;
+import io.github.palexdev.virtualizedfx.flow.VirtualFlowSkin;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import others.Utils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlowManagerTest {
+
+	@BeforeAll
+	public static void startToolkit() {
+		Utils.startToolkit();
+	}
+
+	@Test
+	public void testAppend() {
+		VirtualFlow<Integer, TestCell> flow = flow(100);
+		FlowState<Integer, TestCell> state = flow.getState();
+		assertEquals(0, state.getRange().getMin());
+		int max = state.getRange().getMax();
+
+		// Beyond a full viewport, no transition
+		flow.getItems().addAll(100, 101, 102);
+		assertSame(state, flow.getState());
+		assertEquals(max, flow.getState().getRange().getMax());
+		assertCells(flow);
+
+		// Not pinned to the end, following the tail does nothing
+		flow.setFollowTail(true);
+		flow.getItems().add(103);
+		assertSame(state, flow.getState());
+
+		// Pinned to the end, the viewport follows the new items
+		flow.scrollToLast();
+		assertEquals(103, flow.getState().getRange().getMax());
+		flow.getItems().addAll(104, 105);
+		assertEquals(105, flow.getState().getRange().getMax());
+		assertCells(flow);
+	}
+
+	@Test
+	public void testAppendNotFull() {
+		VirtualFlow<Integer, TestCell> flow = flow(3);
+		FlowState<Integer, TestCell> state = flow.getState();
+		assertEquals(3, state.getCellsUnmodifiable().size());
+
+		// The viewport is not full, the general path creates the new cells
+		flow.getItems().addAll(3, 4);
+		assertNotSame(state, flow.getState());
+		assertEquals(5, flow.getState().getCellsUnmodifiable().size());
+		assertCells(flow);
+	}
+
+	@Test
+	public void testBudgetedScroll() {
+		VirtualFlow<Integer, TestCell> flow = flow(100);
+		flow.setUpdateBudget(1000.0);
+
+		// The budget is big enough for all the scheduled updates to be executed by onScroll
+		flow.scrollToIndex(50);
+		assertEquals(50, flow.getState().getRange().getMin());
+		assertCells(flow);
+		flow.scrollToIndex(45);
+		assertEquals(45, flow.getState().getRange().getMin());
+		assertCells(flow);
+	}
+
+	@Test
+	public void testSpliceAdd() {
+		VirtualFlow<Integer, TestCell> flow = flow(100);
+		flow.scrollToIndex(30);
+		int min = flow.getState().getRange().getMin();
+		int max = flow.getState().getRange().getMax();
+		int mid = (min + max) / 2;
+		List<Integer> items = flow.getItems();
+
+		splice(flow, () -> items.addAll(0, List.of(-1, -2))); // Before the range
+		splice(flow, () -> items.addAll(min, List.of(-3, -4, -5))); // At the start
+		splice(flow, () -> items.add(mid, -6)); // In the middle
+		splice(flow, () -> items.addAll(max, List.of(-7, -8))); // At the end
+		splice(flow, () -> items.addAll(max + 5, List.of(-9, -10))); // After the range
+		splice(flow, () -> items.addAll(mid, IntStream.range(-100, -50).boxed().collect(Collectors.toList()))); // More than the cells
+		assertEquals(160, items.size());
+	}
+
+	@Test
+	public void testSpliceRemove() {
+		VirtualFlow<Integer, TestCell> flow = flow(100);
+		flow.scrollToIndex(30);
+		int min = flow.getState().getRange().getMin();
+		int max = flow.getState().getRange().getMax();
+		int mid = (min + max) / 2;
+		ObservableList<Integer> items = flow.getItems();
+
+		splice(flow, () -> items.remove(0, 2)); // Before the range
+		splice(flow, () -> items.remove(min, min + 3)); // At the start
+		splice(flow, () -> items.remove(mid)); // In the middle
+		splice(flow, () -> items.remove(max - 2, max)); // At the end
+		splice(flow, () -> items.remove(max + 5, max + 7)); // After the range
+		splice(flow, () -> items.remove(mid, mid + 50)); // More than the cells
+		assertEquals(40, items.size());
+
+		// Removing from the end of the list moves the range back
+		flow.scrollToLast();
+		splice(flow, () -> items.remove(35, 40));
+		assertEquals(34, flow.getState().getRange().getMax());
+	}
+
+	/**
+	 * Runs the given change, which must be a single contiguous addition or removal, then asserts
+	 * that the flow displays the right items and that every cell has received its new index before its new item.
+	 */
+	static void splice(VirtualFlow<Integer, TestCell> flow, Runnable change) {
+		flow.getState().getCellsUnmodifiable().values().forEach(c -> c.itemIndex = Integer.MIN_VALUE);
+		change.run();
+		assertCells(flow);
+		flow.getState().getCellsUnmodifiable().forEach((index, cell) -> {
+			if (cell.itemIndex != Integer.MIN_VALUE) assertEquals(index, cell.itemIndex);
+		});
+	}
+
+	/**
+	 * Builds a vertical flow of the given number of integers, with a viewport of 10 cells.
+	 * The flow has a skin, which handles the list changes, but no scene.
+	 */
+	static VirtualFlow<Integer, TestCell> flow(int items) {
+		ObservableList<Integer> list = IntStream.range(0, items).boxed()
+				.collect(Collectors.toCollection(FXCollections::observableArrayList));
+		VirtualFlow<Integer, TestCell> flow = new VirtualFlow<>(list, TestCell::new);
+		flow.setCellSize(20);
+		flow.setSkin(new VirtualFlowSkin<>(flow));
+		flow.resize(100, 200);
+		return flow;
+	}
+
+	/**
+	 * Asserts that every cell in the flow's state displays the item at its index.
+	 */
+	static void assertCells(VirtualFlow<Integer, TestCell> flow) {
+		List<Integer> items = flow.getItems();
+		flow.getState().getCellsUnmodifiable().forEach((index, cell) -> {
+			assertEquals(index, cell.index);
+			assertEquals(items.get(index), cell.item);
+		});
+	}
+
+	static class TestCell extends Region implements Cell<Integer> {
+		Integer item;
+		int index = -1;
+		int itemIndex = -1;
+
+		TestCell(Integer item) {
+			this.item = item;
+		}
+
+		@Override
+		public Node getNode() {
+			return this;
+		}
+
+		@Override
+		public void updateItem(Integer item) {
+			this.item = item;
+			this.itemIndex = index;
+		}
+
+		@Override
+		public void updateIndex(int index) {
+			this.index = index;
+		}
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.mfxcore.collections.Grid;
+import io.github.palexdev.virtualizedfx.grid.GridCanvas;
+import io.github.palexdev.virtualizedfx.grid.GridState;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import others.Utils;
+import unit.GridManagerTest.TestGrid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static unit.GridManagerTest.assertCells;
+import static unit.GridManagerTest.grid;
+
+public class GridCanvasTest {
+
+	@BeforeAll
+	public static void startToolkit() {
+		Utils.startToolkit();
+	}
+
+	@Test
+	public void testCanvasMode() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			List<Painted> painted = new ArrayList<>();
+			grid.setCellPainter((gc, item, r, c, x, y, w, h) -> painted.add(new Painted(item, r, c, x, y)));
+			grid.layout();
+
+			// Cells are gone and the canvas replaced the viewport
+			assertSame(GridState.EMPTY, grid.getState());
+			Node child = grid.getChildrenUnmodifiable().get(0);
+			assertTrue(child instanceof GridCanvas);
+			GridCanvas<?> canvas = (GridCanvas<?>) child;
+			assertEquals(300, canvas.getWidth());
+			assertEquals(300, canvas.getHeight());
+			assertFalse(canvas.isInvalid());
+			assertPainted(grid, canvas, painted);
+
+			// Back to cells
+			grid.setCellPainter(null);
+			grid.layout();
+			assertNotSame(GridState.EMPTY, grid.getState());
+			assertFalse(grid.getChildrenUnmodifiable().get(0) instanceof GridCanvas);
+			assertCells(grid);
+
+			// And to the canvas again
+			painted.clear();
+			grid.setCellPainter((gc, item, r, c, x, y, w, h) -> painted.add(new Painted(item, r, c, x, y)));
+			grid.layout();
+			assertSame(GridState.EMPTY, grid.getState());
+			assertPainted(grid, canvas, painted);
+		});
+	}
+
+	@Test
+	public void testCanvasChanges() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			grid.setBatchChanges(false);
+			List<Painted> painted = new ArrayList<>();
+			grid.setCellPainter((gc, item, r, c, x, y, w, h) -> painted.add(new Painted(item, r, c, x, y)));
+			grid.layout();
+			GridCanvas<?> canvas = (GridCanvas<?>) grid.getChildrenUnmodifiable().get(0);
+
+			// Replacements only paint the affected coordinates, those out of the ranges are ignored
+			painted.clear();
+			grid.getItems().setElement(2, 3, -1);
+			grid.getItems().setElement(90, 90, -1);
+			grid.layout();
+			assertEquals(List.of(new Painted(-1, 2, 3, 150, 100)), painted);
+
+			// Scrolling repaints everything at the new position
+			painted.clear();
+			grid.setPosition(125, 60);
+			grid.layout();
+			assertEquals(2, canvas.getColumnsRange().getMin());
+			assertEquals(1, canvas.getRowsRange().getMin());
+			assertPainted(grid, canvas, painted);
+
+			// So do structural changes
+			painted.clear();
+			grid.getItems().addRow(0, Collections.nCopies(100, -2));
+			grid.layout();
+			assertEquals(101, grid.getRowsNum());
+			assertPainted(grid, canvas, painted);
+
+			// Nothing to paint if nothing changed
+			painted.clear();
+			grid.requestLayout();
+			grid.layout();
+			assertTrue(painted.isEmpty());
+		});
+	}
+
+	@Test
+	public void testCoordinatesAt() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(10, 10);
+			assertCoordinates(grid);
+
+			grid.setCellPainter((gc, item, r, c, x, y, w, h) -> {});
+			grid.layout();
+			assertCoordinates(grid);
+		});
+	}
+
+	//================================================================================
+	// Utils
+	//================================================================================
+
+	/**
+	 * Asserts that the painted items are exactly the ones in the canvas' ranges, at the expected positions,
+	 * and that the ranges cover the viewport.
+	 */
+	private static void assertPainted(TestGrid grid, GridCanvas<?> canvas, List<Painted> painted) {
+		IntegerRange rows = canvas.getRowsRange();
+		IntegerRange columns = canvas.getColumnsRange();
+		assertTrue(rows.getMin() * 50 <= grid.getPosition().getY());
+		assertTrue((rows.getMax() + 1) * 50 >= grid.getPosition().getY() + 300);
+		assertTrue(columns.getMin() * 50 <= grid.getPosition().getX());
+		assertTrue((columns.getMax() + 1) * 50 >= grid.getPosition().getX() + 300);
+
+		List<Painted> expected = new ArrayList<>();
+		for (int r = rows.getMin(); r <= rows.getMax(); r++) {
+			for (int c = columns.getMin(); c <= columns.getMax(); c++) {
+				double x = c * 50 - grid.getPosition().getX();
+				double y = r * 50 - grid.getPosition().getY();
+				expected.add(new Painted(grid.getItems().getElement(r, c), r, c, x, y));
+			}
+		}
+		assertEquals(expected, painted);
+	}
+
+	private static void assertCoordinates(TestGrid grid) {
+		grid.setPosition(0, 0);
+		assertEquals(Grid.Coordinates.of(0, 0), grid.coordinatesAt(0, 0));
+		assertEquals(Grid.Coordinates.of(1, 2), grid.coordinatesAt(149, 50));
+		assertEquals(Grid.Coordinates.of(5, 5), grid.coordinatesAt(299, 299));
+		assertNull(grid.coordinatesAt(-1, 0));
+		assertNull(grid.coordinatesAt(0, -1));
+
+		// Scrolled
+		grid.setPosition(125, 60);
+		assertEquals(Grid.Coordinates.of(1, 2), grid.coordinatesAt(0, 0));
+		assertEquals(Grid.Coordinates.of(1, 3), grid.coordinatesAt(25, 39));
+		assertEquals(Grid.Coordinates.of(2, 3), grid.coordinatesAt(25, 40));
+
+		// Past the last row/column
+		grid.setPosition(200, 200);
+		assertEquals(Grid.Coordinates.of(9, 9), grid.coordinatesAt(299, 299));
+		assertNull(grid.coordinatesAt(300, 0));
+		assertNull(grid.coordinatesAt(0, 300));
+
+		// Insets are excluded
+		grid.setPosition(0, 0);
+		grid.setPadding(new Insets(10));
+		assertNull(grid.coordinatesAt(5, 5));
+		assertEquals(Grid.Coordinates.of(0, 0), grid.coordinatesAt(10, 10));
+		assertEquals(Grid.Coordinates.of(0, 1), grid.coordinatesAt(60, 59));
+		grid.setPadding(Insets.EMPTY);
+	}
+
+	private static class Painted {
+		private final Integer item;
+		private final int row;
+		private final int column;
+		private final double x;
+		private final double y;
+
+		Painted(Integer item, int row, int column, double x, double y) {
+			this.item = item;
+			this.row = row;
+			this.column = column;
+			this.x = x;
+			this.y = y;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Painted)) return false;
+			Painted other = (Painted) o;
+			return item.equals(other.item) && row == other.row && column == other.column && x == other.x && y == other.y;
+		}
+
+		@Override
+		public int hashCode() {
+			return row * 31 + column;
+		}
+
+		@Override
+		public String toString() {
+			return "[" + row + ", " + column + "] " + item + " at " + x + ", " + y;
+		}
+	}
+}
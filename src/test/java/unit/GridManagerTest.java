@@ -0,0 +1,262 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.mfxcore.base.beans.Size;
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
+import io.github.palexdev.virtualizedfx.cell.GridCell;
+import io.github.palexdev.virtualizedfx.grid.GridManager;
+import io.github.palexdev.virtualizedfx.grid.GridRow;
+import io.github.palexdev.virtualizedfx.grid.GridState;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+import io.github.palexdev.virtualizedfx.grid.VirtualGridSkin;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import others.Utils;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GridManagerTest {
+
+	@BeforeAll
+	public static void startToolkit() {
+		Utils.startToolkit();
+	}
+
+	@Test
+	public void testBatchedReplace() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			GridState<Integer, TestCell> state = grid.getState();
+			ObservableGrid<Integer> items = grid.getItems();
+			resetUpdates(grid);
+
+			// The same elements are replaced many times, the grid also has elements outside the viewport
+			for (int k = 1; k <= 3; k++) {
+				for (int r = 0; r < 100; r++) {
+					for (int c = 0; c < 100; c++) {
+						items.setElement(r, c, -(k * 10000 + r * 100 + c));
+					}
+				}
+			}
+			assertSame(state, grid.getState());
+			assertUpdates(grid, u -> 0);
+
+			// One pass, every cell updated once with the last element
+			grid.manager().flushReplacements();
+			assertCells(grid);
+			assertUpdates(grid, u -> 1);
+		});
+	}
+
+	@Test
+	public void testBatchedReplaceOutOfRange() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			ObservableGrid<Integer> items = grid.getItems();
+			resetUpdates(grid);
+
+			items.setElement(99, 99, -1);
+			items.setElement(0, 99, -2);
+			grid.manager().flushReplacements();
+			assertUpdates(grid, u -> 0);
+			assertCells(grid);
+		});
+	}
+
+	@Test
+	public void testBatchedReplaceFlush() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			ObservableGrid<Integer> items = grid.getItems();
+
+			// Other changes apply the pending replacements first
+			items.setElement(1, 1, -1);
+			assertNotEquals(-1, cellAt(grid, 1, 1).item);
+			items.addRow(50, Collections.nCopies(100, 0));
+			assertEquals(-1, cellAt(grid, 1, 1).item);
+
+			// And so does scrolling, when the next replacement is batched
+			items.setElement(4, 4, -4);
+			grid.scrollToRow(3);
+			items.setElement(5, 5, -5);
+			assertEquals(-4, cellAt(grid, 4, 4).item);
+			grid.manager().flushReplacements();
+			assertCells(grid);
+
+			// Disabling the batching flushes
+			items.setElement(6, 5, -6);
+			grid.setBatchChanges(false);
+			assertEquals(-6, cellAt(grid, 6, 5).item);
+
+			// Not batched anymore, replacements are applied right away
+			items.setElement(7, 5, -7);
+			assertEquals(-7, cellAt(grid, 7, 5).item);
+			assertCells(grid);
+		});
+	}
+
+	@Test
+	public void testTranspose() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(40, 30, Size.of(50, 30));
+			grid.scrollToRow(10);
+			grid.scrollToColumn(5);
+			GridState<Integer, TestCell> state = grid.getState();
+			Map<TestCell, int[]> before = new IdentityHashMap<>();
+			state.getRowsUnmodifiable().forEach((r, row) -> row.getCellsUnmodifiable().forEach((c, cell) -> before.put(cell, new int[]{r, c})));
+			resetUpdates(grid);
+
+			grid.getItems().transpose();
+			assertNotSame(state, grid.getState());
+			assertEquals(30, grid.getItems().getRowsNum());
+			assertCells(grid);
+
+			// The same region is still in view, cells were moved, not updated
+			assertTrue(IntegerRange.inRangeOf(5, grid.getState().getRowsRange()));
+			assertTrue(IntegerRange.inRangeOf(10, grid.getState().getColumnsRange()));
+			int moved = 0;
+			for (Map.Entry<Integer, GridRow<Integer, TestCell>> re : grid.getState().getRowsUnmodifiable().entrySet()) {
+				for (Map.Entry<Integer, TestCell> ce : re.getValue().getCellsUnmodifiable().entrySet()) {
+					int[] old = before.get(ce.getValue());
+					if (old == null || old[0] != ce.getKey() || old[1] != re.getKey()) continue;
+					assertEquals(0, ce.getValue().updates);
+					moved++;
+				}
+			}
+			assertTrue(moved > 0);
+		});
+	}
+
+	@Test
+	public void testTransposeReplacements() throws Exception {
+		Utils.runOnFx(() -> {
+			// Rows and columns ranges have different sizes
+			TestGrid grid = grid(40, 30, Size.of(50, 30));
+			ObservableGrid<Integer> items = grid.getItems();
+			assertNotEquals(grid.getState().getRowsRange().diff(), grid.getState().getColumnsRange().diff());
+
+			// Pending replacements are transposed and applied
+			items.setElement(1, 2, -1);
+			items.setElement(6, 0, -2);
+			items.transpose();
+			assertEquals(-1, cellAt(grid, 2, 1).item);
+			assertEquals(-2, cellAt(grid, 0, 6).item);
+			assertCells(grid);
+		});
+	}
+
+	/**
+	 * Builds a grid of the given size with batched changes, cells are 50x50 and the viewport is 300x300.
+	 * The grid is in a scene which never receives pulses, so replacements are only applied when flushed explicitly.
+	 */
+	static TestGrid grid(int rows, int columns) {
+		return grid(rows, columns, Size.of(50, 50));
+	}
+
+	/**
+	 * Same as {@link #grid(int, int)} but with the given cells size.
+	 */
+	static TestGrid grid(int rows, int columns, Size cellSize) {
+		ObservableGrid<Integer> items = new ObservableGrid<Integer>().init(rows, columns, (r, c) -> r * columns + c);
+		items.getChange().endChange();
+		TestGrid grid = new TestGrid(items);
+		grid.setCellSize(cellSize);
+		grid.setBatchChanges(true);
+		grid.setSkin(new VirtualGridSkin<>(grid));
+		grid.resize(300, 300);
+		new Scene(new Group(grid));
+		return grid;
+	}
+
+	static TestCell cellAt(VirtualGrid<Integer, TestCell> grid, int row, int column) {
+		return grid.getState().getRowsUnmodifiable().get(row).getCellsUnmodifiable().get(column);
+	}
+
+	/**
+	 * Asserts that every cell in the grid's state displays the element at its coordinates.
+	 */
+	static void assertCells(VirtualGrid<Integer, TestCell> grid) {
+		ObservableGrid<Integer> items = grid.getItems();
+		assertFalse(grid.getState().getRowsUnmodifiable().isEmpty());
+		grid.getState().getRowsUnmodifiable().forEach((r, row) -> row.getCellsUnmodifiable().forEach((c, cell) -> {
+			assertEquals(items.getElement(r, c), cell.item);
+			assertEquals(r, cell.row);
+			assertEquals(c, cell.column);
+		}));
+	}
+
+	static void resetUpdates(VirtualGrid<Integer, TestCell> grid) {
+		grid.getState().getRowsUnmodifiable().values().forEach(row -> row.getCellsUnmodifiable().values().forEach(c -> c.updates = 0));
+	}
+
+	static void assertUpdates(VirtualGrid<Integer, TestCell> grid, ToIntFunction<TestCell> expected) {
+		grid.getState().getRowsUnmodifiable().values()
+				.forEach(row -> row.getCellsUnmodifiable().values().forEach(c -> assertEquals(expected.applyAsInt(c), c.updates)));
+	}
+
+	static class TestGrid extends VirtualGrid<Integer, TestCell> {
+		TestGrid(ObservableGrid<Integer> items) {
+			super(items, TestCell::new);
+		}
+
+		GridManager<Integer, TestCell> manager() {
+			return getViewportManager();
+		}
+	}
+
+	static class TestCell extends Region implements GridCell<Integer> {
+		Integer item;
+		int row = -1;
+		int column = -1;
+		int updates = 0;
+
+		TestCell(Integer item) {
+			this.item = item;
+		}
+
+		@Override
+		public Node getNode() {
+			return this;
+		}
+
+		@Override
+		public void updateItem(Integer item) {
+			this.item = item;
+			updates++;
+		}
+
+		@Override
+		public void updateCoordinates(int row, int column) {
+			this.row = row;
+			this.column = column;
+		}
+	}
+}
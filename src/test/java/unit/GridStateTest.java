@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.mfxcore.base.beans.Size;
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.virtualizedfx.collections.CellSpan;
+import io.github.palexdev.virtualizedfx.grid.GridRow;
+import io.github.palexdev.virtualizedfx.grid.GridState;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import others.Utils;
+import unit.GridManagerTest.TestCell;
+import unit.GridManagerTest.TestGrid;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static unit.GridManagerTest.assertCells;
+import static unit.GridManagerTest.grid;
+
+public class GridStateTest {
+
+	@BeforeAll
+	public static void startToolkit() {
+		Utils.startToolkit();
+	}
+
+	@Test
+	public void testColumnsPositions() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			TestState state = new TestState(grid, IntegerRange.of(0, 6), IntegerRange.of(2, 5));
+
+			double[] positions = state.positions(false);
+			assertArrayEquals(new double[]{0, 50, 100, 150}, positions);
+			assertSame(positions, state.positions(false));
+
+			// The flag changed
+			double[] adjusted = state.positions(true);
+			assertArrayEquals(new double[]{-50, 0, 50, 100}, adjusted);
+			assertSame(adjusted, state.positions(true));
+
+			// The cells' width changed
+			grid.setCellSize(Size.of(40, 50));
+			double[] resized = state.positions(true);
+			assertNotSame(adjusted, resized);
+			assertArrayEquals(new double[]{-40, 0, 40, 80}, resized);
+		});
+	}
+
+	@Test
+	public void testColumnsLayout() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			grid.getState().layoutRows();
+			assertColumnsLayout(grid, 0.0);
+
+			// At the end the columns are shifted back by one cell
+			grid.scrollToLastColumn();
+			grid.getState().layoutRows();
+			assertEquals(99, grid.getState().getColumnsRange().getMax());
+			assertColumnsLayout(grid, -50.0);
+		});
+	}
+
+	@Test
+	public void testSpanCovered() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			grid.setBatchChanges(false);
+			CellSpan span = grid.addSpan(1, 1, 2, 3);
+
+			assertSpans(grid, span);
+			TestCell cell = grid.getState().getSpanCells().get(span);
+			assertEquals(101, cell.item);
+			assertEquals(1, cell.row);
+			assertEquals(1, cell.column);
+
+			// Overlapping spans are refused
+			assertThrows(IllegalArgumentException.class, () -> grid.addSpan(2, 3, 2, 2));
+			assertSpans(grid, span);
+		});
+	}
+
+	@Test
+	public void testSpanTransitions() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			grid.setBatchChanges(false);
+			CellSpan span = grid.addSpan(1, 1, 2, 3);
+			TestCell cell = grid.getState().getSpanCells().get(span);
+
+			// Partially visible, the same cell moves to the new state
+			grid.scrollToRow(2);
+			assertTrue(grid.getState().getRowsRange().getMin() > 1);
+			assertSpans(grid, span);
+			assertSame(cell, grid.getState().getSpanCells().get(span));
+
+			// Not visible anymore
+			grid.scrollToRow(10);
+			assertTrue(grid.getState().getRowsRange().getMin() > 2);
+			assertSpans(grid);
+			grid.scrollToRow(0);
+			assertSpans(grid, span);
+			cell = grid.getState().getSpanCells().get(span);
+
+			// Replacements at the anchor update the cell, other covered coordinates are ignored
+			grid.getItems().setElement(1, 1, -1);
+			assertSame(cell, grid.getState().getSpanCells().get(span));
+			assertEquals(-1, cell.item);
+			grid.getItems().setElement(2, 2, -2);
+			assertEquals(-1, cell.item);
+			assertSpans(grid, span);
+
+			// Spans don't move with the data, the cell displays the new item at the anchor
+			grid.getItems().addRow(0, Collections.nCopies(100, -3));
+			assertSame(cell, grid.getState().getSpanCells().get(span));
+			assertEquals(1, cell.item);
+			assertSpans(grid, span);
+
+			// Same for transpositions
+			grid.getItems().transpose();
+			assertSame(cell, grid.getState().getSpanCells().get(span));
+			assertEquals(grid.getItems().getElement(1, 1), cell.item);
+			assertSpans(grid, span);
+		});
+	}
+
+	@Test
+	public void testSpanBatched() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			CellSpan span = grid.addSpan(0, 0, 10, 2);
+			grid.scrollToRow(4);
+			assertTrue(grid.getState().getRowsRange().getMin() > 0);
+			TestCell cell = grid.getState().getSpanCells().get(span);
+
+			// The anchor is out of the state's ranges
+			grid.getItems().setElement(0, 0, -7);
+			assertEquals(0, cell.item);
+			grid.manager().flushReplacements();
+			assertEquals(-7, cell.item);
+
+			// Other covered coordinates don't matter
+			grid.getItems().setElement(5, 1, -8);
+			grid.manager().flushReplacements();
+			assertEquals(-7, cell.item);
+			assertSpans(grid, span);
+		});
+	}
+
+	@Test
+	public void testRemoveSpan() throws Exception {
+		Utils.runOnFx(() -> {
+			TestGrid grid = grid(100, 100);
+			grid.setBatchChanges(false);
+			CellSpan first = grid.addSpan(1, 1, 2, 3);
+			CellSpan second = grid.addSpan(4, 0, 1, 2);
+			assertSpans(grid, first, second);
+
+			// Any covered coordinate identifies the span
+			assertTrue(grid.removeSpan(2, 3));
+			assertFalse(grid.removeSpan(1, 1));
+			assertSpans(grid, second);
+
+			grid.clearSpans();
+			assertSpans(grid);
+		});
+	}
+
+	/**
+	 * Asserts that the state has a cell for each of the given spans and no others, that the coordinates they cover
+	 * have no cells, and that all the other coordinates in the state's ranges do have one, displaying the right item.
+	 */
+	static void assertSpans(VirtualGrid<Integer, TestCell> grid, CellSpan... spans) {
+		GridState<Integer, TestCell> state = grid.getState();
+		assertEquals(Set.of(spans), state.getSpanCells().keySet());
+		for (Integer r : state.getRowsRange()) {
+			Map<Integer, TestCell> cells = state.getRowsUnmodifiable().get(r).getCellsUnmodifiable();
+			for (Integer c : state.getColumnsRange()) {
+				boolean covered = Arrays.stream(spans).anyMatch(s -> s.contains(r, c));
+				assertEquals(covered, !cells.containsKey(c), "At [" + r + ", " + c + "]");
+			}
+		}
+		assertCells(grid);
+	}
+
+	/**
+	 * Asserts that every cell is at the x position given by its column, the first column of the state
+	 * being at the given start, and that all the rows share the same positions.
+	 */
+	@SuppressWarnings("deprecation")
+	static void assertColumnsLayout(VirtualGrid<Integer, TestCell> grid, double start) {
+		int min = grid.getState().getColumnsRange().getMin();
+		for (GridRow<Integer, TestCell> row : grid.getState().getRowsUnmodifiable().values()) {
+			row.getCellsUnmodifiable().forEach((c, cell) -> {
+				assertEquals(start + (c - min) * 50.0, cell.getLayoutX());
+				assertEquals(row.getPosition(), cell.getLayoutY());
+			});
+			assertEquals(row.getCellsUnmodifiable().size(), row.getPositionsUnmodifiable().size());
+		}
+	}
+
+	static class TestState extends GridState<Integer, TestCell> {
+		TestState(VirtualGrid<Integer, TestCell> grid, IntegerRange rowsRange, IntegerRange columnsRange) {
+			super(grid, rowsRange, columnsRange);
+		}
+
+		double[] positions(boolean adjustColumns) {
+			return columnsPositions(adjustColumns);
+		}
+	}
+}
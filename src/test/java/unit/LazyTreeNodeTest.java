@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.tree.LazyTreeNode;
+import io.github.palexdev.virtualizedfx.tree.LazyTreeNode.LoadState;
+import io.github.palexdev.virtualizedfx.tree.TreeList;
+import io.github.palexdev.virtualizedfx.tree.TreeNode;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LazyTreeNodeTest {
+
+	@Test
+	public void testLoadOnExpand() {
+		CompletableFuture<List<TreeNode<String>>> future = new CompletableFuture<>();
+		LazyTreeNode<String> lazy = lazyNode("lazy", future);
+		TreeNode<String> root = new TreeNode<>("root", true);
+		root.addChild(new TreeNode<>("a"));
+		root.addChild(lazy);
+		root.addChild(new TreeNode<>("b"));
+		TreeList<String> list = new TreeList<>(root, false);
+
+		List<int[]> added = new ArrayList<>();
+		list.addListener((ListChangeListener<? super TreeNode<String>>) c -> {
+			while (c.next()) {
+				if (c.wasAdded() && !c.wasReplaced()) added.add(new int[]{c.getFrom(), c.getAddedSize()});
+			}
+		});
+
+		assertFalse(lazy.isLeaf());
+		lazy.setExpanded(true);
+		assertEquals(LoadState.LOADING, lazy.getLoadState());
+		assertEquals(3, list.size());
+
+		// Completing the future simulates the background loader
+		List<TreeNode<String>> children = new ArrayList<>();
+		for (int i = 0; i < 50_000; i++) children.add(new TreeNode<>("c" + i));
+		added.clear();
+		future.complete(children);
+
+		assertEquals(LoadState.LOADED, lazy.getLoadState());
+		assertEquals(50_003, list.size());
+		assertEquals(1, added.size());
+		assertArrayEquals(new int[]{2, 50_000}, added.get(0));
+		assertEquals("c0", list.get(2).getValue());
+		assertEquals("b", list.get(50_002).getValue());
+		assertEquals(50_002, list.indexOf(root.getChildren().get(2)));
+
+		// Collapsing and expanding again doesn't reload
+		lazy.setExpanded(false);
+		assertEquals(3, list.size());
+		lazy.setExpanded(true);
+		assertEquals(50_003, list.size());
+	}
+
+	@Test
+	public void testFailure() {
+		CompletableFuture<List<TreeNode<String>>> future = new CompletableFuture<>();
+		LazyTreeNode<String> lazy = lazyNode("lazy", future);
+		lazy.setExpanded(true);
+		future.completeExceptionally(new IllegalStateException("Boom"));
+		assertEquals(LoadState.FAILED, lazy.getLoadState());
+		assertNotNull(lazy.getError());
+		assertTrue(lazy.getChildren().isEmpty());
+	}
+
+	@Test
+	public void testRetry() {
+		Deque<CompletableFuture<List<TreeNode<String>>>> futures = new ArrayDeque<>();
+		futures.add(CompletableFuture.failedFuture(new IllegalStateException("Boom")));
+		futures.add(new CompletableFuture<>());
+		List<Throwable> errors = new ArrayList<>();
+		LazyTreeNode<String> lazy = new LazyTreeNode<>("lazy", n -> futures.peek()) {
+			@Override
+			protected void publish(Runnable action) {
+				action.run();
+			}
+
+			@Override
+			protected void setLoadState(LoadState loadState) {
+				super.setLoadState(loadState);
+				// The error seen by the cells refreshed for the new state
+				if (loadState == LoadState.LOADING) errors.add(getError());
+			}
+		};
+
+		lazy.setExpanded(true);
+		assertEquals(LoadState.FAILED, lazy.getLoadState());
+		futures.poll();
+
+		// The next expansion tries again, the old error is cleared before cells are refreshed
+		lazy.setExpanded(false);
+		lazy.setExpanded(true);
+		assertEquals(LoadState.LOADING, lazy.getLoadState());
+		assertEquals(2, errors.size());
+		assertNull(errors.get(1));
+		assertNull(lazy.getError());
+	}
+
+	private LazyTreeNode<String> lazyNode(String value, CompletableFuture<List<TreeNode<String>>> future) {
+		return new LazyTreeNode<>(value, n -> future) {
+			@Override
+			protected void publish(Runnable action) {
+				action.run();
+			}
+		};
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.collections.MappedFileDataSource;
+import others.Utils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedFileDataSourceTest {
+	@TempDir
+	Path dir;
+
+	@Test
+	public void testLines() throws Exception {
+		Path file = dir.resolve("lines.txt");
+		String content = IntStream.range(0, 100_000)
+				.mapToObj(i -> "Line " + i)
+				.collect(Collectors.joining("\r\n"));
+		Files.writeString(file, content);
+
+		Utils.startToolkit();
+		try (MappedFileDataSource<String> source = MappedFileDataSource.lines(file, StandardCharsets.UTF_8, Function.identity())) {
+			source.startIndexing();
+			source.awaitIndexing();
+			Utils.waitForFx();
+			assertEquals(100_000, source.size());
+			assertEquals("Line 0", source.get(0));
+			assertEquals("Line 65536", source.get(65536));
+			assertEquals("Line 99999", source.get(99999));
+			assertEquals(1.0, source.getProgress());
+			assertFalse(source.isIndexing());
+			assertNull(source.getError());
+		}
+	}
+
+	@Test
+	public void testDelimiter() throws Exception {
+		Path file = dir.resolve("records.bin");
+		Files.write(file, new byte[]{1, 2, 0, 3, 0, 0, 4, 5, 6, 0});
+
+		try (MappedFileDataSource<Integer> source = new SyncSource<>(file, (byte) 0, ByteBuffer::remaining)) {
+			source.startIndexing();
+			source.awaitIndexing();
+			assertEquals(4, source.size());
+			assertEquals(2, source.get(0));
+			assertEquals(1, source.get(1));
+			assertEquals(0, source.get(2));
+			assertEquals(3, source.get(3));
+		}
+	}
+
+	private static class SyncSource<T> extends MappedFileDataSource<T> {
+		public SyncSource(Path path, byte delimiter, Function<ByteBuffer, T> decoder) throws IOException {
+			super(path, delimiter, decoder);
+		}
+
+		@Override
+		protected void publish(Runnable action) {
+			action.run();
+		}
+	}
+}
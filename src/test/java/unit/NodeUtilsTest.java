@@ -0,0 +1,77 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.utils.NodeUtils;
+import javafx.collections.ListChangeListener;
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NodeUtilsTest {
+
+	@Test
+	public void testUpdateChildren() {
+		Pane pane = new Pane();
+		List<Node> nodes = new ArrayList<>();
+		for (int i = 0; i < 10; i++) nodes.add(new Region());
+		assertTrue(NodeUtils.updateChildren(pane.getChildren(), nodes));
+		assertEquals(nodes, pane.getChildren());
+
+		List<Node> added = new ArrayList<>();
+		List<Node> removed = new ArrayList<>();
+		pane.getChildren().addListener((ListChangeListener<? super Node>) c -> {
+			while (c.next()) {
+				added.addAll(c.getAddedSubList());
+				removed.addAll(c.getRemoved());
+			}
+		});
+
+		Node r0 = nodes.get(0);
+		Node r5 = nodes.get(5);
+		Node n0 = new Region();
+		Node n1 = new Region();
+		nodes.set(0, n0);
+		nodes.set(5, n1);
+		assertTrue(NodeUtils.updateChildren(pane.getChildren(), nodes));
+		assertEquals(new HashSet<>(nodes), new HashSet<>(pane.getChildren()));
+		assertEquals(10, pane.getChildren().size());
+		assertEquals(List.of(n0, n1), added);
+		assertEquals(List.of(r0, r5), removed);
+
+		// No changes
+		added.clear();
+		removed.clear();
+		assertFalse(NodeUtils.updateChildren(pane.getChildren(), nodes));
+		assertTrue(added.isEmpty() && removed.isEmpty());
+
+		// Shrink
+		assertTrue(NodeUtils.updateChildren(pane.getChildren(), nodes.subList(0, 4)));
+		assertEquals(4, pane.getChildren().size());
+		assertEquals(6, removed.size());
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.mfxcore.collections.ObservableGrid.Change;
+import io.github.palexdev.mfxcore.enums.GridChangeType;
+import io.github.palexdev.virtualizedfx.collections.RegionGrid;
+import io.github.palexdev.virtualizedfx.collections.RegionGrid.RegionChange;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionGridTest {
+
+	@Test
+	public void testSetRegion() {
+		RegionGrid<Integer> grid = new RegionGrid<>();
+		grid.init(10, 10, (r, c) -> r * 10 + c);
+		List<Change<Integer>> changes = new ArrayList<>();
+		grid.addListener((observable, oldValue, newValue) -> {
+			if (newValue.getType() != null) changes.add(newValue);
+		});
+
+		grid.setRegion(2, 3, new Integer[][]{
+				{-1, -2, -3},
+				{-4, -5, -6}
+		});
+		assertEquals(1, changes.size());
+		RegionChange<Integer> change = assertInstanceOf(RegionChange.class, changes.get(0));
+		assertEquals(GridChangeType.REPLACE_ELEMENT, change.getType());
+		assertEquals(2, change.getRowFrom());
+		assertEquals(3, change.getColumnFrom());
+		assertEquals(3, change.getRowTo());
+		assertEquals(5, change.getColumnTo());
+		assertEquals(List.of(-1, -2, -3, -4, -5, -6), change.getAdded());
+		assertEquals(List.of(23, 24, 25, 33, 34, 35), change.getRemoved());
+		assertEquals(-5, change.getAdded(3, 4));
+		assertEquals(-6, grid.getElement(3, 5));
+		assertEquals(36, grid.getElement(3, 6));
+	}
+
+	@Test
+	public void testSetRegionInvalid() {
+		RegionGrid<Integer> grid = new RegionGrid<>();
+		grid.init(10, 10, (r, c) -> r * 10 + c);
+		List<Change<Integer>> changes = new ArrayList<>();
+		grid.addListener((observable, oldValue, newValue) -> {
+			if (newValue.getType() != null) changes.add(newValue);
+		});
+
+		// Jagged matrix, the first row is valid but must not be written
+		assertThrows(IllegalArgumentException.class, () -> grid.setRegion(2, 3, new Integer[][]{
+				{-1, -2, -3},
+				{-4, -5}
+		}));
+		assertThrows(IllegalArgumentException.class, () -> grid.setRegion(2, 3, new Integer[][]{
+				{-1, -2},
+				{-4, -5, -6}
+		}));
+
+		// Out of bounds
+		assertThrows(IndexOutOfBoundsException.class, () -> grid.setRegion(9, 8, new Integer[][]{
+				{-1, -2},
+				{-3, -4}
+		}));
+
+		assertTrue(changes.isEmpty());
+		for (int r = 0; r < 10; r++) {
+			for (int c = 0; c < 10; c++) {
+				assertEquals(r * 10 + c, grid.getElement(r, c));
+			}
+		}
+	}
+
+	@Test
+	public void testFill() {
+		RegionGrid<Integer> grid = new RegionGrid<>();
+		grid.init(10, 10, 0);
+		List<Change<Integer>> changes = new ArrayList<>();
+		grid.addListener((observable, oldValue, newValue) -> {
+			if (newValue.getType() != null) changes.add(newValue);
+		});
+
+		grid.fill(8, 8, 2, 2, 1);
+		grid.fill(7);
+		assertEquals(2, changes.size());
+		assertTrue(grid.getData().stream().allMatch(i -> i == 7));
+
+		assertThrows(IndexOutOfBoundsException.class, () -> grid.fill(9, 9, 2, 1, 0));
+		assertEquals(2, changes.size());
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.collections.RingBufferList;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RingBufferListTest {
+
+	@Test
+	public void testEviction() {
+		RingBufferList<Integer> list = new RingBufferList<>(5);
+		for (int i = 0; i < 12; i++) {
+			list.add(i);
+		}
+		assertTrue(list.isFull());
+		assertEquals(List.of(7, 8, 9, 10, 11), list);
+
+		list.addAll(List.of(12, 13));
+		assertEquals(List.of(9, 10, 11, 12, 13), list);
+
+		list.addAll(List.of(20, 21, 22, 23, 24, 25, 26));
+		assertEquals(List.of(22, 23, 24, 25, 26), list);
+
+		list.set(0, 0);
+		assertEquals(0, list.get(0));
+
+		list.clear();
+		assertTrue(list.isEmpty());
+		list.add(1);
+		assertEquals(List.of(1), list);
+	}
+
+	@Test
+	public void testShift() {
+		RingBufferList<Integer> list = new RingBufferList<>(10);
+		List<Integer> shifts = new ArrayList<>();
+		list.addListener((ListChangeListener<? super Integer>) c -> shifts.add(RingBufferList.shiftOf(c)));
+
+		for (int i = 0; i < 10; i++) {
+			list.add(i);
+		}
+		list.add(10);
+		list.addAll(List.of(11, 12, 13));
+		list.addAll(List.of(20, 21, 22, 23, 24, 25, 26, 27, 28, 29));
+		list.set(2, -1);
+
+		List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			expected.add(0);
+		}
+		expected.addAll(List.of(1, 3, 0, 0));
+		assertEquals(expected, shifts);
+	}
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.controls.behavior.ScrollIntegrator;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScrollIntegratorTest {
+
+	@Test
+	public void testAccumulate() {
+		DoubleProperty value = new SimpleDoubleProperty(0.0);
+		ScrollIntegrator integrator = new ManualIntegrator(value, 1000);
+
+		// Many impulses before a single frame only move the target
+		for (int i = 0; i < 50; i++) integrator.impulse(10);
+		assertEquals(500.0, integrator.getTarget());
+		assertEquals(0.0, value.get());
+
+		int frames = 0;
+		double last = 0.0;
+		while (!integrator.step(1.0 / 60.0)) {
+			assertTrue(integrator.getPosition() >= last, "Value went backwards");
+			assertTrue(integrator.getPosition() <= 500.0, "Value overshot the target");
+			last = integrator.getPosition();
+			frames++;
+		}
+		assertEquals(500.0, integrator.getPosition());
+		assertTrue(frames < 120, "Took too long to settle: " + frames);
+	}
+
+	@Test
+	public void testClamp() {
+		DoubleProperty value = new SimpleDoubleProperty(90.0);
+		ScrollIntegrator integrator = new ManualIntegrator(value, 100);
+		integrator.impulse(50);
+		assertEquals(100.0, integrator.getTarget());
+		integrator.impulse(-300);
+		assertEquals(0.0, integrator.getTarget());
+		while (!integrator.step(0.5)) {
+			assertTrue(integrator.getPosition() >= 0.0);
+		}
+		assertEquals(0.0, integrator.getPosition());
+	}
+
+	@Test
+	public void testExternalChange() {
+		DoubleProperty value = new SimpleDoubleProperty(0.0);
+		ManualIntegrator integrator = new ManualIntegrator(value, 1000);
+		integrator.impulse(500);
+		integrator.frame(0);
+		integrator.frame(16_000_000);
+		assertTrue(value.get() > 0.0 && value.get() < 500.0);
+
+		// The thumb is dragged somewhere else, the integrator must not pull the value back to the old target
+		value.set(800.0);
+		integrator.frame(32_000_000);
+		assertEquals(800.0, integrator.getTarget());
+		assertEquals(800.0, value.get());
+		assertFalse(integrator.isRunning());
+	}
+
+	private static class ManualIntegrator extends ScrollIntegrator {
+		public ManualIntegrator(DoubleProperty value, double max) {
+			super(value, () -> 0.0, () -> max);
+		}
+
+		@Override
+		protected void start() {
+		}
+
+		public void frame(long now) {
+			onFrame(now);
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.utils.ScrollVelocityTracker;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ScrollVelocityTrackerTest {
+	private static final long FRAME = 16_000_000L;
+
+	@Test
+	public void testVelocity() {
+		AtomicInteger settled = new AtomicInteger();
+		ScrollVelocityTracker tracker = new ManualTracker(settled::incrementAndGet);
+
+		// 1000 px/s constant
+		long time = 0;
+		assertEquals(0.0, tracker.update(0, time));
+		for (int i = 1; i <= 20; i++) {
+			time += FRAME;
+			tracker.update(i * 16.0, time);
+		}
+		assertEquals(1000.0, tracker.getVelocity(), 0.01);
+
+		// Slowing down, the average follows
+		double last = tracker.getVelocity();
+		for (int i = 1; i <= 5; i++) {
+			time += FRAME;
+			tracker.update(320 + i, time);
+			assertTrue(tracker.getVelocity() < last);
+			last = tracker.getVelocity();
+		}
+
+		tracker.settle();
+		assertEquals(0.0, tracker.getVelocity());
+		assertEquals(1, settled.get());
+	}
+
+	@Test
+	public void testPause() {
+		ScrollVelocityTracker tracker = new ManualTracker(null);
+		tracker.update(0, 0);
+		tracker.update(1000, FRAME);
+		assertTrue(tracker.getVelocity() > 10_000);
+
+		// After a long pause history is discarded
+		tracker.update(1010, FRAME + 1_000_000_000L);
+		assertEquals(10.0, tracker.getVelocity(), 1e-6);
+
+		// Same timestamp is ignored
+		tracker.update(5000, FRAME + 1_000_000_000L);
+		assertEquals(10.0, tracker.getVelocity(), 1e-6);
+	}
+
+	private static class ManualTracker extends ScrollVelocityTracker {
+		public ManualTracker(Runnable onSettle) {
+			super(onSettle);
+		}
+
+		@Override
+		protected void scheduleSettle() {
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.flow.sectioned.SectionIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SectionIndexTest {
+
+	@Test
+	public void testLookup() {
+		// Headers are the strings starting with '#'
+		List<String> items = List.of("a", "#A", "a1", "a2", "#B", "#C", "c1");
+		SectionIndex index = SectionIndex.build(items, s -> s.startsWith("#"));
+		assertEquals(3, index.size());
+		assertEquals(-1, index.sectionOf(0));
+		assertEquals(-1, index.headerOf(0));
+		assertEquals(1, index.nextHeader(0));
+		assertEquals(1, index.headerOf(1));
+		assertEquals(1, index.headerOf(3));
+		assertEquals(4, index.nextHeader(3));
+		assertEquals(4, index.headerOf(4));
+		assertEquals(5, index.headerOf(6));
+		assertEquals(2, index.sectionOf(6));
+		assertEquals(-1, index.nextHeader(6));
+
+		assertTrue(SectionIndex.build(List.of(), s -> true).isEmpty());
+	}
+
+	@Test
+	public void fuzzLookup() {
+		Random random = new Random(3);
+		for (int i = 0; i < 200; i++) {
+			int count = random.nextInt(500);
+			List<Boolean> items = new ArrayList<>();
+			for (int j = 0; j < count; j++) items.add(random.nextInt(10) == 0);
+			SectionIndex index = SectionIndex.build(items, b -> b);
+
+			// Brute force
+			int header = -1;
+			for (int j = 0; j < count; j++) {
+				if (items.get(j)) header = j;
+				assertEquals(header, index.headerOf(j));
+				int next = -1;
+				for (int k = j + 1; k < count; k++) {
+					if (items.get(k)) {
+						next = k;
+						break;
+					}
+				}
+				assertEquals(next, index.nextHeader(j));
+			}
+		}
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.mfxcore.base.beans.range.IntegerRange;
+import io.github.palexdev.virtualizedfx.collections.CellSpan;
+import io.github.palexdev.virtualizedfx.collections.SpanIndex;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpanIndexTest {
+
+	@Test
+	public void testQuery() {
+		Random random = new Random(7);
+		SpanIndex index = new SpanIndex();
+		List<CellSpan> all = new ArrayList<>();
+		for (int i = 0; i < 2000; i++) {
+			CellSpan span = CellSpan.of(random.nextInt(1000), random.nextInt(1000), 1 + random.nextInt(20), 1 + random.nextInt(5));
+			if (all.stream().anyMatch(span::intersects)) {
+				assertThrows(IllegalArgumentException.class, () -> index.add(span));
+				continue;
+			}
+			index.add(span);
+			all.add(span);
+		}
+		assertEquals(all.size(), index.size());
+
+		for (int i = 0; i < 500; i++) {
+			int rFrom = random.nextInt(1000);
+			int cFrom = random.nextInt(1000);
+			int rTo = rFrom + random.nextInt(40);
+			int cTo = cFrom + random.nextInt(40);
+			List<CellSpan> expected = all.stream()
+					.filter(s -> s.intersects(rFrom, cFrom, rTo, cTo))
+					.sorted(Comparator.comparingInt(CellSpan::getRow).thenComparingInt(CellSpan::getColumn))
+					.collect(Collectors.toList());
+			assertEquals(expected, index.query(IntegerRange.of(rFrom, rTo), IntegerRange.of(cFrom, cTo)));
+		}
+	}
+
+	@Test
+	public void testWideChanges() {
+		Random random = new Random(11);
+		SpanIndex index = new SpanIndex();
+		List<CellSpan> all = new ArrayList<>();
+		for (int i = 0; i < 1000; i++) {
+			if (!all.isEmpty() && random.nextInt(4) == 0) {
+				CellSpan removed = all.remove(random.nextInt(all.size()));
+				assertTrue(index.remove(removed));
+			} else {
+				CellSpan span = CellSpan.of(random.nextInt(10), random.nextInt(5000), 1 + random.nextInt(3), 1 + random.nextInt(10));
+				if (all.stream().anyMatch(span::intersects)) {
+					assertThrows(IllegalArgumentException.class, () -> index.add(span));
+					continue;
+				}
+				index.add(span);
+				all.add(span);
+			}
+
+			int cFrom = random.nextInt(5000);
+			int cTo = cFrom + random.nextInt(30);
+			List<CellSpan> expected = all.stream()
+					.filter(s -> s.intersects(0, cFrom, 9, cTo))
+					.sorted(Comparator.comparingInt(CellSpan::getRow).thenComparingInt(CellSpan::getColumn))
+					.collect(Collectors.toList());
+			assertEquals(expected, index.query(IntegerRange.of(0, 9), IntegerRange.of(cFrom, cTo)));
+		}
+		assertEquals(all.size(), index.size());
+	}
+
+	@Test
+	public void testSpanAt() {
+		SpanIndex index = new SpanIndex();
+		CellSpan span = CellSpan.of(2, 3, 4, 2);
+		index.add(span);
+		index.add(CellSpan.of(0, 0, 1, 10));
+		assertEquals(span, index.spanAt(2, 3));
+		assertEquals(span, index.spanAt(5, 4));
+		assertNull(index.spanAt(6, 4));
+		assertNull(index.spanAt(3, 5));
+		assertThrows(IllegalArgumentException.class, () -> index.add(CellSpan.of(5, 0, 1, 4)));
+
+		assertTrue(index.remove(span));
+		assertFalse(index.remove(span));
+		assertNull(index.spanAt(2, 3));
+		assertEquals(1, index.size());
+		index.add(CellSpan.of(5, 0, 1, 4));
+		assertEquals(2, index.size());
+		index.clear();
+		assertTrue(index.isEmpty());
+		assertTrue(index.query(0, 0, 100, 100).isEmpty());
+	}
+}
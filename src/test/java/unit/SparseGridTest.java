@@ -0,0 +1,166 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.mfxcore.collections.ObservableGrid;
+import io.github.palexdev.mfxcore.collections.ObservableGrid.Change;
+import io.github.palexdev.virtualizedfx.collections.SparseGrid;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SparseGridTest {
+
+	@Test
+	public void testPopulated() {
+		SparseGrid<Integer> grid = new SparseGrid<>(1000, 1000);
+		assertEquals(1000, grid.getRowsNum());
+		assertEquals(1000, grid.getColumnsNum());
+		assertEquals(0, grid.getPopulatedCount());
+		assertNull(grid.getElement(500, 500));
+
+		grid.setElement(500, 500, 1);
+		grid.setElement(999, 0, 2);
+		assertTrue(grid.isPopulated(500, 500));
+		assertFalse(grid.isPopulated(500, 501));
+		assertEquals(2, grid.getPopulatedCount());
+		assertEquals(2, grid.getElement(999, 0));
+
+		grid.setElement(500, 500, null);
+		assertFalse(grid.isPopulated(500, 500));
+		assertEquals(1, grid.getPopulatedCount());
+
+		grid.setDefaultProvider((row, column) -> -1);
+		assertEquals(-1, grid.getElement(0, 0));
+		assertFalse(grid.isPopulated(0, 0));
+	}
+
+	@Test
+	public void testShiftAndTranspose() {
+		SparseGrid<Integer> grid = new SparseGrid<>(10, 10);
+		grid.setElement(2, 3, 23);
+		grid.setElement(7, 8, 78);
+
+		grid.addRow(0, Arrays.asList(new Integer[10]));
+		assertTrue(grid.isPopulated(3, 3));
+		assertTrue(grid.isPopulated(8, 8));
+		assertEquals(2, grid.getPopulatedCount());
+
+		grid.removeColumn(0);
+		assertEquals(23, grid.getElement(3, 2));
+		assertEquals(78, grid.getElement(8, 7));
+
+		grid.transpose();
+		assertEquals(9, grid.getRowsNum());
+		assertEquals(11, grid.getColumnsNum());
+		assertEquals(23, grid.getElement(2, 3));
+		assertEquals(78, grid.getElement(7, 8));
+		assertEquals(2, grid.getPopulatedCount());
+	}
+
+	@Test
+	public void testSameAsObservableGrid() {
+		List<Integer> data = IntStream.range(0, 30).mapToObj(i -> i % 3 == 0 ? i : null).collect(Collectors.toList());
+		ObservableGrid<Integer> expected = new ObservableGrid<>(data, 5, 6);
+		SparseGrid<Integer> actual = new SparseGrid<>(5, 6);
+		for (int i = 0; i < data.size(); i++) {
+			if (data.get(i) != null) actual.setElement(i, data.get(i));
+		}
+		List<String> eChanges = new ArrayList<>();
+		List<String> aChanges = new ArrayList<>();
+		expected.addListener((observable, oldValue, newValue) -> record(newValue, eChanges));
+		actual.addListener((observable, oldValue, newValue) -> record(newValue, aChanges));
+
+		Random random = new Random(11);
+		int next = 100;
+		for (int i = 0; i < 200; i++) {
+			int op = random.nextInt(7);
+			int rows = expected.getRowsNum();
+			int columns = expected.getColumnsNum();
+			Consumer<ObservableGrid<Integer>> action;
+			switch (op) {
+				case 0: {
+					int index = random.nextInt(rows + 1);
+					List<Integer> row = sparse(next, columns);
+					action = g -> g.addRow(index, row);
+					break;
+				}
+				case 1: {
+					int index = random.nextInt(columns + 1);
+					List<Integer> column = sparse(next, rows);
+					action = g -> g.addColumn(index, column);
+					break;
+				}
+				case 2: {
+					if (rows <= 2) continue;
+					int index = random.nextInt(rows);
+					action = g -> g.removeRow(index);
+					break;
+				}
+				case 3: {
+					if (columns <= 2) continue;
+					int index = random.nextInt(columns);
+					action = g -> g.removeColumn(index);
+					break;
+				}
+				case 4: {
+					int index = random.nextInt(rows * columns);
+					Integer val = random.nextBoolean() ? next : null;
+					action = g -> g.setElement(index, val);
+					break;
+				}
+				case 5: {
+					int index = random.nextInt(rows);
+					List<Integer> row = sparse(next, columns);
+					action = g -> g.setRow(index, row);
+					break;
+				}
+				default:
+					action = ObservableGrid::transpose;
+			}
+			next += 100;
+			action.accept(expected);
+			action.accept(actual);
+			assertEquals(expected.getRowsNum(), actual.getRowsNum());
+			assertEquals(expected.getColumnsNum(), actual.getColumnsNum());
+			assertEquals(expected.getData(), actual.getData());
+			assertEquals(expected.getData().stream().filter(e -> e != null).count(), actual.getPopulatedCount());
+		}
+		assertEquals(eChanges, aChanges);
+	}
+
+	private List<Integer> sparse(int start, int size) {
+		return IntStream.range(start, start + size).mapToObj(i -> i % 2 == 0 ? i : null).collect(Collectors.toList());
+	}
+
+	private void record(Change<Integer> change, List<String> changes) {
+		if (change.getType() == null) return;
+		changes.add(change.getType() + " " + change.getCoordinates() + " " + change.getStart() + " " +
+				change.getEnd() + " " + change.step() + " " + change.getAdded() + " " + change.getRemoved());
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.cell.TableCell;
+import io.github.palexdev.virtualizedfx.table.TableManager;
+import io.github.palexdev.virtualizedfx.table.TableState;
+import io.github.palexdev.virtualizedfx.table.VirtualTable;
+import io.github.palexdev.virtualizedfx.table.VirtualTableSkin;
+import io.github.palexdev.virtualizedfx.table.defaults.DefaultTableColumn;
+import io.github.palexdev.virtualizedfx.table.defaults.SimpleTableCell;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import others.Utils;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TableManagerTest {
+
+	@BeforeAll
+	public static void startToolkit() {
+		Utils.startToolkit();
+	}
+
+	@Test
+	public void testSpliceAdd() {
+		VirtualTable<Integer> table = table(100);
+		table.scrollToRow(30);
+		int min = table.getState().getRowsRange().getMin();
+		int max = table.getState().getRowsRange().getMax();
+		int mid = (min + max) / 2;
+		assertTrue(min > 0 && max - min < 20);
+		ObservableList<Integer> items = table.getItems();
+
+		splice(table, () -> items.addAll(0, List.of(-1, -2))); // Before the range
+		splice(table, () -> items.addAll(min, List.of(-3, -4, -5))); // At the start
+		splice(table, () -> items.add(mid, -6)); // In the middle
+		splice(table, () -> items.addAll(max, List.of(-7, -8))); // At the end
+		splice(table, () -> items.addAll(max + 5, List.of(-9, -10))); // After the range
+		splice(table, () -> items.addAll(mid, IntStream.range(-100, -50).boxed().collect(Collectors.toList()))); // More than the rows
+		assertEquals(160, items.size());
+	}
+
+	@Test
+	public void testSpliceRemove() {
+		VirtualTable<Integer> table = table(100);
+		table.scrollToRow(30);
+		int min = table.getState().getRowsRange().getMin();
+		int max = table.getState().getRowsRange().getMax();
+		int mid = (min + max) / 2;
+		assertTrue(min > 0 && max - min < 20);
+		ObservableList<Integer> items = table.getItems();
+
+		splice(table, () -> items.remove(0, 2)); // Before the range
+		splice(table, () -> items.remove(min, min + 3)); // At the start
+		splice(table, () -> items.remove(mid)); // In the middle
+		splice(table, () -> items.remove(max - 2, max)); // At the end
+		splice(table, () -> items.remove(max + 5, max + 7)); // After the range
+		splice(table, () -> items.remove(mid, mid + 50)); // More than the rows
+		assertEquals(40, items.size());
+
+		// Removing from the end of the list moves the range back
+		table.scrollToLastRow();
+		splice(table, () -> items.remove(35, 40));
+		assertEquals(34, table.getState().getRowsRange().getMax());
+	}
+
+	@Test
+	public void testSuspendChange() {
+		TestTable table = table(100);
+		TableManager<Integer> manager = table.manager();
+		table.scrollToRow(30);
+		TableState<Integer> state = table.getState();
+		ObservableList<Integer> items = table.getItems();
+
+		manager.suspend();
+		for (int i = 0; i < 100; i++) items.set(i % 50, -i);
+		items.add(0, 999);
+		items.remove(80, 90);
+		assertSame(state, table.getState());
+		assertEquals(0, manager.getDirtyFrom());
+		assertEquals(102, manager.getDirtyChanges());
+
+		resetUpdates(table);
+		manager.resume();
+		assertFalse(manager.isSuspended());
+		assertEquals(Integer.MAX_VALUE, manager.getDirtyFrom());
+		assertRows(table);
+		assertUpdatedOnce(table);
+	}
+
+	@Test
+	public void testSuspendDirtyFrom() {
+		TestTable table = table(100);
+		TableManager<Integer> manager = table.manager();
+		table.scrollToRow(30);
+		int min = table.getState().getRowsRange().getMin();
+		int max = table.getState().getRowsRange().getMax();
+		ObservableList<Integer> items = table.getItems();
+
+		// Only the rows after the change are updated
+		manager.suspend();
+		items.set(min + 5, -1);
+		resetUpdates(table);
+		manager.resume();
+		assertRows(table);
+		table.getState().getRowsUnmodifiable().forEach((index, row) -> {
+			int expected = (index >= min + 5) ? 1 : 0;
+			row.getCellsUnmodifiable().values().forEach(c -> assertEquals(expected, ((CountingCell) c).updates));
+		});
+		assertEquals(max, table.getState().getRowsRange().getMax());
+	}
+
+	@Test
+	public void testSuspendScroll() {
+		TestTable table = table(100);
+		TableManager<Integer> manager = table.manager();
+		TableState<Integer> state = table.getState();
+
+		manager.suspend();
+		table.scrollToRow(60);
+		table.getItems().remove(0, 5);
+		table.resize(400, 432);
+		assertSame(state, table.getState());
+
+		resetUpdates(table);
+		manager.resume();
+		assertNotSame(state, table.getState());
+		assertTrue(table.getState().getRowsRange().getMin() > 30);
+		assertRows(table);
+		assertUpdatedOnce(table);
+	}
+
+	@Test
+	public void testSuspendColumns() {
+		TestTable table = table(100);
+		TableManager<Integer> manager = table.manager();
+		TableState<Integer> state = table.getState();
+
+		manager.suspend();
+		table.getColumns().add(column(table, "Other"));
+		assertSame(state, table.getState());
+
+		manager.resume();
+		assertNotSame(state, table.getState());
+		table.getState().getRowsUnmodifiable().values().forEach(row -> assertEquals(2, row.getCellsUnmodifiable().size()));
+		assertRows(table);
+	}
+
+	/**
+	 * Builds a table of the given number of integers, with a single column and a viewport of 10 rows.
+	 * The table has a skin, which handles the list changes, but no scene.
+	 */
+	static TestTable table(int items) {
+		ObservableList<Integer> list = IntStream.range(0, items).boxed()
+				.collect(Collectors.toCollection(FXCollections::observableArrayList));
+		TestTable table = new TestTable(list);
+		table.getColumns().add(column(table, "Value"));
+		table.setCellHeight(20);
+		table.setSkin(new VirtualTableSkin<>(table));
+		table.resize(400, 232);
+		return table;
+	}
+
+	static DefaultTableColumn<Integer, TableCell<Integer>> column(VirtualTable<Integer> table, String text) {
+		DefaultTableColumn<Integer, TableCell<Integer>> column = new DefaultTableColumn<>(table, text);
+		column.setCellFactory(CountingCell::new);
+		return column;
+	}
+
+	/**
+	 * Runs the given change, which must be a single contiguous addition or removal, then asserts
+	 * that the table displays the right items.
+	 */
+	static void splice(VirtualTable<Integer> table, Runnable change) {
+		TableState<Integer> state = table.getState();
+		change.run();
+		assertNotSame(state, table.getState());
+		assertRows(table);
+	}
+
+	/**
+	 * Asserts that every row in the table's state has the right index and that its cells display the item at that index.
+	 */
+	@SuppressWarnings("unchecked")
+	static void assertRows(VirtualTable<Integer> table) {
+		List<Integer> items = table.getItems();
+		assertFalse(table.getState().getRowsUnmodifiable().isEmpty());
+		table.getState().getRowsUnmodifiable().forEach((index, row) -> {
+			assertEquals(index, row.getIndex());
+			for (TableCell<Integer> cell : row.getCellsUnmodifiable().values()) {
+				assertEquals(items.get(index), ((SimpleTableCell<Integer, Integer>) cell).getItem());
+			}
+		});
+	}
+
+	static void resetUpdates(VirtualTable<Integer> table) {
+		table.getState().getRowsUnmodifiable().values()
+				.forEach(row -> row.getCellsUnmodifiable().values().forEach(c -> ((CountingCell) c).updates = 0));
+	}
+
+	/**
+	 * Asserts that no cell in the table's state has been updated more than once since {@link #resetUpdates(VirtualTable)}.
+	 */
+	static void assertUpdatedOnce(VirtualTable<Integer> table) {
+		table.getState().getRowsUnmodifiable().values()
+				.forEach(row -> row.getCellsUnmodifiable().values().forEach(c -> assertTrue(((CountingCell) c).updates <= 1)));
+	}
+
+	static class TestTable extends VirtualTable<Integer> {
+		TestTable(ObservableList<Integer> items) {
+			super(items);
+		}
+
+		TableManager<Integer> manager() {
+			return getViewportManager();
+		}
+	}
+
+	static class CountingCell extends SimpleTableCell<Integer, Integer> {
+		int updates = 0;
+
+		CountingCell(Integer item) {
+			super(item, x -> x);
+		}
+
+		@Override
+		public void updateItem(Integer item) {
+			updates++;
+			super.updateItem(item);
+		}
+	}
+}
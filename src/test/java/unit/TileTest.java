@@ -0,0 +1,189 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.collections.SparseGrid;
+import io.github.palexdev.virtualizedfx.grid.VirtualGrid;
+import io.github.palexdev.virtualizedfx.grid.lod.GridTileCanvas;
+import io.github.palexdev.virtualizedfx.grid.lod.Tile;
+import io.github.palexdev.virtualizedfx.grid.lod.TileAggregator;
+import io.github.palexdev.virtualizedfx.grid.lod.TileCache;
+import org.junit.jupiter.api.Test;
+import others.Utils;
+import unit.GridManagerTest.TestCell;
+
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TileTest {
+
+	@Test
+	public void testCompute() {
+		SparseGrid<Integer> grid = new SparseGrid<>(300, 300);
+		grid.setElement(0, 0, 0xFFFF0000);
+		grid.setElement(0, 1, 0xFF0000FF);
+		grid.setElement(299, 299, 0xFF00FF00);
+		TileAggregator<Integer> aggregator = i -> i;
+
+		// Level 0, one pixel per item
+		Tile tile = Tile.compute(grid, aggregator, 0, 0, 0, () -> false);
+		assertNotNull(tile);
+		assertEquals(0xFFFF0000, tile.getPixel(0, 0));
+		assertEquals(0xFF0000FF, tile.getPixel(1, 0));
+		assertEquals(0, tile.getPixel(2, 0));
+
+		// Level 1, half the block is empty
+		tile = Tile.compute(grid, aggregator, 1, 0, 0, () -> false);
+		assertEquals(0x80800080, tile.getPixel(0, 0));
+
+		// Outside the grid
+		tile = Tile.compute(grid, aggregator, 0, 2, 2, () -> false);
+		assertEquals(0xFF00FF00, tile.getPixel(299 - 256, 299 - 256));
+		assertEquals(0, tile.getPixel(Tile.SIZE - 1, Tile.SIZE - 1));
+
+		assertNull(Tile.compute(grid, aggregator, 0, 0, 0, () -> true));
+	}
+
+	@Test
+	public void testDownsample() {
+		int size = 400;
+		Random random = new Random(7);
+		SparseGrid<Integer> grid = new SparseGrid<>(size, size);
+		for (int i = 0; i < 20000; i++) {
+			grid.setElement(random.nextInt(size), random.nextInt(size), 0xFF000000 | random.nextInt(0xFFFFFF));
+		}
+		TileAggregator<Integer> aggregator = i -> i;
+
+		for (int level = 1; level <= 3; level++) {
+			int tiles = (size - 1) / Tile.span(level) + 1;
+			int childSpan = Tile.span(level - 1);
+			for (int r = 0; r < tiles; r++) {
+				for (int c = 0; c < tiles; c++) {
+					Tile[] children = new Tile[4];
+					for (int i = 0; i < 4; i++) {
+						int cr = r * 2 + i / 2;
+						int cc = c * 2 + i % 2;
+						if (cr * childSpan >= size || cc * childSpan >= size) continue;
+						children[i] = Tile.compute(grid, aggregator, level - 1, cr, cc, () -> false);
+					}
+					Tile expected = Tile.compute(grid, aggregator, level, r, c, () -> false);
+					Tile actual = Tile.downsample(level, r, c, children);
+					for (int y = 0; y < Tile.SIZE; y++) {
+						for (int x = 0; x < Tile.SIZE; x++) {
+							assertSimilar(expected.getPixel(x, y), actual.getPixel(x, y));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testCache() {
+		TileCache cache = new TileCache(3);
+		for (int i = 0; i < 3; i++) {
+			cache.put(new Tile(0, 0, i, new int[Tile.SIZE * Tile.SIZE]));
+		}
+		assertNotNull(cache.get(Tile.key(0, 0, 0)));
+
+		// Least recently used is now (0, 1)
+		cache.put(new Tile(0, 1, 0, new int[Tile.SIZE * Tile.SIZE]));
+		assertEquals(3, cache.size());
+		assertNull(cache.get(Tile.key(0, 0, 1)));
+		assertNotNull(cache.get(Tile.key(0, 0, 0)));
+
+		cache.invalidate(Tile.SIZE, 0, Tile.SIZE, 0);
+		assertTrue(cache.get(Tile.key(0, 1, 0)).isStale());
+		assertFalse(cache.get(Tile.key(0, 0, 0)).isStale());
+
+		// Only the most recently used survives
+		cache.setCapacity(1);
+		assertEquals(1, cache.size());
+		assertNotNull(cache.get(Tile.key(0, 0, 0)));
+		assertThrows(IllegalArgumentException.class, () -> cache.setCapacity(0));
+	}
+
+	@Test
+	public void testFailure() throws Exception {
+		Utils.startToolkit();
+		RuntimeException ex = new IllegalStateException("Failed");
+		CompletableFuture<Throwable> reported = new CompletableFuture<>();
+		FailingCanvas canvas = new FailingCanvas(ex, reported);
+		try {
+			canvas.submit();
+			assertSame(ex, reported.get(10, TimeUnit.SECONDS));
+		} finally {
+			canvas.workers.shutdownNow();
+		}
+	}
+
+	/**
+	 * Downsampling averages already rounded values, each channel may differ by one.
+	 */
+	private void assertSimilar(int expected, int actual) {
+		for (int shift = 0; shift < 32; shift += 8) {
+			int e = (expected >>> shift) & 0xFF;
+			int a = (actual >>> shift) & 0xFF;
+			if (Math.abs(e - a) > 2) fail(String.format("Expected %08X but was %08X", expected, actual));
+		}
+	}
+
+	/**
+	 * Fails the computation of every tile, the worker's handler completes the given future.
+	 */
+	private static class FailingCanvas extends GridTileCanvas<Integer> {
+		private final RuntimeException ex;
+		private final ExecutorService workers;
+
+		FailingCanvas(RuntimeException ex, CompletableFuture<Throwable> reported) {
+			super(new VirtualGrid<>(new SparseGrid<>(10, 10), TestCell::new));
+			this.ex = ex;
+			this.workers = Executors.newSingleThreadExecutor(r -> {
+				Thread thread = new Thread(r);
+				thread.setDaemon(true);
+				thread.setUncaughtExceptionHandler((t, e) -> reported.complete(e));
+				return thread;
+			});
+		}
+
+		void submit() {
+			request(0, 0, 0);
+		}
+
+		@Override
+		protected Tile computeTile(TileTask task) {
+			throw ex;
+		}
+
+		@Override
+		protected void publish(Runnable action) {
+		}
+
+		@Override
+		protected ExecutorService executor() {
+			return workers;
+		}
+	}
+}
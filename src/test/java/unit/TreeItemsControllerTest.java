@@ -0,0 +1,87 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.tree.TreeItemsController;
+import io.github.palexdev.virtualizedfx.tree.TreeList;
+import io.github.palexdev.virtualizedfx.tree.TreeNode;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TreeItemsControllerTest {
+
+	@Test
+	public void testItems() {
+		ObjectProperty<ObservableList<TreeNode<String>>> items = new SimpleObjectProperty<>(FXCollections.observableArrayList());
+		TreeItemsController<String> controller = new TreeItemsController<>(items, i -> {});
+		assertNull(controller.getTreeList());
+
+		TreeNode<String> root = new TreeNode<>("root", true);
+		root.addChild(new TreeNode<>("a"));
+		controller.setRoot(root);
+		TreeList<String> list = controller.getTreeList();
+		assertSame(list, items.get());
+		assertEquals(1, list.size());
+
+		// A new list replaces the old one
+		controller.setShowRoot(true);
+		assertNotSame(list, controller.getTreeList());
+		assertEquals(2, items.get().size());
+
+		controller.setRoot(null);
+		assertNull(controller.getTreeList());
+		assertTrue(items.get().isEmpty());
+	}
+
+	@Test
+	public void testScrollToNode() {
+		ObjectProperty<ObservableList<TreeNode<String>>> items = new SimpleObjectProperty<>(FXCollections.observableArrayList());
+		List<Integer> scrolls = new ArrayList<>();
+		TreeItemsController<String> controller = new TreeItemsController<>(items, scrolls::add);
+
+		TreeNode<String> root = new TreeNode<>("root", true);
+		TreeNode<String> a = new TreeNode<>("a");
+		TreeNode<String> b = new TreeNode<>("b");
+		TreeNode<String> leaf = new TreeNode<>("leaf");
+		root.addChild(a);
+		root.addChild(b);
+		b.addChild(leaf);
+		controller.setRoot(root);
+		assertEquals(2, items.get().size());
+
+		// Ancestors are expanded before scrolling
+		controller.scrollToNode(leaf);
+		assertTrue(b.isExpanded());
+		assertEquals(List.of(2), scrolls);
+
+		controller.collapse(b);
+		assertEquals(2, items.get().size());
+		controller.expand(leaf);
+		assertEquals(3, items.get().size());
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (C) 2022 Parisi Alessandro
+ * This file is part of VirtualizedFX (https://github.com/palexdev/VirtualizedFX).
+ *
+ * VirtualizedFX is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * VirtualizedFX is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with VirtualizedFX.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+
+package unit;
+
+import io.github.palexdev.virtualizedfx.tree.TreeList;
+import io.github.palexdev.virtualizedfx.tree.TreeNode;
+import javafx.collections.ListChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TreeListTest {
+
+	@Test
+	public void testExpandCollapse() {
+		TreeNode<String> root = new TreeNode<>("root", true);
+		TreeNode<String> a = new TreeNode<>("a");
+		TreeNode<String> b = new TreeNode<>("b");
+		root.addChild(a);
+		root.addChild(b);
+		for (int i = 0; i < 3; i++) a.addChild(new TreeNode<>("a" + i));
+
+		TreeList<String> list = new TreeList<>(root);
+		List<String> events = new ArrayList<>();
+		list.addListener((ListChangeListener<? super TreeNode<String>>) c -> {
+			while (c.next()) events.add(c.getFrom() + ":" + c.getAddedSize() + ":" + c.getRemovedSize());
+		});
+		assertEquals(2, list.size());
+		assertEquals(b, list.get(1));
+
+		a.setExpanded(true);
+		assertEquals(List.of("1:3:0"), events);
+		assertEquals(5, list.size());
+		assertEquals("a2", list.get(3).getValue());
+		assertEquals(b, list.get(4));
+		assertEquals(4, list.indexOf(b));
+		assertEquals(2, list.get(3).getDepth());
+
+		a.setExpanded(false);
+		assertEquals("1:0:3", events.get(1));
+		assertEquals(2, list.size());
+		assertEquals(-1, list.indexOf(a.getChildren().get(0)));
+	}
+
+	@Test
+	public void fuzzTree() {
+		Random random = new Random(5);
+		TreeNode<Integer> root = new TreeNode<>(0, true);
+		List<TreeNode<Integer>> nodes = new ArrayList<>(List.of(root));
+		TreeList<Integer> list = new TreeList<>(root);
+		List<TreeNode<Integer>> mirror = new ArrayList<>();
+		list.addListener((ListChangeListener<? super TreeNode<Integer>>) c -> {
+			while (c.next()) {
+				if (c.wasReplaced()) {
+					mirror.set(c.getFrom(), c.getList().get(c.getFrom()));
+					continue;
+				}
+				for (int i = 0; i < c.getRemovedSize(); i++) {
+					assertSame(c.getRemoved().get(i), mirror.get(c.getFrom() + i));
+				}
+				mirror.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+				mirror.addAll(c.getFrom(), c.getAddedSubList());
+			}
+		});
+
+		for (int i = 0; i < 3000; i++) {
+			TreeNode<Integer> node = nodes.get(random.nextInt(nodes.size()));
+			int op = random.nextInt(10);
+			if (op < 4) {
+				TreeNode<Integer> child = new TreeNode<>(i);
+				int size = node.getChildren().size();
+				if (random.nextBoolean()) {
+					node.addChild(child);
+				} else {
+					node.addChild(random.nextInt(size + 1), child);
+				}
+				nodes.add(child);
+			} else if (op < 8) {
+				if (node != root) node.toggle();
+			} else if (op < 9) {
+				if (!node.isLeaf()) {
+					TreeNode<Integer> removed = node.removeChild(random.nextInt(node.getChildren().size()));
+					prune(nodes, removed);
+				}
+			} else {
+				if (random.nextInt(10) == 0 && node != root) {
+					for (TreeNode<Integer> child : node.getChildren()) prune(nodes, child);
+					node.clearChildren();
+				}
+			}
+
+			List<TreeNode<Integer>> expected = new ArrayList<>();
+			flatten(root, expected);
+			expected.remove(0);
+			assertEquals(expected, mirror);
+			assertEquals(expected.size(), list.size());
+			if (!expected.isEmpty()) {
+				int index = random.nextInt(expected.size());
+				assertSame(expected.get(index), list.get(index));
+				assertEquals(index, list.indexOf(expected.get(index)));
+			}
+		}
+	}
+
+	private void flatten(TreeNode<Integer> node, List<TreeNode<Integer>> out) {
+		out.add(node);
+		if (!node.isExpanded()) return;
+		for (TreeNode<Integer> child : node.getChildren()) flatten(child, out);
+	}
+
+	private void prune(List<TreeNode<Integer>> nodes, TreeNode<Integer> node) {
+		nodes.remove(node);
+		for (TreeNode<Integer> child : node.getChildren()) prune(nodes, child);
+	}
+}